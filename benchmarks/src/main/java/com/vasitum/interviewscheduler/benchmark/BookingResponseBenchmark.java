@@ -0,0 +1,66 @@
+package com.vasitum.interviewscheduler.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.api.dto.BookingResponse;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.StreamUtils;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering a booking write's response: the old path serialized the {@code Booking} entity graph
+ * (slot and interviewer included), the new one maps to {@link BookingResponse} first. Both write
+ * to a stream, as the message converter does. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} (bytes per request).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookingResponseBenchmark {
+
+    // the message converter also shields the response stream from Jackson closing it
+    private final OutputStream sink = StreamUtils.nonClosing(OutputStream.nullOutputStream());
+    private ObjectMapper objectMapper;
+    private Booking booking;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(7L);
+        interviewer.setName("Grace Hopper");
+        interviewer.setEmail("grace@example.com");
+        interviewer.setMaxWeeklyInterviews(10);
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId(42L);
+        slot.setInterviewer(interviewer);
+        slot.setStartTime(LocalDateTime.of(2025, 1, 6, 9, 0));
+        slot.setEndTime(slot.getStartTime().plusMinutes(30));
+        slot.setBookedCount(1);
+        booking = new Booking();
+        booking.setId(1001L);
+        booking.setSlot(slot);
+        booking.setCandidateName("Ada Lovelace");
+        booking.setCandidateEmail("ada@example.com");
+        booking.setConfirmed(true);
+    }
+
+    @Benchmark
+    public void serializeEntity() throws Exception {
+        objectMapper.writeValue(sink, booking);
+    }
+
+    @Benchmark
+    public void mapAndSerializeResponse() throws Exception {
+        objectMapper.writeValue(sink, BookingResponse.of(booking));
+    }
+}
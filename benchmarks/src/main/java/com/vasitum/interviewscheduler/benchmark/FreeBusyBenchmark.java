@@ -0,0 +1,87 @@
+package com.vasitum.interviewscheduler.benchmark;
+
+import com.vasitum.interviewscheduler.application.service.FreeBusyWeek;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Is the interviewer free for [start, end)" on a week of 30-minute slots, 9:00-17:00 on weekdays,
+ * every third slot booked: bitmap range check versus scanning the booked intervals. {@link #panelIntersection}
+ * finds the cells at least three of a 500-interviewer pool have free, as the panel search does per week.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreeBusyBenchmark {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+    private static final int QUERIES = 256;
+    private static final int POOL = 500;
+
+    private FreeBusyWeek free;
+    private final List<LocalDateTime[]> booked = new ArrayList<>();
+    private final List<FreeBusyWeek> pool = new ArrayList<>();
+    private final LocalDateTime[] queryStarts = new LocalDateTime[QUERIES];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        FreeBusyWeek available = FreeBusyWeek.empty(MONDAY);
+        FreeBusyWeek busy = FreeBusyWeek.empty(MONDAY);
+        for (int day = 0; day < 5; day++) {
+            LocalDate date = MONDAY.plusDays(day);
+            available.markInside(date.atTime(9, 0), date.atTime(17, 0));
+            for (int slot = 0; slot < 16; slot += 3) {
+                LocalDateTime start = date.atTime(9, 0).plusMinutes(30L * slot);
+                busy.mark(start, start.plusMinutes(30));
+                booked.add(new LocalDateTime[]{start, start.plusMinutes(30)});
+            }
+        }
+        free = available.andNot(busy);
+        for (int member = 0; member < POOL; member++) {
+            // each member books a different third of the slots
+            FreeBusyWeek memberBusy = FreeBusyWeek.empty(MONDAY);
+            for (int day = 0; day < 5; day++) {
+                for (int slot = member % 3; slot < 16; slot += 3) {
+                    LocalDateTime start = MONDAY.plusDays(day).atTime(9, 0).plusMinutes(30L * slot);
+                    memberBusy.mark(start, start.plusMinutes(30));
+                }
+            }
+            pool.add(available.andNot(memberBusy));
+        }
+        for (int i = 0; i < QUERIES; i++) {
+            queryStarts[i] = MONDAY.atTime(9, 0).plusMinutes(35L * i);
+        }
+    }
+
+    @Benchmark
+    public boolean bitmap() {
+        LocalDateTime start = queryStarts[next = (next + 1) & (QUERIES - 1)];
+        return free.coversAll(start, start.plusMinutes(30));
+    }
+
+    @Benchmark
+    public FreeBusyWeek panelIntersection() {
+        return FreeBusyWeek.markedInAtLeast(3, MONDAY, pool);
+    }
+
+    @Benchmark
+    public boolean intervalScan() {
+        LocalDateTime start = queryStarts[next = (next + 1) & (QUERIES - 1)];
+        LocalDateTime end = start.plusMinutes(30);
+        for (LocalDateTime[] interval : booked) {
+            if (interval[0].isBefore(end) && start.isBefore(interval[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,33 @@
+package com.vasitum.interviewscheduler.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Minimal in-memory stand-ins for Spring Data repositories so benchmarks measure
+ * the service logic rather than a database.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    /**
+     * Creates a proxy for the given repository interface; methods present in {@code answers}
+     * are answered from their arguments, all others fail fast.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> repositoryType, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(method.getName() + " is not stubbed");
+                    }
+                    return answer.apply(args);
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package com.vasitum.interviewscheduler.benchmark;
+
+import com.vasitum.interviewscheduler.application.service.SlotGenerationService;
+import com.vasitum.interviewscheduler.application.service.SlotSeats;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot expansion from weekly availability over the default two-week horizon
+ * (five 09:00-17:00 weekday windows, no blackouts), with repositories stubbed in memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotGenerationBenchmark {
+
+    @Param({"15", "30", "60"})
+    public int slotDurationMinutes;
+
+    private SlotGenerationService service;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+        interviewer.setMaxWeeklyInterviews(40);
+
+        List<WeeklyAvailability> availabilities = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
+                DayOfWeek.THURSDAY, DayOfWeek.FRIDAY)) {
+            WeeklyAvailability availability = new WeeklyAvailability();
+            availability.setInterviewer(interviewer);
+            availability.setDayOfWeek(day);
+            availability.setStartTime(LocalTime.of(9, 0));
+            availability.setEndTime(LocalTime.of(17, 0));
+            availability.setSlotDurationMinutes(slotDurationMinutes);
+            availabilities.add(availability);
+        }
+
+        InterviewerRepository interviewerRepository = RepositoryStubs.stub(InterviewerRepository.class,
+                Map.of("findById", args -> Optional.of(interviewer)));
+        WeeklyAvailabilityRepository availabilityRepository = RepositoryStubs.stub(WeeklyAvailabilityRepository.class,
+                Map.of("findByInterviewerId", args -> availabilities));
+        InterviewSlotRepository slotRepository = RepositoryStubs.stub(InterviewSlotRepository.class,
+                Map.of(
+                        "findByInterviewerIdAndStartTimeBetweenOrderByStartTimeAsc", args -> List.of(),
+                        "save", args -> args[0]
+                ));
+
+        SlotSeatCounterRepository counterRepository = RepositoryStubs.stub(SlotSeatCounterRepository.class, Map.of());
+        BlackoutRepository blackoutRepository = RepositoryStubs.stub(BlackoutRepository.class,
+                Map.of("findOverlapping", args -> List.of()));
+        service = new SlotGenerationService(interviewerRepository, availabilityRepository, slotRepository,
+                counterRepository, blackoutRepository, (calendar, start, end) -> {
+                }, new SlotSeats(counterRepository, slotRepository, 20, 10),
+                event -> {
+                });
+        from = LocalDate.of(2025, 1, 6);
+        to = from.plusDays(14);
+    }
+
+    @Benchmark
+    public int generateTwoWeeks() {
+        return service.generateSlotsForInterviewer(1L, from, to);
+    }
+}
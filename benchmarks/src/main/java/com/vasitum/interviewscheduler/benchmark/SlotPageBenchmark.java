@@ -0,0 +1,67 @@
+package com.vasitum.interviewscheduler.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.api.dto.SlotPageResponse;
+import com.vasitum.interviewscheduler.api.dto.SlotResponse;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a full 100-item {@code GET /slots} page from entities to DTOs, and mapping plus
+ * JSON serialization with an ObjectMapper configured like Spring Boot's default one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlotPageBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final List<InterviewSlot> slots = new ArrayList<>();
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 6, 9, 0);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            Interviewer interviewer = new Interviewer();
+            interviewer.setId((long) (i % 10) + 1);
+            InterviewSlot slot = new InterviewSlot();
+            slot.setId((long) i + 1);
+            slot.setInterviewer(interviewer);
+            slot.setStartTime(base.plusMinutes(30L * i));
+            slot.setEndTime(slot.getStartTime().plusMinutes(30));
+            slot.setBookedCount(i % 3 == 0 ? 1 : 0);
+            slots.add(slot);
+        }
+    }
+
+    @Benchmark
+    public List<SlotResponse> mapPage() {
+        return map();
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializePage() throws Exception {
+        List<SlotResponse> items = map();
+        return objectMapper.writeValueAsBytes(
+                new SlotPageResponse(items, items.get(items.size() - 1).slotId(), true));
+    }
+
+    private List<SlotResponse> map() {
+        return slots.stream()
+                .map(slot -> SlotResponse.of(slot, slot.getBookedCount()))
+                .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.vasitum.interviewscheduler.benchmark;
+
+import com.vasitum.interviewscheduler.application.service.WeekWindow;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Week-window computation performed by every booking create/update before the weekly count query.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WeekWindowBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final LocalDateTime[] slotStarts = new LocalDateTime[SIZE];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 6, 9, 0);
+        for (int i = 0; i < SIZE; i++) {
+            slotStarts[i] = base.plusMinutes(37L * i);
+        }
+    }
+
+    @Benchmark
+    public void containing(Blackhole blackhole) {
+        next = (next + 1) & (SIZE - 1);
+        blackhole.consume(WeekWindow.containing(slotStarts[next]));
+    }
+}
@@ -2,6 +2,7 @@ package com.vasitum.interviewscheduler.api;
 
 import com.vasitum.interviewscheduler.api.dto.WeeklyAvailabilityRequest;
 import com.vasitum.interviewscheduler.application.service.AvailabilityService;
+import com.vasitum.interviewscheduler.application.service.Shards;
 import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
 import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
 import jakarta.validation.Valid;
@@ -16,21 +17,24 @@ public class AvailabilityController {
 
     private final AvailabilityService availabilityService;
     private final WeeklyAvailabilityRepository availabilityRepository;
+    private final Shards shards;
 
     public AvailabilityController(AvailabilityService availabilityService,
-                                 WeeklyAvailabilityRepository availabilityRepository) {
+                                 WeeklyAvailabilityRepository availabilityRepository,
+                                 Shards shards) {
         this.availabilityService = availabilityService;
         this.availabilityRepository = availabilityRepository;
+        this.shards = shards;
     }
 
     @GetMapping
     public List<WeeklyAvailability> get(@PathVariable Long interviewerId) {
-        return availabilityRepository.findByInterviewerId(interviewerId);
+        return shards.on(shards.shardOf(interviewerId), () -> availabilityRepository.findByInterviewerId(interviewerId));
     }
 
     @PutMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<WeeklyAvailability> replace(
+    public AvailabilityService.AvailabilityUpdate replace(
             @PathVariable Long interviewerId,
             @Valid @RequestBody List<WeeklyAvailabilityRequest> requests
     ) {
@@ -39,7 +43,8 @@ public class AvailabilityController {
                         r.dayOfWeek(),
                         r.startTime(),
                         r.endTime(),
-                        r.slotDurationMinutes()
+                        r.slotDurationMinutes(),
+                        r.capacity() != null ? r.capacity() : 1
                 ))
                 .toList();
         return availabilityService.replaceWeeklyAvailability(interviewerId, inputs);
@@ -0,0 +1,33 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.application.service.AvailabilityImportReport;
+import com.vasitum.interviewscheduler.application.service.AvailabilityImportService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/weekly-availability/import")
+public class AvailabilityImportController {
+
+    private final AvailabilityImportService importService;
+    private final AvailabilityImportParser parser;
+
+    public AvailabilityImportController(AvailabilityImportService importService,
+                                        AvailabilityImportParser parser) {
+        this.importService = importService;
+        this.parser = parser;
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public AvailabilityImportReport importCsv(InputStream body) {
+        return importService.importAvailability(parser.csv(body));
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public AvailabilityImportReport importNdjson(InputStream body) {
+        return importService.importAvailability(parser.ndjson(body));
+    }
+}
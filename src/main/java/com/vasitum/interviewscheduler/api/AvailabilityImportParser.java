@@ -0,0 +1,149 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.application.service.AvailabilityImportRow;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+
+/**
+ * Turns a CSV or NDJSON request body into {@link AvailabilityImportRow}s lazily, one line at a time.
+ * <p>
+ * CSV columns: {@code interviewerId,dayOfWeek,startTime,endTime,slotDurationMinutes[,capacity]}, with an
+ * optional header line. NDJSON objects use the same field names. A missing or empty capacity is left
+ * {@code null}, meaning one seat.
+ */
+@Component
+public class AvailabilityImportParser {
+
+    static final String CSV_HEADER = "interviewerId,dayOfWeek,startTime,endTime,slotDurationMinutes";
+    static final String CSV_HEADER_WITH_CAPACITY = CSV_HEADER + ",capacity";
+
+    private final ObjectMapper objectMapper;
+
+    public AvailabilityImportParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Iterator<AvailabilityImportRow> csv(InputStream body) {
+        return new LineIterator(body, this::parseCsv);
+    }
+
+    public Iterator<AvailabilityImportRow> ndjson(InputStream body) {
+        return new LineIterator(body, this::parseJson);
+    }
+
+    private AvailabilityImportRow parseCsv(long line, String text) {
+        String header = text.replace(" ", "");
+        if (line == 1 && (header.equalsIgnoreCase(CSV_HEADER) || header.equalsIgnoreCase(CSV_HEADER_WITH_CAPACITY))) {
+            return null;
+        }
+        String[] fields = text.split(",", -1);
+        if (fields.length != 5 && fields.length != 6) {
+            return AvailabilityImportRow.invalid(line, null, "expected 5 or 6 columns but got " + fields.length);
+        }
+        return parse(line, fields[0], fields[1], fields[2], fields[3], fields[4], fields.length == 6 ? fields[5] : "");
+    }
+
+    private AvailabilityImportRow parseJson(long line, String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException ex) {
+            return AvailabilityImportRow.invalid(line, null, "malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return AvailabilityImportRow.invalid(line, null, "expected a JSON object");
+        }
+        return parse(line, node.path("interviewerId").asText(), node.path("dayOfWeek").asText(),
+                node.path("startTime").asText(), node.path("endTime").asText(),
+                node.path("slotDurationMinutes").asText(),
+                node.hasNonNull("capacity") ? node.get("capacity").asText() : "");
+    }
+
+    private static AvailabilityImportRow parse(long line, String interviewerId, String dayOfWeek,
+                                               String startTime, String endTime, String slotDurationMinutes,
+                                               String capacity) {
+        Long id;
+        try {
+            id = Long.valueOf(interviewerId.trim());
+        } catch (NumberFormatException ex) {
+            return AvailabilityImportRow.invalid(line, null, "invalid interviewerId '" + interviewerId + "'");
+        }
+        String field = "dayOfWeek";
+        String value = dayOfWeek;
+        try {
+            DayOfWeek day = DayOfWeek.valueOf(dayOfWeek.trim().toUpperCase(Locale.ROOT));
+            field = "startTime";
+            value = startTime;
+            LocalTime start = LocalTime.parse(startTime.trim());
+            field = "endTime";
+            value = endTime;
+            LocalTime end = LocalTime.parse(endTime.trim());
+            field = "slotDurationMinutes";
+            value = slotDurationMinutes;
+            Integer duration = Integer.valueOf(slotDurationMinutes.trim());
+            field = "capacity";
+            value = capacity;
+            Integer seats = capacity.isBlank() ? null : Integer.valueOf(capacity.trim());
+            return new AvailabilityImportRow(line, id, day, start, end, duration, seats, null);
+        } catch (RuntimeException ex) {
+            return AvailabilityImportRow.invalid(line, id, "invalid " + field + " '" + value + "'");
+        }
+    }
+
+    private static final class LineIterator implements Iterator<AvailabilityImportRow> {
+
+        private final BufferedReader reader;
+        private final BiFunction<Long, String, AvailabilityImportRow> parser;
+        private long line;
+        private AvailabilityImportRow next;
+
+        private LineIterator(InputStream body, BiFunction<Long, String, AvailabilityImportRow> parser) {
+            this.reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null) {
+                    String text = reader.readLine();
+                    if (text == null) {
+                        return false;
+                    }
+                    line++;
+                    if (!text.isBlank()) {
+                        next = parser.apply(line, text);
+                    }
+                }
+                return true;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public AvailabilityImportRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            AvailabilityImportRow row = next;
+            next = null;
+            return row;
+        }
+    }
+}
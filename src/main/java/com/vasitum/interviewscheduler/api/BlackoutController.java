@@ -0,0 +1,49 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.api.dto.BlackoutRequest;
+import com.vasitum.interviewscheduler.api.dto.BlackoutResponse;
+import com.vasitum.interviewscheduler.api.dto.BlackoutResultResponse;
+import com.vasitum.interviewscheduler.application.service.BlackoutService;
+import com.vasitum.interviewscheduler.application.service.Shards;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/interviewers/{interviewerId}/blackouts")
+public class BlackoutController {
+
+    private final BlackoutService blackoutService;
+    private final BlackoutRepository blackoutRepository;
+    private final Shards shards;
+
+    public BlackoutController(BlackoutService blackoutService, BlackoutRepository blackoutRepository, Shards shards) {
+        this.blackoutService = blackoutService;
+        this.blackoutRepository = blackoutRepository;
+        this.shards = shards;
+    }
+
+    @GetMapping
+    public List<BlackoutResponse> list(@PathVariable Long interviewerId) {
+        return shards.on(shards.shardOf(interviewerId), () -> blackoutRepository
+                .findByInterviewerIdOrderByStartDateAsc(interviewerId).stream()
+                .map(BlackoutResponse::of)
+                .toList());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public BlackoutResultResponse add(@PathVariable Long interviewerId, @Valid @RequestBody BlackoutRequest request) {
+        return BlackoutResultResponse.of(blackoutService.addBlackout(interviewerId, request.startDate(),
+                request.endDate(), request.reason(), request.handling()));
+    }
+
+    @DeleteMapping("/{blackoutId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void remove(@PathVariable Long interviewerId, @PathVariable Long blackoutId) {
+        blackoutService.removeBlackout(interviewerId, blackoutId);
+    }
+}
@@ -4,14 +4,22 @@ import com.vasitum.interviewscheduler.api.dto.BookingRequest;
 import com.vasitum.interviewscheduler.api.dto.BookingResponse;
 import com.vasitum.interviewscheduler.api.dto.BookingUpdateRequest;
 import com.vasitum.interviewscheduler.application.service.BookingService;
-import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.application.service.Shards;
+import com.vasitum.interviewscheduler.domain.repository.BookingHistoryView;
 import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.infrastructure.admission.BookingAdmission;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/api/v1/bookings")
@@ -19,69 +27,107 @@ public class BookingController {
 
     private final BookingService bookingService;
     private final BookingRepository bookingRepository;
+    private final SchedulerMetrics metrics;
+    private final BookingAdmission admission;
+    private final Shards shards;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public BookingController(BookingService bookingService, BookingRepository bookingRepository) {
+    public BookingController(BookingService bookingService,
+                             BookingRepository bookingRepository,
+                             SchedulerMetrics metrics,
+                             BookingAdmission admission,
+                             Shards shards,
+                             PlatformTransactionManager transactionManager) {
         this.bookingService = bookingService;
         this.bookingRepository = bookingRepository;
+        this.metrics = metrics;
+        this.admission = admission;
+        this.shards = shards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
+    /**
+     * A candidate's bookings may sit with interviewers on any shard; each shard is read in its
+     * own transaction and the results are merged by start time.
+     */
     @GetMapping("/by-candidate")
-    @Transactional(readOnly = true)
-    public List<BookingResponse> getByCandidate(@RequestParam String candidateEmail) {
-        return bookingRepository.findByCandidateEmailOrderBySlot_StartTimeAsc(candidateEmail)
+    public List<BookingResponse> getByCandidate(@RequestParam String candidateEmail,
+                                                @RequestParam(defaultValue = "false") boolean history) {
+        if (history) {
+            return onEachShard(() -> toResponses(bookingRepository.findHistoryByCandidateEmail(candidateEmail)));
+        }
+        return onEachShard(() -> bookingRepository.findByCandidateEmailOrderBySlot_StartTimeAsc(candidateEmail)
                 .stream()
-                .map(booking -> new BookingResponse(
-                        booking.getId(),
-                        booking.getSlot().getId(),
-                        booking.getSlot().getInterviewer().getId(),
-                        booking.getCandidateName(),
-                        booking.getCandidateEmail(),
-                        booking.getSlot().getStartTime(),
-                        booking.getSlot().getEndTime(),
-                        booking.isConfirmed()
-                ))
-                .toList();
+                .map(BookingResponse::of)
+                .toList());
     }
 
     @GetMapping("/by-interviewer/{interviewerId}")
-    @Transactional(readOnly = true)
-    public List<BookingResponse> getByInterviewer(@PathVariable Long interviewerId) {
-        return bookingRepository.findBySlot_Interviewer_IdOrderBySlot_StartTimeAsc(interviewerId)
-                .stream()
-                .map(booking -> new BookingResponse(
-                        booking.getId(),
-                        booking.getSlot().getId(),
-                        booking.getSlot().getInterviewer().getId(),
-                        booking.getCandidateName(),
-                        booking.getCandidateEmail(),
-                        booking.getSlot().getStartTime(),
-                        booking.getSlot().getEndTime(),
-                        booking.isConfirmed()
-                ))
-                .toList();
+    public List<BookingResponse> getByInterviewer(@PathVariable Long interviewerId,
+                                                  @RequestParam(defaultValue = "false") boolean history) {
+        return shards.on(shards.shardOf(interviewerId), () -> readOnlyTransaction.execute(status -> {
+            if (history) {
+                return toResponses(bookingRepository.findHistoryByInterviewerId(interviewerId));
+            }
+            return bookingRepository.findBySlot_Interviewer_IdOrderBySlot_StartTimeAsc(interviewerId)
+                    .stream()
+                    .map(BookingResponse::of)
+                    .toList();
+        }));
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public Booking create(@Valid @RequestBody BookingRequest request) {
-        return bookingService.createBooking(
-                request.slotId(),
-                request.candidateName(),
-                request.candidateEmail()
-        );
+    public BookingResponse create(@Valid @RequestBody BookingRequest request, HttpServletRequest http) {
+        return admission.admit(http.getRemoteAddr(), request.candidateEmail(),
+                () -> metrics.timeBooking("create", () -> BookingResponse.of(bookingService.createBooking(
+                        request.slotId(),
+                        request.candidateName(),
+                        request.candidateEmail()
+                ))));
     }
 
     @PutMapping("/{bookingId}")
-    public Booking updateSlot(@PathVariable Long bookingId,
-                              @Valid @RequestBody BookingUpdateRequest request) {
-        return bookingService.updateBookingSlot(bookingId, request.newSlotId());
+    public BookingResponse updateSlot(@PathVariable Long bookingId,
+                                      @Valid @RequestBody BookingUpdateRequest request,
+                                      HttpServletRequest http) {
+        return admission.admit(http.getRemoteAddr(), null, () -> metrics.timeBooking("update",
+                () -> BookingResponse.of(bookingService.updateBookingSlot(bookingId, request.newSlotId()))));
     }
 
     @DeleteMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void cancel(@PathVariable Long bookingId) {
-        bookingService.cancelBooking(bookingId);
+    public void cancel(@PathVariable Long bookingId, HttpServletRequest http) {
+        admission.admit(http.getRemoteAddr(), null, () -> metrics.timeBooking("cancel", () -> {
+            bookingService.cancelBooking(bookingId);
+            return null;
+        }));
     }
-}
 
+    private List<BookingResponse> onEachShard(Supplier<List<BookingResponse>> query) {
+        List<List<BookingResponse>> results = shards.onEach(() -> readOnlyTransaction.execute(status -> query.get()));
+        if (results.size() == 1) {
+            return results.get(0);
+        }
+        List<BookingResponse> merged = new ArrayList<>();
+        results.forEach(merged::addAll);
+        merged.sort(Comparator.comparing(BookingResponse::startTime).thenComparing(BookingResponse::bookingId));
+        return merged;
+    }
 
+    private static List<BookingResponse> toResponses(List<BookingHistoryView> rows) {
+        return rows.stream()
+                .map(row -> new BookingResponse(
+                        row.getBookingId(),
+                        row.getSlotId(),
+                        row.getInterviewerId(),
+                        row.getCandidateName(),
+                        row.getCandidateEmail(),
+                        row.getStartTime(),
+                        row.getEndTime(),
+                        row.isConfirmed()
+                ))
+                .toList();
+    }
+}
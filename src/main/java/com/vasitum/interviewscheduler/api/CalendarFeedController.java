@@ -0,0 +1,61 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.application.service.CalendarFeedService;
+import com.vasitum.interviewscheduler.application.service.CalendarFeedService.CalendarFeed;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import jakarta.validation.constraints.Email;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Subscribable iCalendar feeds. Clients poll them, so every response carries an ETag and
+ * Last-Modified and a matching conditional request is answered with 304 from memory.
+ */
+@RestController
+@RequestMapping("/api/v1/calendar")
+@Validated
+public class CalendarFeedController {
+
+    static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final CalendarFeedService calendarFeedService;
+    private final SchedulerMetrics metrics;
+
+    public CalendarFeedController(CalendarFeedService calendarFeedService, SchedulerMetrics metrics) {
+        this.calendarFeedService = calendarFeedService;
+        this.metrics = metrics;
+    }
+
+    @GetMapping("/interviewers/{interviewerId}.ics")
+    public ResponseEntity<byte[]> interviewerFeed(@PathVariable Long interviewerId, WebRequest request) {
+        return respond("interviewer", calendarFeedService.interviewerFeed(interviewerId), request);
+    }
+
+    @GetMapping("/candidate.ics")
+    public ResponseEntity<byte[]> candidateFeed(@RequestParam @Email String email, WebRequest request) {
+        return respond("candidate", calendarFeedService.candidateFeed(email), request);
+    }
+
+    private ResponseEntity<byte[]> respond(String feedType, CalendarFeed feed, WebRequest request) {
+        if (request.checkNotModified(feed.etag(), feed.lastModified().toEpochMilli())) {
+            metrics.recordCalendarFeed(feedType, feed.cached() ? "not-modified" : "rendered");
+            // status and validators are already on the response
+            return null;
+        }
+        metrics.recordCalendarFeed(feedType, feed.cached() ? "cached" : "rendered");
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(feed.etag())
+                .lastModified(feed.lastModified())
+                .body(feed.body());
+    }
+}
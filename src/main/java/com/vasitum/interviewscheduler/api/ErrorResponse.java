@@ -8,7 +8,9 @@ public record ErrorResponse(
         String error,
         String code,
         String message,
-        String path
+        String path,
+        // matches the X-Trace-Id header; null when tracing is off
+        String traceId
 ) {
 }
 
@@ -2,10 +2,18 @@ package com.vasitum.interviewscheduler.api;
 
 import com.vasitum.interviewscheduler.application.exception.DomainException;
 import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.exception.SlotFullyBookedException;
+import com.vasitum.interviewscheduler.infrastructure.admission.RateLimitExceededException;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.tracing.Trace;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,6 +23,14 @@ import java.time.OffsetDateTime;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final SchedulerMetrics metrics;
+
+    public GlobalExceptionHandler(SchedulerMetrics metrics) {
+        this.metrics = metrics;
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(NotFoundException ex, HttpServletRequest request) {
         return buildResponse(ex, HttpStatus.NOT_FOUND, request);
@@ -22,9 +38,36 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ErrorResponse> handleDomainException(DomainException ex, HttpServletRequest request) {
+        metrics.recordConflict(ex.getCode());
         return buildResponse(ex, HttpStatus.CONFLICT, request);
     }
 
+    // InterviewSlot is the only versioned entity: a concurrent booking took the seat first
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(ObjectOptimisticLockingFailureException ex,
+                                                              HttpServletRequest request) {
+        Long slotId = ex.getIdentifier() instanceof Long id ? id : null;
+        return handleDomainException(new SlotFullyBookedException(slotId), request);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimited(RateLimitExceededException ex, HttpServletRequest request) {
+        ErrorResponse body = new ErrorResponse(
+                OffsetDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                ex.getCode(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                Trace.currentTraceId()
+        );
+        // whole seconds, rounded up
+        long retryAfter = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                .body(body);
+    }
+
     @ExceptionHandler({ConstraintViolationException.class, MethodArgumentNotValidException.class, IllegalArgumentException.class})
     public ResponseEntity<ErrorResponse> handleBadRequest(Exception ex, HttpServletRequest request) {
         ErrorResponse body = new ErrorResponse(
@@ -33,7 +76,8 @@ public class GlobalExceptionHandler {
                 HttpStatus.BAD_REQUEST.getReasonPhrase(),
                 "BAD_REQUEST",
                 ex.getMessage(),
-                request.getRequestURI()
+                request.getRequestURI(),
+                Trace.currentTraceId()
         );
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
@@ -45,19 +89,16 @@ public class GlobalExceptionHandler {
             message = ex.getClass().getSimpleName() + " occurred. Check server logs for details.";
         }
         // Log the full exception for debugging
-        System.err.println("=== Exception caught in GlobalExceptionHandler ===");
-        System.err.println("Exception type: " + ex.getClass().getName());
-        System.err.println("Exception message: " + message);
-        ex.printStackTrace();
-        System.err.println("================================================");
-        
+        log.error("Unhandled {} on {}: {}", ex.getClass().getName(), request.getRequestURI(), message, ex);
+
         ErrorResponse body = new ErrorResponse(
                 OffsetDateTime.now(),
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 HttpStatus.INTERNAL_SERVER_ERROR.getReasonPhrase(),
                 "INTERNAL_ERROR",
                 message,
-                request.getRequestURI()
+                request.getRequestURI(),
+                Trace.currentTraceId()
         );
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
     }
@@ -69,7 +110,8 @@ public class GlobalExceptionHandler {
                 status.getReasonPhrase(),
                 ex.getCode(),
                 ex.getMessage(),
-                request.getRequestURI()
+                request.getRequestURI(),
+                Trace.currentTraceId()
         );
         return ResponseEntity.status(status).body(body);
     }
@@ -0,0 +1,51 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.api.dto.BlackoutRequest;
+import com.vasitum.interviewscheduler.api.dto.BlackoutResponse;
+import com.vasitum.interviewscheduler.api.dto.BlackoutResultResponse;
+import com.vasitum.interviewscheduler.application.service.BlackoutService;
+import com.vasitum.interviewscheduler.application.service.Shards;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Company holidays: blackouts of every interviewer, kept on shard 0.
+ */
+@RestController
+@RequestMapping("/api/v1/holidays")
+public class HolidayController {
+
+    private final BlackoutService blackoutService;
+    private final BlackoutRepository blackoutRepository;
+    private final Shards shards;
+
+    public HolidayController(BlackoutService blackoutService, BlackoutRepository blackoutRepository, Shards shards) {
+        this.blackoutService = blackoutService;
+        this.blackoutRepository = blackoutRepository;
+        this.shards = shards;
+    }
+
+    @GetMapping
+    public List<BlackoutResponse> list() {
+        return shards.on(0, () -> blackoutRepository.findByInterviewerIsNullOrderByStartDateAsc().stream()
+                .map(BlackoutResponse::of)
+                .toList());
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public BlackoutResultResponse add(@Valid @RequestBody BlackoutRequest request) {
+        return BlackoutResultResponse.of(blackoutService.addCompanyHoliday(request.startDate(), request.endDate(),
+                request.reason(), request.handling()));
+    }
+
+    @DeleteMapping("/{holidayId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void remove(@PathVariable Long holidayId) {
+        blackoutService.removeCompanyHoliday(holidayId);
+    }
+}
@@ -1,29 +1,46 @@
 package com.vasitum.interviewscheduler.api;
 
+import com.vasitum.interviewscheduler.api.dto.FreeBusyResponse;
 import com.vasitum.interviewscheduler.api.dto.InterviewerDto;
 import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.service.DomainChangeEvent;
+import com.vasitum.interviewscheduler.application.service.FreeBusyService;
 import com.vasitum.interviewscheduler.domain.model.Interviewer;
 import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/interviewers")
 @Validated
 public class InterviewerController {
 
     private final InterviewerRepository interviewerRepository;
+    private final FreeBusyService freeBusyService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shards;
 
-    public InterviewerController(InterviewerRepository interviewerRepository) {
+    public InterviewerController(InterviewerRepository interviewerRepository,
+                                 FreeBusyService freeBusyService,
+                                 ApplicationEventPublisher eventPublisher,
+                                 ShardRouter shards) {
         this.interviewerRepository = interviewerRepository;
+        this.freeBusyService = freeBusyService;
+        this.eventPublisher = eventPublisher;
+        this.shards = shards;
     }
 
     @GetMapping("/{id}")
     public InterviewerDto get(@PathVariable Long id) {
-        Interviewer interviewer = interviewerRepository.findById(id)
+        Interviewer interviewer = shards.on(shards.shardOf(id), () -> interviewerRepository.findById(id))
                 .orElseThrow(() -> new NotFoundException("Interviewer " + id + " not found"));
         return new InterviewerDto(interviewer.getId(), interviewer.getName(), interviewer.getEmail(), interviewer.getMaxWeeklyInterviews());
     }
@@ -35,19 +52,33 @@ public class InterviewerController {
         interviewer.setName(dto.name());
         interviewer.setEmail(dto.email());
         interviewer.setMaxWeeklyInterviews(dto.maxWeeklyInterviews());
-        Interviewer saved = interviewerRepository.save(interviewer);
+        // the interviewer's id, and with it every slot and booking of theirs, comes from this shard
+        Interviewer saved = shards.on(shards.placeInterviewer(dto.email()), () -> interviewerRepository.save(interviewer));
+        eventPublisher.publishEvent(DomainChangeEvent.interviewer(saved.getId()));
         return new InterviewerDto(saved.getId(), saved.getName(), saved.getEmail(), saved.getMaxWeeklyInterviews());
     }
 
     @PatchMapping("/{id}/max-weekly-interviews")
     public InterviewerDto updateMaxWeekly(@PathVariable Long id,
                                           @RequestParam @Min(1) Integer maxWeeklyInterviews) {
-        Interviewer interviewer = interviewerRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Interviewer " + id + " not found"));
-        interviewer.setMaxWeeklyInterviews(maxWeeklyInterviews);
-        Interviewer saved = interviewerRepository.save(interviewer);
+        Interviewer saved = shards.on(shards.shardOf(id), () -> {
+            Interviewer interviewer = interviewerRepository.findById(id)
+                    .orElseThrow(() -> new NotFoundException("Interviewer " + id + " not found"));
+            interviewer.setMaxWeeklyInterviews(maxWeeklyInterviews);
+            return interviewerRepository.save(interviewer);
+        });
+        eventPublisher.publishEvent(DomainChangeEvent.interviewer(saved.getId()));
         return new InterviewerDto(saved.getId(), saved.getName(), saved.getEmail(), saved.getMaxWeeklyInterviews());
     }
-}
-
 
+    /**
+     * @param week any date in the requested week; defaults to the current week
+     */
+    @GetMapping("/{id}/free-busy")
+    public FreeBusyResponse freeBusy(@PathVariable Long id,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate week) {
+        LocalDate day = week != null ? week : LocalDate.now();
+        return FreeBusyResponse.of(id, freeBusyService.forWeek(id, day));
+    }
+}
@@ -0,0 +1,75 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.api.dto.PanelBookingRequest;
+import com.vasitum.interviewscheduler.api.dto.PanelBookingResponse;
+import com.vasitum.interviewscheduler.application.service.PanelBookingService;
+import com.vasitum.interviewscheduler.application.service.PanelBookingService.PanelWindow;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/panel-bookings")
+@Validated
+public class PanelBookingController {
+
+    private final PanelBookingService panelBookingService;
+    private final SchedulerMetrics metrics;
+
+    public PanelBookingController(PanelBookingService panelBookingService, SchedulerMetrics metrics) {
+        this.panelBookingService = panelBookingService;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param interviewerIds the pool to draw members from
+     * @param panelSize      members per panel; defaults to the whole pool
+     */
+    @GetMapping("/availability")
+    public List<PanelWindow> availability(
+            @RequestParam @Size(min = 2, max = 500) List<Long> interviewerIds,
+            @RequestParam(required = false) Integer panelSize,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int limit) {
+        LocalDateTime start = from != null ? from : LocalDateTime.now();
+        LocalDateTime end = to != null ? to : start.plusDays(14);
+        int size = panelSize != null ? panelSize : interviewerIds.size();
+        return panelBookingService.findCommonWindows(interviewerIds, size, start, end, limit);
+    }
+
+    @GetMapping("/{panelBookingId}")
+    public PanelBookingResponse get(@PathVariable Long panelBookingId) {
+        return PanelBookingResponse.of(panelBookingService.getPanelBooking(panelBookingId));
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public PanelBookingResponse create(@Valid @RequestBody PanelBookingRequest request) {
+        return metrics.timeBooking("panel-create", () -> PanelBookingResponse.of(
+                panelBookingService.createPanelBooking(
+                        request.slotIds(),
+                        request.candidateName(),
+                        request.candidateEmail())));
+    }
+
+    @DeleteMapping("/{panelBookingId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancel(@PathVariable Long panelBookingId) {
+        metrics.timeBooking("panel-cancel", () -> {
+            panelBookingService.cancelPanelBooking(panelBookingId);
+            return null;
+        });
+    }
+}
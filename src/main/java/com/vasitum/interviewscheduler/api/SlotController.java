@@ -1,37 +1,61 @@
 package com.vasitum.interviewscheduler.api;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vasitum.interviewscheduler.api.dto.SlotPageResponse;
 import com.vasitum.interviewscheduler.api.dto.SlotResponse;
 import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.service.Shards;
 import com.vasitum.interviewscheduler.application.service.SlotGenerationService;
+import com.vasitum.interviewscheduler.application.service.SlotSeats;
 import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
 import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.infrastructure.coalescing.ReadCoalescer;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1")
 @Validated
 public class SlotController {
 
-    private static final int SLOT_CAPACITY = 1;
-
     private final SlotGenerationService slotGenerationService;
     private final InterviewSlotRepository slotRepository;
+    private final SlotSeats seats;
+    private final Shards shards;
+    private final ReadCoalescer coalescer;
+    private final ObjectMapper objectMapper;
+    private final SchedulerMetrics metrics;
 
     public SlotController(SlotGenerationService slotGenerationService,
-                          InterviewSlotRepository slotRepository) {
+                          InterviewSlotRepository slotRepository,
+                          SlotSeats seats,
+                          Shards shards,
+                          ReadCoalescer coalescer,
+                          ObjectMapper objectMapper,
+                          SchedulerMetrics metrics) {
         this.slotGenerationService = slotGenerationService;
         this.slotRepository = slotRepository;
+        this.seats = seats;
+        this.shards = shards;
+        this.coalescer = coalescer;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
     }
 
     @PostMapping("/interviewers/{interviewerId}/generate-slots")
@@ -43,11 +67,27 @@ public class SlotController {
                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
         LocalDate start = from != null ? from : LocalDate.now();
         LocalDate end = to != null ? to : start.plusDays(14);
-        return slotGenerationService.generateSlotsForInterviewer(interviewerId, start, end);
+        long started = System.nanoTime();
+        int created = slotGenerationService.generateSlotsForInterviewer(interviewerId, start, end);
+        metrics.recordSlotGeneration(System.nanoTime() - started, created);
+        return created;
+    }
+
+    /**
+     * Re-tiles the interviewer's unbooked future slots to the current weekly availability, around
+     * existing bookings.
+     */
+    @PostMapping("/interviewers/{interviewerId}/reshape-slots")
+    public SlotGenerationService.Reconciliation reshapeSlots(@PathVariable Long interviewerId) {
+        return slotGenerationService.reshapeSlots(interviewerId);
     }
 
+    /**
+     * Identical concurrent requests share one query and its JSON (see {@link ReadCoalescer}); the
+     * key uses the raw parameters, so requests relying on the default window coalesce as well.
+     */
     @GetMapping("/slots")
-    public SlotPageResponse listSlots(
+    public ResponseEntity<byte[]> listSlots(
             @RequestParam(required = false) Long interviewerId,
             @RequestParam(required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
@@ -57,33 +97,42 @@ public class SlotController {
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit,
             @RequestParam(defaultValue = "false") boolean hideFull
     ) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start = from != null ? from : now;
-        LocalDateTime end = to != null ? to : now.plusDays(14);
-
         Long effectiveCursor = cursor != null && cursor > 0 ? cursor : 0L;
+        String key = interviewerId + "|" + from + "|" + to + "|" + effectiveCursor + "|" + limit + "|" + hideFull;
+
+        return json(coalescer.read("slots", key, () -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime start = from != null ? from : now;
+            LocalDateTime end = to != null ? to : now.plusDays(14);
+            return serialize(metrics.timeSlotQuery(interviewerId != null, from != null || to != null, hideFull,
+                    effectiveCursor == 0L,
+                    () -> querySlots(interviewerId, start, end, effectiveCursor, limit, hideFull)));
+        }));
+    }
 
-        List<InterviewSlot> slots;
+    private SlotPageResponse querySlots(Long interviewerId, LocalDateTime start, LocalDateTime end,
+                                        Long effectiveCursor, int limit, boolean hideFull) {
+        if (shards.count() == 1) {
+            return querySlotsOnShard(interviewerId, start, end, effectiveCursor, limit, hideFull);
+        }
         if (interviewerId != null) {
-            // simple filter by interviewer via stream for brevity
-            slots = slotRepository.findUpcomingSlotsAfterCursor(start, end, effectiveCursor, PageRequest.of(0, limit))
-                    .stream()
-                    .filter(s -> s.getInterviewer().getId().equals(interviewerId))
-                    .toList();
-        } else {
-            slots = slotRepository.findUpcomingSlotsAfterCursor(start, end, effectiveCursor, PageRequest.of(0, limit));
+            return shards.on(shards.shardOf(interviewerId),
+                    () -> querySlotsOnShard(interviewerId, start, end, effectiveCursor, limit, hideFull));
         }
+        // every shard returns its first limit + 1 slots after the cursor; the merged page takes the
+        // lowest ids, and any slot left over means there is another page
+        List<SlotResponse> merged = new ArrayList<>();
+        shards.onEach(() -> slotsAfterCursor(null, start, end, effectiveCursor, limit + 1, hideFull))
+                .forEach(merged::addAll);
+        merged.sort(Comparator.comparing(SlotResponse::slotId));
+        List<SlotResponse> items = List.copyOf(merged.subList(0, Math.min(limit, merged.size())));
+        Long nextCursor = items.isEmpty() ? effectiveCursor : items.get(items.size() - 1).slotId();
+        return new SlotPageResponse(items, nextCursor, merged.size() > limit);
+    }
 
-        List<SlotResponse> items = slots.stream()
-                .map(slot -> new SlotResponse(
-                        slot.getId(),
-                        slot.getInterviewer().getId(),
-                        slot.getStartTime(),
-                        slot.getEndTime(),
-                        Math.max(0, SLOT_CAPACITY - slot.getBookedCount())
-                ))
-                .filter(sr -> !hideFull || sr.availableCapacity() > 0)
-                .toList();
+    private SlotPageResponse querySlotsOnShard(Long interviewerId, LocalDateTime start, LocalDateTime end,
+                                               Long effectiveCursor, int limit, boolean hideFull) {
+        List<SlotResponse> items = slotsAfterCursor(interviewerId, start, end, effectiveCursor, limit, hideFull);
 
         Long nextCursor = items.isEmpty() ? effectiveCursor :
                 items.get(items.size() - 1).slotId();
@@ -94,18 +143,45 @@ public class SlotController {
         return new SlotPageResponse(items, nextCursor, hasMore);
     }
 
+    private List<SlotResponse> slotsAfterCursor(Long interviewerId, LocalDateTime start, LocalDateTime end,
+                                                Long effectiveCursor, int limit, boolean hideFull) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<InterviewSlot> slots;
+        if (interviewerId != null) {
+            slots = hideFull
+                    ? slotRepository.findOpenSlotsForInterviewerAfterCursor(interviewerId, start, end, effectiveCursor, page)
+                    : slotRepository.findUpcomingSlotsForInterviewerAfterCursor(interviewerId, start, end, effectiveCursor, page);
+        } else {
+            slots = hideFull
+                    ? slotRepository.findOpenSlotsAfterCursor(start, end, effectiveCursor, page)
+                    : slotRepository.findUpcomingSlotsAfterCursor(start, end, effectiveCursor, page);
+        }
+
+        Map<Long, Integer> booked = seats.booked(slots);
+        return slots.stream()
+                .map(slot -> SlotResponse.of(slot, booked.get(slot.getId())))
+                .toList();
+    }
+
     @GetMapping("/slots/{slotId}")
-    public SlotResponse getSlot(@PathVariable Long slotId) {
-        InterviewSlot slot = slotRepository.findById(slotId)
-                .orElseThrow(() -> new NotFoundException("Slot " + slotId + " not found"));
-
-        return new SlotResponse(
-                slot.getId(),
-                slot.getInterviewer().getId(),
-                slot.getStartTime(),
-                slot.getEndTime(),
-                Math.max(0, 1 - slot.getBookedCount())
-        );
+    public ResponseEntity<byte[]> getSlot(@PathVariable Long slotId) {
+        return json(coalescer.read("slot", String.valueOf(slotId), () -> shards.on(shards.shardOf(slotId), () -> {
+            InterviewSlot slot = slotRepository.findById(slotId)
+                    .orElseThrow(() -> new NotFoundException("Slot " + slotId + " not found"));
+            return serialize(SlotResponse.of(slot, seats.booked(slot)));
+        })));
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + response.getClass().getSimpleName(), ex);
+        }
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
 
@@ -0,0 +1,44 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.api.dto.WaitlistRequest;
+import com.vasitum.interviewscheduler.api.dto.WaitlistResponse;
+import com.vasitum.interviewscheduler.application.service.WaitlistService;
+import com.vasitum.interviewscheduler.infrastructure.admission.BookingAdmission;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/waitlist")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+    private final BookingAdmission admission;
+
+    public WaitlistController(WaitlistService waitlistService, BookingAdmission admission) {
+        this.waitlistService = waitlistService;
+        this.admission = admission;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public WaitlistResponse join(@Valid @RequestBody WaitlistRequest request, HttpServletRequest http) {
+        return admission.admit(http.getRemoteAddr(), request.candidateEmail(), () -> WaitlistResponse.of(
+                request.slotId() != null
+                        ? waitlistService.join(request.slotId(), request.candidateName(), request.candidateEmail())
+                        : waitlistService.joinWindow(request.interviewerId(), request.from(), request.to(),
+                        request.candidateName(), request.candidateEmail())));
+    }
+
+    @GetMapping("/{entryId}")
+    public WaitlistResponse get(@PathVariable Long entryId) {
+        return WaitlistResponse.of(waitlistService.get(entryId));
+    }
+
+    @DeleteMapping("/{entryId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void cancel(@PathVariable Long entryId) {
+        waitlistService.cancel(entryId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import com.vasitum.interviewscheduler.application.service.BlackoutService.BookingHandling;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+/**
+ * @param startDate first blacked-out day
+ * @param endDate   last blacked-out day, inclusive
+ * @param bookings  what happens to bookings already made in the range; defaults to RESCHEDULE,
+ *                  which cancels those that find no later slot
+ */
+public record BlackoutRequest(
+        @NotNull LocalDate startDate,
+        @NotNull LocalDate endDate,
+        @Size(max = 255) String reason,
+        BookingHandling bookings
+) {
+
+    public BookingHandling handling() {
+        return bookings != null ? bookings : BookingHandling.RESCHEDULE;
+    }
+}
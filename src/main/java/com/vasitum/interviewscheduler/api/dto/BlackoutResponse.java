@@ -0,0 +1,27 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import com.vasitum.interviewscheduler.domain.model.Blackout;
+
+import java.time.LocalDate;
+
+/**
+ * @param interviewerId null for a company holiday
+ */
+public record BlackoutResponse(
+        Long id,
+        Long interviewerId,
+        LocalDate startDate,
+        LocalDate endDate,
+        String reason
+) {
+
+    public static BlackoutResponse of(Blackout blackout) {
+        return new BlackoutResponse(
+                blackout.getId(),
+                blackout.getInterviewer() != null ? blackout.getInterviewer().getId() : null,
+                blackout.getStartDate(),
+                blackout.getEndDate(),
+                blackout.getReason()
+        );
+    }
+}
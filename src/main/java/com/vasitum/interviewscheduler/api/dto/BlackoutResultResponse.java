@@ -0,0 +1,23 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import com.vasitum.interviewscheduler.application.service.BlackoutService.BlackoutResult;
+
+/**
+ * The stored blackout and what clearing its already generated slots did.
+ */
+public record BlackoutResultResponse(
+        BlackoutResponse blackout,
+        int slotsRemoved,
+        int bookingsRescheduled,
+        int bookingsCancelled
+) {
+
+    public static BlackoutResultResponse of(BlackoutResult result) {
+        return new BlackoutResultResponse(
+                BlackoutResponse.of(result.blackout()),
+                result.clearing().slotsRemoved(),
+                result.clearing().bookingsRescheduled(),
+                result.clearing().bookingsCancelled()
+        );
+    }
+}
@@ -1,5 +1,8 @@
 package com.vasitum.interviewscheduler.api.dto;
 
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+
 import java.time.LocalDateTime;
 
 public record BookingResponse(
@@ -12,5 +15,23 @@ public record BookingResponse(
         LocalDateTime endTime,
         boolean confirmed
 ) {
+
+    /**
+     * Reads only the booking, its slot and the slot's interviewer id, all of which the booking
+     * services load inside their transaction, so mapping a write result issues no SQL.
+     */
+    public static BookingResponse of(Booking booking) {
+        InterviewSlot slot = booking.getSlot();
+        return new BookingResponse(
+                booking.getId(),
+                slot.getId(),
+                slot.getInterviewer().getId(),
+                booking.getCandidateName(),
+                booking.getCandidateEmail(),
+                slot.getStartTime(),
+                slot.getEndTime(),
+                booking.isConfirmed()
+        );
+    }
 }
 
@@ -0,0 +1,36 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import com.vasitum.interviewscheduler.application.service.FreeBusyService.FreeBusy;
+import com.vasitum.interviewscheduler.application.service.FreeBusyWeek;
+
+import java.time.LocalDate;
+
+/**
+ * Free/busy bitmaps of one week; see {@link FreeBusyWeek#encode()} for the bit layout.
+ */
+public record FreeBusyResponse(
+        Long interviewerId,
+        LocalDate weekStart,
+        int minutesPerBit,
+        String encoding,
+        String available,
+        String busy,
+        String free,
+        int availableMinutes,
+        int busyMinutes
+) {
+
+    public static FreeBusyResponse of(Long interviewerId, FreeBusy freeBusy) {
+        return new FreeBusyResponse(
+                interviewerId,
+                freeBusy.available().weekStart(),
+                FreeBusyWeek.MINUTES_PER_BIT,
+                "base64url-lsb0",
+                freeBusy.available().encode(),
+                freeBusy.busy().encode(),
+                freeBusy.free().encode(),
+                freeBusy.available().markedMinutes(),
+                freeBusy.busy().markedMinutes()
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * @param slotIds one slot per panel member, all with the same start and end time
+ */
+public record PanelBookingRequest(
+        @NotNull @Size(min = 2, max = 4) List<@NotNull Long> slotIds,
+        @NotBlank String candidateName,
+        @NotBlank @Email String candidateEmail
+) {
+}
@@ -0,0 +1,35 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import com.vasitum.interviewscheduler.application.service.PanelBookingService.PanelResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record PanelBookingResponse(
+        Long panelBookingId,
+        String candidateName,
+        String candidateEmail,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        List<Member> members
+) {
+
+    public record Member(Long interviewerId, Long slotId, Long bookingId) {
+    }
+
+    public static PanelBookingResponse of(PanelResult result) {
+        return new PanelBookingResponse(
+                result.panel().getId(),
+                result.panel().getCandidateName(),
+                result.panel().getCandidateEmail(),
+                result.panel().getStartTime(),
+                result.panel().getEndTime(),
+                result.bookings().stream()
+                        .map(booking -> new Member(
+                                booking.getSlot().getInterviewer().getId(),
+                                booking.getSlot().getId(),
+                                booking.getId()))
+                        .toList()
+        );
+    }
+}
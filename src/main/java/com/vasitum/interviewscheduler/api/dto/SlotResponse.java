@@ -1,5 +1,7 @@
 package com.vasitum.interviewscheduler.api.dto;
 
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+
 import java.time.LocalDateTime;
 
 public record SlotResponse(
@@ -7,8 +9,23 @@ public record SlotResponse(
         Long interviewerId,
         LocalDateTime startTime,
         LocalDateTime endTime,
+        int capacity,
         int availableCapacity
 ) {
+
+    /**
+     * @param booked seats taken; differs from {@code bookedCount} for slots with counter shards
+     */
+    public static SlotResponse of(InterviewSlot slot, int booked) {
+        return new SlotResponse(
+                slot.getId(),
+                slot.getInterviewer().getId(),
+                slot.getStartTime(),
+                slot.getEndTime(),
+                slot.getCapacity(),
+                Math.max(0, slot.getCapacity() - booked)
+        );
+    }
 }
 
 
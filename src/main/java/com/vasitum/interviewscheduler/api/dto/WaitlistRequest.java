@@ -0,0 +1,27 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.LocalDateTime;
+
+/**
+ * Either {@code slotId} (wait for that slot) or {@code interviewerId} with {@code from} and
+ * {@code to} (wait for any of the interviewer's slots in that window).
+ */
+public record WaitlistRequest(
+        Long slotId,
+        Long interviewerId,
+        LocalDateTime from,
+        LocalDateTime to,
+        @NotBlank String candidateName,
+        @NotBlank @Email String candidateEmail
+) {
+
+    @AssertTrue(message = "give either slotId or interviewerId, from and to")
+    public boolean isSlotOrWindow() {
+        boolean window = interviewerId != null && from != null && to != null;
+        return slotId != null ? interviewerId == null && from == null && to == null : window;
+    }
+}
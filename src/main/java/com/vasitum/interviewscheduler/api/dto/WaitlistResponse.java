@@ -0,0 +1,40 @@
+package com.vasitum.interviewscheduler.api.dto;
+
+import com.vasitum.interviewscheduler.application.service.WaitlistService.Placement;
+import com.vasitum.interviewscheduler.domain.model.WaitlistEntry;
+import com.vasitum.interviewscheduler.domain.model.WaitlistStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * @param position place in line among entries competing for the same time, 1 being next; 0 once
+ *                 the entry is no longer waiting
+ * @param bookingId the booking made for the candidate when the entry was promoted
+ */
+public record WaitlistResponse(
+        Long id,
+        WaitlistStatus status,
+        long position,
+        Long interviewerId,
+        Long slotId,
+        LocalDateTime windowStart,
+        LocalDateTime windowEnd,
+        String candidateEmail,
+        Long bookingId
+) {
+
+    public static WaitlistResponse of(Placement placement) {
+        WaitlistEntry entry = placement.entry();
+        return new WaitlistResponse(
+                entry.getId(),
+                entry.getStatus(),
+                placement.position(),
+                entry.getInterviewer().getId(),
+                entry.getSlotId(),
+                entry.getWindowStart(),
+                entry.getWindowEnd(),
+                entry.getCandidateEmail(),
+                entry.getPromotedBookingId()
+        );
+    }
+}
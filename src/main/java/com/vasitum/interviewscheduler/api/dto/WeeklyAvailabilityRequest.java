@@ -7,11 +7,15 @@ import jakarta.validation.constraints.NotNull;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 
+/**
+ * @param capacity seats per generated slot; defaults to 1
+ */
 public record WeeklyAvailabilityRequest(
         @NotNull DayOfWeek dayOfWeek,
         @NotNull LocalTime startTime,
         @NotNull LocalTime endTime,
-        @NotNull @Min(5) @Max(480) Integer slotDurationMinutes
+        @NotNull @Min(5) @Max(480) Integer slotDurationMinutes,
+        @Min(1) @Max(500) Integer capacity
 ) {
 }
 
@@ -0,0 +1,8 @@
+package com.vasitum.interviewscheduler.application.exception;
+
+public class AlreadyWaitlistedException extends DomainException {
+
+    public AlreadyWaitlistedException(String candidateEmail) {
+        super("ALREADY_WAITLISTED", "Candidate " + candidateEmail + " is already on this waitlist.");
+    }
+}
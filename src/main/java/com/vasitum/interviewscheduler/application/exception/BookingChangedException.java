@@ -0,0 +1,8 @@
+package com.vasitum.interviewscheduler.application.exception;
+
+public class BookingChangedException extends DomainException {
+
+    public BookingChangedException(Long bookingId) {
+        super("BOOKING_CHANGED", "Booking " + bookingId + " was moved or cancelled by another request; reload it and retry.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.vasitum.interviewscheduler.application.exception;
+
+public class PanelMemberBookingException extends DomainException {
+
+    public PanelMemberBookingException(Long bookingId, Long panelBookingId) {
+        super("PANEL_MEMBER_BOOKING", "Booking " + bookingId + " is part of panel booking " + panelBookingId
+                + "; change or cancel it through /api/v1/panel-bookings/" + panelBookingId + ".");
+    }
+}
@@ -0,0 +1,8 @@
+package com.vasitum.interviewscheduler.application.exception;
+
+public class SlotAvailableException extends DomainException {
+
+    public SlotAvailableException(Long slotId) {
+        super("SLOT_AVAILABLE", "Slot " + slotId + " can still be booked; book it instead of joining the waitlist.");
+    }
+}
@@ -0,0 +1,15 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.util.List;
+
+public record AvailabilityImportReport(
+        long rowsRead,
+        int interviewersImported,
+        int windowsImported,
+        int interviewersRejected,
+        List<RowError> errors
+) {
+
+    public record RowError(long line, Long interviewerId, String message) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * One parsed line of a bulk availability import. {@code error} is set when the line could not be
+ * parsed; the remaining fields are then only filled as far as parsing got. {@code capacity} is
+ * {@code null} when the line leaves it out.
+ */
+public record AvailabilityImportRow(
+        long line,
+        Long interviewerId,
+        DayOfWeek dayOfWeek,
+        LocalTime startTime,
+        LocalTime endTime,
+        Integer slotDurationMinutes,
+        Integer capacity,
+        String error
+) {
+
+    public static AvailabilityImportRow invalid(long line, Long interviewerId, String error) {
+        return new AvailabilityImportRow(line, interviewerId, null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,187 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.service.AvailabilityImportReport.RowError;
+import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
+import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityBatchWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Bulk replacement of weekly availability, fed row by row from a parsed CSV/NDJSON stream.
+ * <p>
+ * Rows of one interviewer must be contiguous, so only the current interviewer's rows and one
+ * chunk of validated interviewers are held in memory. Each chunk is written in its own
+ * transaction. An interviewer with any invalid row is skipped as a whole, like a rejected
+ * {@code PUT /weekly-availability}.
+ */
+@Service
+public class AvailabilityImportService {
+
+    private final WeeklyAvailabilityBatchWriter batchWriter;
+    private final Shards shards;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public AvailabilityImportService(WeeklyAvailabilityBatchWriter batchWriter,
+                                     Shards shards,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${scheduler.import.chunk-size:500}") int chunkSize) {
+        this.batchWriter = batchWriter;
+        this.shards = shards;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public AvailabilityImportReport importAvailability(Iterator<AvailabilityImportRow> rows) {
+        Run run = new Run();
+        List<AvailabilityImportRow> group = new ArrayList<>();
+        while (rows.hasNext()) {
+            AvailabilityImportRow row = rows.next();
+            run.rowsRead++;
+            if (row.interviewerId() == null) {
+                run.errors.add(new RowError(row.line(), null, row.error()));
+                continue;
+            }
+            if (!group.isEmpty() && !group.get(0).interviewerId().equals(row.interviewerId())) {
+                finishGroup(run, group);
+                group = new ArrayList<>();
+            }
+            if (group.isEmpty() && run.completed.contains(row.interviewerId())) {
+                run.errors.add(new RowError(row.line(), row.interviewerId(),
+                        "rows for interviewer " + row.interviewerId() + " must be contiguous"));
+                continue;
+            }
+            group.add(row);
+        }
+        if (!group.isEmpty()) {
+            finishGroup(run, group);
+        }
+        flush(run);
+        return new AvailabilityImportReport(run.rowsRead, run.imported, run.windows, run.rejected, run.errors);
+    }
+
+    private void finishGroup(Run run, List<AvailabilityImportRow> group) {
+        Long interviewerId = group.get(0).interviewerId();
+        run.completed.add(interviewerId);
+
+        List<RowError> errors = validate(group);
+        if (!errors.isEmpty()) {
+            run.errors.addAll(errors);
+            run.rejected++;
+            return;
+        }
+        run.pending.put(interviewerId, group.stream()
+                .map(AvailabilityImportService::toWindow)
+                .toList());
+        run.pendingLines.put(interviewerId, group.get(0).line());
+        if (run.pending.size() >= chunkSize) {
+            flush(run);
+        }
+    }
+
+    private static WeeklyAvailability toWindow(AvailabilityImportRow row) {
+        WeeklyAvailability window = new WeeklyAvailability();
+        window.setDayOfWeek(row.dayOfWeek());
+        window.setStartTime(row.startTime());
+        window.setEndTime(row.endTime());
+        window.setSlotDurationMinutes(row.slotDurationMinutes());
+        window.setCapacity(row.capacity() != null ? row.capacity() : 1);
+        return window;
+    }
+
+    private List<RowError> validate(List<AvailabilityImportRow> group) {
+        List<RowError> errors = new ArrayList<>();
+        List<AvailabilityImportRow> windows = new ArrayList<>();
+        for (AvailabilityImportRow row : group) {
+            String error = row.error();
+            if (error == null && !row.startTime().isBefore(row.endTime())) {
+                error = "startTime must be before endTime";
+            } else if (error == null && (row.slotDurationMinutes() < 5 || row.slotDurationMinutes() > 480)) {
+                error = "slotDurationMinutes must be between 5 and 480";
+            } else if (error == null && row.capacity() != null && (row.capacity() < 1 || row.capacity() > 500)) {
+                error = "capacity must be between 1 and 500";
+            }
+            if (error != null) {
+                errors.add(new RowError(row.line(), row.interviewerId(), error));
+            } else {
+                windows.add(row);
+            }
+        }
+
+        // overlap detection: per day, each window must start at or after the previous one ends
+        windows.sort(Comparator.comparing(AvailabilityImportRow::dayOfWeek)
+                .thenComparing(AvailabilityImportRow::startTime));
+        for (int i = 1; i < windows.size(); i++) {
+            AvailabilityImportRow previous = windows.get(i - 1);
+            AvailabilityImportRow current = windows.get(i);
+            DayOfWeek day = current.dayOfWeek();
+            if (previous.dayOfWeek() == day && current.startTime().isBefore(previous.endTime())) {
+                errors.add(new RowError(current.line(), current.interviewerId(),
+                        day + " window overlaps the window on line " + previous.line()));
+            }
+        }
+        return errors;
+    }
+
+    private void flush(Run run) {
+        if (run.pending.isEmpty()) {
+            return;
+        }
+        Set<Long> unknown = replaceAll(run.pending);
+        List<Long> replaced = new ArrayList<>();
+        for (Map.Entry<Long, List<WeeklyAvailability>> entry : run.pending.entrySet()) {
+            Long interviewerId = entry.getKey();
+            if (unknown.contains(interviewerId)) {
+                run.errors.add(new RowError(run.pendingLines.get(interviewerId), interviewerId,
+                        "Interviewer " + interviewerId + " not found"));
+                run.rejected++;
+            } else {
+                run.imported++;
+                run.windows += entry.getValue().size();
+                replaced.add(interviewerId);
+            }
+        }
+        if (!replaced.isEmpty()) {
+            eventPublisher.publishEvent(DomainChangeEvent.availability(replaced));
+        }
+        run.pending.clear();
+        run.pendingLines.clear();
+    }
+
+    // one batch per shard holding some of the chunk's interviewers
+    private Set<Long> replaceAll(Map<Long, List<WeeklyAvailability>> pending) {
+        if (shards.count() == 1) {
+            return batchWriter.replaceAll(pending);
+        }
+        Map<Integer, Map<Long, List<WeeklyAvailability>>> byShard = new TreeMap<>();
+        pending.forEach((interviewerId, windows) -> byShard
+                .computeIfAbsent(shards.shardOf(interviewerId), shard -> new LinkedHashMap<>())
+                .put(interviewerId, windows));
+        Set<Long> unknown = new HashSet<>();
+        byShard.forEach((shard, group) -> unknown.addAll(shards.on(shard, () -> batchWriter.replaceAll(group))));
+        return unknown;
+    }
+
+    private static final class Run {
+        private final Map<Long, List<WeeklyAvailability>> pending = new LinkedHashMap<>();
+        private final Map<Long, Long> pendingLines = new LinkedHashMap<>();
+        private final Set<Long> completed = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private int imported;
+        private int windows;
+        private int rejected;
+    }
+}
@@ -5,57 +5,143 @@ import com.vasitum.interviewscheduler.domain.model.Interviewer;
 import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
 import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
 import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class AvailabilityService {
 
+    private static final LocalDate ANY_MONDAY = LocalDate.of(2024, 1, 1);
+
     private final InterviewerRepository interviewerRepository;
     private final WeeklyAvailabilityRepository availabilityRepository;
+    private final SlotGenerationService slotGenerationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AvailabilityService(InterviewerRepository interviewerRepository,
-                               WeeklyAvailabilityRepository availabilityRepository) {
+                               WeeklyAvailabilityRepository availabilityRepository,
+                               SlotGenerationService slotGenerationService,
+                               ApplicationEventPublisher eventPublisher) {
         this.interviewerRepository = interviewerRepository;
         this.availabilityRepository = availabilityRepository;
+        this.slotGenerationService = slotGenerationService;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Replaces the interviewer's windows by applying only the difference to the stored ones,
+     * then reconciles the generated future slots of the days that changed.
+     */
     @Transactional
-    public List<WeeklyAvailability> replaceWeeklyAvailability(
-            Long interviewerId,
+    public AvailabilityUpdate replaceWeeklyAvailability(
+            @ShardKey Long interviewerId,
             List<WeeklyAvailabilityInput> inputs
     ) {
         Interviewer interviewer = interviewerRepository.findById(interviewerId)
                 .orElseThrow(() -> new NotFoundException("Interviewer " + interviewerId + " not found"));
-
-        availabilityRepository.deleteAll(availabilityRepository.findByInterviewerId(interviewerId));
-
-        List<WeeklyAvailability> saved = new ArrayList<>();
         for (WeeklyAvailabilityInput input : inputs) {
             if (input.startTime().isAfter(input.endTime())) {
                 throw new IllegalArgumentException("startTime must be before endTime");
             }
+        }
+        rejectOverlaps(inputs);
+
+        Set<WeeklyAvailabilityInput> wanted = new LinkedHashSet<>(inputs);
+        List<WeeklyAvailability> kept = new ArrayList<>();
+        List<WeeklyAvailability> removed = new ArrayList<>();
+        for (WeeklyAvailability existing : availabilityRepository.findByInterviewerId(interviewerId)) {
+            // a window already kept once is a duplicate row
+            if (wanted.remove(WeeklyAvailabilityInput.of(existing))) {
+                kept.add(existing);
+            } else {
+                removed.add(existing);
+            }
+        }
+        List<WeeklyAvailability> added = new ArrayList<>();
+        for (WeeklyAvailabilityInput input : wanted) {
             WeeklyAvailability availability = new WeeklyAvailability();
             availability.setInterviewer(interviewer);
             availability.setDayOfWeek(input.dayOfWeek());
             availability.setStartTime(input.startTime());
             availability.setEndTime(input.endTime());
             availability.setSlotDurationMinutes(input.slotDurationMinutes());
-            saved.add(availabilityRepository.save(availability));
+            availability.setCapacity(input.capacity());
+            added.add(availability);
+        }
+
+        if (!removed.isEmpty()) {
+            availabilityRepository.deleteAllInBatch(removed);
+        }
+        availabilityRepository.saveAll(added);
+
+        List<WeeklyAvailability> windows = new ArrayList<>(kept);
+        windows.addAll(added);
+        Set<DayOfWeek> changedDays = EnumSet.noneOf(DayOfWeek.class);
+        removed.forEach(window -> changedDays.add(window.getDayOfWeek()));
+        added.forEach(window -> changedDays.add(window.getDayOfWeek()));
+
+        SlotGenerationService.Reconciliation slots =
+                slotGenerationService.reconcileDays(interviewer, windows, changedDays);
+        if (!changedDays.isEmpty()) {
+            eventPublisher.publishEvent(DomainChangeEvent.availability(List.of(interviewerId)));
+        }
+        return new AvailabilityUpdate(windows, added.size(), removed.size(),
+                slots.slotsRemoved(), slots.slotsCreated(), slots.conflicts());
+    }
+
+    /**
+     * Lays the windows onto one free/busy week: a window touching a cell that an earlier window
+     * fills entirely overlaps it. Windows on 5-minute boundaries are compared exactly.
+     */
+    private static void rejectOverlaps(List<WeeklyAvailabilityInput> inputs) {
+        FreeBusyWeek taken = FreeBusyWeek.empty(ANY_MONDAY);
+        for (WeeklyAvailabilityInput input : new LinkedHashSet<>(inputs)) {
+            LocalDate date = ANY_MONDAY.plusDays(input.dayOfWeek().getValue() - 1L);
+            LocalDateTime start = date.atTime(input.startTime());
+            LocalDateTime end = date.atTime(input.endTime());
+            if (taken.intersects(start, end)) {
+                throw new IllegalArgumentException(input.dayOfWeek() + " windows overlap at " + input.startTime());
+            }
+            taken.markInside(start, end);
         }
-        return saved;
     }
 
     public record WeeklyAvailabilityInput(
             DayOfWeek dayOfWeek,
             LocalTime startTime,
             LocalTime endTime,
-            Integer slotDurationMinutes
+            Integer slotDurationMinutes,
+            Integer capacity
+    ) {
+
+        static WeeklyAvailabilityInput of(WeeklyAvailability availability) {
+            return new WeeklyAvailabilityInput(availability.getDayOfWeek(), availability.getStartTime(),
+                    availability.getEndTime(), availability.getSlotDurationMinutes(), availability.getCapacity());
+        }
+    }
+
+    /**
+     * Result of a replacement. {@code conflicts} are booked slots that now fall outside the
+     * availability; they are kept and left to the interviewer to cancel or reschedule.
+     */
+    public record AvailabilityUpdate(
+            List<WeeklyAvailability> windows,
+            int windowsAdded,
+            int windowsRemoved,
+            int slotsRemoved,
+            int slotsCreated,
+            List<SlotGenerationService.SlotConflict> conflicts
     ) {
     }
 }
@@ -0,0 +1,50 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.model.Blackout;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Blacked-out days as a sorted set of disjoint date ranges; overlapping and adjacent ranges are
+ * merged on insert, so a lookup is one floor search, O(log n) in the number of ranges.
+ */
+public final class BlackoutCalendar {
+
+    // start -> inclusive end
+    private final TreeMap<LocalDate, LocalDate> ranges = new TreeMap<>();
+
+    public void add(Blackout blackout) {
+        add(blackout.getStartDate(), blackout.getEndDate());
+    }
+
+    public void add(LocalDate start, LocalDate end) {
+        Map.Entry<LocalDate, LocalDate> before = ranges.floorEntry(start);
+        if (before != null && !before.getValue().plusDays(1).isBefore(start)) {
+            start = before.getKey();
+            end = max(end, before.getValue());
+        }
+        // swallow every range starting inside (or right after) the new one
+        Map.Entry<LocalDate, LocalDate> next = ranges.ceilingEntry(start);
+        while (next != null && !next.getKey().isAfter(end.plusDays(1))) {
+            end = max(end, next.getValue());
+            ranges.remove(next.getKey());
+            next = ranges.higherEntry(next.getKey());
+        }
+        ranges.put(start, end);
+    }
+
+    public boolean contains(LocalDate day) {
+        Map.Entry<LocalDate, LocalDate> range = ranges.floorEntry(day);
+        return range != null && !range.getValue().isBefore(day);
+    }
+
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,278 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.domain.model.Blackout;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Blackouts (an interviewer's days off) and company holidays (blackouts of everyone, kept on
+ * shard 0 and read through {@link CompanyHolidays}).
+ * <p>
+ * Slot generation skips blacked-out days. Adding a blackout also clears the slots already
+ * generated in it, walking them in keyset batches by id with one short transaction each: the
+ * batch's counter shards and then slot rows are locked (the order bookings take them in), each
+ * booking is moved to the interviewer's earliest open slot of the same length after the blackout
+ * or cancelled, and the now unbooked slots are deleted. Panel bookings are cancelled as a whole.
+ * Cleared seats are not offered to the waitlist.
+ */
+@Service
+public class BlackoutService {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final InterviewerRepository interviewerRepository;
+    private final BlackoutRepository blackoutRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final SlotSeatCounterRepository counterRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingService bookingService;
+    private final PanelBookingService panelBookingService;
+    private final SlotGenerationService slotGenerationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Shards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public enum BookingHandling {
+        CANCEL, RESCHEDULE
+    }
+
+    public record Clearing(int slotsRemoved, int bookingsRescheduled, int bookingsCancelled) {
+
+        static final Clearing NONE = new Clearing(0, 0, 0);
+
+        Clearing plus(Clearing other) {
+            return new Clearing(slotsRemoved + other.slotsRemoved,
+                    bookingsRescheduled + other.bookingsRescheduled,
+                    bookingsCancelled + other.bookingsCancelled);
+        }
+    }
+
+    public record BlackoutResult(Blackout blackout, Clearing clearing) {
+    }
+
+    public BlackoutService(InterviewerRepository interviewerRepository,
+                           BlackoutRepository blackoutRepository,
+                           InterviewSlotRepository slotRepository,
+                           SlotSeatCounterRepository counterRepository,
+                           BookingRepository bookingRepository,
+                           BookingService bookingService,
+                           PanelBookingService panelBookingService,
+                           SlotGenerationService slotGenerationService,
+                           ApplicationEventPublisher eventPublisher,
+                           Shards shards,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${scheduler.blackouts.batch-size:100}") int batchSize) {
+        this.interviewerRepository = interviewerRepository;
+        this.blackoutRepository = blackoutRepository;
+        this.slotRepository = slotRepository;
+        this.counterRepository = counterRepository;
+        this.bookingRepository = bookingRepository;
+        this.bookingService = bookingService;
+        this.panelBookingService = panelBookingService;
+        this.slotGenerationService = slotGenerationService;
+        this.eventPublisher = eventPublisher;
+        this.shards = shards;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Blacks out {@code startDate}..{@code endDate} (inclusive) for the interviewer and clears the
+     * slots already generated in it.
+     */
+    public BlackoutResult addBlackout(@ShardKey Long interviewerId, LocalDate startDate, LocalDate endDate,
+                                      String reason, BookingHandling handling) {
+        validate(startDate, endDate);
+        Blackout blackout = transactionTemplate.execute(status -> {
+            Interviewer interviewer = interviewerRepository.findById(interviewerId)
+                    .orElseThrow(() -> new NotFoundException("Interviewer " + interviewerId + " not found"));
+            return blackoutRepository.save(blackout(interviewer, startDate, endDate, reason));
+        });
+        return new BlackoutResult(blackout, clear(interviewerId, startDate, endDate, handling));
+    }
+
+    /**
+     * Removes the blackout; its days get slots again on the next generation run.
+     */
+    @Transactional
+    public void removeBlackout(@ShardKey Long interviewerId, Long blackoutId) {
+        Blackout blackout = blackoutRepository.findByIdAndInterviewerId(blackoutId, interviewerId)
+                .orElseThrow(() -> new NotFoundException("Blackout " + blackoutId + " not found"));
+        blackoutRepository.delete(blackout);
+    }
+
+    /**
+     * Blacks out {@code startDate}..{@code endDate} (inclusive) for every interviewer and clears
+     * the slots already generated in it on every shard.
+     */
+    public BlackoutResult addCompanyHoliday(LocalDate startDate, LocalDate endDate, String reason,
+                                            BookingHandling handling) {
+        validate(startDate, endDate);
+        Blackout holiday = shards.on(0, () -> transactionTemplate.execute(status ->
+                blackoutRepository.save(blackout(null, startDate, endDate, reason))));
+        Clearing clearing = shards.onEach(() -> clear(null, startDate, endDate, handling)).stream()
+                .reduce(Clearing.NONE, Clearing::plus);
+        return new BlackoutResult(holiday, clearing);
+    }
+
+    public void removeCompanyHoliday(Long holidayId) {
+        shards.on(0, () -> transactionTemplate.execute(status -> {
+            Blackout holiday = blackoutRepository.findByIdAndInterviewerIsNull(holidayId)
+                    .orElseThrow(() -> new NotFoundException("Holiday " + holidayId + " not found"));
+            blackoutRepository.delete(holiday);
+            return null;
+        }));
+    }
+
+    private static void validate(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+    }
+
+    private static Blackout blackout(Interviewer interviewer, LocalDate startDate, LocalDate endDate, String reason) {
+        Blackout blackout = new Blackout();
+        blackout.setInterviewer(interviewer);
+        blackout.setStartDate(startDate);
+        blackout.setEndDate(endDate);
+        blackout.setReason(reason);
+        return blackout;
+    }
+
+    // the slots of one interviewer, or of everyone on the current shard when interviewerId is null
+    private Clearing clear(Long interviewerId, LocalDate startDate, LocalDate endDate, BookingHandling handling) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = startDate.atStartOfDay().isAfter(now) ? startDate.atStartOfDay() : now;
+        LocalDateTime to = endDate.atTime(LocalTime.MAX);
+        if (!from.isBefore(to)) {
+            return Clearing.NONE;
+        }
+        PageRequest batch = PageRequest.of(0, batchSize);
+        Clearing clearing = Clearing.NONE;
+        long cursor = 0L;
+        while (true) {
+            List<InterviewSlot> slots = interviewerId != null
+                    ? slotRepository.findUpcomingSlotsForInterviewerAfterCursor(interviewerId, from, to, cursor, batch)
+                    : slotRepository.findUpcomingSlotsAfterCursor(from, to, cursor, batch);
+            if (slots.isEmpty()) {
+                break;
+            }
+            List<Long> slotIds = slots.stream().map(InterviewSlot::getId).toList();
+            clearing = clearing.plus(clearBatch(slotIds, endDate, handling));
+            cursor = slotIds.get(slotIds.size() - 1);
+            if (slots.size() < batchSize) {
+                break;
+            }
+        }
+        return clearing;
+    }
+
+    // a reschedule target booked concurrently fails the batch on commit; it is rolled back and redone
+    private Clearing clearBatch(List<Long> slotIds, LocalDate endDate, BookingHandling handling) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> clearLocked(slotIds, endDate, handling));
+            } catch (OptimisticLockingFailureException ex) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    private Clearing clearLocked(List<Long> slotIds, LocalDate endDate, BookingHandling handling) {
+        // rescheduling checks weekly limits, so the interviewers are locked first, as bookings do
+        interviewerRepository.lockAllByIdOrderById(slotRepository.findInterviewerIdsBySlotIds(slotIds));
+        counterRepository.lockAllBySlotIds(slotIds);
+        Map<Long, InterviewSlot> slots = slotRepository.lockAllByIdOrderById(slotIds).stream()
+                .collect(Collectors.toMap(InterviewSlot::getId, Function.identity()));
+        Map<Long, List<InterviewSlot>> targets = new HashMap<>();
+        Set<Long> panels = new LinkedHashSet<>();
+        int rescheduled = 0;
+        int cancelled = 0;
+        for (Booking booking : bookingRepository.findBySlot_IdInOrderByIdAsc(slotIds)) {
+            InterviewSlot slot = slots.get(booking.getSlot().getId());
+            if (booking.getPanelBooking() != null) {
+                panels.add(booking.getPanelBooking().getId());
+                cancelled++;
+            } else if (handling == BookingHandling.RESCHEDULE && move(booking, slot, targets.computeIfAbsent(
+                    slot.getInterviewer().getId(), interviewerId -> targets(interviewerId, endDate)))) {
+                rescheduled++;
+            } else {
+                bookingService.cancelFromRemovedSlot(booking, slot);
+                cancelled++;
+            }
+        }
+        panels.forEach(panelBookingService::cancelFromRemovedSlot);
+
+        int removed = slotRepository.deleteOpenSlotsById(slotIds);
+        counterRepository.deleteOrphaned(slotIds);
+        slots.values().stream().map(slot -> slot.getInterviewer().getId()).distinct()
+                .forEach(interviewerId -> eventPublisher.publishEvent(DomainChangeEvent.slots(interviewerId)));
+        return new Clearing(removed, rescheduled, cancelled);
+    }
+
+    private boolean move(Booking booking, InterviewSlot slot, List<InterviewSlot> targets) {
+        Duration length = Duration.between(slot.getStartTime(), slot.getEndTime());
+        Iterator<InterviewSlot> candidates = targets.iterator();
+        while (candidates.hasNext()) {
+            InterviewSlot target = candidates.next();
+            if (!Duration.between(target.getStartTime(), target.getEndTime()).equals(length)) {
+                continue;
+            }
+            if (bookingService.moveFromRemovedSlot(booking, slot, target)) {
+                return true;
+            }
+            // full, or its week is at the interviewer's limit
+            candidates.remove();
+        }
+        return false;
+    }
+
+    // the interviewer's open slots after the blackout, earliest first, minus other blacked-out days
+    private List<InterviewSlot> targets(Long interviewerId, LocalDate endDate) {
+        List<InterviewSlot> open = slotRepository
+                .findByInterviewerIdAndStartTimeAfterOrderByStartTimeAsc(interviewerId, endDate.plusDays(1).atStartOfDay())
+                .stream()
+                .filter(slot -> slot.getBookedCount() < slot.getCapacity())
+                .toList();
+        if (open.isEmpty()) {
+            return new ArrayList<>();
+        }
+        BlackoutCalendar blackouts = slotGenerationService.blackoutCalendar(interviewerId,
+                open.get(0).getStartTime().toLocalDate(), open.get(open.size() - 1).getStartTime().toLocalDate());
+        return open.stream()
+                .filter(slot -> !blackouts.contains(slot.getStartTime().toLocalDate()))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,51 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.model.Booking;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Published inside booking transactions. In-transaction listeners (the notification outbox) see
+ * the bookings as written; listeners that keep derived views (calendar feeds) react after commit.
+ * Carries everyone whose schedule changed, including a rescheduled booking's previous interviewer.
+ * Panel bookings are published as one event holding every member booking.
+ */
+public record BookingChangedEvent(Kind kind,
+                                  List<Booking> bookings,
+                                  Set<Long> bookingIds,
+                                  Set<Long> interviewerIds,
+                                  Set<String> candidateEmails) {
+
+    public enum Kind {
+        BOOKED, RESCHEDULED, CANCELLED
+    }
+
+    public static BookingChangedEvent booked(Collection<Booking> bookings) {
+        return of(Kind.BOOKED, bookings);
+    }
+
+    public static BookingChangedEvent cancelled(Collection<Booking> bookings) {
+        return of(Kind.CANCELLED, bookings);
+    }
+
+    public static BookingChangedEvent rescheduled(Booking booking, Long previousInterviewerId) {
+        BookingChangedEvent event = of(Kind.RESCHEDULED, List.of(booking));
+        event.interviewerIds().add(previousInterviewerId);
+        return event;
+    }
+
+    private static BookingChangedEvent of(Kind kind, Collection<Booking> bookings) {
+        Set<Long> bookingIds = new LinkedHashSet<>();
+        Set<Long> interviewerIds = new LinkedHashSet<>();
+        Set<String> candidateEmails = new LinkedHashSet<>();
+        for (Booking booking : bookings) {
+            bookingIds.add(booking.getId());
+            interviewerIds.add(booking.getSlot().getInterviewer().getId());
+            candidateEmails.add(booking.getCandidateEmail());
+        }
+        return new BookingChangedEvent(kind, List.copyOf(bookings), bookingIds, interviewerIds, candidateEmails);
+    }
+}
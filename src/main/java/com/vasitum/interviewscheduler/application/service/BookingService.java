@@ -1,137 +1,264 @@
 package com.vasitum.interviewscheduler.application.service;
 
-import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.vasitum.interviewscheduler.application.exception.AlreadyBookedException;
+import com.vasitum.interviewscheduler.application.exception.BookingChangedException;
 import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.exception.PanelMemberBookingException;
 import com.vasitum.interviewscheduler.application.exception.SlotFullyBookedException;
 import com.vasitum.interviewscheduler.application.exception.WeeklyLimitExceededException;
 import com.vasitum.interviewscheduler.domain.model.Booking;
 import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
 import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.model.WaitlistEntry;
 import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
 import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
-
-import jakarta.persistence.OptimisticLockException;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
 
 @Service
+@Traced
 public class BookingService {
 
+    private final InterviewerRepository interviewerRepository;
     private final InterviewSlotRepository slotRepository;
     private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WaitlistService waitlistService;
+    private final SlotSeats seats;
+    private final CandidateBookingIndex candidateIndex;
 
-    // capacity per slot; adjustable if you want more concurrent bookings per slot.
-    private final int slotCapacity = 1;
-
-    public BookingService(InterviewSlotRepository slotRepository,
-                          BookingRepository bookingRepository) {
+    public BookingService(InterviewerRepository interviewerRepository,
+                          InterviewSlotRepository slotRepository,
+                          BookingRepository bookingRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          WaitlistService waitlistService,
+                          SlotSeats seats,
+                          CandidateBookingIndex candidateIndex) {
+        this.interviewerRepository = interviewerRepository;
         this.slotRepository = slotRepository;
         this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.waitlistService = waitlistService;
+        this.seats = seats;
+        this.candidateIndex = candidateIndex;
     }
 
     @Transactional
-    public Booking createBooking(Long slotId, String candidateName, String candidateEmail) {
+    public Booking createBooking(@ShardKey Long slotId, String candidateName, String candidateEmail) {
         InterviewSlot slot = slotRepository.findWithLockingById(slotId)
                 .orElseThrow(() -> new NotFoundException("Slot " + slotId + " not found"));
+        lockInterviewers(slot);
 
         validateWeeklyAndCapacity(slot);
         validateNotAlreadyBooked(candidateEmail);
 
-        Booking booking = new Booking();
-        booking.setSlot(slot);
-        booking.setCandidateName(candidateName);
-        booking.setCandidateEmail(candidateEmail);
-        booking.setConfirmed(true);
-
-        slot.setBookedCount(slot.getBookedCount() + 1);
-
-        try {
-            // JPA will flush and check version at commit for optimistic lock
-            return bookingRepository.save(booking);
-        } catch (OptimisticLockException ex) {
+        if (!seats.take(slot)) {
             throw new SlotFullyBookedException(slotId);
         }
+        return book(slot, candidateName, candidateEmail);
     }
 
+    /**
+     * Moves the booking within its interviewer's shard; a slot on another shard is rejected.
+     */
     @Transactional
-    public Booking updateBookingSlot(Long bookingId, Long newSlotId) {
+    public Booking updateBookingSlot(@ShardKey Long bookingId, @ShardKey Long newSlotId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking " + bookingId + " not found"));
+        validateNotPanelMember(booking);
 
         InterviewSlot oldSlot = slotRepository.findWithLockingById(booking.getSlot().getId())
                 .orElseThrow(() -> new NotFoundException("Slot " + booking.getSlot().getId() + " not found"));
         InterviewSlot newSlot = slotRepository.findWithLockingById(newSlotId)
                 .orElseThrow(() -> new NotFoundException("Slot " + newSlotId + " not found"));
+        lockInterviewers(oldSlot, newSlot);
+        requireStillOn(booking, oldSlot);
 
-        // decrement old
-        if (oldSlot.getBookedCount() > 0) {
-            oldSlot.setBookedCount(oldSlot.getBookedCount() - 1);
-        }
+        // release the old seat
+        seats.release(oldSlot);
 
         validateWeeklyAndCapacity(newSlot);
         // When updating, we don't need to validate not already booked since we're updating the existing booking
 
-        newSlot.setBookedCount(newSlot.getBookedCount() + 1);
-        booking.setSlot(newSlot);
-
-        try {
-            return bookingRepository.save(booking);
-        } catch (OptimisticLockException ex) {
+        if (!seats.take(newSlot)) {
             throw new SlotFullyBookedException(newSlotId);
         }
+        booking.setSlot(newSlot);
+
+        // a concurrent booking of a slot fails one of them on commit (GlobalExceptionHandler: 409)
+        Booking saved = bookingRepository.save(booking);
+        candidateIndex.rescheduled(saved);
+        eventPublisher.publishEvent(BookingChangedEvent.rescheduled(saved, oldSlot.getInterviewer().getId()));
+        promoteWaitlisted(oldSlot);
+        return saved;
     }
 
     @Transactional
-    public void cancelBooking(Long bookingId) {
+    public void cancelBooking(@ShardKey Long bookingId) {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Booking " + bookingId + " not found"));
+        validateNotPanelMember(booking);
 
         InterviewSlot slot = slotRepository.findWithLockingById(booking.getSlot().getId())
                 .orElseThrow(() -> new NotFoundException("Slot " + booking.getSlot().getId() + " not found"));
+        // the waitlist promotion below checks the weekly limit
+        lockInterviewers(slot);
+        requireStillOn(booking, slot);
 
-        if (slot.getBookedCount() > 0) {
-            slot.setBookedCount(slot.getBookedCount() - 1);
-        }
+        seats.release(slot);
         bookingRepository.delete(booking);
+        candidateIndex.cancelled(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.cancelled(List.of(booking)));
+        promoteWaitlisted(slot);
     }
 
-    private void validateWeeklyAndCapacity(InterviewSlot slot) {
-        Interviewer interviewer = slot.getInterviewer();
+    /**
+     * Cancels a booking of a slot that is about to be removed, in the caller's transaction with
+     * the interviewer and the slot locked; unlike {@link #cancelBooking}, nobody is promoted into the freed seat.
+     */
+    public void cancelFromRemovedSlot(Booking booking, InterviewSlot slot) {
+        seats.release(slot);
+        bookingRepository.delete(booking);
+        candidateIndex.cancelled(booking);
+        eventPublisher.publishEvent(BookingChangedEvent.cancelled(List.of(booking)));
+    }
 
-        if (slot.getBookedCount() >= slotCapacity) {
-            throw new SlotFullyBookedException(slot.getId());
+    /**
+     * Moves a booking off a slot that is about to be removed, in the caller's transaction with the
+     * interviewer and the slot locked; nobody is promoted into the freed seat.
+     *
+     * @return false, leaving the booking as it is, when the target is full or its week is already
+     * at the interviewer's limit
+     */
+    public boolean moveFromRemovedSlot(Booking booking, InterviewSlot slot, InterviewSlot target) {
+        if (target.getBookedCount() >= target.getCapacity() || weeklyLimitReached(target) || !seats.take(target)) {
+            return false;
+        }
+        seats.release(slot);
+        booking.setSlot(target);
+        Booking saved = bookingRepository.save(booking);
+        candidateIndex.rescheduled(saved);
+        eventPublisher.publishEvent(BookingChangedEvent.rescheduled(saved, slot.getInterviewer().getId()));
+        return true;
+    }
+
+    /**
+     * Hands any free seat of the slot to its waitlist; used by the waitlist sweep.
+     *
+     * @return the bookings created for promoted candidates
+     */
+    @Transactional
+    public List<Booking> promoteWaitlisted(@ShardKey Long slotId) {
+        InterviewSlot slot = slotRepository.findWithLockingById(slotId)
+                .orElseThrow(() -> new NotFoundException("Slot " + slotId + " not found"));
+        lockInterviewers(slot);
+        return promoteWaitlisted(slot);
+    }
+
+    /**
+     * Books waiting candidates into the free seats of the slot, oldest first, under the same
+     * capacity, weekly limit and one-active-booking rules as a direct booking. Runs in the
+     * caller's transaction with the slot's interviewer locked.
+     */
+    public List<Booking> promoteWaitlisted(InterviewSlot slot) {
+        if (!slot.getStartTime().isAfter(LocalDateTime.now())) {
+            return List.of();
+        }
+        List<Booking> promoted = new ArrayList<>();
+        for (WaitlistEntry entry : waitlistService.lockWaitingFor(slot)) {
+            if (slot.getBookedCount() >= slot.getCapacity() || weeklyLimitReached(slot)) {
+                break;
+            }
+            candidateIndex.lock(entry.getCandidateEmail());
+            if (candidateIndex.hasActiveBooking(entry.getCandidateEmail())) {
+                // booked something else since joining; the waitlist entry is moot
+                waitlistService.expire(entry);
+                continue;
+            }
+            if (!seats.take(slot)) {
+                break;
+            }
+            Booking booking = book(slot, entry.getCandidateName(), entry.getCandidateEmail());
+            waitlistService.promoted(entry, booking);
+            promoted.add(booking);
+        }
+        return promoted;
+    }
+
+    // the seat has been taken by the caller
+    private Booking book(InterviewSlot slot, String candidateName, String candidateEmail) {
+        Booking booking = new Booking();
+        booking.setSlot(slot);
+        booking.setCandidateName(candidateName);
+        booking.setCandidateEmail(candidateEmail);
+        booking.setConfirmed(true);
+
+        // the slot's version is checked when the transaction flushes
+        Booking saved = bookingRepository.save(booking);
+        candidateIndex.booked(saved);
+        eventPublisher.publishEvent(BookingChangedEvent.booked(List.of(saved)));
+        return saved;
+    }
+
+    // the weekly-limit lock (see InterviewerRepository), taken before any seat or slot row lock
+    private void lockInterviewers(InterviewSlot... slots) {
+        Set<Long> ids = new TreeSet<>();
+        for (InterviewSlot slot : slots) {
+            ids.add(slot.getInterviewer().getId());
         }
+        interviewerRepository.lockAllByIdOrderById(ids);
+    }
 
-        LocalDate slotDate = slot.getStartTime().toLocalDate();
-        LocalDate startOfWeek = slotDate.with(DayOfWeek.MONDAY);
-        LocalDate endOfWeek = startOfWeek.plusDays(6);
+    // whoever moves or cancels a booking holds its slot's interviewer, so once that lock is granted
+    // the booking either is still on the slot or was changed by a request that committed meanwhile
+    private void requireStillOn(Booking booking, InterviewSlot slot) {
+        if (!bookingRepository.findSlotIdById(booking.getId()).map(slot.getId()::equals).orElse(false)) {
+            throw new BookingChangedException(booking.getId());
+        }
+    }
 
-        LocalDateTime startDateTime = startOfWeek.atStartOfDay();
-        LocalDateTime endDateTime = endOfWeek.atTime(23, 59, 59);
+    private void validateWeeklyAndCapacity(InterviewSlot slot) {
+        // bookedCount reaches capacity exactly, also for sharded slots (see SlotSeats)
+        if (slot.getBookedCount() >= slot.getCapacity()) {
+            throw new SlotFullyBookedException(slot.getId());
+        }
+        if (weeklyLimitReached(slot)) {
+            throw new WeeklyLimitExceededException(slot.getInterviewer().getId());
+        }
+    }
+
+    private boolean weeklyLimitReached(InterviewSlot slot) {
+        Interviewer interviewer = slot.getInterviewer();
+        WeekWindow week = WeekWindow.containing(slot.getStartTime());
 
-        long countForWeek = bookingRepository.countBySlot_Interviewer_IdAndSlot_StartTimeBetween(
+        long countForWeek = bookingRepository.countBookedSlotsBetween(
                 interviewer.getId(),
-                startDateTime,
-                endDateTime
+                week.start(),
+                week.end(),
+                slot.getId()
         );
+        return countForWeek >= interviewer.getMaxWeeklyInterviews();
+    }
 
-        if (countForWeek >= interviewer.getMaxWeeklyInterviews()) {
-            throw new WeeklyLimitExceededException(interviewer.getId());
+    // panel seats move together; see PanelBookingService
+    private void validateNotPanelMember(Booking booking) {
+        if (booking.getPanelBooking() != null) {
+            throw new PanelMemberBookingException(booking.getId(), booking.getPanelBooking().getId());
         }
     }
 
     private void validateNotAlreadyBooked(String candidateEmail) {
-        LocalDateTime now = LocalDateTime.now();
-        long activeBookings = bookingRepository.countByCandidateEmailAndSlot_StartTimeAfter(
-                candidateEmail,
-                now
-        );
-        if (activeBookings > 0) {
+        candidateIndex.lock(candidateEmail);
+        if (candidateIndex.hasActiveBooking(candidateEmail)) {
             throw new AlreadyBookedException(candidateEmail);
         }
     }
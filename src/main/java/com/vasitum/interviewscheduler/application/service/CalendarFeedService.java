@@ -0,0 +1,256 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Renders interviewer and candidate bookings as iCalendar feeds and keeps the rendered bytes in
+ * memory. A feed is re-rendered only after a booking change touching its owner has committed on
+ * any node (or after {@code scheduler.calendar.max-age}, which picks up archived months); the
+ * re-render reuses the VEVENT bytes of every booking that did not change.
+ */
+@Service
+public class CalendarFeedService {
+
+    private final InterviewerRepository interviewerRepository;
+    private final BookingRepository bookingRepository;
+    private final Shards shards;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration maxAge;
+    private final int maxFeeds;
+
+    private final ConcurrentMap<FeedKey, Entry> feeds = new ConcurrentHashMap<>();
+    // bumped on every invalidation; a render that raced with one is served but not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CalendarFeedService(InterviewerRepository interviewerRepository,
+                               BookingRepository bookingRepository,
+                               Shards shards,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${scheduler.calendar.max-age:1h}") Duration maxAge,
+                               @Value("${scheduler.calendar.max-feeds:10000}") int maxFeeds) {
+        this.interviewerRepository = interviewerRepository;
+        this.bookingRepository = bookingRepository;
+        this.shards = shards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.maxAge = maxAge;
+        this.maxFeeds = maxFeeds;
+    }
+
+    public CalendarFeed interviewerFeed(@ShardKey Long interviewerId) {
+        return feed(FeedKey.interviewer(interviewerId), previous -> {
+            Interviewer interviewer = interviewerRepository.findById(interviewerId)
+                    .orElseThrow(() -> new NotFoundException("Interviewer " + interviewerId + " not found"));
+            return render("Interviews - " + interviewer.getName(),
+                    bookingRepository.findBySlot_Interviewer_IdOrderBySlot_StartTimeAsc(interviewerId),
+                    previous, CalendarFeedService::interviewerEvent);
+        });
+    }
+
+    public CalendarFeed candidateFeed(String candidateEmail) {
+        return feed(FeedKey.candidate(candidateEmail), previous -> render("Interviews",
+                candidateBookings(candidateEmail), previous, CalendarFeedService::candidateEvent));
+    }
+
+    // a candidate's bookings may sit with interviewers on any shard
+    private List<Booking> candidateBookings(String candidateEmail) {
+        if (shards.count() == 1) {
+            return bookingRepository.findWithInterviewerByCandidateEmail(candidateEmail);
+        }
+        List<Booking> bookings = new ArrayList<>();
+        shards.onEach(() -> readOnlyTransaction.execute(status ->
+                        bookingRepository.findWithInterviewerByCandidateEmail(candidateEmail)))
+                .forEach(bookings::addAll);
+        bookings.sort(Comparator.comparing((Booking booking) -> booking.getSlot().getStartTime())
+                .thenComparing(Booking::getId));
+        return bookings;
+    }
+
+    /**
+     * Marks the feeds of everyone in a booking change stale; only the changed bookings' events are
+     * re-rendered. Changes that arrive without their ids drop every feed.
+     */
+    @EventListener
+    public void onChange(ClusterChangeEvent event) {
+        DomainChangeEvent change = event.change();
+        if (change.kind() != DomainChangeEvent.Kind.BOOKING && change.kind() != DomainChangeEvent.Kind.ALL) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        if (!change.complete()) {
+            feeds.clear();
+            return;
+        }
+        for (Long interviewerId : change.interviewerIds()) {
+            feeds.computeIfPresent(FeedKey.interviewer(interviewerId), (key, entry) -> entry.stale(change.bookingIds()));
+        }
+        for (String email : change.candidateEmails()) {
+            feeds.computeIfPresent(FeedKey.candidate(email), (key, entry) -> entry.stale(change.bookingIds()));
+        }
+    }
+
+    private CalendarFeed feed(FeedKey key, Function<Entry, Entry> renderer) {
+        Entry cached = feeds.get(key);
+        Instant now = Instant.now();
+        if (cached != null && cached.dirty() == null && cached.renderedAt().plus(maxAge).isAfter(now)) {
+            return cached.feed().withCached(true);
+        }
+        long seen = invalidations.get();
+        Entry rendered = readOnlyTransaction.execute(status -> renderer.apply(cached));
+        if (cached == null && feeds.size() >= maxFeeds) {
+            return rendered.feed();
+        }
+        // compute runs under the key's lock, so an invalidation either happens before the check or sees the new entry
+        feeds.compute(key, (k, current) -> invalidations.get() == seen ? rendered : current);
+        return rendered.feed();
+    }
+
+    private static Entry render(String calendarName, List<Booking> bookings, Entry previous,
+                                Function<List<Booking>, IcsWriter> eventWriter) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(new IcsWriter()
+                .property("BEGIN", "VCALENDAR")
+                .property("VERSION", "2.0")
+                .property("PRODID", "-//Interview Scheduler//Bookings//EN")
+                .property("CALSCALE", "GREGORIAN")
+                .property("METHOD", "PUBLISH")
+                .text("X-WR-CALNAME", calendarName)
+                .toBytes());
+
+        // panel seats share one event, keyed by the first member booking
+        Map<Long, List<Booking>> events = new LinkedHashMap<>();
+        Map<Long, Long> panelEvents = new HashMap<>();
+        for (Booking booking : bookings) {
+            Long eventId = booking.getPanelBooking() == null ? booking.getId()
+                    : panelEvents.computeIfAbsent(booking.getPanelBooking().getId(), panelId -> booking.getId());
+            events.computeIfAbsent(eventId, id -> new ArrayList<>()).add(booking);
+        }
+
+        Map<Long, byte[]> rendered = new HashMap<>();
+        for (Map.Entry<Long, List<Booking>> event : events.entrySet()) {
+            byte[] bytes = previous != null ? previous.reusableEvent(event.getValue()) : null;
+            if (bytes == null) {
+                bytes = eventWriter.apply(event.getValue()).toBytes();
+            }
+            rendered.put(event.getKey(), bytes);
+            body.writeBytes(bytes);
+        }
+        body.writeBytes(new IcsWriter().property("END", "VCALENDAR").toBytes());
+
+        byte[] bytes = body.toByteArray();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"";
+        Instant now = Instant.now();
+        // an identical re-render keeps its validators, so clients holding them still get 304s
+        Instant lastModified = previous != null && previous.feed().etag().equals(etag)
+                ? previous.feed().lastModified()
+                : now.truncatedTo(ChronoUnit.SECONDS);
+        return new Entry(new CalendarFeed(bytes, etag, lastModified, false), rendered, now, null);
+    }
+
+    private static IcsWriter interviewerEvent(List<Booking> seats) {
+        Booking booking = seats.get(0);
+        return event(seats)
+                .text("SUMMARY", (booking.getPanelBooking() != null ? "Panel interview: " : "Interview: ")
+                        + booking.getCandidateName())
+                .text("DESCRIPTION", "Candidate: " + booking.getCandidateName() + " <" + booking.getCandidateEmail() + ">")
+                .property("END", "VEVENT");
+    }
+
+    private static IcsWriter candidateEvent(List<Booking> seats) {
+        StringBuilder interviewers = new StringBuilder();
+        for (Booking seat : seats) {
+            interviewers.append(interviewers.isEmpty() ? "" : ", ").append(seat.getSlot().getInterviewer().getName());
+        }
+        return event(seats)
+                .text("SUMMARY", seats.size() > 1 ? "Panel interview" : "Interview")
+                .text("DESCRIPTION", "Interviewer" + (seats.size() > 1 ? "s: " : ": ") + interviewers)
+                .property("END", "VEVENT");
+    }
+
+    private static IcsWriter event(List<Booking> seats) {
+        Booking booking = seats.get(0);
+        InterviewSlot slot = booking.getSlot();
+        String uid = booking.getPanelBooking() != null
+                ? "panel-" + booking.getPanelBooking().getId()
+                : "booking-" + booking.getId();
+        return new IcsWriter()
+                .property("BEGIN", "VEVENT")
+                .property("UID", uid + "@interview-scheduler")
+                .time("DTSTAMP", Instant.now().truncatedTo(ChronoUnit.SECONDS))
+                .time("DTSTART", slot.getStartTime())
+                .time("DTEND", slot.getEndTime())
+                .property("STATUS", booking.isConfirmed() ? "CONFIRMED" : "TENTATIVE");
+    }
+
+    /**
+     * @param cached whether the bytes came from memory without touching the database
+     */
+    public record CalendarFeed(byte[] body, String etag, Instant lastModified, boolean cached) {
+
+        CalendarFeed withCached(boolean cached) {
+            return new CalendarFeed(body, etag, lastModified, cached);
+        }
+    }
+
+    private record FeedKey(String owner) {
+
+        static FeedKey interviewer(Long interviewerId) {
+            return new FeedKey("interviewer:" + interviewerId);
+        }
+
+        static FeedKey candidate(String email) {
+            return new FeedKey("candidate:" + email.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @param events rendered VEVENT bytes keyed by the event's first booking id
+     * @param dirty  booking ids changed since rendering; null while the entry is fresh
+     */
+    private record Entry(CalendarFeed feed, Map<Long, byte[]> events, Instant renderedAt, Set<Long> dirty) {
+
+        Entry stale(Set<Long> bookingIds) {
+            Set<Long> changed = dirty == null ? new HashSet<>() : new HashSet<>(dirty);
+            changed.addAll(bookingIds);
+            return new Entry(feed, events, renderedAt, changed);
+        }
+
+        byte[] reusableEvent(List<Booking> seats) {
+            for (Booking seat : seats) {
+                if (dirty != null && dirty.contains(seat.getId())) {
+                    return null;
+                }
+            }
+            return events.get(seats.get(0).getId());
+        }
+    }
+}
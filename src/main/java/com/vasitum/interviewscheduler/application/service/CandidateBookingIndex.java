@@ -0,0 +1,39 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.AlreadyBookedException;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+
+/**
+ * Enforces that a candidate holds at most one booking of a slot that has not started yet. With
+ * a single database the bookings table answers that itself; with shards a candidate's booking
+ * may live on any of them, so the rule needs an index across all of them.
+ * <p>
+ * The write methods are called inside the booking transaction, after the booking row is written.
+ */
+public interface CandidateBookingIndex {
+
+    /**
+     * Makes concurrent bookings of one candidate check the rule one after the other, until the
+     * transaction ends; called before {@link #hasActiveBooking}.
+     */
+    void lock(String candidateEmail);
+
+    boolean hasActiveBooking(String candidateEmail);
+
+    /**
+     * Records a new booking; undone if the transaction rolls back.
+     *
+     * @throws AlreadyBookedException when the candidate already holds another active booking
+     */
+    void booked(Booking booking);
+
+    /**
+     * Records that the booking moved to another slot, once the transaction commits.
+     */
+    void rescheduled(Booking booking);
+
+    /**
+     * Forgets the booking once the transaction commits.
+     */
+    void cancelled(Booking booking);
+}
@@ -0,0 +1,8 @@
+package com.vasitum.interviewscheduler.application.service;
+
+/**
+ * A {@link DomainChangeEvent} as delivered to this node, after commit, whether it was written here
+ * ({@code local}) or received from another node. In-process caches listen to this event.
+ */
+public record ClusterChangeEvent(DomainChangeEvent change, String originNode, boolean local) {
+}
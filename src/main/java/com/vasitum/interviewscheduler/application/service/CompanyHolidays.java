@@ -0,0 +1,16 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.time.LocalDate;
+
+/**
+ * Company-wide blackout days, which apply to every interviewer. With a single database they sit
+ * next to the interviewers' own blackouts; with shards they are kept on shard 0 only, so slot
+ * generation on any shard reads them through this.
+ */
+public interface CompanyHolidays {
+
+    /**
+     * Adds the holidays overlapping {@code [from, to]} to the calendar.
+     */
+    void addTo(BlackoutCalendar calendar, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,60 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A committed change that other nodes' in-process state may depend on. Published inside the
+ * writing transaction; the change relay broadcasts it to every node after commit, where it
+ * arrives as a {@link ClusterChangeEvent}.
+ *
+ * @param complete false when the id sets were dropped (too large to broadcast, or a node missed
+ *                 notifications); consumers must then discard everything of this kind
+ */
+public record DomainChangeEvent(Kind kind,
+                                Set<Long> interviewerIds,
+                                Set<Long> bookingIds,
+                                Set<String> candidateEmails,
+                                boolean complete) {
+
+    public enum Kind {
+        BOOKING, SLOT, AVAILABILITY, INTERVIEWER, WAITLIST, ALL
+    }
+
+    public static DomainChangeEvent bookings(BookingChangedEvent event) {
+        return new DomainChangeEvent(Kind.BOOKING, event.interviewerIds(), event.bookingIds(),
+                event.candidateEmails(), true);
+    }
+
+    public static DomainChangeEvent slots(Long interviewerId) {
+        return forInterviewers(Kind.SLOT, Set.of(interviewerId));
+    }
+
+    /**
+     * Availability changes also reconcile the interviewers' generated slots.
+     */
+    public static DomainChangeEvent availability(Collection<Long> interviewerIds) {
+        return forInterviewers(Kind.AVAILABILITY, interviewerIds);
+    }
+
+    public static DomainChangeEvent interviewer(Long interviewerId) {
+        return forInterviewers(Kind.INTERVIEWER, Set.of(interviewerId));
+    }
+
+    public static DomainChangeEvent waitlist(Long interviewerId) {
+        return forInterviewers(Kind.WAITLIST, Set.of(interviewerId));
+    }
+
+    public static DomainChangeEvent everything() {
+        return new DomainChangeEvent(Kind.ALL, Set.of(), Set.of(), Set.of(), false);
+    }
+
+    public DomainChangeEvent withoutIds() {
+        return new DomainChangeEvent(kind, Set.of(), Set.of(), Set.of(), false);
+    }
+
+    private static DomainChangeEvent forInterviewers(Kind kind, Collection<Long> interviewerIds) {
+        return new DomainChangeEvent(kind, new LinkedHashSet<>(interviewerIds), Set.of(), Set.of(), true);
+    }
+}
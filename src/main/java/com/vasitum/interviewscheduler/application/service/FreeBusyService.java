@@ -0,0 +1,66 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Service
+public class FreeBusyService {
+
+    private final InterviewerRepository interviewerRepository;
+    private final WeeklyAvailabilityRepository availabilityRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final SlotGenerationService slotGenerationService;
+
+    public FreeBusyService(InterviewerRepository interviewerRepository,
+                           WeeklyAvailabilityRepository availabilityRepository,
+                           InterviewSlotRepository slotRepository,
+                           SlotGenerationService slotGenerationService) {
+        this.interviewerRepository = interviewerRepository;
+        this.availabilityRepository = availabilityRepository;
+        this.slotRepository = slotRepository;
+        this.slotGenerationService = slotGenerationService;
+    }
+
+    /**
+     * Builds the week containing {@code day}: available cells come from the weekly windows on days
+     * that are not blacked out, busy cells from booked slots of that week.
+     */
+    @Transactional(readOnly = true)
+    public FreeBusy forWeek(@ShardKey Long interviewerId, LocalDate day) {
+        if (!interviewerRepository.existsById(interviewerId)) {
+            throw new NotFoundException("Interviewer " + interviewerId + " not found");
+        }
+        WeekWindow week = WeekWindow.containing(day);
+        LocalDate monday = week.start().toLocalDate();
+
+        BlackoutCalendar blackouts = slotGenerationService.blackoutCalendar(interviewerId, monday, monday.plusDays(6));
+        FreeBusyWeek available = FreeBusyWeek.empty(monday);
+        for (WeeklyAvailability window : availabilityRepository.findByInterviewerId(interviewerId)) {
+            LocalDate date = monday.plusDays(window.getDayOfWeek().getValue() - 1L);
+            if (blackouts.contains(date)) {
+                continue;
+            }
+            available.markInside(date.atTime(window.getStartTime()), date.atTime(window.getEndTime()));
+        }
+
+        FreeBusyWeek busy = FreeBusyWeek.empty(monday);
+        for (InterviewSlot slot : slotRepository.findByInterviewerIdAndStartTimeBetweenOrderByStartTimeAsc(
+                interviewerId, week.start(), week.end())) {
+            if (slot.getBookedCount() > 0) {
+                busy.mark(slot.getStartTime(), slot.getEndTime());
+            }
+        }
+        return new FreeBusy(available, busy, available.andNot(busy));
+    }
+
+    public record FreeBusy(FreeBusyWeek available, FreeBusyWeek busy, FreeBusyWeek free) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * One interviewer-week as a bitmap of 5-minute cells: bit {@code i} covers
+ * {@code [monday + 5i min, monday + 5(i+1) min)}, 2016 bits in total. Range checks and
+ * combinations run on the 64-bit words of the underlying {@link BitSet}.
+ */
+public final class FreeBusyWeek {
+
+    public static final int MINUTES_PER_BIT = 5;
+    public static final int BITS = 7 * 24 * 60 / MINUTES_PER_BIT;
+    /**
+     * Length of {@link #encode()} before Base64: 2016 bits = 252 bytes.
+     */
+    public static final int BYTES = BITS / 8;
+
+    private final LocalDate weekStart;
+    private final BitSet bits;
+
+    private FreeBusyWeek(LocalDate weekStart, BitSet bits) {
+        this.weekStart = weekStart;
+        this.bits = bits;
+    }
+
+    public static FreeBusyWeek empty(LocalDate weekStart) {
+        return new FreeBusyWeek(weekStart, new BitSet(BITS));
+    }
+
+    public LocalDate weekStart() {
+        return weekStart;
+    }
+
+    /**
+     * Marks {@code [from, to)}, widened to whole cells and clipped to the week.
+     */
+    public FreeBusyWeek mark(LocalDateTime from, LocalDateTime to) {
+        int first = Math.max(0, cellFloor(from));
+        int last = Math.min(BITS, cellCeil(to));
+        if (first < last) {
+            bits.set(first, last);
+        }
+        return this;
+    }
+
+    /**
+     * Marks only the cells that lie entirely within {@code [from, to)}.
+     */
+    public FreeBusyWeek markInside(LocalDateTime from, LocalDateTime to) {
+        int first = Math.max(0, cellCeil(from));
+        int last = Math.min(BITS, cellFloor(to));
+        if (first < last) {
+            bits.set(first, last);
+        }
+        return this;
+    }
+
+    /**
+     * True when every cell touched by {@code [from, to)} is marked; false if any part is outside the week.
+     */
+    public boolean coversAll(LocalDateTime from, LocalDateTime to) {
+        int first = cellFloor(from);
+        int last = cellCeil(to);
+        if (first < 0 || last > BITS || first >= last) {
+            return false;
+        }
+        int gap = bits.nextClearBit(first);
+        return gap >= last;
+    }
+
+    /**
+     * True when any cell touched by {@code [from, to)} is marked.
+     */
+    public boolean intersects(LocalDateTime from, LocalDateTime to) {
+        int first = Math.max(0, cellFloor(from));
+        int last = Math.min(BITS, cellCeil(to));
+        if (first >= last) {
+            return false;
+        }
+        int hit = bits.nextSetBit(first);
+        return hit >= 0 && hit < last;
+    }
+
+    public FreeBusyWeek and(FreeBusyWeek other) {
+        BitSet result = (BitSet) bits.clone();
+        result.and(other.bits);
+        return new FreeBusyWeek(weekStart, result);
+    }
+
+    public FreeBusyWeek andNot(FreeBusyWeek other) {
+        BitSet result = (BitSet) bits.clone();
+        result.andNot(other.bits);
+        return new FreeBusyWeek(weekStart, result);
+    }
+
+    /**
+     * Cells marked in at least {@code count} of {@code weeks}, which all start on {@code weekStart}.
+     * Keeps one running bitmap per count, so it costs {@code weeks.size() * count} word-level passes.
+     */
+    public static FreeBusyWeek markedInAtLeast(int count, LocalDate weekStart, Collection<FreeBusyWeek> weeks) {
+        BitSet[] atLeast = new BitSet[count + 1];
+        atLeast[0] = new BitSet(BITS);
+        atLeast[0].set(0, BITS);
+        for (int i = 1; i <= count; i++) {
+            atLeast[i] = new BitSet(BITS);
+        }
+        for (FreeBusyWeek week : weeks) {
+            // highest count first, so this week adds at most one to every cell
+            for (int i = count; i >= 1; i--) {
+                BitSet carry = (BitSet) atLeast[i - 1].clone();
+                carry.and(week.bits);
+                atLeast[i].or(carry);
+            }
+        }
+        return new FreeBusyWeek(weekStart, atLeast[count]);
+    }
+
+    public int markedMinutes() {
+        return bits.cardinality() * MINUTES_PER_BIT;
+    }
+
+    /**
+     * URL-safe Base64 of the 252-byte little-endian bitmap: bit {@code i} is bit {@code i % 8}
+     * (least significant first) of byte {@code i / 8}.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(bits.toByteArray(), BYTES));
+    }
+
+    public static FreeBusyWeek decode(LocalDate weekStart, String encoded) {
+        return new FreeBusyWeek(weekStart, BitSet.valueOf(Base64.getUrlDecoder().decode(encoded)));
+    }
+
+    private int cellFloor(LocalDateTime time) {
+        return (int) Math.floorDiv(minutesFromWeekStart(time), MINUTES_PER_BIT);
+    }
+
+    private int cellCeil(LocalDateTime time) {
+        return (int) -Math.floorDiv(-minutesFromWeekStart(time), MINUTES_PER_BIT);
+    }
+
+    private long minutesFromWeekStart(LocalDateTime time) {
+        // clamp far-away times so the int conversion cannot overflow
+        long minutes = Duration.between(weekStart.atStartOfDay(), time).toMinutes();
+        return Math.max(-MINUTES_PER_BIT, Math.min(minutes, BITS * (long) MINUTES_PER_BIT + MINUTES_PER_BIT));
+    }
+}
@@ -0,0 +1,52 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * The bookings table of the only database is the index: the check counts the candidate's
+ * upcoming bookings. The candidate's {@code candidate_bookings} row only serves as the lock that
+ * serializes those checks; it is written as already started, so it never blocks a booking itself
+ * and is overwritten if sharding is switched on later.
+ */
+public class LocalCandidateBookingIndex implements CandidateBookingIndex {
+
+    private final BookingRepository bookingRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public LocalCandidateBookingIndex(BookingRepository bookingRepository, JdbcTemplate jdbcTemplate) {
+        this.bookingRepository = bookingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void lock(String candidateEmail) {
+        // a concurrent first insert of the same candidate waits here until the other transaction ends
+        jdbcTemplate.update("""
+                insert into candidate_bookings (candidate_email, booking_id, slot_start_time) values (lower(?), 0, ?)
+                on conflict do nothing
+                """, candidateEmail, LocalDateTime.now());
+        jdbcTemplate.queryForList("select booking_id from candidate_bookings where candidate_email = lower(?) for update",
+                Long.class, candidateEmail);
+    }
+
+    @Override
+    public boolean hasActiveBooking(String candidateEmail) {
+        return bookingRepository.countByCandidateEmailAndSlot_StartTimeAfter(candidateEmail, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    public void booked(Booking booking) {
+    }
+
+    @Override
+    public void rescheduled(Booking booking) {
+    }
+
+    @Override
+    public void cancelled(Booking booking) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
+
+import java.time.LocalDate;
+
+/**
+ * Holidays read from the only database, in the caller's transaction.
+ */
+public class LocalCompanyHolidays implements CompanyHolidays {
+
+    private final BlackoutRepository blackoutRepository;
+
+    public LocalCompanyHolidays(BlackoutRepository blackoutRepository) {
+        this.blackoutRepository = blackoutRepository;
+    }
+
+    @Override
+    public void addTo(BlackoutCalendar calendar, LocalDate from, LocalDate to) {
+        blackoutRepository.findHolidaysOverlapping(from, to).forEach(calendar::add);
+    }
+}
@@ -0,0 +1,79 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.model.OutboxMessage;
+import com.vasitum.interviewscheduler.domain.repository.OutboxMessageRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Turns booking changes into outbox rows: one message to the candidate and one to each
+ * interviewer involved. Runs synchronously inside the booking transaction; sending is left to
+ * the dispatcher so slot rows are never locked while a mail server answers.
+ */
+@Service
+public class NotificationOutboxWriter {
+
+    private static final DateTimeFormatter WHEN = DateTimeFormatter.ofPattern("EEE d MMM yyyy HH:mm");
+
+    private final OutboxMessageRepository outboxRepository;
+
+    public NotificationOutboxWriter(OutboxMessageRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        List<Booking> bookings = event.bookings();
+        Booking first = bookings.get(0);
+        String verb = switch (event.kind()) {
+            case BOOKED -> "confirmed";
+            case RESCHEDULED -> "rescheduled";
+            case CANCELLED -> "cancelled";
+        };
+        String when = WHEN.format(first.getSlot().getStartTime()) + " - "
+                + first.getSlot().getEndTime().toLocalTime();
+        String interviewers = bookings.stream()
+                .map(booking -> booking.getSlot().getInterviewer().getName())
+                .collect(Collectors.joining(", "));
+        String kind = bookings.size() > 1 ? "Panel interview" : "Interview";
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = new ArrayList<>(bookings.size() + 1);
+        messages.add(message(event, now, first.getCandidateEmail(),
+                kind + " " + verb + ": " + when,
+                "Hi " + first.getCandidateName() + ",\n\nyour interview with " + interviewers + " on " + when
+                        + " has been " + verb + ".\n"));
+        for (Booking booking : bookings) {
+            Interviewer interviewer = booking.getSlot().getInterviewer();
+            messages.add(message(event, now, interviewer.getEmail(),
+                    kind + " " + verb + ": " + booking.getCandidateName() + ", " + when,
+                    "Hi " + interviewer.getName() + ",\n\nthe interview with " + booking.getCandidateName()
+                            + " <" + booking.getCandidateEmail() + "> on " + when + " has been " + verb
+                            + ".\nBooking " + booking.getId() + ".\n"));
+        }
+        outboxRepository.saveAll(messages);
+    }
+
+    private static OutboxMessage message(BookingChangedEvent event, LocalDateTime now,
+                                         String recipient, String subject, String body) {
+        OutboxMessage message = new OutboxMessage();
+        message.setEventType(event.kind().name());
+        message.setRecipient(recipient);
+        // a candidate name may fill the column on its own
+        message.setSubject(subject.length() > OutboxMessage.SUBJECT_LENGTH
+                ? subject.substring(0, OutboxMessage.SUBJECT_LENGTH - 1) + "…"
+                : subject);
+        message.setBody(body);
+        message.setCreatedAt(now);
+        message.setAvailableAt(now);
+        return message;
+    }
+}
@@ -0,0 +1,323 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.AlreadyBookedException;
+import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.exception.SlotFullyBookedException;
+import com.vasitum.interviewscheduler.application.exception.WeeklyLimitExceededException;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.model.PanelBooking;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerBookingCount;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.OpenSlotView;
+import com.vasitum.interviewscheduler.domain.repository.PanelBookingRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Service
+public class PanelBookingService {
+
+    public static final int MIN_MEMBERS = 2;
+    public static final int MAX_MEMBERS = 4;
+
+    private final InterviewerRepository interviewerRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final BookingRepository bookingRepository;
+    private final PanelBookingRepository panelBookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CandidateBookingIndex candidateIndex;
+    private final SlotSeats seats;
+    private final BookingService bookingService;
+
+    public PanelBookingService(InterviewerRepository interviewerRepository,
+                               InterviewSlotRepository slotRepository,
+                               BookingRepository bookingRepository,
+                               PanelBookingRepository panelBookingRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               CandidateBookingIndex candidateIndex,
+                               SlotSeats seats,
+                               BookingService bookingService) {
+        this.interviewerRepository = interviewerRepository;
+        this.slotRepository = slotRepository;
+        this.bookingRepository = bookingRepository;
+        this.panelBookingRepository = panelBookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.candidateIndex = candidateIndex;
+        this.seats = seats;
+        this.bookingService = bookingService;
+    }
+
+    /**
+     * Finds times at which at least {@code panelSize} interviewers of {@code pool} each have an open
+     * slot covering the whole time and are still under their weekly limit. Open slots of the whole
+     * pool are read in one query and marked per interviewer-week on a {@link FreeBusyWeek}; the
+     * bitmaps are intersected into the cells at least {@code panelSize} members have free, and each
+     * slot's time that lies entirely in those cells is mapped back to the slots covering it. The
+     * cost grows with the number of open slots rather than with the number of member combinations.
+     * Each window proposes the least loaded members first.
+     */
+    @Transactional(readOnly = true)
+    public List<PanelWindow> findCommonWindows(@ShardKey Collection<Long> pool, int panelSize,
+                                               LocalDateTime from, LocalDateTime to, int limit) {
+        Set<Long> poolIds = new TreeSet<>(pool);
+        if (panelSize < MIN_MEMBERS || panelSize > MAX_MEMBERS) {
+            throw new IllegalArgumentException(
+                    "Panel size must be between " + MIN_MEMBERS + " and " + MAX_MEMBERS);
+        }
+        if (poolIds.size() < panelSize) {
+            throw new IllegalArgumentException(
+                    "Pool has " + poolIds.size() + " distinct interviewers, fewer than the panel size " + panelSize);
+        }
+        Map<Long, Integer> weeklyLimits = interviewerRepository.findAllById(poolIds).stream()
+                .collect(Collectors.toMap(Interviewer::getId, Interviewer::getMaxWeeklyInterviews));
+        for (Long id : poolIds) {
+            if (!weeklyLimits.containsKey(id)) {
+                throw new NotFoundException("Interviewer " + id + " not found");
+            }
+        }
+
+        Map<LocalDate, Map<Long, FreeInterviewer>> freeByWeek = new TreeMap<>();
+        for (OpenSlotView slot : slotRepository.findOpenSlotsForInterviewers(poolIds, from, to)) {
+            LocalDate weekStart = slot.getStartTime().toLocalDate().with(DayOfWeek.MONDAY);
+            freeByWeek.computeIfAbsent(weekStart, week -> new HashMap<>())
+                    .computeIfAbsent(slot.getInterviewerId(), id -> new FreeInterviewer(
+                            FreeBusyWeek.empty(weekStart), new TreeMap<>()))
+                    .add(slot);
+        }
+
+        List<PanelWindow> windows = new ArrayList<>();
+        for (Map.Entry<LocalDate, Map<Long, FreeInterviewer>> week : freeByWeek.entrySet()) {
+            if (week.getValue().size() < panelSize) {
+                continue;
+            }
+            Map<Long, Long> load = weeklyLoad(week.getValue().keySet(), WeekWindow.containing(week.getKey()));
+            Map<Long, FreeInterviewer> members = new HashMap<>();
+            week.getValue().forEach((id, free) -> {
+                if (load.getOrDefault(id, 0L) < weeklyLimits.get(id)) {
+                    members.put(id, free);
+                }
+            });
+            if (members.size() < panelSize) {
+                continue;
+            }
+            FreeBusyWeek common = FreeBusyWeek.markedInAtLeast(panelSize, week.getKey(),
+                    members.values().stream().map(FreeInterviewer::free).toList());
+            // a window always starts and ends with some member's slot, so those are the only candidates
+            Set<TimeRange> candidates = new TreeSet<>(Comparator.comparing(TimeRange::start).thenComparing(TimeRange::end));
+            for (FreeInterviewer free : members.values()) {
+                for (OpenSlotView slot : free.slotsByStart().values()) {
+                    candidates.add(new TimeRange(slot.getStartTime(), slot.getEndTime()));
+                }
+            }
+            for (TimeRange window : candidates) {
+                if (windows.size() >= limit) {
+                    return windows;
+                }
+                if (!common.coversAll(window.start(), window.end())) {
+                    continue;
+                }
+                List<PanelSeat> seats = new ArrayList<>();
+                members.forEach((id, free) -> {
+                    OpenSlotView slot = free.covering(window);
+                    if (slot != null) {
+                        seats.add(new PanelSeat(id, slot.getSlotId()));
+                    }
+                });
+                if (seats.size() >= panelSize) {
+                    seats.sort(Comparator.comparingLong((PanelSeat seat) -> load.getOrDefault(seat.interviewerId(), 0L))
+                            .thenComparing(PanelSeat::interviewerId));
+                    windows.add(new PanelWindow(window.start(), window.end(), seats.subList(0, panelSize), seats.size()));
+                }
+            }
+        }
+        return windows;
+    }
+
+    /**
+     * Books one slot per member in a single transaction. Interviewer rows are locked first and slot
+     * rows second, each in ascending id order, so two panels sharing members always queue on the
+     * same row instead of deadlocking; the interviewer lock also keeps concurrent panels from
+     * overrunning a member's weekly limit.
+     */
+    @Transactional
+    public PanelResult createPanelBooking(@ShardKey List<Long> slotIds, String candidateName, String candidateEmail) {
+        Set<Long> ids = new TreeSet<>(slotIds);
+        if (ids.size() != slotIds.size()) {
+            throw new IllegalArgumentException("Panel slots must be distinct");
+        }
+        if (ids.size() < MIN_MEMBERS || ids.size() > MAX_MEMBERS) {
+            throw new IllegalArgumentException(
+                    "A panel needs between " + MIN_MEMBERS + " and " + MAX_MEMBERS + " slots");
+        }
+
+        List<Long> interviewerIds = slotRepository.findInterviewerIdsBySlotIds(ids);
+        List<Interviewer> interviewers = interviewerRepository.lockAllByIdOrderById(interviewerIds);
+        List<InterviewSlot> slots = slotRepository.lockAllByIdOrderById(ids);
+        if (slots.size() != ids.size()) {
+            Set<Long> missing = new TreeSet<>(ids);
+            slots.forEach(slot -> missing.remove(slot.getId()));
+            throw new NotFoundException("Slot " + missing.iterator().next() + " not found");
+        }
+        if (interviewers.size() != slots.size()) {
+            throw new IllegalArgumentException("Each panel slot must belong to a different interviewer");
+        }
+        // the panel meets while every member's slot is open
+        LocalDateTime start = slots.stream().map(InterviewSlot::getStartTime).max(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime end = slots.stream().map(InterviewSlot::getEndTime).min(Comparator.naturalOrder()).orElseThrow();
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("Panel slots must overlap in time");
+        }
+        for (InterviewSlot slot : slots) {
+            // a panel is one candidate in front of several interviewers; group sessions do not fit
+            if (slot.getCapacity() != 1) {
+                throw new IllegalArgumentException("Panel slots must have a single seat");
+            }
+            if (slot.getBookedCount() >= slot.getCapacity()) {
+                throw new SlotFullyBookedException(slot.getId());
+            }
+        }
+
+        WeekWindow week = WeekWindow.containing(start);
+        Map<Long, Long> load = weeklyLoad(interviewerIds, week);
+        for (Interviewer interviewer : interviewers) {
+            if (load.getOrDefault(interviewer.getId(), 0L) >= interviewer.getMaxWeeklyInterviews()) {
+                throw new WeeklyLimitExceededException(interviewer.getId());
+            }
+        }
+        candidateIndex.lock(candidateEmail);
+        if (candidateIndex.hasActiveBooking(candidateEmail)) {
+            throw new AlreadyBookedException(candidateEmail);
+        }
+
+        PanelBooking panel = new PanelBooking();
+        panel.setCandidateName(candidateName);
+        panel.setCandidateEmail(candidateEmail);
+        panel.setStartTime(start);
+        panel.setEndTime(end);
+        panel = panelBookingRepository.save(panel);
+
+        List<Booking> bookings = new ArrayList<>(slots.size());
+        for (InterviewSlot slot : slots) {
+            Booking booking = new Booking();
+            booking.setSlot(slot);
+            booking.setPanelBooking(panel);
+            booking.setCandidateName(candidateName);
+            booking.setCandidateEmail(candidateEmail);
+            booking.setConfirmed(true);
+            bookings.add(booking);
+            seats.take(slot);
+        }
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+        // the whole panel counts as the candidate's one booking
+        candidateIndex.booked(saved.get(0));
+        eventPublisher.publishEvent(BookingChangedEvent.booked(saved));
+        return new PanelResult(panel, saved);
+    }
+
+    @Transactional(readOnly = true)
+    public PanelResult getPanelBooking(@ShardKey Long panelBookingId) {
+        PanelBooking panel = panelBookingRepository.findById(panelBookingId)
+                .orElseThrow(() -> new NotFoundException("Panel booking " + panelBookingId + " not found"));
+        return new PanelResult(panel, bookingRepository.findByPanelBookingIdOrderBySlot_IdAsc(panelBookingId));
+    }
+
+    /**
+     * Releases every member slot, removes the panel and offers the freed seats to the slots'
+     * waitlists, as {@link BookingService#cancelBooking} does. Interviewer rows and then slot rows
+     * are locked in id order, as on create.
+     */
+    @Transactional
+    public void cancelPanelBooking(@ShardKey Long panelBookingId) {
+        PanelBooking panel = panelBookingRepository.findById(panelBookingId)
+                .orElseThrow(() -> new NotFoundException("Panel booking " + panelBookingId + " not found"));
+        List<Booking> bookings = bookingRepository.findByPanelBookingIdOrderBySlot_IdAsc(panelBookingId);
+        interviewerRepository.lockAllByIdOrderById(slotRepository.findInterviewerIdsBySlotIds(slotIds(bookings)));
+        release(panel, bookings).forEach(bookingService::promoteWaitlisted);
+    }
+
+    /**
+     * Cancels a panel one of whose slots is about to be removed, in the caller's transaction;
+     * unlike {@link #cancelPanelBooking}, nobody is promoted into the freed seats.
+     */
+    public void cancelFromRemovedSlot(Long panelBookingId) {
+        PanelBooking panel = panelBookingRepository.findById(panelBookingId)
+                .orElseThrow(() -> new NotFoundException("Panel booking " + panelBookingId + " not found"));
+        release(panel, bookingRepository.findByPanelBookingIdOrderBySlot_IdAsc(panelBookingId));
+    }
+
+    private List<InterviewSlot> release(PanelBooking panel, List<Booking> bookings) {
+        List<InterviewSlot> slots = slotRepository.lockAllByIdOrderById(slotIds(bookings));
+        slots.forEach(seats::release);
+        bookingRepository.deleteAll(bookings);
+        bookings.forEach(candidateIndex::cancelled);
+        panelBookingRepository.delete(panel);
+        eventPublisher.publishEvent(BookingChangedEvent.cancelled(bookings));
+        return slots;
+    }
+
+    private static List<Long> slotIds(List<Booking> bookings) {
+        return bookings.stream().map(booking -> booking.getSlot().getId()).toList();
+    }
+
+    private Map<Long, Long> weeklyLoad(Collection<Long> interviewerIds, WeekWindow week) {
+        return bookingRepository.countPerInterviewerBetween(interviewerIds, week.start(), week.end()).stream()
+                .collect(Collectors.toMap(InterviewerBookingCount::getInterviewerId, InterviewerBookingCount::getBookings));
+    }
+
+    private record TimeRange(LocalDateTime start, LocalDateTime end) {
+    }
+
+    /**
+     * One interviewer's open slots of one week, as free cells and by start time.
+     */
+    private record FreeInterviewer(FreeBusyWeek free, NavigableMap<LocalDateTime, OpenSlotView> slotsByStart) {
+
+        void add(OpenSlotView slot) {
+            free.mark(slot.getStartTime(), slot.getEndTime());
+            slotsByStart.put(slot.getStartTime(), slot);
+        }
+
+        /**
+         * The slot open for all of {@code window}; the bitmap may also cover it with adjacent slots.
+         */
+        OpenSlotView covering(TimeRange window) {
+            if (!free.coversAll(window.start(), window.end())) {
+                return null;
+            }
+            Map.Entry<LocalDateTime, OpenSlotView> entry = slotsByStart.floorEntry(window.start());
+            return entry != null && !entry.getValue().getEndTime().isBefore(window.end()) ? entry.getValue() : null;
+        }
+    }
+
+    public record PanelSeat(Long interviewerId, Long slotId) {
+    }
+
+    /**
+     * @param availableInterviewers how many pool members could fill this window; {@code members} is the proposal
+     */
+    public record PanelWindow(LocalDateTime startTime, LocalDateTime endTime, List<PanelSeat> members,
+                              int availableInterviewers) {
+    }
+
+    public record PanelResult(PanelBooking panel, List<Booking> bookings) {
+    }
+}
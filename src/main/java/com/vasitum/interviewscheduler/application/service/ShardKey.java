@@ -0,0 +1,19 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the id (interviewer, slot, booking, panel booking or waitlist entry) whose shard the
+ * annotated call runs on, before any transaction of the call begins. Ids encode the shard that
+ * owns their row, see {@link Shards#shardOf}. A collection of ids, or several annotated
+ * parameters, must all belong to one shard; a {@code null} id leaves the call where it is.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ShardKey {
+}
@@ -0,0 +1,32 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The databases scheduling data is split over. An interviewer's rows, and everything hanging off
+ * them (slots, bookings, waitlist entries, panels), live on the interviewer's shard, and every id
+ * handed out by a shard encodes it. Without sharding there is exactly one.
+ */
+public interface Shards {
+
+    int count();
+
+    /**
+     * The shard owning the row with this id.
+     */
+    int shardOf(long id);
+
+    /**
+     * Runs {@code work} against one shard. Must not be called inside a transaction on another
+     * shard: the transaction's connection is already bound.
+     */
+    <T> T on(int shard, Supplier<T> work);
+
+    /**
+     * Runs {@code work} against every shard, concurrently when there are several.
+     *
+     * @return the results in shard order
+     */
+    <T> List<T> onEach(Supplier<T> work);
+}
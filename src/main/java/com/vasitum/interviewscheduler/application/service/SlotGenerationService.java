@@ -4,49 +4,84 @@ import com.vasitum.interviewscheduler.application.exception.NotFoundException;
 import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
 import com.vasitum.interviewscheduler.domain.model.Interviewer;
 import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
 import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
 import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
 import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
+@Traced
 public class SlotGenerationService {
 
+    private static final int DELETE_BATCH = 500;
+
     private final InterviewerRepository interviewerRepository;
     private final WeeklyAvailabilityRepository availabilityRepository;
     private final InterviewSlotRepository slotRepository;
+    private final SlotSeatCounterRepository counterRepository;
+    private final BlackoutRepository blackoutRepository;
+    private final CompanyHolidays companyHolidays;
+    private final SlotSeats seats;
+    private final ApplicationEventPublisher eventPublisher;
 
     public SlotGenerationService(InterviewerRepository interviewerRepository,
                                  WeeklyAvailabilityRepository availabilityRepository,
-                                 InterviewSlotRepository slotRepository) {
+                                 InterviewSlotRepository slotRepository,
+                                 SlotSeatCounterRepository counterRepository,
+                                 BlackoutRepository blackoutRepository,
+                                 CompanyHolidays companyHolidays,
+                                 SlotSeats seats,
+                                 ApplicationEventPublisher eventPublisher) {
         this.interviewerRepository = interviewerRepository;
         this.availabilityRepository = availabilityRepository;
         this.slotRepository = slotRepository;
+        this.counterRepository = counterRepository;
+        this.blackoutRepository = blackoutRepository;
+        this.companyHolidays = companyHolidays;
+        this.seats = seats;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
-    public int generateSlotsForInterviewer(Long interviewerId, LocalDate from, LocalDate to) {
+    public int generateSlotsForInterviewer(@ShardKey Long interviewerId, LocalDate from, LocalDate to) {
         Interviewer interviewer = interviewerRepository.findById(interviewerId)
                 .orElseThrow(() -> new NotFoundException("Interviewer " + interviewerId + " not found"));
 
         List<WeeklyAvailability> availabilities = availabilityRepository.findByInterviewerId(interviewerId);
+        BlackoutCalendar blackouts = blackoutCalendar(interviewerId, from, to);
 
         int created = 0;
         LocalDate current = from;
         while (!current.isAfter(to)) {
             for (WeeklyAvailability availability : availabilities) {
-                if (availability.getDayOfWeek() == current.getDayOfWeek()) {
+                if (availability.getDayOfWeek() == current.getDayOfWeek() && !blackouts.contains(current)) {
                     created += generateSlotsForDay(interviewer, availability, current);
                 }
             }
             current = current.plusDays(1);
         }
+        if (created > 0) {
+            eventPublisher.publishEvent(DomainChangeEvent.slots(interviewerId));
+        }
         return created;
     }
 
@@ -75,7 +110,11 @@ public class SlotGenerationService {
                 slot.setStartTime(slotStart);
                 slot.setEndTime(slotEnd);
                 slot.setBookedCount(0);
+                seats.configure(slot, availability.getCapacity());
                 slotRepository.save(slot);
+                if (slot.isSharded()) {
+                    seats.createCounters(List.of(slot));
+                }
                 created++;
             }
 
@@ -83,6 +122,199 @@ public class SlotGenerationService {
         }
         return created;
     }
-}
 
+    /**
+     * Re-tiles the interviewer's generated future slots to the current windows on every day, e.g.
+     * when slots of an earlier slot length are left over.
+     */
+    @Transactional
+    public Reconciliation reshapeSlots(@ShardKey Long interviewerId) {
+        Interviewer interviewer = interviewerRepository.findById(interviewerId)
+                .orElseThrow(() -> new NotFoundException("Interviewer " + interviewerId + " not found"));
+        Reconciliation reconciliation = reconcileDays(interviewer, availabilityRepository.findByInterviewerId(interviewerId),
+                EnumSet.allOf(DayOfWeek.class));
+        if (reconciliation.slotsRemoved() > 0 || reconciliation.slotsCreated() > 0) {
+            eventPublisher.publishEvent(DomainChangeEvent.slots(interviewerId));
+        }
+        return reconciliation;
+    }
+
+    /**
+     * Brings the already generated future slots of {@code days} in line with {@code windows}.
+     * Booked slots stay as they are; those outside every window are reported as conflicts. The
+     * rest of each window is tiled with slots of its length around them, and only unbooked slots
+     * that differ from the tiling are deleted and the missing ones created. Only dates between the
+     * first and last generated slot are touched, in one pass; later dates are covered by the next
+     * generation run. Blacked-out days are left as they are.
+     * Must run inside the caller's transaction.
+     */
+    public Reconciliation reconcileDays(Interviewer interviewer, List<WeeklyAvailability> windows,
+                                        Set<DayOfWeek> days) {
+        if (days.isEmpty()) {
+            return Reconciliation.NONE;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        // today's started bookings still block the time they take
+        List<InterviewSlot> slots = slotRepository.findByInterviewerIdAndStartTimeAfterOrderByStartTimeAsc(
+                interviewer.getId(), now.toLocalDate().atStartOfDay().minusMinutes(1));
+        if (slots.isEmpty()) {
+            return Reconciliation.NONE;
+        }
+        Map<LocalDate, List<InterviewSlot>> slotsByDate = slots.stream()
+                .filter(slot -> days.contains(slot.getStartTime().getDayOfWeek()))
+                .collect(Collectors.groupingBy(slot -> slot.getStartTime().toLocalDate()));
+        LocalDate first = slots.get(0).getStartTime().toLocalDate();
+        LocalDate horizon = slots.get(slots.size() - 1).getStartTime().toLocalDate();
+        BlackoutCalendar blackouts = blackoutCalendar(interviewer.getId(), first, horizon);
+
+        List<Long> stale = new ArrayList<>();
+        List<SlotConflict> conflicts = new ArrayList<>();
+        List<InterviewSlot> missing = new ArrayList<>();
+        for (LocalDate day = first; !day.isAfter(horizon); day = day.plusDays(1)) {
+            if (!days.contains(day.getDayOfWeek()) || blackouts.contains(day)) {
+                continue;
+            }
+            List<InterviewSlot> daySlots = slotsByDate.getOrDefault(day, List.of());
+            List<InterviewSlot> booked = daySlots.stream().filter(slot -> slot.getBookedCount() > 0).toList();
+            Map<LocalDateTime, WeeklyAvailability> expected = expectedSlots(windows, day, booked, now);
+            for (InterviewSlot slot : daySlots) {
+                if (slot.getBookedCount() > 0) {
+                    if (slot.getStartTime().isAfter(now) && !insideWindow(windows, slot)) {
+                        conflicts.add(SlotConflict.of(slot));
+                    }
+                    continue;
+                }
+                if (!slot.getStartTime().isAfter(now)) {
+                    continue;
+                }
+                WeeklyAvailability window = expected.get(slot.getStartTime());
+                if (window != null
+                        && slot.getEndTime().equals(slot.getStartTime().plusMinutes(window.getSlotDurationMinutes()))
+                        && slot.getCapacity() == window.getCapacity()) {
+                    expected.remove(slot.getStartTime());
+                } else {
+                    stale.add(slot.getId());
+                }
+            }
+            expected.forEach((start, window) -> {
+                InterviewSlot slot = new InterviewSlot();
+                slot.setInterviewer(interviewer);
+                slot.setStartTime(start);
+                slot.setEndTime(start.plusMinutes(window.getSlotDurationMinutes()));
+                slot.setBookedCount(0);
+                seats.configure(slot, window.getCapacity());
+                missing.add(slot);
+            });
+        }
+
+        int removed = 0;
+        for (int from = 0; from < stale.size(); from += DELETE_BATCH) {
+            List<Long> batch = stale.subList(from, Math.min(stale.size(), from + DELETE_BATCH));
+            int deleted = slotRepository.deleteOpenSlotsById(batch);
+            if (deleted < batch.size()) {
+                // booked between our read and the delete
+                slotRepository.findAllById(batch).forEach(slot -> conflicts.add(SlotConflict.of(slot)));
+            }
+            if (deleted > 0) {
+                counterRepository.deleteOrphaned(batch);
+            }
+            removed += deleted;
+        }
+        slotRepository.saveAll(missing);
+        seats.createCounters(missing.stream().filter(InterviewSlot::isSharded).toList());
+        return new Reconciliation(removed, missing.size(), conflicts);
+    }
+
+    /**
+     * The interviewer's own blackouts and the company holidays overlapping {@code [from, to]}.
+     */
+    public BlackoutCalendar blackoutCalendar(Long interviewerId, LocalDate from, LocalDate to) {
+        BlackoutCalendar calendar = new BlackoutCalendar();
+        blackoutRepository.findOverlapping(interviewerId, from, to).forEach(calendar::add);
+        companyHolidays.addTo(calendar, from, to);
+        return calendar;
+    }
 
+    /**
+     * Tiles each window of the day with slots of its length, sweeping from the window start and
+     * jumping past the booked slots (and tiles of earlier windows) in the way, so bookings off the
+     * current grid leave no more than one gap behind them.
+     *
+     * @return slot start -> the window it belongs to, for starts after {@code now}
+     */
+    private static Map<LocalDateTime, WeeklyAvailability> expectedSlots(List<WeeklyAvailability> windows, LocalDate day,
+                                                                       List<InterviewSlot> booked, LocalDateTime now) {
+        // start -> end of the time already taken, overlapping bookings merged so the ranges are disjoint
+        NavigableMap<LocalDateTime, LocalDateTime> busy = new TreeMap<>();
+        booked.stream().sorted(Comparator.comparing(InterviewSlot::getStartTime)).forEach(slot -> {
+            Map.Entry<LocalDateTime, LocalDateTime> last = busy.lastEntry();
+            if (last != null && last.getValue().isAfter(slot.getStartTime())) {
+                busy.put(last.getKey(), later(last.getValue(), slot.getEndTime()));
+            } else {
+                busy.put(slot.getStartTime(), slot.getEndTime());
+            }
+        });
+        Map<LocalDateTime, WeeklyAvailability> expected = new LinkedHashMap<>();
+        List<WeeklyAvailability> dayWindows = windows.stream()
+                .filter(window -> window.getDayOfWeek() == day.getDayOfWeek())
+                .sorted(Comparator.comparing(WeeklyAvailability::getStartTime))
+                .toList();
+        for (WeeklyAvailability window : dayWindows) {
+            int duration = window.getSlotDurationMinutes();
+            LocalDateTime end = LocalDateTime.of(day, window.getEndTime());
+            LocalDateTime start = LocalDateTime.of(day, window.getStartTime());
+            while (!start.plusMinutes(duration).isAfter(end)) {
+                LocalDateTime slotEnd = start.plusMinutes(duration);
+                LocalDateTime blockedUntil = blockedUntil(busy, start, slotEnd);
+                if (blockedUntil != null) {
+                    start = blockedUntil;
+                    continue;
+                }
+                if (start.isAfter(now)) {
+                    expected.put(start, window);
+                }
+                busy.put(start, slotEnd);
+                start = slotEnd;
+            }
+        }
+        return expected;
+    }
+
+    // end of a busy range overlapping [start, end), or null when it is free; the ranges are disjoint,
+    // so only the one around start and the first one after it can overlap
+    private static LocalDateTime blockedUntil(NavigableMap<LocalDateTime, LocalDateTime> busy,
+                                              LocalDateTime start, LocalDateTime end) {
+        Map.Entry<LocalDateTime, LocalDateTime> around = busy.floorEntry(start);
+        if (around != null && around.getValue().isAfter(start)) {
+            return around.getValue();
+        }
+        Map.Entry<LocalDateTime, LocalDateTime> next = busy.higherEntry(start);
+        return next != null && next.getKey().isBefore(end) ? next.getValue() : null;
+    }
+
+    private static boolean insideWindow(List<WeeklyAvailability> windows, InterviewSlot slot) {
+        LocalDate day = slot.getStartTime().toLocalDate();
+        return windows.stream().anyMatch(window -> window.getDayOfWeek() == day.getDayOfWeek()
+                && !slot.getStartTime().isBefore(LocalDateTime.of(day, window.getStartTime()))
+                && !slot.getEndTime().isAfter(LocalDateTime.of(day, window.getEndTime())));
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    public record Reconciliation(int slotsRemoved, int slotsCreated, List<SlotConflict> conflicts) {
+
+        static final Reconciliation NONE = new Reconciliation(0, 0, List.of());
+    }
+
+    /**
+     * A booked slot that no longer lies inside the interviewer's availability.
+     */
+    public record SlotConflict(Long slotId, LocalDateTime startTime, LocalDateTime endTime, int bookedCount) {
+
+        static SlotConflict of(InterviewSlot slot) {
+            return new SlotConflict(slot.getId(), slot.getStartTime(), slot.getEndTime(), slot.getBookedCount());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.SlotSeatCounter;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCount;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Takes and releases seats of a slot; must run inside the booking transaction.
+ * <p>
+ * Slots below {@code scheduler.seats.shard-threshold} seats count bookings in their versioned
+ * {@code bookedCount}, so concurrent bookings of one slot conflict on commit. Larger slots spread
+ * their seats over {@link SlotSeatCounter} shards of about {@code seats-per-shard} seats: a
+ * booking locks one shard with {@code SKIP LOCKED}, so concurrent bookings take different rows.
+ * The slot row is only locked (and its {@code bookedCount} set to the exact sum) when a shard
+ * becomes empty or full; those are the only moments the slot can turn booked, unbooked, full or
+ * open, and serializing them on the slot row lets the last one to commit see every shard.
+ */
+@Service
+public class SlotSeats {
+
+    private static final PageRequest ONE = PageRequest.of(0, 1);
+
+    private final SlotSeatCounterRepository counterRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final int shardThreshold;
+    private final int seatsPerShard;
+
+    public SlotSeats(SlotSeatCounterRepository counterRepository,
+                     InterviewSlotRepository slotRepository,
+                     @Value("${scheduler.seats.shard-threshold:20}") int shardThreshold,
+                     @Value("${scheduler.seats.seats-per-shard:10}") int seatsPerShard) {
+        this.counterRepository = counterRepository;
+        this.slotRepository = slotRepository;
+        this.shardThreshold = shardThreshold;
+        this.seatsPerShard = seatsPerShard;
+    }
+
+    /**
+     * Sets the capacity of a new, not yet saved slot and decides its number of counter shards.
+     */
+    public void configure(InterviewSlot slot, int capacity) {
+        slot.setCapacity(capacity);
+        slot.setCounterShards(capacity < shardThreshold ? 0
+                : Math.max(2, Math.min(capacity, (capacity + seatsPerShard - 1) / seatsPerShard)));
+    }
+
+    /**
+     * Creates the counter rows of saved slots configured with shards.
+     */
+    public void createCounters(Collection<InterviewSlot> slots) {
+        List<SlotSeatCounter> counters = new ArrayList<>();
+        for (InterviewSlot slot : slots) {
+            int shards = slot.getCounterShards();
+            for (int shard = 0; shard < shards; shard++) {
+                SlotSeatCounter counter = new SlotSeatCounter();
+                counter.setSlotId(slot.getId());
+                counter.setSlotStartTime(slot.getStartTime());
+                counter.setShard(shard);
+                // the first (capacity % shards) shards take one extra seat
+                counter.setSeats(slot.getCapacity() / shards + (shard < slot.getCapacity() % shards ? 1 : 0));
+                counters.add(counter);
+            }
+        }
+        counterRepository.saveAll(counters);
+    }
+
+    /**
+     * @return false when every seat is taken
+     */
+    public boolean take(InterviewSlot slot) {
+        if (!slot.isSharded()) {
+            if (slot.getBookedCount() >= slot.getCapacity()) {
+                return false;
+            }
+            slot.setBookedCount(slot.getBookedCount() + 1);
+            return true;
+        }
+        SlotSeatCounter shard = first(counterRepository.lockFreeShard(slot.getId(), ONE));
+        if (shard == null) {
+            // every free shard is held by another booking (or none is left): wait for them
+            shard = first(counterRepository.lockFreeShards(slot.getId()));
+            if (shard == null) {
+                return false;
+            }
+        }
+        int before = shard.getBooked();
+        shard.setBooked(before + 1);
+        if (before == 0 || before + 1 == shard.getSeats()) {
+            refresh(slot);
+        }
+        return true;
+    }
+
+    public void release(InterviewSlot slot) {
+        if (!slot.isSharded()) {
+            if (slot.getBookedCount() > 0) {
+                slot.setBookedCount(slot.getBookedCount() - 1);
+            }
+            return;
+        }
+        SlotSeatCounter shard = first(counterRepository.lockBookedShard(slot.getId(), ONE));
+        if (shard == null) {
+            shard = first(counterRepository.lockBookedShards(slot.getId()));
+        }
+        if (shard == null) {
+            if (!counterRepository.existsBySlotId(slot.getId()) && slot.getBookedCount() > 0) {
+                // counters of started slots are purged; the slot row holds the last count
+                slotRepository.updateBookedCount(slot.getId(), slot.getStartTime(), slot.getBookedCount() - 1);
+            }
+            return;
+        }
+        int before = shard.getBooked();
+        shard.setBooked(before - 1);
+        if (before == 1 || before == shard.getSeats()) {
+            refresh(slot);
+        }
+    }
+
+    /**
+     * Seats taken, summed over the shards of sharded slots.
+     */
+    public int booked(InterviewSlot slot) {
+        return slot.isSharded() ? (int) counterRepository.sumBooked(slot.getId()) : slot.getBookedCount();
+    }
+
+    /**
+     * Seats taken per slot id; one query for all sharded slots, none when there are none.
+     */
+    public Map<Long, Integer> booked(Collection<InterviewSlot> slots) {
+        Map<Long, Integer> booked = new HashMap<>();
+        List<Long> sharded = new ArrayList<>();
+        for (InterviewSlot slot : slots) {
+            booked.put(slot.getId(), slot.getBookedCount());
+            if (slot.isSharded()) {
+                sharded.add(slot.getId());
+            }
+        }
+        if (!sharded.isEmpty()) {
+            for (SlotSeatCount count : counterRepository.sumBookedBySlot(sharded)) {
+                booked.put(count.getSlotId(), (int) count.getBooked());
+            }
+        }
+        return booked;
+    }
+
+    private void refresh(InterviewSlot slot) {
+        slotRepository.lockAllByIdOrderById(List.of(slot.getId()));
+        // the sum query flushes this transaction's shard change first
+        int sum = (int) counterRepository.sumBooked(slot.getId());
+        slotRepository.updateBookedCount(slot.getId(), slot.getStartTime(), sum);
+    }
+
+    private static SlotSeatCounter first(List<SlotSeatCounter> shards) {
+        return shards.isEmpty() ? null : shards.get(0);
+    }
+}
@@ -0,0 +1,15 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Records a span for every public method call of the annotated service while a request is
+ * traced; controllers get theirs without it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Traced {
+}
@@ -0,0 +1,87 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.repository.WaitlistWindowView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory mirror of the waiting entries: per interviewer, entry id (FIFO order) to the slot or
+ * window it waits for. Only used to skip the waitlist query when nobody can be waiting, so it may
+ * hold entries that are gone (one wasted query) but must not miss committed ones.
+ */
+class WaitlistIndex {
+
+    record Window(Long slotId, LocalDateTime start, LocalDateTime end) {
+
+        boolean matches(InterviewSlot slot) {
+            if (slotId != null) {
+                return slotId.equals(slot.getId());
+            }
+            return !start.isAfter(slot.getStartTime()) && !end.isBefore(slot.getEndTime());
+        }
+    }
+
+    private final Map<Long, ConcurrentSkipListMap<Long, Window>> byInterviewer = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    boolean mayHaveWaiters(InterviewSlot slot) {
+        if (!loaded) {
+            return true;
+        }
+        ConcurrentSkipListMap<Long, Window> entries = byInterviewer.get(slot.getInterviewer().getId());
+        if (entries == null) {
+            return false;
+        }
+        for (Window window : entries.values()) {
+            if (window.matches(slot)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(Long id, Long interviewerId, Window window) {
+        byInterviewer.computeIfAbsent(interviewerId, key -> new ConcurrentSkipListMap<>()).put(id, window);
+    }
+
+    /**
+     * Replaces the entries of the given interviewers with {@code rows}.
+     */
+    void replace(Collection<Long> interviewerIds, List<WaitlistWindowView> rows) {
+        Map<Long, ConcurrentSkipListMap<Long, Window>> fresh = group(rows);
+        for (Long interviewerId : interviewerIds) {
+            ConcurrentSkipListMap<Long, Window> entries = fresh.get(interviewerId);
+            if (entries == null) {
+                byInterviewer.remove(interviewerId);
+            } else {
+                byInterviewer.put(interviewerId, entries);
+            }
+        }
+    }
+
+    void replaceAll(List<WaitlistWindowView> rows) {
+        Map<Long, ConcurrentSkipListMap<Long, Window>> fresh = group(rows);
+        byInterviewer.keySet().retainAll(fresh.keySet());
+        byInterviewer.putAll(fresh);
+        loaded = true;
+    }
+
+    int size() {
+        return byInterviewer.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static Map<Long, ConcurrentSkipListMap<Long, Window>> group(List<WaitlistWindowView> rows) {
+        Map<Long, ConcurrentSkipListMap<Long, Window>> grouped = new ConcurrentHashMap<>();
+        for (WaitlistWindowView row : rows) {
+            grouped.computeIfAbsent(row.getInterviewerId(), key -> new ConcurrentSkipListMap<>())
+                    .put(row.getId(), new Window(row.getSlotId(), row.getWindowStart(), row.getWindowEnd()));
+        }
+        return grouped;
+    }
+}
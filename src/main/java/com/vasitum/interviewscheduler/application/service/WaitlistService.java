@@ -0,0 +1,231 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.AlreadyBookedException;
+import com.vasitum.interviewscheduler.application.exception.AlreadyWaitlistedException;
+import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.exception.SlotAvailableException;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.model.WaitlistEntry;
+import com.vasitum.interviewscheduler.domain.model.WaitlistStatus;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.WaitlistEntryRepository;
+import com.vasitum.interviewscheduler.domain.repository.WaitlistWindowView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Waitlists for a full slot or for any slot of an interviewer within a time window.
+ * <p>
+ * Entries are persisted and served oldest first by {@link BookingService} when a cancellation or
+ * reschedule frees a seat, in the same transaction; the waitlist sweep catches whatever that
+ * misses (slots generated later inside a window, promotions that lost a race). Waiting entries
+ * are mirrored in memory so the common cancellation with nobody waiting costs no extra query.
+ */
+@Service
+public class WaitlistService {
+
+    static final Duration MAX_WINDOW = Duration.ofDays(14);
+
+    private final WaitlistEntryRepository waitlistRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final InterviewerRepository interviewerRepository;
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CandidateBookingIndex candidateIndex;
+    private final Shards shards;
+    private final TransactionTemplate reloadTransaction;
+    private final WaitlistIndex index = new WaitlistIndex();
+
+    public record Placement(WaitlistEntry entry, long position) {
+    }
+
+    public WaitlistService(WaitlistEntryRepository waitlistRepository,
+                           InterviewSlotRepository slotRepository,
+                           InterviewerRepository interviewerRepository,
+                           BookingRepository bookingRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           CandidateBookingIndex candidateIndex,
+                           Shards shards,
+                           PlatformTransactionManager transactionManager) {
+        this.waitlistRepository = waitlistRepository;
+        this.slotRepository = slotRepository;
+        this.interviewerRepository = interviewerRepository;
+        this.bookingRepository = bookingRepository;
+        this.eventPublisher = eventPublisher;
+        this.candidateIndex = candidateIndex;
+        this.shards = shards;
+        // reloads run after another transaction committed, or on a transport thread
+        this.reloadTransaction = new TransactionTemplate(transactionManager);
+        this.reloadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Waits for one slot; only allowed while the slot cannot be booked.
+     */
+    @Transactional
+    public Placement join(@ShardKey Long slotId, String candidateName, String candidateEmail) {
+        InterviewSlot slot = slotRepository.findById(slotId)
+                .orElseThrow(() -> new NotFoundException("Slot " + slotId + " not found"));
+        if (!slot.getStartTime().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Slot " + slotId + " has already started");
+        }
+        validateNotAlreadyBooked(candidateEmail);
+        Interviewer interviewer = slot.getInterviewer();
+        if (slot.getBookedCount() < slot.getCapacity() && !weeklyLimitReached(interviewer, slot)) {
+            throw new SlotAvailableException(slotId);
+        }
+        return add(interviewer, slotId, slot.getStartTime(), slot.getEndTime(), candidateName, candidateEmail);
+    }
+
+    /**
+     * Waits for any slot of the interviewer that lies within {@code from}..{@code to}, at most
+     * {@link #MAX_WINDOW} long. Open slots already in the window are handed out by the next sweep.
+     */
+    @Transactional
+    public Placement joinWindow(@ShardKey Long interviewerId, LocalDateTime from, LocalDateTime to,
+                                String candidateName, String candidateEmail) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(from, to).compareTo(MAX_WINDOW) > 0) {
+            throw new IllegalArgumentException("Waitlist windows are limited to " + MAX_WINDOW.toDays() + " days");
+        }
+        if (!to.isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Window has already ended");
+        }
+        Interviewer interviewer = interviewerRepository.findById(interviewerId)
+                .orElseThrow(() -> new NotFoundException("Interviewer " + interviewerId + " not found"));
+        validateNotAlreadyBooked(candidateEmail);
+        return add(interviewer, null, from, to, candidateName, candidateEmail);
+    }
+
+    @Transactional(readOnly = true)
+    public Placement get(@ShardKey Long entryId) {
+        WaitlistEntry entry = waitlistRepository.findById(entryId)
+                .orElseThrow(() -> new NotFoundException("Waitlist entry " + entryId + " not found"));
+        return new Placement(entry, position(entry));
+    }
+
+    /**
+     * Leaves the waitlist; entries that were already promoted or expired are left as they are.
+     */
+    @Transactional
+    public void cancel(@ShardKey Long entryId) {
+        WaitlistEntry entry = waitlistRepository.findById(entryId)
+                .orElseThrow(() -> new NotFoundException("Waitlist entry " + entryId + " not found"));
+        if (entry.getStatus() == WaitlistStatus.WAITING) {
+            resolve(entry, WaitlistStatus.CANCELLED);
+        }
+    }
+
+    /**
+     * Locks the entries waiting for {@code slot}, oldest first, skipping rows another
+     * transaction is promoting. Must run inside the transaction that frees the seat.
+     */
+    List<WaitlistEntry> lockWaitingFor(InterviewSlot slot) {
+        if (!index.mayHaveWaiters(slot)) {
+            return List.of();
+        }
+        return waitlistRepository.lockWaitingFor(slot.getInterviewer().getId(), slot.getId(),
+                slot.getStartTime(), slot.getEndTime());
+    }
+
+    void promoted(WaitlistEntry entry, Booking booking) {
+        entry.setPromotedBookingId(booking.getId());
+        resolve(entry, WaitlistStatus.PROMOTED);
+    }
+
+    void expire(WaitlistEntry entry) {
+        resolve(entry, WaitlistStatus.EXPIRED);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        index.replaceAll(onEachShard(() -> waitlistRepository.findWaitingWindows(LocalDateTime.now())));
+    }
+
+    @EventListener
+    public void onChange(ClusterChangeEvent event) {
+        DomainChangeEvent change = event.change();
+        if (change.kind() == DomainChangeEvent.Kind.ALL
+                || (change.kind() == DomainChangeEvent.Kind.WAITLIST && !change.complete())) {
+            loadIndex();
+        } else if (change.kind() == DomainChangeEvent.Kind.WAITLIST) {
+            index.replace(change.interviewerIds(), onEachShard(() ->
+                    waitlistRepository.findWaitingWindows(change.interviewerIds(), LocalDateTime.now())));
+        }
+    }
+
+    // the windows of every shard, each read in its own transaction
+    private List<WaitlistWindowView> onEachShard(Supplier<List<WaitlistWindowView>> query) {
+        return shards.onEach(() -> reloadTransaction.execute(status -> query.get())).stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    int indexedEntries() {
+        return index.size();
+    }
+
+    private Placement add(Interviewer interviewer, Long slotId, LocalDateTime start, LocalDateTime end,
+                          String candidateName, String candidateEmail) {
+        if (waitlistRepository.existsWaiting(candidateEmail, interviewer.getId(), start, end)) {
+            throw new AlreadyWaitlistedException(candidateEmail);
+        }
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setInterviewer(interviewer);
+        entry.setSlotId(slotId);
+        entry.setWindowStart(start);
+        entry.setWindowEnd(end);
+        entry.setCandidateName(candidateName);
+        entry.setCandidateEmail(candidateEmail);
+        entry.setCreatedAt(LocalDateTime.now());
+        WaitlistEntry saved = waitlistRepository.save(entry);
+        // indexed before commit: a promotion racing with this commit must not skip the query
+        index.add(saved.getId(), interviewer.getId(), new WaitlistIndex.Window(slotId, start, end));
+        eventPublisher.publishEvent(DomainChangeEvent.waitlist(interviewer.getId()));
+        return new Placement(saved, position(saved));
+    }
+
+    private void resolve(WaitlistEntry entry, WaitlistStatus status) {
+        entry.setStatus(status);
+        entry.setResolvedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(DomainChangeEvent.waitlist(entry.getInterviewer().getId()));
+    }
+
+    private long position(WaitlistEntry entry) {
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            return 0;
+        }
+        return waitlistRepository.countAhead(entry.getInterviewer().getId(), entry.getId(),
+                entry.getWindowStart(), entry.getWindowEnd()) + 1;
+    }
+
+    private boolean weeklyLimitReached(Interviewer interviewer, InterviewSlot slot) {
+        WeekWindow week = WeekWindow.containing(slot.getStartTime());
+        return bookingRepository.countBookedSlotsBetween(interviewer.getId(), week.start(), week.end(), slot.getId())
+                >= interviewer.getMaxWeeklyInterviews();
+    }
+
+    private void validateNotAlreadyBooked(String candidateEmail) {
+        if (candidateIndex.hasActiveBooking(candidateEmail)) {
+            throw new AlreadyBookedException(candidateEmail);
+        }
+    }
+}
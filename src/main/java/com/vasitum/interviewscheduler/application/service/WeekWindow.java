@@ -0,0 +1,21 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Calendar week (Monday 00:00 to Sunday 23:59:59) used for the weekly interview limit.
+ */
+public record WeekWindow(LocalDateTime start, LocalDateTime end) {
+
+    public static WeekWindow containing(LocalDateTime dateTime) {
+        return containing(dateTime.toLocalDate());
+    }
+
+    public static WeekWindow containing(LocalDate date) {
+        LocalDate startOfWeek = date.with(DayOfWeek.MONDAY);
+        LocalDate endOfWeek = startOfWeek.plusDays(6);
+        return new WeekWindow(startOfWeek.atStartOfDay(), endOfWeek.atTime(23, 59, 59));
+    }
+}
@@ -0,0 +1,69 @@
+package com.vasitum.interviewscheduler.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Days on which no slots are generated: an interviewer's absence, or a company holiday when
+ * {@code interviewer} is null. Both dates are inclusive.
+ */
+@Entity
+@Table(name = "blackouts",
+        indexes = {
+                @Index(name = "idx_blackouts_interviewer_start", columnList = "interviewer_id,startDate")
+        })
+public class Blackout {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "interviewer_id")
+    private Interviewer interviewer;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    private String reason;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Interviewer getInterviewer() {
+        return interviewer;
+    }
+
+    public void setInterviewer(Interviewer interviewer) {
+        this.interviewer = interviewer;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
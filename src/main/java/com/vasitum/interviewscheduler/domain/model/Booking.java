@@ -2,10 +2,16 @@ package com.vasitum.interviewscheduler.domain.model;
 
 import jakarta.persistence.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "bookings",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_candidate_slot", columnNames = {"candidateEmail", "slot_id"})
+                @UniqueConstraint(name = "uk_candidate_slot", columnNames = {"candidateEmail", "slot_id", "slotStartTime"})
+        },
+        indexes = {
+                @Index(name = "idx_bookings_slot_id", columnList = "slot_id,slotStartTime"),
+                @Index(name = "idx_bookings_panel_booking_id", columnList = "panel_booking_id")
         })
 public class Booking {
 
@@ -17,6 +23,19 @@ public class Booking {
     @JoinColumn(name = "slot_id")
     private InterviewSlot slot;
 
+    /**
+     * Copy of the slot's start time; bookings are partitioned by it (see V3 migration).
+     */
+    @Column(nullable = false)
+    private LocalDateTime slotStartTime;
+
+    /**
+     * Set when this booking is one member's seat of a panel; null for regular bookings.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "panel_booking_id")
+    private PanelBooking panelBooking;
+
     @Column(nullable = false)
     private String candidateName;
 
@@ -44,6 +63,19 @@ public class Booking {
 
     public void setSlot(InterviewSlot slot) {
         this.slot = slot;
+        this.slotStartTime = slot.getStartTime();
+    }
+
+    public LocalDateTime getSlotStartTime() {
+        return slotStartTime;
+    }
+
+    public PanelBooking getPanelBooking() {
+        return panelBooking;
+    }
+
+    public void setPanelBooking(PanelBooking panelBooking) {
+        this.panelBooking = panelBooking;
     }
 
     public String getCandidateName() {
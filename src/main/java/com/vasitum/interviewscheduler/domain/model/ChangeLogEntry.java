@@ -0,0 +1,44 @@
+package com.vasitum.interviewscheduler.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A broadcast change event, kept briefly for nodes that poll instead of listening for
+ * notifications. Written and read with plain JDBC by the change table transport; mapped here so
+ * the schema is validated and H2 test runs create the table.
+ */
+@Entity
+@Table(name = "change_log", indexes = @Index(name = "idx_change_log_created_at", columnList = "createdAt"))
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String originNode;
+
+    @Column(nullable = false, length = 8000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,14 +1,15 @@
 package com.vasitum.interviewscheduler.domain.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "interview_slots",
         indexes = {
-                @Index(columnList = "interviewer_id,startTime,endTime"),
-                @Index(columnList = "startTime,endTime")
+                @Index(name = "idx_slots_interviewer_start_end", columnList = "interviewer_id,startTime,endTime"),
+                @Index(name = "idx_slots_start_end", columnList = "startTime,endTime")
         })
 public class InterviewSlot {
 
@@ -27,11 +28,29 @@ public class InterviewSlot {
     private LocalDateTime endTime;
 
     /**
-     * Number of bookings already done for this slot.
+     * Number of bookings already done for this slot. For slots with counter shards the exact
+     * count lives in {@link SlotSeatCounter} rows; this column is refreshed whenever a shard
+     * becomes empty or full, so {@code bookedCount > 0} and {@code bookedCount < capacity}
+     * still hold exactly.
      */
     @Column(nullable = false)
     private Integer bookedCount = 0;
 
+    /**
+     * Seats in this slot; copied from the availability window it was generated from.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private Integer capacity = 1;
+
+    /**
+     * Number of {@link SlotSeatCounter} rows the seats are spread over; 0 when the count is kept
+     * in {@code bookedCount} alone.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Integer counterShards = 0;
+
     /**
      * Optimistic locking for race-condition safe updates.
      */
@@ -79,6 +98,26 @@ public class InterviewSlot {
         this.bookedCount = bookedCount;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getCounterShards() {
+        return counterShards;
+    }
+
+    public void setCounterShards(Integer counterShards) {
+        this.counterShards = counterShards;
+    }
+
+    public boolean isSharded() {
+        return counterShards > 0;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -0,0 +1,5 @@
+package com.vasitum.interviewscheduler.domain.model;
+
+public enum OutboxStatus {
+    PENDING, SENT, FAILED
+}
@@ -0,0 +1,82 @@
+package com.vasitum.interviewscheduler.domain.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One shard of a large slot's seat count. Each shard owns a fixed share of the seats, so a
+ * booking only has to lock one shard row instead of the slot row; the slot's count is the sum.
+ */
+@Entity
+@Table(name = "slot_seat_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_slot_seat_counters_shard", columnNames = {"slotId", "shard"}))
+public class SlotSeatCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // no foreign key: slots are partitioned on (id, start_time) and may be archived
+    @Column(nullable = false)
+    private Long slotId;
+
+    /**
+     * Copy of the slot's start time; counters of past slots are purged by it.
+     */
+    @Column(nullable = false)
+    private LocalDateTime slotStartTime;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(nullable = false)
+    private Integer seats;
+
+    @Column(nullable = false)
+    private Integer booked = 0;
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSlotId() {
+        return slotId;
+    }
+
+    public void setSlotId(Long slotId) {
+        this.slotId = slotId;
+    }
+
+    public LocalDateTime getSlotStartTime() {
+        return slotStartTime;
+    }
+
+    public void setSlotStartTime(LocalDateTime slotStartTime) {
+        this.slotStartTime = slotStartTime;
+    }
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
+    public Integer getSeats() {
+        return seats;
+    }
+
+    public void setSeats(Integer seats) {
+        this.seats = seats;
+    }
+
+    public Integer getBooked() {
+        return booked;
+    }
+
+    public void setBooked(Integer booked) {
+        this.booked = booked;
+    }
+}
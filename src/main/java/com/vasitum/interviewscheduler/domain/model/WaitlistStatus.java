@@ -0,0 +1,5 @@
+package com.vasitum.interviewscheduler.domain.model;
+
+public enum WaitlistStatus {
+    WAITING, PROMOTED, CANCELLED, EXPIRED
+}
@@ -2,12 +2,16 @@ package com.vasitum.interviewscheduler.domain.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "weekly_availabilities")
+@Table(name = "weekly_availabilities",
+        indexes = {
+                @Index(name = "idx_weekly_availabilities_interviewer", columnList = "interviewer_id")
+        })
 public class WeeklyAvailability {
 
     @Id
@@ -35,6 +39,13 @@ public class WeeklyAvailability {
     @Column(nullable = false)
     private Integer slotDurationMinutes;
 
+    /**
+     * Seats in each generated slot; 1 for one-to-one interviews.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private Integer capacity = 1;
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -83,6 +94,12 @@ public class WeeklyAvailability {
     public void setSlotDurationMinutes(Integer slotDurationMinutes) {
         this.slotDurationMinutes = slotDurationMinutes;
     }
-}
 
+    public Integer getCapacity() {
+        return capacity;
+    }
 
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -0,0 +1,27 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.domain.model.Blackout;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface BlackoutRepository extends JpaRepository<Blackout, Long> {
+
+    List<Blackout> findByInterviewerIdOrderByStartDateAsc(Long interviewerId);
+
+    List<Blackout> findByInterviewerIsNullOrderByStartDateAsc();
+
+    Optional<Blackout> findByIdAndInterviewerId(Long id, Long interviewerId);
+
+    Optional<Blackout> findByIdAndInterviewerIsNull(Long id);
+
+    @Query("select b from Blackout b where b.interviewer.id = :interviewerId " +
+            "and b.startDate <= :to and b.endDate >= :from")
+    List<Blackout> findOverlapping(Long interviewerId, LocalDate from, LocalDate to);
+
+    @Query("select b from Blackout b where b.interviewer is null and b.startDate <= :to and b.endDate >= :from")
+    List<Blackout> findHolidaysOverlapping(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,25 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row of the booking history views; column aliases map onto the getters.
+ */
+public interface BookingHistoryView {
+
+    Long getBookingId();
+
+    Long getSlotId();
+
+    Long getInterviewerId();
+
+    String getCandidateName();
+
+    String getCandidateEmail();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+
+    boolean isConfirmed();
+}
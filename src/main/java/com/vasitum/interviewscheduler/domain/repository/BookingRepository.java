@@ -2,28 +2,90 @@ package com.vasitum.interviewscheduler.domain.repository;
 
 import com.vasitum.interviewscheduler.domain.model.Booking;
 import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    long countBySlot_Interviewer_IdAndSlot_StartTimeBetween(Long interviewerId,
-                                                            LocalDateTime startOfWeek,
-                                                            LocalDateTime endOfWeek);
+    // weekly limits count interviews, so a group session is one however many seats are taken;
+    // excludedSlotId is the slot being booked, which does not add an interview if already booked.
+    // slotStartTime is the bookings partition key; joining on it lets PostgreSQL prune per slot
+    @Query("select count(distinct s.id) from Booking b join b.slot s where s.interviewer.id = :interviewerId " +
+            "and s.startTime between :startOfWeek and :endOfWeek " +
+            "and b.slotStartTime = s.startTime and s.id <> :excludedSlotId")
+    long countBookedSlotsBetween(Long interviewerId,
+                                 LocalDateTime startOfWeek,
+                                 LocalDateTime endOfWeek,
+                                 Long excludedSlotId);
+
+    @Query("select s.interviewer.id as interviewerId, count(distinct s.id) as bookings from Booking b join b.slot s " +
+            "where s.interviewer.id in :interviewerIds and s.startTime between :startOfWeek and :endOfWeek " +
+            "and b.slotStartTime = s.startTime group by s.interviewer.id")
+    List<InterviewerBookingCount> countPerInterviewerBetween(Collection<Long> interviewerIds,
+                                                             LocalDateTime startOfWeek,
+                                                             LocalDateTime endOfWeek);
 
     long countBySlot(InterviewSlot slot);
 
+    @Query("select b.slot.id as slotId, count(b) as booked from Booking b where b.slot.id in :slotIds group by b.slot.id")
+    List<SlotSeatCount> countBySlotIds(Collection<Long> slotIds);
+
+    // the slot the booking is on now, whatever the persistence context loaded earlier
+    @Query("select b.slot.id from Booking b where b.id = :bookingId")
+    Optional<Long> findSlotIdById(Long bookingId);
+
+    @EntityGraph(attributePaths = "slot")
+    List<Booking> findByPanelBookingIdOrderBySlot_IdAsc(Long panelBookingId);
+
+    List<Booking> findBySlot_IdInOrderByIdAsc(Collection<Long> slotIds);
+
+    @Query("select count(b) from Booking b where lower(b.candidateEmail) = lower(:candidateEmail) " +
+            "and b.slot.startTime between :startDateTime and :endDateTime " +
+            "and b.slotStartTime between :startDateTime and :endDateTime")
     long countByCandidateEmailAndSlot_StartTimeBetween(String candidateEmail,
                                                        LocalDateTime startDateTime,
                                                        LocalDateTime endDateTime);
 
+    // slot is fetched in the same query; callers map slot fields for every booking
+    @Query("select b from Booking b join fetch b.slot s where lower(b.candidateEmail) = lower(:candidateEmail) " +
+            "order by s.startTime asc")
     List<Booking> findByCandidateEmailOrderBySlot_StartTimeAsc(String candidateEmail);
 
+    @EntityGraph(attributePaths = "slot")
     List<Booking> findBySlot_Interviewer_IdOrderBySlot_StartTimeAsc(Long interviewerId);
 
+    // calendar feeds name the interviewer on every event
+    @Query("select b from Booking b join fetch b.slot s join fetch s.interviewer " +
+            "where lower(b.candidateEmail) = lower(:candidateEmail) order by s.startTime asc, b.id asc")
+    List<Booking> findWithInterviewerByCandidateEmail(String candidateEmail);
+
+    // emails are matched case-insensitively, backed by idx_bookings_candidate_email_lower
+    @Query("select count(b) from Booking b where lower(b.candidateEmail) = lower(:candidateEmail) " +
+            "and b.slot.startTime > :dateTime and b.slotStartTime > :dateTime")
     long countByCandidateEmailAndSlot_StartTimeAfter(String candidateEmail, LocalDateTime dateTime);
+
+    // history mode: hot and archived partitions (PostgreSQL views from V3), for reporting only
+    @Query(value = HISTORY_SELECT + "where lower(b.candidate_email) = lower(:candidateEmail) order by s.start_time",
+            nativeQuery = true)
+    List<BookingHistoryView> findHistoryByCandidateEmail(String candidateEmail);
+
+    @Query(value = HISTORY_SELECT + "where s.interviewer_id = :interviewerId order by s.start_time",
+            nativeQuery = true)
+    List<BookingHistoryView> findHistoryByInterviewerId(Long interviewerId);
+
+    String HISTORY_SELECT = """
+            select b.id as "bookingId", b.slot_id as "slotId", s.interviewer_id as "interviewerId",
+                   b.candidate_name as "candidateName", b.candidate_email as "candidateEmail",
+                   s.start_time as "startTime", s.end_time as "endTime", b.confirmed as "confirmed"
+            from bookings_history b
+            join interview_slots_history s on s.id = b.slot_id and s.start_time = b.slot_start_time
+            """;
 }
 
 
@@ -4,10 +4,12 @@ import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,11 +21,79 @@ public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Lo
             LocalDateTime to
     );
 
+    List<InterviewSlot> findByInterviewerIdAndStartTimeAfterOrderByStartTimeAsc(Long interviewerId, LocalDateTime after);
+
     @Query("select s from InterviewSlot s where s.startTime >= :from and s.startTime <= :to and s.id > :cursorId order by s.id asc")
     List<InterviewSlot> findUpcomingSlotsAfterCursor(LocalDateTime from, LocalDateTime to, Long cursorId, Pageable pageable);
 
+    @Query("select s from InterviewSlot s where s.interviewer.id = :interviewerId and s.startTime >= :from and s.startTime <= :to and s.id > :cursorId order by s.id asc")
+    List<InterviewSlot> findUpcomingSlotsForInterviewerAfterCursor(Long interviewerId, LocalDateTime from, LocalDateTime to, Long cursorId, Pageable pageable);
+
+    // comparing with the row's own capacity matches the predicate of the partial index idx_slots_open_cursor
+    @Query("select s from InterviewSlot s where s.bookedCount < s.capacity and s.startTime >= :from and s.startTime <= :to and s.id > :cursorId order by s.id asc")
+    List<InterviewSlot> findOpenSlotsAfterCursor(LocalDateTime from, LocalDateTime to, Long cursorId, Pageable pageable);
+
+    @Query("select s from InterviewSlot s where s.bookedCount < s.capacity and s.interviewer.id = :interviewerId and s.startTime >= :from and s.startTime <= :to and s.id > :cursorId order by s.id asc")
+    List<InterviewSlot> findOpenSlotsForInterviewerAfterCursor(Long interviewerId, LocalDateTime from, LocalDateTime to, Long cursorId, Pageable pageable);
+
+    // purge batches walk idx_slots_open_cursor by id; the delete re-checks every condition.
+    // bookedCount < capacity is implied by bookedCount < 1 but lets the partial index match
+    @Query("select s.id from InterviewSlot s where s.bookedCount < 1 and s.bookedCount < s.capacity and s.startTime < :cutoff and s.id > :afterId order by s.id asc")
+    List<Long> findExpiredOpenSlotIds(LocalDateTime cutoff, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from InterviewSlot s where s.id in :ids and s.bookedCount < 1 and s.startTime < :cutoff " +
+            "and not exists (select b.id from Booking b where b.slot = s)")
+    int deleteExpiredOpenSlots(List<Long> ids, LocalDateTime cutoff);
+
+    // only removes slots that are still unbooked when the delete runs
+    @Modifying
+    @Query("delete from InterviewSlot s where s.id in :ids and s.bookedCount < 1 " +
+            "and not exists (select b.id from Booking b where b.slot = s)")
+    int deleteOpenSlotsById(List<Long> ids);
+
     @Lock(LockModeType.OPTIMISTIC)
     Optional<InterviewSlot> findWithLockingById(Long id);
+
+    // panel search: one index scan over idx_slots_interviewer_start_covering for the whole pool;
+    // panels seat one candidate, so only single-seat slots qualify
+    @Query("select s.id as slotId, s.interviewer.id as interviewerId, s.startTime as startTime, s.endTime as endTime " +
+            "from InterviewSlot s where s.interviewer.id in :interviewerIds and s.bookedCount < 1 and s.capacity = 1 " +
+            "and s.startTime >= :from and s.startTime <= :to order by s.startTime asc, s.interviewer.id asc")
+    List<OpenSlotView> findOpenSlotsForInterviewers(Collection<Long> interviewerIds, LocalDateTime from, LocalDateTime to);
+
+    @Query("select distinct s.interviewer.id from InterviewSlot s where s.id in :ids")
+    List<Long> findInterviewerIdsBySlotIds(Collection<Long> ids);
+
+    // counter shards write the exact sum back without touching the version, so bookings
+    // holding the slot under an optimistic lock are not failed by it
+    @Modifying
+    @Query("update InterviewSlot s set s.bookedCount = :bookedCount where s.id = :id and s.startTime = :startTime")
+    int updateBookedCount(Long id, LocalDateTime startTime, int bookedCount);
+
+    // bookedCount of a sharded slot is only exact when a shard turns empty or full; before its
+    // counters are purged, the slot row takes their final sum
+    @Modifying
+    @Query("update InterviewSlot s set s.bookedCount = " +
+            "(select coalesce(sum(c.booked), 0) from SlotSeatCounter c where c.slotId = s.id) " +
+            "where s.startTime < :cutoff and s.counterShards > 0 " +
+            "and exists (select c.id from SlotSeatCounter c where c.slotId = s.id)")
+    int syncShardedBookedCountsBefore(LocalDateTime cutoff);
+
+    // bookedCount audit: one grouped scan per keyset chunk; slotStartTime lets PostgreSQL prune
+    // the bookings partitions
+    @Query("select s.id as slotId, s.bookedCount as bookedCount, s.capacity as capacity, " +
+            "(select sum(c.booked) from SlotSeatCounter c where c.slotId = s.id) as counterSum, count(b.id) as bookings " +
+            "from InterviewSlot s left join Booking b on b.slot = s and b.slotStartTime = s.startTime " +
+            "where s.startTime >= :from and s.startTime < :to and s.id > :afterId " +
+            "group by s.id, s.bookedCount, s.capacity order by s.id asc")
+    List<SlotBookedCountCheck> checkBookedCountsAfterCursor(LocalDateTime from, LocalDateTime to, Long afterId,
+                                                            Pageable pageable);
+
+    // rows are locked in id order so concurrent panel bookings cannot deadlock on each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from InterviewSlot s where s.id in :ids order by s.id asc")
+    List<InterviewSlot> lockAllByIdOrderById(Collection<Long> ids);
 }
 
 
@@ -0,0 +1,8 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+public interface InterviewerBookingCount {
+
+    Long getInterviewerId();
+
+    long getBookings();
+}
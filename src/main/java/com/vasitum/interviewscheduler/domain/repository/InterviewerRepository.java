@@ -2,8 +2,17 @@ package com.vasitum.interviewscheduler.domain.repository;
 
 import com.vasitum.interviewscheduler.domain.model.Interviewer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
-public interface InterviewerRepository extends JpaRepository<Interviewer, Long> {
-}
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 
+public interface InterviewerRepository extends JpaRepository<Interviewer, Long> {
 
+    // serializes weekly-limit checks per interviewer; always taken in id order, before any slot lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Interviewer i where i.id in :ids order by i.id asc")
+    List<Interviewer> lockAllByIdOrderById(Collection<Long> ids);
+}
@@ -0,0 +1,17 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slot columns needed by the panel search, read from the covering index without loading entities.
+ */
+public interface OpenSlotView {
+
+    Long getSlotId();
+
+    Long getInterviewerId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
@@ -0,0 +1,30 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.domain.model.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    // lock timeout -2 renders FOR UPDATE SKIP LOCKED: concurrent dispatchers take disjoint batches
+    // instead of queueing; the status literal matches the partial index idx_outbox_pending
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboxMessage m " +
+            "where m.status = com.vasitum.interviewscheduler.domain.model.OutboxStatus.PENDING " +
+            "and m.availableAt <= :now order by m.availableAt asc, m.id asc")
+    List<OutboxMessage> claimDue(LocalDateTime now, Pageable batch);
+
+    @Query("select min(m.createdAt) from OutboxMessage m " +
+            "where m.status = com.vasitum.interviewscheduler.domain.model.OutboxStatus.PENDING")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+}
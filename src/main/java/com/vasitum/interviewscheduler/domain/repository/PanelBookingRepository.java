@@ -0,0 +1,7 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.domain.model.PanelBooking;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PanelBookingRepository extends JpaRepository<PanelBooking, Long> {
+}
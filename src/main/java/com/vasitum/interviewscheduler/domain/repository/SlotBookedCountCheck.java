@@ -0,0 +1,20 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+/**
+ * A slot's denormalized seat count next to the booking rows it stands for.
+ */
+public interface SlotBookedCountCheck {
+
+    Long getSlotId();
+
+    int getBookedCount();
+
+    int getCapacity();
+
+    /**
+     * Sum of the slot's seat counter shards; null when it has none (unsharded, or purged after start).
+     */
+    Long getCounterSum();
+
+    long getBookings();
+}
@@ -0,0 +1,8 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+public interface SlotSeatCount {
+
+    Long getSlotId();
+
+    long getBooked();
+}
@@ -0,0 +1,68 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.domain.model.SlotSeatCounter;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SlotSeatCounterRepository extends JpaRepository<SlotSeatCounter, Long> {
+
+    // concurrent bookings skip each other's shards instead of queueing on one row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from SlotSeatCounter c where c.slotId = :slotId and c.booked < c.seats order by c.shard asc")
+    List<SlotSeatCounter> lockFreeShard(Long slotId, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select c from SlotSeatCounter c where c.slotId = :slotId and c.booked > 0 order by c.shard asc")
+    List<SlotSeatCounter> lockBookedShard(Long slotId, Pageable pageable);
+
+    // fallbacks when every candidate shard is locked: wait for all of them, in shard order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SlotSeatCounter c where c.slotId = :slotId and c.booked < c.seats order by c.shard asc")
+    List<SlotSeatCounter> lockFreeShards(Long slotId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SlotSeatCounter c where c.slotId = :slotId and c.booked > 0 order by c.shard asc")
+    List<SlotSeatCounter> lockBookedShards(Long slotId);
+
+    // every shard of the slots, in the order bookings lock them
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SlotSeatCounter c where c.slotId in :slotIds order by c.slotId asc, c.shard asc")
+    List<SlotSeatCounter> lockAllBySlotIds(Collection<Long> slotIds);
+
+    // the purge takes the shards of started slots in the same order, before their slot rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from SlotSeatCounter c where c.slotStartTime < :cutoff order by c.slotId asc, c.shard asc")
+    List<SlotSeatCounter> lockStartedBefore(LocalDateTime cutoff);
+
+    @Query("select coalesce(sum(c.booked), 0) from SlotSeatCounter c where c.slotId = :slotId")
+    long sumBooked(Long slotId);
+
+    @Query("select c.slotId as slotId, sum(c.booked) as booked from SlotSeatCounter c " +
+            "where c.slotId in :slotIds group by c.slotId")
+    List<SlotSeatCount> sumBookedBySlot(Collection<Long> slotIds);
+
+    boolean existsBySlotId(Long slotId);
+
+    // counters of slots deleted meanwhile (only open slots are ever deleted)
+    @Modifying
+    @Query("delete from SlotSeatCounter c where c.slotId in :slotIds " +
+            "and not exists (select s.id from InterviewSlot s where s.id = c.slotId)")
+    int deleteOrphaned(Collection<Long> slotIds);
+
+    // past slots take no more bookings; their count stays on the slot row
+    @Modifying
+    @Query("delete from SlotSeatCounter c where c.slotStartTime < :cutoff")
+    int deleteStartedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,78 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.domain.model.WaitlistEntry;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// status literals match the partial index idx_waitlist_waiting
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // entries for the slot itself or for a window containing it, oldest first; window entries can
+    // match several freed slots at once, so rows another promotion holds are skipped
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select w from WaitlistEntry w " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.interviewer.id = :interviewerId " +
+            "and (w.slotId = :slotId or (w.slotId is null and w.windowStart <= :start and w.windowEnd >= :end)) " +
+            "order by w.id asc")
+    List<WaitlistEntry> lockWaitingFor(Long interviewerId, Long slotId, LocalDateTime start, LocalDateTime end);
+
+    @Query("select w.id as id, w.interviewer.id as interviewerId, w.slotId as slotId, " +
+            "w.windowStart as windowStart, w.windowEnd as windowEnd from WaitlistEntry w " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.windowEnd > :now order by w.id asc")
+    List<WaitlistWindowView> findWaitingWindows(LocalDateTime now);
+
+    @Query("select w.id as id, w.interviewer.id as interviewerId, w.slotId as slotId, " +
+            "w.windowStart as windowStart, w.windowEnd as windowEnd from WaitlistEntry w " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.interviewer.id in :interviewerIds and w.windowEnd > :now order by w.id asc")
+    List<WaitlistWindowView> findWaitingWindows(Collection<Long> interviewerIds, LocalDateTime now);
+
+    @Query("select count(w) > 0 from WaitlistEntry w " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.interviewer.id = :interviewerId and w.windowStart = :start and w.windowEnd = :end " +
+            "and lower(w.candidateEmail) = lower(:candidateEmail)")
+    boolean existsWaiting(String candidateEmail, Long interviewerId, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Waiting entries ahead of {@code id} that compete for an overlapping time.
+     */
+    @Query("select count(w) from WaitlistEntry w " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.interviewer.id = :interviewerId and w.id < :id " +
+            "and w.windowStart < :end and w.windowEnd > :start")
+    long countAhead(Long interviewerId, Long id, LocalDateTime start, LocalDateTime end);
+
+    // slot entries store the slot's start as window_start, so each probe prunes to one partition
+    @Query("select distinct s.id from WaitlistEntry w, InterviewSlot s " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and s.id = w.slotId and s.startTime = w.windowStart " +
+            "and s.bookedCount < s.capacity and s.startTime > :now and s.id > :afterId order by s.id asc")
+    List<Long> findOpenWaitedSlotIds(LocalDateTime now, Long afterId, Pageable pageable);
+
+    @Query("select distinct s.id from WaitlistEntry w, InterviewSlot s " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.slotId is null and s.interviewer = w.interviewer " +
+            "and s.startTime >= w.windowStart and s.endTime <= w.windowEnd " +
+            "and s.bookedCount < s.capacity and s.startTime > :now and s.id > :afterId order by s.id asc")
+    List<Long> findOpenSlotIdsInWaitedWindows(LocalDateTime now, Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update WaitlistEntry w " +
+            "set w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.EXPIRED, w.resolvedAt = :now " +
+            "where w.status = com.vasitum.interviewscheduler.domain.model.WaitlistStatus.WAITING " +
+            "and w.windowEnd <= :now")
+    int expireEnded(LocalDateTime now);
+}
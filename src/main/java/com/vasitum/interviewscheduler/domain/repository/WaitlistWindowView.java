@@ -0,0 +1,19 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * A waiting entry's target, as mirrored in memory by the waitlist service.
+ */
+public interface WaitlistWindowView {
+
+    Long getId();
+
+    Long getInterviewerId();
+
+    Long getSlotId();
+
+    LocalDateTime getWindowStart();
+
+    LocalDateTime getWindowEnd();
+}
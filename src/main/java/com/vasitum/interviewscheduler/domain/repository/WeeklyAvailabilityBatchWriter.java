@@ -0,0 +1,68 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Replaces the weekly availability of many interviewers with plain JDBC batches, bypassing the
+ * per-entity inserts of {@link WeeklyAvailabilityRepository}.
+ */
+@Repository
+public class WeeklyAvailabilityBatchWriter {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public WeeklyAvailabilityBatchWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Replaces the windows of every known interviewer in {@code windows} in one transaction.
+     * Only the day, times, duration and capacity of each window are written.
+     *
+     * @return ids in {@code windows} that do not belong to an interviewer; nothing is written for them
+     */
+    @Transactional
+    public Set<Long> replaceAll(Map<Long, List<WeeklyAvailability>> windows) {
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", windows.keySet());
+        Set<Long> known = new HashSet<>(jdbcTemplate.queryForList(
+                "select id from interviewers where id in (:ids)", ids, Long.class));
+        Set<Long> unknown = new HashSet<>(windows.keySet());
+        unknown.removeAll(known);
+        if (known.isEmpty()) {
+            return unknown;
+        }
+
+        jdbcTemplate.update("delete from weekly_availabilities where interviewer_id in (:ids)",
+                new MapSqlParameterSource("ids", known));
+
+        List<MapSqlParameterSource> rows = new ArrayList<>();
+        for (Long interviewerId : known) {
+            for (WeeklyAvailability window : windows.get(interviewerId)) {
+                rows.add(new MapSqlParameterSource()
+                        .addValue("interviewerId", interviewerId)
+                        .addValue("dayOfWeek", window.getDayOfWeek().name())
+                        .addValue("startTime", window.getStartTime())
+                        .addValue("endTime", window.getEndTime())
+                        .addValue("duration", window.getSlotDurationMinutes())
+                        .addValue("capacity", window.getCapacity()));
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                        insert into weekly_availabilities
+                            (interviewer_id, day_of_week, start_time, end_time, slot_duration_minutes, capacity)
+                        values (:interviewerId, :dayOfWeek, :startTime, :endTime, :duration, :capacity)
+                        """,
+                rows.toArray(MapSqlParameterSource[]::new));
+        return unknown;
+    }
+}
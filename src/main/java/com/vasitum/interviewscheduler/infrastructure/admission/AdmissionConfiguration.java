@@ -0,0 +1,38 @@
+package com.vasitum.interviewscheduler.infrastructure.admission;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfiguration {
+
+    // Hikari's default maximumPoolSize
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public BookingAdmission bookingAdmission(AdmissionProperties properties,
+                                             SchedulerMetrics metrics,
+                                             DataSource dataSource) {
+        int maxConcurrentWrites = properties.maxConcurrentWrites() != null
+                ? properties.maxConcurrentWrites()
+                : Math.max(1, poolSize(dataSource) - properties.reservedConnections());
+        return new BookingAdmission(properties, metrics, maxConcurrentWrites);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : DEFAULT_POOL_SIZE;
+        } catch (SQLException ex) {
+            return DEFAULT_POOL_SIZE;
+        }
+    }
+}
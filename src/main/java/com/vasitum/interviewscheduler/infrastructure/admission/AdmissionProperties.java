@@ -0,0 +1,50 @@
+package com.vasitum.interviewscheduler.infrastructure.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Admission control for booking writes.
+ *
+ * @param enabled             when false every write is admitted
+ * @param perIp               token bucket per client address
+ * @param perEmail            token bucket per candidate email (new bookings only)
+ * @param maxConcurrentWrites writes running at once; defaults to the Hikari pool size minus
+ *                            {@code reservedConnections}, so reads always find a connection
+ * @param reservedConnections connections left to reads when {@code maxConcurrentWrites} is derived
+ * @param acquireTimeout      how long a write may wait for a free slot before it is rejected
+ * @param maxBuckets          buckets kept in memory; the least recently used are dropped beyond this
+ */
+@ConfigurationProperties(prefix = "scheduler.admission")
+public record AdmissionProperties(
+        Boolean enabled,
+        Bucket perIp,
+        Bucket perEmail,
+        Integer maxConcurrentWrites,
+        Integer reservedConnections,
+        Duration acquireTimeout,
+        Integer maxBuckets
+) {
+
+    public AdmissionProperties {
+        enabled = enabled != null ? enabled : true;
+        perIp = perIp != null ? perIp : new Bucket(30, Duration.ofMillis(200));
+        perEmail = perEmail != null ? perEmail : new Bucket(3, Duration.ofSeconds(10));
+        reservedConnections = reservedConnections != null ? reservedConnections : 2;
+        acquireTimeout = acquireTimeout != null ? acquireTimeout : Duration.ofMillis(50);
+        maxBuckets = maxBuckets != null ? maxBuckets : 100_000;
+    }
+
+    /**
+     * @param capacity     requests allowed in a burst
+     * @param refillPeriod time to earn back one request
+     */
+    public record Bucket(Integer capacity, Duration refillPeriod) {
+
+        public Bucket {
+            capacity = capacity != null ? capacity : 10;
+            refillPeriod = refillPeriod != null ? refillPeriod : Duration.ofSeconds(1);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.vasitum.interviewscheduler.infrastructure.admission;
+
+import java.time.Duration;
+
+/**
+ * A write rejected before it touched the database; answered with 429 and {@code Retry-After}.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final String code;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String code, String message, Duration retryAfter) {
+        super(message);
+        this.code = code;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
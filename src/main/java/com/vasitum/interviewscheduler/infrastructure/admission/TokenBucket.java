@@ -0,0 +1,38 @@
+package com.vasitum.interviewscheduler.infrastructure.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single "theoretical arrival time" (GCRA): the bucket is full when that
+ * time is in the past, and each request pushes it one refill period further. Lock-free, one long
+ * per key.
+ */
+final class TokenBucket {
+
+    private final long refillNanos;
+    private final long burstNanos;
+    private final AtomicLong arrival;
+
+    TokenBucket(int capacity, long refillNanos, long now) {
+        this.refillNanos = refillNanos;
+        this.burstNanos = capacity * refillNanos;
+        this.arrival = new AtomicLong(now);
+    }
+
+    /**
+     * @return 0 if a token was taken, otherwise nanoseconds until the next one is available
+     */
+    long tryTake(long now) {
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + refillNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
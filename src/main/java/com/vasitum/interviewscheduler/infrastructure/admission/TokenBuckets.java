@@ -0,0 +1,57 @@
+package com.vasitum.interviewscheduler.infrastructure.admission;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Token buckets by key, at most {@code maxBuckets} of them. Keys are spread over a fixed number
+ * of segments, each a small access-ordered map that drops its least recently used bucket once
+ * full, so the cap holds without any request scanning the buckets. A dropped key starts over
+ * with a full bucket.
+ */
+final class TokenBuckets {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    TokenBuckets(int maxBuckets) {
+        int perSegment = Math.max(1, maxBuckets / SEGMENTS);
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(perSegment);
+        }
+    }
+
+    TokenBucket get(String key, AdmissionProperties.Bucket limit, long now) {
+        Segment segment = segments[(key.hashCode() ^ (key.hashCode() >>> 16)) & (SEGMENTS - 1)];
+        synchronized (segment) {
+            return segment.computeIfAbsent(key,
+                    k -> new TokenBucket(limit.capacity(), limit.refillPeriod().toNanos(), now));
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Segment extends LinkedHashMap<String, TokenBucket> {
+
+        private final int capacity;
+
+        Segment(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.vasitum.interviewscheduler.infrastructure.audit;
+
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BookedCountAuditProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.audit", name = "enabled", matchIfMissing = true)
+public class BookedCountAuditConfiguration {
+
+    @Bean
+    public BookedCountAuditor bookedCountAuditor(InterviewSlotRepository slotRepository,
+                                                 SlotSeatCounterRepository counterRepository,
+                                                 BookingRepository bookingRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 ShardRouter shards,
+                                                 BookedCountAuditProperties properties,
+                                                 SchedulerMetrics metrics) {
+        return new BookedCountAuditor(slotRepository, counterRepository, bookingRepository,
+                new TransactionTemplate(transactionManager), shards, properties, metrics);
+    }
+}
@@ -0,0 +1,38 @@
+package com.vasitum.interviewscheduler.infrastructure.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Audit of the denormalized {@code bookedCount} of slots against their booking rows.
+ *
+ * @param enabled   run {@link BookedCountAuditor} on {@code cron}
+ * @param cron      when to run the audit
+ * @param lookBack  slots that started up to this long ago are audited
+ * @param lookAhead slots starting up to this far ahead are audited
+ * @param repair    fix drifted slots instead of only reporting them
+ * @param chunkSize slots scanned per query, and at most repaired per transaction
+ * @param pause     sleep between chunks, leaving room for booking traffic
+ */
+@ConfigurationProperties(prefix = "scheduler.audit")
+public record BookedCountAuditProperties(
+        Boolean enabled,
+        String cron,
+        Duration lookBack,
+        Duration lookAhead,
+        Boolean repair,
+        Integer chunkSize,
+        Duration pause
+) {
+
+    public BookedCountAuditProperties {
+        enabled = enabled != null ? enabled : true;
+        cron = cron != null ? cron : "0 15 4 * * *";
+        lookBack = lookBack != null ? lookBack : Duration.ofDays(7);
+        lookAhead = lookAhead != null ? lookAhead : Duration.ofDays(90);
+        repair = repair != null ? repair : false;
+        chunkSize = chunkSize != null ? chunkSize : 1000;
+        pause = pause != null ? pause : Duration.ofMillis(50);
+    }
+}
@@ -0,0 +1,15 @@
+package com.vasitum.interviewscheduler.infrastructure.audit;
+
+/**
+ * @param scanned  slots compared with their bookings
+ * @param drifted  slots whose count disagreed
+ * @param repaired drifted slots fixed; a slot that changed since the scan may need no fix
+ */
+public record BookedCountAuditReport(int scanned, int drifted, int repaired) {
+
+    static final BookedCountAuditReport EMPTY = new BookedCountAuditReport(0, 0, 0);
+
+    BookedCountAuditReport plus(BookedCountAuditReport other) {
+        return new BookedCountAuditReport(scanned + other.scanned, drifted + other.drifted, repaired + other.repaired);
+    }
+}
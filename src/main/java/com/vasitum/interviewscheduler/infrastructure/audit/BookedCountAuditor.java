@@ -0,0 +1,183 @@
+package com.vasitum.interviewscheduler.infrastructure.audit;
+
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.domain.model.SlotSeatCounter;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotBookedCountCheck;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCount;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the denormalized seat count of slots with their booking rows and optionally
+ * repairs it.
+ * <p>
+ * Slots are scanned in keyset chunks (by slot id) with one grouped query each, outside any
+ * transaction. A slot without counter shards must have {@code bookedCount} equal to its
+ * bookings. A slot with shards must have a shard sum equal to its bookings, and a
+ * {@code bookedCount} that is exact about empty and full (see {@code SlotSeats}). Once the
+ * shards are purged after the slot started, {@code bookedCount} alone must match. Drifted
+ * slots of a chunk are repaired in one short transaction. It locks their shards and then their
+ * rows, the order bookings take them in, and recounts under the locks. A booking that
+ * committed after the scan is therefore never undone.
+ */
+public class BookedCountAuditor {
+
+    private static final Logger log = LoggerFactory.getLogger(BookedCountAuditor.class);
+
+    private final InterviewSlotRepository slotRepository;
+    private final SlotSeatCounterRepository counterRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shards;
+    private final BookedCountAuditProperties properties;
+    private final SchedulerMetrics metrics;
+
+    public BookedCountAuditor(InterviewSlotRepository slotRepository,
+                              SlotSeatCounterRepository counterRepository,
+                              BookingRepository bookingRepository,
+                              TransactionTemplate transactionTemplate,
+                              ShardRouter shards,
+                              BookedCountAuditProperties properties,
+                              SchedulerMetrics metrics) {
+        this.slotRepository = slotRepository;
+        this.counterRepository = counterRepository;
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(cron = "${scheduler.audit.cron:0 15 4 * * *}")
+    public void run() {
+        LocalDateTime now = LocalDateTime.now();
+        audit(now.minus(properties.lookBack()), now.plus(properties.lookAhead()), properties.repair());
+    }
+
+    /**
+     * Audits slots starting in {@code [from, to)} on all shards.
+     */
+    public BookedCountAuditReport audit(LocalDateTime from, LocalDateTime to, boolean repair) {
+        BookedCountAuditReport report = BookedCountAuditReport.EMPTY;
+        for (int shard = 0; shard < shards.count(); shard++) {
+            report = report.plus(shards.on(shard, () -> auditShard(from, to, repair)));
+        }
+        metrics.recordBookedCountDrift(report.drifted(), report.repaired());
+        if (report.drifted() > 0) {
+            log.warn("Booked count audit {} to {}: {} of {} slots drifted, {} repaired",
+                    from, to, report.drifted(), report.scanned(), report.repaired());
+        } else {
+            log.info("Booked count audit {} to {}: {} slots consistent", from, to, report.scanned());
+        }
+        return report;
+    }
+
+    private BookedCountAuditReport auditShard(LocalDateTime from, LocalDateTime to, boolean repair) {
+        PageRequest chunk = PageRequest.of(0, properties.chunkSize());
+        long afterId = 0L;
+        int scanned = 0;
+        int drifted = 0;
+        int repaired = 0;
+        while (true) {
+            List<SlotBookedCountCheck> checks = slotRepository.checkBookedCountsAfterCursor(from, to, afterId, chunk);
+            if (checks.isEmpty()) {
+                break;
+            }
+            List<Long> driftedIds = new ArrayList<>();
+            for (SlotBookedCountCheck check : checks) {
+                if (drifted(check)) {
+                    log.warn("Slot {}: booked count {}, counter sum {}, but {} bookings",
+                            check.getSlotId(), check.getBookedCount(), check.getCounterSum(), check.getBookings());
+                    driftedIds.add(check.getSlotId());
+                }
+            }
+            scanned += checks.size();
+            drifted += driftedIds.size();
+            if (repair && !driftedIds.isEmpty()) {
+                repaired += transactionTemplate.execute(status -> repair(driftedIds));
+            }
+            afterId = checks.get(checks.size() - 1).getSlotId();
+            if (checks.size() < properties.chunkSize() || !pause()) {
+                break;
+            }
+        }
+        return new BookedCountAuditReport(scanned, drifted, repaired);
+    }
+
+    private static boolean drifted(SlotBookedCountCheck check) {
+        long bookings = check.getBookings();
+        if (check.getCounterSum() == null) {
+            return check.getBookedCount() != bookings;
+        }
+        return check.getCounterSum() != bookings
+                || (check.getBookedCount() > 0) != (bookings > 0)
+                || (check.getBookedCount() >= check.getCapacity()) != (bookings >= check.getCapacity());
+    }
+
+    private int repair(List<Long> slotIds) {
+        Map<Long, List<SlotSeatCounter>> counters = counterRepository.lockAllBySlotIds(slotIds).stream()
+                .collect(Collectors.groupingBy(SlotSeatCounter::getSlotId));
+        List<InterviewSlot> slots = slotRepository.lockAllByIdOrderById(slotIds);
+        Map<Long, Integer> bookings = new HashMap<>();
+        for (SlotSeatCount count : bookingRepository.countBySlotIds(slotIds)) {
+            bookings.put(count.getSlotId(), (int) count.getBooked());
+        }
+        int repaired = 0;
+        for (InterviewSlot slot : slots) {
+            int booked = bookings.getOrDefault(slot.getId(), 0);
+            boolean changed = spread(counters.getOrDefault(slot.getId(), List.of()), booked);
+            if (slot.getBookedCount() != booked) {
+                // a versioned update: bookings that read the old count fail on commit
+                slot.setBookedCount(booked);
+                changed = true;
+            }
+            if (changed) {
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    // fills shards in order; bookings beyond capacity stay on the last shard so the sum is exact
+    private static boolean spread(List<SlotSeatCounter> shards, int booked) {
+        if (shards.isEmpty() || shards.stream().mapToInt(SlotSeatCounter::getBooked).sum() == booked) {
+            return false;
+        }
+        int left = booked;
+        for (int i = 0; i < shards.size(); i++) {
+            SlotSeatCounter shard = shards.get(i);
+            int share = i == shards.size() - 1 ? left : Math.min(left, shard.getSeats());
+            shard.setBooked(share);
+            left -= share;
+        }
+        return true;
+    }
+
+    private boolean pause() {
+        if (properties.pause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.pause().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
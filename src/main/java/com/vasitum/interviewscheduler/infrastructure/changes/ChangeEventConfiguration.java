@@ -0,0 +1,58 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRoutingDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ChangeEventProperties.class)
+public class ChangeEventConfiguration {
+
+    @Bean
+    public ChangeTransport changeTransport(ChangeEventProperties properties,
+                                           JdbcTemplate jdbcTemplate,
+                                           DataSourceProperties dataSourceProperties,
+                                           ObjectProvider<ShardRoutingDataSource> shards) {
+        ChangeTransport transport = transport(properties, jdbcTemplate, dataSourceProperties);
+        ShardRoutingDataSource sharded = shards.getIfAvailable();
+        if (sharded == null || transport == ChangeTransport.NONE) {
+            return transport;
+        }
+        List<ChangeTransport> listeners = new ArrayList<>();
+        for (int shard = 0; shard < sharded.shardCount(); shard++) {
+            listeners.add(transport(properties, new JdbcTemplate(sharded.shard(shard)), sharded.connection(shard)));
+        }
+        return new ShardedChangeTransport(transport, listeners);
+    }
+
+    private static ChangeTransport transport(ChangeEventProperties properties,
+                                             JdbcTemplate jdbcTemplate,
+                                             DataSourceProperties dataSourceProperties) {
+        return switch (properties.transport()) {
+            case "notify" -> new PostgresNotifyTransport(jdbcTemplate, dataSourceProperties, properties);
+            case "table" -> new ChangeTableTransport(jdbcTemplate, properties);
+            case "none" -> ChangeTransport.NONE;
+            default -> throw new IllegalStateException(
+                    "Unknown scheduler.changes.transport '" + properties.transport() + "' (notify, table or none)");
+        };
+    }
+
+    @Bean
+    public ChangeEventRelay changeEventRelay(ChangeTransport transport,
+                                             ApplicationEventPublisher eventPublisher,
+                                             ObjectMapper objectMapper,
+                                             SchedulerMetrics metrics,
+                                             ChangeEventProperties properties) {
+        return new ChangeEventRelay(transport, eventPublisher, objectMapper, metrics, properties.nodeId());
+    }
+}
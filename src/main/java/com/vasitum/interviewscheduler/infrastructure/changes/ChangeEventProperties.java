@@ -0,0 +1,38 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cross-node delivery of {@link com.vasitum.interviewscheduler.application.service.DomainChangeEvent}s.
+ *
+ * @param transport    {@code notify} (PostgreSQL LISTEN/NOTIFY), {@code table} (polled {@code change_log})
+ *                     or {@code none} (single node: events are only delivered locally)
+ * @param nodeId       this node's name in broadcasts; its own events are not delivered twice
+ * @param pollInterval how long the listener waits for a notification, or the delay between table polls
+ * @param lookback     table transport: rows committed this long before the last one seen are re-read,
+ *                     so a transaction that committed late is not skipped
+ * @param retention    table transport: rows older than this are deleted
+ * @param maxBackoff   notify transport: upper bound of the reconnect delay
+ */
+@ConfigurationProperties(prefix = "scheduler.changes")
+public record ChangeEventProperties(
+        String transport,
+        String nodeId,
+        Duration pollInterval,
+        Duration lookback,
+        Duration retention,
+        Duration maxBackoff
+) {
+
+    public ChangeEventProperties {
+        transport = transport != null ? transport : "notify";
+        nodeId = nodeId != null && !nodeId.isBlank() ? nodeId : UUID.randomUUID().toString();
+        pollInterval = pollInterval != null ? pollInterval : Duration.ofMillis(500);
+        lookback = lookback != null ? lookback : Duration.ofSeconds(10);
+        retention = retention != null ? retention : Duration.ofHours(1);
+        maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofSeconds(30);
+    }
+}
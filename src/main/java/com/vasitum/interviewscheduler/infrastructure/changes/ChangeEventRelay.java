@@ -0,0 +1,130 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.application.service.BookingChangedEvent;
+import com.vasitum.interviewscheduler.application.service.ClusterChangeEvent;
+import com.vasitum.interviewscheduler.application.service.DomainChangeEvent;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Turns {@link DomainChangeEvent}s into {@link ClusterChangeEvent}s on every node.
+ * <p>
+ * The event is handed to the {@link ChangeTransport} before the writing transaction commits (a
+ * NOTIFY or change_log row only becomes visible with the commit) and delivered to this node's
+ * listeners after it commits. Events received from other nodes are delivered on the transport's
+ * thread; when the transport reports a gap, an {@link DomainChangeEvent.Kind#ALL} event is delivered.
+ */
+public class ChangeEventRelay implements ChangeTransport.Receiver, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeEventRelay.class);
+
+    // NOTIFY payloads must stay below 8000 bytes; larger events are sent without their ids
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final ChangeTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SchedulerMetrics metrics;
+    private final String nodeId;
+    private volatile boolean running;
+
+    public ChangeEventRelay(ChangeTransport transport,
+                            ApplicationEventPublisher eventPublisher,
+                            ObjectMapper objectMapper,
+                            SchedulerMetrics metrics,
+                            String nodeId) {
+        this.transport = transport;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.nodeId = nodeId;
+    }
+
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        eventPublisher.publishEvent(DomainChangeEvent.bookings(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void broadcast(DomainChangeEvent change) {
+        transport.send(serialize(change));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void deliverLocally(DomainChangeEvent change) {
+        eventPublisher.publishEvent(new ClusterChangeEvent(change, nodeId, true));
+    }
+
+    @Override
+    public void receive(String payload) {
+        ChangeMessage message;
+        try {
+            message = objectMapper.readValue(payload, ChangeMessage.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Unreadable change event, invalidating everything: {}", ex.getOriginalMessage());
+            resync();
+            return;
+        }
+        if (nodeId.equals(message.origin())) {
+            return;
+        }
+        metrics.recordChangeReceived(message.change().kind().name(),
+                Duration.between(Instant.ofEpochMilli(message.publishedAt()), Instant.now()));
+        eventPublisher.publishEvent(new ClusterChangeEvent(message.change(), message.origin(), false));
+    }
+
+    @Override
+    public void resync() {
+        metrics.recordChangeReceived(DomainChangeEvent.Kind.ALL.name(), Duration.ZERO);
+        eventPublisher.publishEvent(new ClusterChangeEvent(DomainChangeEvent.everything(), nodeId, false));
+    }
+
+    String serialize(DomainChangeEvent change) {
+        try {
+            String payload = objectMapper.writeValueAsString(
+                    new ChangeMessage(nodeId, System.currentTimeMillis(), change));
+            if (payload.getBytes(StandardCharsets.UTF_8).length <= MAX_PAYLOAD_BYTES) {
+                return payload;
+            }
+            return objectMapper.writeValueAsString(
+                    new ChangeMessage(nodeId, System.currentTimeMillis(), change.withoutIds()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + change, ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        transport.start(this);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        transport.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @param publishedAt sender's clock, epoch millis; only used for the propagation delay metric
+     */
+    record ChangeMessage(String origin, long publishedAt, DomainChangeEvent change) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fallback transport for databases or poolers that cannot hold a LISTEN session: events are
+ * rows in {@code change_log}, polled every {@code pollInterval}.
+ * <p>
+ * Rows are read by their database timestamp with a {@code lookback} window: the timestamp is taken
+ * when the writing transaction starts, so a slow transaction becomes visible after rows with later
+ * timestamps. Ids already delivered within the window are remembered.
+ */
+public class ChangeTableTransport implements ChangeTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeTableTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeEventProperties properties;
+    private final Map<Long, LocalDateTime> delivered = new HashMap<>();
+    private ScheduledExecutorService poller;
+    private Receiver receiver;
+    private LocalDateTime watermark;
+    private long lastCleanup = System.nanoTime();
+
+    public ChangeTableTransport(JdbcTemplate jdbcTemplate, ChangeEventProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void send(String payload) {
+        jdbcTemplate.update("insert into change_log (origin_node, payload, created_at) values (?, ?, localtimestamp)",
+                properties.nodeId(), payload);
+    }
+
+    @Override
+    public synchronized void start(Receiver receiver) {
+        this.receiver = receiver;
+        this.watermark = databaseNow();
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-log-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.pollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::pollQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    /**
+     * Delivers other nodes' events committed since the last poll.
+     *
+     * @return number of events delivered
+     */
+    public synchronized int poll() {
+        List<Row> rows = jdbcTemplate.query("""
+                        select id, payload, created_at from change_log
+                        where created_at >= ? and origin_node <> ?
+                        order by created_at, id
+                        """,
+                (rs, rowNum) -> new Row(rs.getLong("id"), rs.getString("payload"),
+                        rs.getObject("created_at", LocalDateTime.class)),
+                watermark.minus(properties.lookback()), properties.nodeId());
+        int count = 0;
+        for (Row row : rows) {
+            if (delivered.putIfAbsent(row.id(), row.createdAt()) == null) {
+                deliver(row.payload());
+                count++;
+            }
+            if (row.createdAt().isAfter(watermark)) {
+                watermark = row.createdAt();
+            }
+        }
+        LocalDateTime horizon = watermark.minus(properties.lookback());
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(horizon));
+
+        if (System.nanoTime() - lastCleanup > properties.lookback().toNanos()) {
+            lastCleanup = System.nanoTime();
+            jdbcTemplate.update("delete from change_log where created_at < ?",
+                    databaseNow().minus(properties.retention()));
+        }
+        return count;
+    }
+
+    private void deliver(String payload) {
+        try {
+            receiver.receive(payload);
+        } catch (RuntimeException ex) {
+            log.warn("Change event listener failed", ex);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException ex) {
+            log.warn("Polling change_log failed, retrying in {}", properties.pollInterval(), ex);
+        }
+    }
+
+    // the database clock, so nodes with skewed clocks agree on the window
+    private LocalDateTime databaseNow() {
+        return jdbcTemplate.queryForObject("select localtimestamp", LocalDateTime.class);
+    }
+
+    private record Row(long id, String payload, LocalDateTime createdAt) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+/**
+ * Carries serialized change events between nodes. {@link #send} is called inside the writing
+ * transaction when there is one, so a rolled-back change is never broadcast.
+ */
+public interface ChangeTransport {
+
+    ChangeTransport NONE = payload -> {
+    };
+
+    void send(String payload);
+
+    default void start(Receiver receiver) {
+    }
+
+    default void stop() {
+    }
+
+    interface Receiver {
+
+        void receive(String payload);
+
+        /**
+         * Called when events may have been missed (e.g. after reconnecting); everything cached is suspect.
+         */
+        void resync();
+    }
+}
@@ -0,0 +1,135 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Broadcasts with {@code pg_notify} and listens on a dedicated connection outside the pool.
+ * PostgreSQL queues a notification until the sending transaction commits and drops it on
+ * rollback, so listeners only hear about committed changes.
+ * <p>
+ * Notifications sent while the listener is disconnected are lost; after reconnecting the
+ * receiver is asked to resync.
+ */
+public class PostgresNotifyTransport implements ChangeTransport {
+
+    public static final String CHANNEL = "scheduler_changes";
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresNotifyTransport.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ChangeEventProperties properties;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public PostgresNotifyTransport(JdbcTemplate jdbcTemplate,
+                                   DataSourceProperties dataSourceProperties,
+                                   ChangeEventProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+    }
+
+    @Override
+    public void send(String payload) {
+        jdbcTemplate.execute("select pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, payload);
+            return statement.execute();
+        });
+    }
+
+    @Override
+    public synchronized void start(Receiver receiver) {
+        running = true;
+        listener = new Thread(() -> listen(receiver), "change-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener = null;
+        }
+    }
+
+    /**
+     * Whether the LISTEN session is currently established.
+     */
+    public boolean isListening() {
+        return listening;
+    }
+
+    private void listen(Receiver receiver) {
+        int failures = 0;
+        boolean reconnect = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("listen " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                listening = true;
+                failures = 0;
+                if (reconnect) {
+                    receiver.resync();
+                }
+                reconnect = true;
+                int timeout = (int) properties.pollInterval().toMillis();
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeout);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        deliver(receiver, notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                listening = false;
+                if (!running) {
+                    return;
+                }
+                Duration delay = backoff(++failures);
+                log.warn("Change listener disconnected, reconnecting in {}: {}", delay, ex.getMessage());
+                try {
+                    Thread.sleep(delay.toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            } finally {
+                listening = false;
+            }
+        }
+    }
+
+    private static void deliver(Receiver receiver, String payload) {
+        try {
+            receiver.receive(payload);
+        } catch (RuntimeException ex) {
+            log.warn("Change event listener failed", ex);
+        }
+    }
+
+    Duration backoff(int failures) {
+        Duration delay = Duration.ofMillis(100).multipliedBy(1L << Math.min(failures - 1, 20));
+        return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+    }
+}
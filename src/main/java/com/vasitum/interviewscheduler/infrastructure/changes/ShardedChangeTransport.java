@@ -0,0 +1,33 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import java.util.List;
+
+/**
+ * Change events of a sharded deployment: a change is sent inside its writing transaction, so
+ * on the shard that transaction runs on, and nodes listen on every shard.
+ */
+class ShardedChangeTransport implements ChangeTransport {
+
+    private final ChangeTransport sender;
+    private final List<ChangeTransport> listeners;
+
+    ShardedChangeTransport(ChangeTransport sender, List<ChangeTransport> listeners) {
+        this.sender = sender;
+        this.listeners = List.copyOf(listeners);
+    }
+
+    @Override
+    public void send(String payload) {
+        sender.send(payload);
+    }
+
+    @Override
+    public void start(Receiver receiver) {
+        listeners.forEach(listener -> listener.start(receiver));
+    }
+
+    @Override
+    public void stop() {
+        listeners.forEach(ChangeTransport::stop);
+    }
+}
@@ -0,0 +1,134 @@
+package com.vasitum.interviewscheduler.infrastructure.coalescing;
+
+import com.vasitum.interviewscheduler.application.service.ClusterChangeEvent;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Single flight for identical reads: the first request for a key runs the query and serializes
+ * the response, requests arriving while it runs wait for and share those bytes, and requests
+ * within {@code reuseWindow} after it finished reuse them. Failures are shared with the waiting
+ * requests but never reused. Any committed change clears the finished reads, so a request that
+ * starts after a change on this node never sees data from before it.
+ */
+public class ReadCoalescer {
+
+    private final ReadCoalescingProperties properties;
+    private final SchedulerMetrics metrics;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public ReadCoalescer(ReadCoalescingProperties properties, SchedulerMetrics metrics) {
+        this(properties, metrics, System::nanoTime);
+    }
+
+    ReadCoalescer(ReadCoalescingProperties properties, SchedulerMetrics metrics, LongSupplier clock) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.clock = clock;
+        metrics.registerCoalescingRatio(this::ratio);
+    }
+
+    /**
+     * @param read  name of the read, used as metric tag and key prefix
+     * @param key   everything the response depends on
+     * @param query runs the read and returns the serialized response
+     */
+    public byte[] read(String read, String key, Supplier<byte[]> query) {
+        if (!properties.enabled()) {
+            record(read, false);
+            return query.get();
+        }
+        String flightKey = read + '|' + key;
+        while (true) {
+            Flight flight = new Flight();
+            Flight current = flights.putIfAbsent(flightKey, flight);
+            if (current == null) {
+                record(read, false);
+                return lead(flightKey, flight, query);
+            }
+            if (current.expired(clock.getAsLong(), properties.reuseWindow().toNanos())) {
+                flights.remove(flightKey, current);
+                continue;
+            }
+            record(read, true);
+            return current.await();
+        }
+    }
+
+    @EventListener
+    public void onChange(ClusterChangeEvent event) {
+        flights.clear();
+    }
+
+    private byte[] lead(String key, Flight flight, Supplier<byte[]> query) {
+        byte[] result;
+        try {
+            result = query.get();
+        } catch (RuntimeException | Error ex) {
+            flights.remove(key, flight);
+            flight.fail(ex);
+            throw ex;
+        }
+        flight.complete(result, clock.getAsLong());
+        if (flights.size() > properties.maxEntries()) {
+            long now = clock.getAsLong();
+            flights.values().removeIf(entry -> entry.expired(now, properties.reuseWindow().toNanos()));
+        }
+        return result;
+    }
+
+    private void record(String read, boolean wasShared) {
+        (wasShared ? shared : executed).increment();
+        metrics.recordCoalescedRead(read, wasShared);
+    }
+
+    private double ratio() {
+        long sharedReads = shared.sum();
+        long total = sharedReads + executed.sum();
+        return total == 0 ? 0.0 : (double) sharedReads / total;
+    }
+
+    private static final class Flight {
+
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        void complete(byte[] bytes, long now) {
+            completedAt = now;
+            result.complete(bytes);
+        }
+
+        void fail(Throwable failure) {
+            result.completeExceptionally(failure);
+        }
+
+        boolean expired(long now, long reuseNanos) {
+            return result.isDone() && now - completedAt > reuseNanos;
+        }
+
+        byte[] await() {
+            try {
+                return result.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (ex.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
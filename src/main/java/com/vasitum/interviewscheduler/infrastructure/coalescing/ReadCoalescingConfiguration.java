@@ -0,0 +1,16 @@
+package com.vasitum.interviewscheduler.infrastructure.coalescing;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReadCoalescingProperties.class)
+public class ReadCoalescingConfiguration {
+
+    @Bean
+    public ReadCoalescer readCoalescer(ReadCoalescingProperties properties, SchedulerMetrics metrics) {
+        return new ReadCoalescer(properties, metrics);
+    }
+}
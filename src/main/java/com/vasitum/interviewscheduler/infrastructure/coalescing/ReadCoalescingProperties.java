@@ -0,0 +1,26 @@
+package com.vasitum.interviewscheduler.infrastructure.coalescing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Single-flight coalescing of slot reads.
+ *
+ * @param enabled     when false every read runs its own query
+ * @param reuseWindow how long a finished read is handed to identical requests; any change event clears it
+ * @param maxEntries  finished reads kept in memory; expired ones are dropped beyond this
+ */
+@ConfigurationProperties(prefix = "scheduler.coalescing")
+public record ReadCoalescingProperties(
+        Boolean enabled,
+        Duration reuseWindow,
+        Integer maxEntries
+) {
+
+    public ReadCoalescingProperties {
+        enabled = enabled != null ? enabled : true;
+        reuseWindow = reuseWindow != null ? reuseWindow : Duration.ofMillis(50);
+        maxEntries = maxEntries != null ? maxEntries : 1_000;
+    }
+}
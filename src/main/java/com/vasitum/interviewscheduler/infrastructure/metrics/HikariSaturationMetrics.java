@@ -0,0 +1,56 @@
+package com.vasitum.interviewscheduler.infrastructure.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Boot already exports the raw hikaricp.connections.* gauges; this adds a single
+ * saturation ratio (active / max) that is easier to alert on.
+ */
+@Component
+public class HikariSaturationMetrics implements MeterBinder {
+
+    private final DataSource dataSource;
+
+    public HikariSaturationMetrics(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        HikariDataSource hikari = unwrap();
+        if (hikari == null) {
+            return;
+        }
+        Gauge.builder("scheduler.db.pool.saturation", hikari, HikariSaturationMetrics::saturation)
+                .description("Active Hikari connections divided by maximum pool size")
+                .tag("pool", String.valueOf(hikari.getPoolName()))
+                .register(registry);
+    }
+
+    private HikariDataSource unwrap() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class)
+                    : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int max = hikari.getMaximumPoolSize();
+        if (pool == null || max <= 0) {
+            return 0.0;
+        }
+        return (double) pool.getActiveConnections() / max;
+    }
+}
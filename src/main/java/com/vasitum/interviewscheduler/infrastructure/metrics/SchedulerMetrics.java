@@ -0,0 +1,222 @@
+package com.vasitum.interviewscheduler.infrastructure.metrics;
+
+import com.vasitum.interviewscheduler.application.exception.DomainException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Central place for the scheduling-specific meters, so metric names and tags
+ * stay consistent between controllers and the exception handler.
+ */
+@Component
+public class SchedulerMetrics {
+
+    public static final String BOOKING_LATENCY = "scheduler.booking.latency";
+    public static final String BOOKING_CONFLICTS = "scheduler.booking.conflicts";
+    public static final String ADMISSION_REJECTED = "scheduler.admission.rejected";
+    public static final String SLOT_GENERATION = "scheduler.slots.generation";
+    public static final String SLOTS_GENERATED = "scheduler.slots.generated";
+    public static final String SLOT_QUERY = "scheduler.slots.query";
+    public static final String READS_COALESCED = "scheduler.reads.coalesced";
+    public static final String READS_COALESCING_RATIO = "scheduler.reads.coalescing.ratio";
+    public static final String SLOT_PURGE = "scheduler.slots.purge";
+    public static final String SLOTS_PURGED = "scheduler.slots.purged";
+    public static final String SLOTS_DRIFTED = "scheduler.slots.drifted";
+    public static final String CALENDAR_FEEDS = "scheduler.calendar.feeds";
+    public static final String OUTBOX_LAG = "scheduler.outbox.lag";
+    public static final String OUTBOX_DISPATCHED = "scheduler.outbox.dispatched";
+    public static final String CHANGES_RECEIVED = "scheduler.changes.received";
+    public static final String CHANGES_DELAY = "scheduler.changes.delay";
+    public static final String SQL_STATEMENTS = "scheduler.sql.statements";
+    public static final String SQL_TIME = "scheduler.sql.time";
+    public static final String TRACES = "scheduler.traces";
+
+    private final MeterRegistry registry;
+
+    public SchedulerMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Times a booking write (create/update/cancel) including its transaction commit,
+     * tagging the outcome with the domain error code when the call is rejected.
+     */
+    public <T> T timeBooking(String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+        try {
+            return action.get();
+        } catch (DomainException ex) {
+            outcome = ex.getCode();
+            throw ex;
+        } catch (RuntimeException ex) {
+            outcome = "error";
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(BOOKING_LATENCY)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    public void recordConflict(String code) {
+        Counter.builder(BOOKING_CONFLICTS)
+                .tag("code", code)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts booking writes turned away with 429, by {@code ip} / {@code email} bucket or {@code concurrency}.
+     */
+    public void recordAdmissionRejected(String reason) {
+        Counter.builder(ADMISSION_REJECTED)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    public void recordSlotGeneration(long elapsedNanos, int created) {
+        Timer.builder(SLOT_GENERATION)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        // rate(scheduler_slots_generated_total) gives slots/sec
+        Counter.builder(SLOTS_GENERATED)
+                .register(registry)
+                .increment(created);
+    }
+
+    public void recordSlotPurgeBatch(long elapsedNanos, int deleted) {
+        Timer.builder(SLOT_PURGE)
+                .register(registry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder(SLOTS_PURGED)
+                .register(registry)
+                .increment(deleted);
+    }
+
+    /**
+     * Counts slots whose {@code bookedCount} (or seat counters) disagreed with their bookings:
+     * {@code found} by the audit, {@code repaired} when it fixed them.
+     */
+    public void recordBookedCountDrift(int found, int repaired) {
+        Counter.builder(SLOTS_DRIFTED)
+                .tag("outcome", "found")
+                .register(registry)
+                .increment(found);
+        Counter.builder(SLOTS_DRIFTED)
+                .tag("outcome", "repaired")
+                .register(registry)
+                .increment(repaired);
+    }
+
+    /**
+     * Age in seconds of the oldest unsent outbox message; 0 when the outbox is drained.
+     */
+    public void registerOutboxLag(Supplier<Number> lagSeconds) {
+        Gauge.builder(OUTBOX_LAG, lagSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    public void recordOutboxDispatch(String outcome) {
+        Counter.builder(OUTBOX_DISPATCHED)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts finished request traces: {@code sampled-out}, or for kept ones {@code exported},
+     * {@code dropped} (export queue full) or {@code failed}.
+     */
+    public void recordTrace(String outcome) {
+        Counter.builder(TRACES)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Counts change events received from other nodes; the delay is measured from the sender's
+     * clock, so it includes any clock skew between the two nodes.
+     */
+    public void recordChangeReceived(String kind, Duration delay) {
+        Counter.builder(CHANGES_RECEIVED)
+                .tag("kind", kind)
+                .register(registry)
+                .increment();
+        Timer.builder(CHANGES_DELAY)
+                .register(registry)
+                .record(delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    /**
+     * Counts calendar feed responses; {@code not-modified} and {@code cached} were served from memory.
+     */
+    public void recordCalendarFeed(String feed, String outcome) {
+        Counter.builder(CALENDAR_FEEDS)
+                .tag("feed", feed)
+                .tag("outcome", outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Times a slot listing query; tags describe which filters were applied
+     * so latency can be compared per query shape.
+     */
+    public <T> T timeSlotQuery(boolean byInterviewer, boolean explicitWindow, boolean hideFull,
+                               boolean firstPage, Supplier<T> query) {
+        return Timer.builder(SLOT_QUERY)
+                .tag("interviewer", String.valueOf(byInterviewer))
+                .tag("window", explicitWindow ? "explicit" : "default")
+                .tag("hideFull", String.valueOf(hideFull))
+                .tag("page", firstPage ? "first" : "next")
+                .register(registry)
+                .record(query);
+    }
+
+    /**
+     * Counts coalescable reads by whether they ran their own query ({@code executed}) or shared
+     * another request's result ({@code shared}).
+     */
+    public void recordCoalescedRead(String read, boolean shared) {
+        Counter.builder(READS_COALESCED)
+                .tag("read", read)
+                .tag("outcome", shared ? "shared" : "executed")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Share of coalescable reads since startup that were served from another request's query.
+     */
+    public void registerCoalescingRatio(Supplier<Number> ratio) {
+        Gauge.builder(READS_COALESCING_RATIO, ratio)
+                .register(registry);
+    }
+
+    /**
+     * Records how many SQL statements one HTTP request issued and how long they spent in JDBC.
+     */
+    public void recordSqlUsage(String endpoint, int statements, long jdbcNanos) {
+        DistributionSummary.builder(SQL_STATEMENTS)
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(statements);
+        Timer.builder(SQL_TIME)
+                .tag("endpoint", endpoint)
+                .register(registry)
+                .record(jdbcNanos, TimeUnit.NANOSECONDS);
+    }
+}
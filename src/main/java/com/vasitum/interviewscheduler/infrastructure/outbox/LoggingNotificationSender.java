@@ -0,0 +1,18 @@
+package com.vasitum.interviewscheduler.infrastructure.outbox;
+
+import com.vasitum.interviewscheduler.domain.model.OutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default sender when no real one is configured: logs the message instead of mailing it.
+ */
+public class LoggingNotificationSender implements NotificationSender {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationSender.class);
+
+    @Override
+    public void send(OutboxMessage message) {
+        log.info("Notification {} to {}: {}", message.getId(), message.getRecipient(), message.getSubject());
+    }
+}
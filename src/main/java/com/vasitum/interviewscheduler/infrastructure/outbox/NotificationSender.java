@@ -0,0 +1,12 @@
+package com.vasitum.interviewscheduler.infrastructure.outbox;
+
+import com.vasitum.interviewscheduler.domain.model.OutboxMessage;
+
+/**
+ * Delivers one outbox message. Throwing schedules a retry with backoff; declare a bean of this
+ * type (SMTP, a mail API, ...) to replace the logging default.
+ */
+public interface NotificationSender {
+
+    void send(OutboxMessage message) throws Exception;
+}
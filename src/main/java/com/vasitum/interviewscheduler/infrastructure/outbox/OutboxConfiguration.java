@@ -0,0 +1,37 @@
+package com.vasitum.interviewscheduler.infrastructure.outbox;
+
+import com.vasitum.interviewscheduler.domain.repository.OutboxMessageRepository;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.outbox", name = "enabled", matchIfMissing = true)
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public NotificationSender notificationSender() {
+        return new LoggingNotificationSender();
+    }
+
+    @Bean
+    public OutboxDispatcher outboxDispatcher(OutboxMessageRepository outboxRepository,
+                                             NotificationSender sender,
+                                             PlatformTransactionManager transactionManager,
+                                             ShardRouter shards,
+                                             OutboxProperties properties,
+                                             SchedulerMetrics metrics) {
+        return new OutboxDispatcher(outboxRepository, sender, new TransactionTemplate(transactionManager),
+                shards, properties, metrics);
+    }
+}
@@ -0,0 +1,132 @@
+package com.vasitum.interviewscheduler.infrastructure.outbox;
+
+import com.vasitum.interviewscheduler.domain.model.OutboxMessage;
+import com.vasitum.interviewscheduler.domain.model.OutboxStatus;
+import com.vasitum.interviewscheduler.domain.repository.OutboxMessageRepository;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends pending outbox messages in batches.
+ * <p>
+ * Each batch is claimed with {@code FOR UPDATE SKIP LOCKED} and sent in one transaction, so
+ * several instances can dispatch side by side without sending a message twice. A failed send is
+ * retried with exponential backoff until {@code maxAttempts}, then left as FAILED. Messages are
+ * written next to their booking, so every shard is drained in turn.
+ */
+public class OutboxDispatcher implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxMessageRepository outboxRepository;
+    private final NotificationSender sender;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shards;
+    private final OutboxProperties properties;
+    private final SchedulerMetrics metrics;
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OutboxDispatcher(OutboxMessageRepository outboxRepository,
+                            NotificationSender sender,
+                            TransactionTemplate transactionTemplate,
+                            ShardRouter shards,
+                            OutboxProperties properties,
+                            SchedulerMetrics metrics) {
+        this.outboxRepository = outboxRepository;
+        this.sender = sender;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.properties = properties;
+        this.metrics = metrics;
+        metrics.registerOutboxLag(() -> lagMillis.get() / 1000.0);
+    }
+
+    // registered here rather than with @Scheduled so the interval binds as a Duration ("5s")
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(this::run, properties.pollInterval(), properties.pollInterval()));
+    }
+
+    /**
+     * Drains every due message, one batch at a time, then refreshes the lag gauge.
+     */
+    public void run() {
+        try {
+            shards.forEachShard(() -> {
+                while (dispatchBatch() == properties.batchSize()) {
+                    // full batch: more may be due
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Outbox dispatch failed, retrying on the next poll", ex);
+        } finally {
+            refreshLag();
+        }
+    }
+
+    /**
+     * @return number of messages claimed (sent, rescheduled or failed)
+     */
+    public int dispatchBatch() {
+        Integer claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxMessage> due = outboxRepository.claimDue(now, PageRequest.of(0, properties.batchSize()));
+            for (OutboxMessage message : due) {
+                send(message);
+            }
+            return due.size();
+        });
+        return claimed != null ? claimed : 0;
+    }
+
+    /**
+     * Lag of the oldest pending message on any shard.
+     */
+    public void refreshLag() {
+        LocalDateTime now = LocalDateTime.now();
+        AtomicLong lag = new AtomicLong();
+        shards.forEachShard(() -> outboxRepository.findOldestPendingCreatedAt()
+                .ifPresent(oldest -> lag.accumulateAndGet(Duration.between(oldest, now).toMillis(), Math::max)));
+        lagMillis.set(lag.get());
+    }
+
+    private void send(OutboxMessage message) {
+        message.setAttempts(message.getAttempts() + 1);
+        try {
+            sender.send(message);
+            message.setStatus(OutboxStatus.SENT);
+            message.setSentAt(LocalDateTime.now());
+            message.setLastError(null);
+            metrics.recordOutboxDispatch("sent");
+        } catch (Exception ex) {
+            String error = String.valueOf(ex.getMessage());
+            message.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+            if (message.getAttempts() >= properties.maxAttempts()) {
+                message.setStatus(OutboxStatus.FAILED);
+                metrics.recordOutboxDispatch("failed");
+                log.warn("Giving up on notification {} to {} after {} attempts: {}",
+                        message.getId(), message.getRecipient(), message.getAttempts(), error);
+            } else {
+                message.setAvailableAt(LocalDateTime.now().plus(backoff(message.getAttempts())));
+                metrics.recordOutboxDispatch("retry");
+            }
+        }
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.initialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+        return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+    }
+}
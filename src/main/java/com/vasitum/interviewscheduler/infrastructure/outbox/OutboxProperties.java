@@ -0,0 +1,35 @@
+package com.vasitum.interviewscheduler.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Background dispatch of the notification outbox.
+ *
+ * @param enabled        run {@link OutboxDispatcher} every {@code pollInterval}
+ * @param pollInterval   delay between polls that found nothing left to send
+ * @param batchSize      messages claimed per transaction
+ * @param maxAttempts    attempts before a message is marked FAILED
+ * @param initialBackoff delay before the first retry, doubled on every further failure
+ * @param maxBackoff     upper bound of the retry delay
+ */
+@ConfigurationProperties(prefix = "scheduler.outbox")
+public record OutboxProperties(
+        Boolean enabled,
+        Duration pollInterval,
+        Integer batchSize,
+        Integer maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff
+) {
+
+    public OutboxProperties {
+        enabled = enabled != null ? enabled : true;
+        pollInterval = pollInterval != null ? pollInterval : Duration.ofSeconds(5);
+        batchSize = batchSize != null ? batchSize : 50;
+        maxAttempts = maxAttempts != null ? maxAttempts : 8;
+        initialBackoff = initialBackoff != null ? initialBackoff : Duration.ofSeconds(30);
+        maxBackoff = maxBackoff != null ? maxBackoff : Duration.ofHours(1);
+    }
+}
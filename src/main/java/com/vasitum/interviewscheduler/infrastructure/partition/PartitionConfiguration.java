@@ -0,0 +1,22 @@
+package com.vasitum.interviewscheduler.infrastructure.partition;
+
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PartitionProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.partitions", name = "enabled", matchIfMissing = true)
+public class PartitionConfiguration {
+
+    @Bean
+    public PartitionMaintenanceJob partitionMaintenanceJob(JdbcTemplate jdbcTemplate, ShardRouter shards,
+                                                           PartitionProperties properties) {
+        return new PartitionMaintenanceJob(jdbcTemplate, shards, properties);
+    }
+}
@@ -0,0 +1,62 @@
+package com.vasitum.interviewscheduler.infrastructure.partition;
+
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps monthly partitions created ahead of slot generation and moves months that are
+ * well in the past to the archive tables, so booking and slot queries only touch hot data.
+ * <p>
+ * Detaching takes an ACCESS EXCLUSIVE lock on the parent briefly; it is not done
+ * CONCURRENTLY because the tables have a default partition. Rows generated beyond the created
+ * months wait in the default partitions and are moved when their month is created. Every shard
+ * has its own partitions.
+ */
+public class PartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(PartitionMaintenanceJob.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shards;
+    private final PartitionProperties properties;
+
+    public PartitionMaintenanceJob(JdbcTemplate jdbcTemplate, ShardRouter shards, PartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    @Scheduled(cron = "${scheduler.partitions.cron:0 15 3 * * *}")
+    public void run() {
+        // a failing shard is logged and retried on the next run; the others still get their months
+        for (int shard = 0; shard < shards.count(); shard++) {
+            try {
+                shards.run(shard, this::maintain);
+            } catch (RuntimeException ex) {
+                log.error("Partition maintenance failed on shard {}", shard, ex);
+            }
+        }
+    }
+
+    private void maintain() {
+        LocalDate today = LocalDate.now();
+        Integer created = jdbcTemplate.queryForObject("select ensure_monthly_partitions(?, ?)", Integer.class,
+                today.withDayOfMonth(1), today.plusMonths(properties.monthsAhead()));
+        LocalDateTime cutoff = today.atStartOfDay().minusWeeks(properties.archiveAfterWeeks());
+        Integer archived = jdbcTemplate.queryForObject("select archive_partitions_before(?)", Integer.class, cutoff);
+        log.info("Partition maintenance: {} partitions created, {} months archived before {}", created, archived, cutoff);
+    }
+}
@@ -0,0 +1,27 @@
+package com.vasitum.interviewscheduler.infrastructure.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Monthly partition maintenance for interview_slots and bookings (PostgreSQL only).
+ *
+ * @param enabled           run the maintenance job at startup and on {@code cron}
+ * @param cron              when to run it after startup
+ * @param monthsAhead       months after the current one that must already have partitions
+ * @param archiveAfterWeeks months that ended at least this many weeks ago move to the archive tables
+ */
+@ConfigurationProperties(prefix = "scheduler.partitions")
+public record PartitionProperties(
+        Boolean enabled,
+        String cron,
+        Integer monthsAhead,
+        Integer archiveAfterWeeks
+) {
+
+    public PartitionProperties {
+        enabled = enabled != null ? enabled : true;
+        cron = cron != null ? cron : "0 15 3 * * *";
+        monthsAhead = monthsAhead != null ? monthsAhead : 3;
+        archiveAfterWeeks = archiveAfterWeeks != null ? archiveAfterWeeks : 4;
+    }
+}
@@ -0,0 +1,112 @@
+package com.vasitum.interviewscheduler.infrastructure.retention;
+
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Deletes unbooked slots whose start time is older than the retention period.
+ * <p>
+ * Work is split into keyset batches (by slot id), each in its own short transaction, so
+ * row locks are held for one batch only and booking requests are never queued behind the purge.
+ * Seat counter shards of slots older than the cutoff go too, after their final sum is written
+ * to the slot row.
+ */
+public class SlotPurgeJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SlotPurgeJob.class);
+
+    private final InterviewSlotRepository slotRepository;
+    private final SlotSeatCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shards;
+    private final SlotRetentionProperties properties;
+    private final SchedulerMetrics metrics;
+
+    public SlotPurgeJob(InterviewSlotRepository slotRepository,
+                        SlotSeatCounterRepository counterRepository,
+                        TransactionTemplate transactionTemplate,
+                        ShardRouter shards,
+                        SlotRetentionProperties properties,
+                        SchedulerMetrics metrics) {
+        this.slotRepository = slotRepository;
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(cron = "${scheduler.retention.cron:0 45 3 * * *}")
+    public void run() {
+        purgeBefore(LocalDateTime.now().minus(properties.retention()));
+    }
+
+    /**
+     * @return number of slots deleted, on all shards
+     */
+    public int purgeBefore(LocalDateTime cutoff) {
+        int total = 0;
+        for (int shard = 0; shard < shards.count(); shard++) {
+            total += shards.on(shard, () -> purgeShardBefore(cutoff));
+        }
+        return total;
+    }
+
+    private int purgeShardBefore(LocalDateTime cutoff) {
+        PageRequest batch = PageRequest.of(0, properties.batchSize());
+        long afterId = 0L;
+        int total = 0;
+        int batches = 0;
+        while (true) {
+            long started = System.nanoTime();
+            List<Long> ids = slotRepository.findExpiredOpenSlotIds(cutoff, afterId, batch);
+            if (ids.isEmpty()) {
+                break;
+            }
+            Integer deleted = transactionTemplate.execute(
+                    status -> slotRepository.deleteExpiredOpenSlots(ids, cutoff));
+            long elapsed = System.nanoTime() - started;
+            metrics.recordSlotPurgeBatch(elapsed, deleted);
+            log.debug("Slot purge batch {}: {} of {} slots deleted in {} ms",
+                    batches + 1, deleted, ids.size(), elapsed / 1_000_000);
+
+            total += deleted;
+            batches++;
+            afterId = ids.get(ids.size() - 1);
+            if (ids.size() < properties.batchSize() || !pause()) {
+                break;
+            }
+        }
+        Integer counters = transactionTemplate.execute(status -> {
+            counterRepository.lockStartedBefore(cutoff);
+            slotRepository.syncShardedBookedCountsBefore(cutoff);
+            return counterRepository.deleteStartedBefore(cutoff);
+        });
+        log.info("Slot purge: {} unbooked slots and {} seat counters before {} deleted in {} batches",
+                total, counters, cutoff, batches);
+        return total;
+    }
+
+    private boolean pause() {
+        if (properties.pause().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.pause().toMillis());
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
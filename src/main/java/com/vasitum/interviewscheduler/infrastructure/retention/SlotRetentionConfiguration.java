@@ -0,0 +1,31 @@
+package com.vasitum.interviewscheduler.infrastructure.retention;
+
+import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(SlotRetentionProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.retention", name = "enabled", matchIfMissing = true)
+public class SlotRetentionConfiguration {
+
+    @Bean
+    public SlotPurgeJob slotPurgeJob(InterviewSlotRepository slotRepository,
+                                     SlotSeatCounterRepository counterRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     ShardRouter shards,
+                                     SlotRetentionProperties properties,
+                                     SchedulerMetrics metrics) {
+        return new SlotPurgeJob(slotRepository, counterRepository, new TransactionTemplate(transactionManager),
+                shards, properties, metrics);
+    }
+}
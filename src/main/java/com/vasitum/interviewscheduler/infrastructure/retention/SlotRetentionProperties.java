@@ -0,0 +1,32 @@
+package com.vasitum.interviewscheduler.infrastructure.retention;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Purge of past slots that were never booked.
+ *
+ * @param enabled   run {@link SlotPurgeJob} on {@code cron}
+ * @param cron      when to run the purge
+ * @param retention how long an unbooked slot is kept after its start time
+ * @param batchSize slots deleted per transaction
+ * @param pause     sleep between batches, leaving room for booking traffic
+ */
+@ConfigurationProperties(prefix = "scheduler.retention")
+public record SlotRetentionProperties(
+        Boolean enabled,
+        String cron,
+        Duration retention,
+        Integer batchSize,
+        Duration pause
+) {
+
+    public SlotRetentionProperties {
+        enabled = enabled != null ? enabled : true;
+        cron = cron != null ? cron : "0 45 3 * * *";
+        retention = retention != null ? retention : Duration.ofDays(7);
+        batchSize = batchSize != null ? batchSize : 500;
+        pause = pause != null ? pause : Duration.ofMillis(50);
+    }
+}
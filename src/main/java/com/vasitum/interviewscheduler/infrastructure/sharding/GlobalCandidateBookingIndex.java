@@ -0,0 +1,145 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.vasitum.interviewscheduler.application.exception.AlreadyBookedException;
+import com.vasitum.interviewscheduler.application.service.CandidateBookingIndex;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The {@code candidate_bookings} table on shard 0: one row per candidate (lower-cased email, as
+ * the single-database rule matches them) with an upcoming booking, on whichever shard. Writes go
+ * through the shard 0 pool directly, outside the booking transaction, so they work the same for
+ * bookings on every shard.
+ * <p>
+ * A booking claims the row before its transaction commits; the insert only succeeds when the row
+ * is missing or its slot has started, which decides races between shards. A rollback deletes the
+ * claim again, while cancellations and reschedules are applied after their commit. If a node dies
+ * between the claim and the commit, the stale claim blocks the candidate until its slot time
+ * passes or the index is rebuilt on the next start.
+ */
+public class GlobalCandidateBookingIndex implements CandidateBookingIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(GlobalCandidateBookingIndex.class);
+
+    private final ShardRoutingDataSource dataSource;
+    private final JdbcTemplate directory;
+
+    public GlobalCandidateBookingIndex(ShardRoutingDataSource dataSource) {
+        this.dataSource = dataSource;
+        this.directory = new JdbcTemplate(dataSource.shard(0));
+    }
+
+    @Override
+    public void lock(String candidateEmail) {
+        // nothing to hold: the claim in booked decides races, on whichever shard they start
+    }
+
+    @Override
+    public boolean hasActiveBooking(String candidateEmail) {
+        return Boolean.TRUE.equals(directory.queryForObject("""
+                select exists(select 1 from candidate_bookings where candidate_email = lower(?) and slot_start_time > ?)
+                """, Boolean.class, candidateEmail, LocalDateTime.now()));
+    }
+
+    @Override
+    public void booked(Booking booking) {
+        String email = booking.getCandidateEmail();
+        Long bookingId = booking.getId();
+        int claimed = directory.update("""
+                insert into candidate_bookings (candidate_email, booking_id, slot_start_time) values (lower(?), ?, ?)
+                on conflict (candidate_email) do update
+                    set booking_id = excluded.booking_id, slot_start_time = excluded.slot_start_time
+                    where candidate_bookings.slot_start_time <= ?
+                """, email, bookingId, booking.getSlot().getStartTime(), LocalDateTime.now());
+        if (claimed == 0) {
+            throw new AlreadyBookedException(email);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(email, bookingId);
+                    }
+                }
+            });
+        }
+    }
+
+    @Override
+    public void rescheduled(Booking booking) {
+        String email = booking.getCandidateEmail();
+        Long bookingId = booking.getId();
+        LocalDateTime start = booking.getSlot().getStartTime();
+        afterCommit(() -> directory.update(
+                "update candidate_bookings set slot_start_time = ? where candidate_email = lower(?) and booking_id = ?",
+                start, email, bookingId));
+    }
+
+    @Override
+    public void cancelled(Booking booking) {
+        String email = booking.getCandidateEmail();
+        Long bookingId = booking.getId();
+        afterCommit(() -> release(email, bookingId));
+    }
+
+    /**
+     * Adds every upcoming booking missing from the index, e.g. after a crash between a claim and
+     * its commit or when sharding is switched on; claims without a booking are left to expire.
+     */
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int added = 0;
+        for (int shard = 0; shard < dataSource.shardCount(); shard++) {
+            List<Object[]> rows = new JdbcTemplate(dataSource.shard(shard)).query("""
+                            select distinct on (lower(candidate_email)) lower(candidate_email), id, slot_start_time
+                            from bookings
+                            where slot_start_time > ?
+                            order by lower(candidate_email), slot_start_time, id
+                            """,
+                    (rs, row) -> new Object[]{rs.getString(1), rs.getLong(2), rs.getTimestamp(3)}, now);
+            for (int[] batch : directory.batchUpdate("""
+                    insert into candidate_bookings (candidate_email, booking_id, slot_start_time) values (?, ?, ?)
+                    on conflict (candidate_email) do update
+                        set booking_id = excluded.booking_id, slot_start_time = excluded.slot_start_time
+                        where candidate_bookings.slot_start_time <= ?
+                    """, rows, 500, (statement, row) -> {
+                statement.setString(1, (String) row[0]);
+                statement.setLong(2, (Long) row[1]);
+                statement.setTimestamp(3, (Timestamp) row[2]);
+                statement.setTimestamp(4, Timestamp.valueOf(now));
+            })) {
+                for (int count : batch) {
+                    added += Math.max(count, 0);
+                }
+            }
+        }
+        log.info("Candidate booking index rebuilt: {} entries added", added);
+    }
+
+    private void release(String email, Long bookingId) {
+        directory.update("delete from candidate_bookings where candidate_email = lower(?) and booking_id = ?",
+                email, bookingId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.vasitum.interviewscheduler.application.service.BlackoutCalendar;
+import com.vasitum.interviewscheduler.application.service.CompanyHolidays;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.LocalDate;
+
+/**
+ * Holidays read from shard 0 through its pool directly, outside the caller's transaction, so slot
+ * generation on every shard sees the same ones.
+ */
+public class GlobalCompanyHolidays implements CompanyHolidays {
+
+    private final JdbcTemplate directory;
+
+    public GlobalCompanyHolidays(ShardRoutingDataSource dataSource) {
+        this.directory = new JdbcTemplate(dataSource.shard(0));
+    }
+
+    @Override
+    public void addTo(BlackoutCalendar calendar, LocalDate from, LocalDate to) {
+        directory.query("""
+                        select start_date, end_date from blackouts
+                        where interviewer_id is null and start_date <= ? and end_date >= ?
+                        """,
+                (RowCallbackHandler) rs -> calendar.add(rs.getObject(1, LocalDate.class),
+                        rs.getObject(2, LocalDate.class)), to, from);
+    }
+}
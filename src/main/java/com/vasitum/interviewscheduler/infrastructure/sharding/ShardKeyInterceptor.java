@@ -0,0 +1,111 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.vasitum.interviewscheduler.application.service.ShardKey;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs calls with {@link ShardKey} parameters on the shard their ids belong to. Ordered ahead of
+ * the transaction interceptor, so the transaction opens its connection on that shard.
+ */
+class ShardKeyInterceptor implements MethodInterceptor {
+
+    static final StaticMethodMatcherPointcut POINTCUT = new StaticMethodMatcherPointcut() {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return shardKeyParameters(method) != 0;
+        }
+    };
+
+    private final ObjectProvider<ShardRouter> routerProvider;
+    private final Map<Method, Long> keyedParameters = new ConcurrentHashMap<>();
+    private volatile ShardRouter router;
+
+    ShardKeyInterceptor(ObjectProvider<ShardRouter> routerProvider) {
+        this.routerProvider = routerProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        long keyed = keyedParameters.computeIfAbsent(method, ShardKeyInterceptor::shardKeyParameters);
+        Object[] arguments = invocation.getArguments();
+        ShardRouter router = router();
+        Integer shard = null;
+        for (int i = 0; i < arguments.length; i++) {
+            if ((keyed & (1L << i)) != 0) {
+                shard = merge(router, shard, arguments[i]);
+            }
+        }
+        if (shard == null) {
+            return invocation.proceed();
+        }
+        try {
+            return router.on(shard, () -> {
+                try {
+                    return invocation.proceed();
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw new CheckedFailure(ex);
+                }
+            });
+        } catch (CheckedFailure failure) {
+            throw failure.getCause();
+        }
+    }
+
+    private ShardRouter router() {
+        if (router == null) {
+            router = routerProvider.getObject();
+        }
+        return router;
+    }
+
+    private static Integer merge(ShardRouter router, Integer shard, Object argument) {
+        if (argument instanceof Collection<?> ids) {
+            for (Object id : ids) {
+                shard = merge(router, shard, id);
+            }
+            return shard;
+        }
+        if (!(argument instanceof Number id)) {
+            return shard;
+        }
+        int owner = router.shardOf(id.longValue());
+        if (shard != null && shard != owner) {
+            throw new IllegalArgumentException("The requested records live on different shards ("
+                    + shard + " and " + owner + "); only records of interviewers on one shard can be combined");
+        }
+        return owner;
+    }
+
+    // bit i set when parameter i carries @ShardKey
+    private static long shardKeyParameters(Method method) {
+        long keyed = 0;
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length && i < 64; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    keyed |= 1L << i;
+                }
+            }
+        }
+        return keyed;
+    }
+
+    private static final class CheckedFailure extends RuntimeException {
+
+        CheckedFailure(Throwable cause) {
+            super(cause);
+        }
+    }
+}
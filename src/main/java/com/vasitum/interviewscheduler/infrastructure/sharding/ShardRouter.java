@@ -0,0 +1,149 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.vasitum.interviewscheduler.application.service.Shards;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the shard of the current thread, which {@link ShardRoutingDataSource} hands connections
+ * for. Shard {@code k} of {@code n} draws its ids from sequences starting at {@code k + 1} and
+ * stepping by {@code n} (see {@link ShardSequences}), so {@code (id - 1) mod n} names the owner
+ * of any row without a lookup.
+ */
+public class ShardRouter implements Shards, AutoCloseable {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private final int count;
+    private final ExecutorService scatter;
+
+    public ShardRouter(int count, int scatterThreads) {
+        this.count = count;
+        this.scatter = count > 1 ? Executors.newFixedThreadPool(scatterThreads, daemonThreads()) : null;
+    }
+
+    public static ShardRouter single() {
+        return new ShardRouter(1, 0);
+    }
+
+    /**
+     * The shard the current thread works on; {@code null} means shard 0.
+     */
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public int count() {
+        return count;
+    }
+
+    @Override
+    public int shardOf(long id) {
+        return (int) Math.floorMod(id - 1, (long) count);
+    }
+
+    /**
+     * Where a new interviewer goes; stable for the same email, so a retried create lands on the
+     * same shard.
+     */
+    public int placeInterviewer(String email) {
+        return Math.floorMod(email.toLowerCase(Locale.ROOT).hashCode(), count);
+    }
+
+    @Override
+    public <T> T on(int shard, Supplier<T> work) {
+        if (count == 1) {
+            return work.get();
+        }
+        if (shard < 0 || shard >= count) {
+            throw new IllegalArgumentException("No shard " + shard + " of " + count);
+        }
+        Integer previous = CURRENT.get();
+        int active = previous != null ? previous : 0;
+        if (active != shard && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Cannot switch to shard " + shard
+                    + " inside a transaction on shard " + active);
+        }
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public void run(int shard, Runnable work) {
+        on(shard, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Scatter/gather: every shard on its own thread; the first failure is rethrown.
+     */
+    @Override
+    public <T> List<T> onEach(Supplier<T> work) {
+        if (count == 1) {
+            return List.of(work.get());
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> on(target, work), scatter));
+        }
+        List<T> results = new ArrayList<>(count);
+        try {
+            for (CompletableFuture<T> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return results;
+    }
+
+    /**
+     * Runs {@code work} once per shard, one after another, on the calling thread; for background
+     * jobs, which should not hold the scatter threads.
+     */
+    public void forEachShard(Runnable work) {
+        for (int shard = 0; shard < count; shard++) {
+            run(shard, work);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scatter != null) {
+            scatter.shutdownNow();
+        }
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger threads = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "shard-scatter-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One Hikari pool per shard; connections come from the pool of {@link ShardRouter#current()},
+ * or shard 0 when no shard was chosen. The choice is made when a connection is acquired, which
+ * for JPA is when the transaction begins, so the shard has to be set before that.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> pools;
+    private final List<DataSourceProperties> connections;
+
+    public ShardRoutingDataSource(List<HikariDataSource> pools, List<DataSourceProperties> connections) {
+        this.pools = List.copyOf(pools);
+        this.connections = List.copyOf(connections);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < pools.size(); shard++) {
+            targets.put(shard, pools.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(pools.get(0));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int shardCount() {
+        return pools.size();
+    }
+
+    /**
+     * The pool of one shard, for work that must not join the current transaction.
+     */
+    public DataSource shard(int shard) {
+        return pools.get(shard);
+    }
+
+    /**
+     * How to reach one shard outside the pool, e.g. for a LISTEN connection.
+     */
+    public DataSourceProperties connection(int shard) {
+        return connections.get(shard);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardRouter.current();
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,71 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interleaves the id sequences of the shards: on shard {@code k} of {@code n} they step by
+ * {@code n} and only hand out ids with {@code (id - 1) mod n == k}. Runs after every migration;
+ * sequences already set up are left alone, others continue above their last id.
+ * <p>
+ * Rows written before sharding keep their ids and are only found where those ids map to, so
+ * sharding is meant to start from empty databases; moving existing data between shards, or
+ * changing the number of shards later, is not covered.
+ */
+final class ShardSequences {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSequences.class);
+
+    // ids that route requests, keyed by the table owning the sequence
+    private static final List<String> IDENTITY_TABLES =
+            List.of("interviewers", "weekly_availabilities", "panel_bookings", "waitlist_entries");
+    private static final List<String> SEQUENCES = List.of("interview_slot_ids", "booking_ids");
+
+    private ShardSequences() {
+    }
+
+    static void interleave(DataSource dataSource, int shard, int shards) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        for (String table : IDENTITY_TABLES) {
+            String sequence = jdbc.queryForObject("select pg_get_serial_sequence(?, 'id')", String.class, table);
+            Long restart = restartValue(jdbc, sequence, shard, shards);
+            if (restart != null) {
+                jdbc.execute("alter table " + table + " alter column id set increment by " + shards
+                        + " restart with " + restart);
+                log.info("Shard {}: ids of {} continue at {} in steps of {}", shard, table, restart, shards);
+            }
+        }
+        for (String sequence : SEQUENCES) {
+            Long restart = restartValue(jdbc, "public." + sequence, shard, shards);
+            if (restart != null) {
+                jdbc.execute("alter sequence " + sequence + " increment by " + shards + " restart with " + restart);
+                log.info("Shard {}: {} continues at {} in steps of {}", shard, sequence, restart, shards);
+            }
+        }
+    }
+
+    /**
+     * @return the first aligned id above everything handed out so far, or null when the
+     * sequence already steps through this shard's ids
+     */
+    private static Long restartValue(JdbcTemplate jdbc, String sequence, int shard, int shards) {
+        Map<String, Object> state = jdbc.queryForMap("""
+                select increment_by, start_value, last_value from pg_sequences
+                where schemaname || '.' || sequencename = ?
+                """, sequence);
+        long increment = ((Number) state.get("increment_by")).longValue();
+        Number lastValue = (Number) state.get("last_value");
+        long next = lastValue != null ? lastValue.longValue() + increment
+                : ((Number) state.get("start_value")).longValue();
+        if (increment == shards && Math.floorMod(next - 1, shards) == shard) {
+            return null;
+        }
+        long last = lastValue != null ? lastValue.longValue() : 0;
+        return last + 1 + Math.floorMod(shard - last, shards);
+    }
+}
@@ -0,0 +1,140 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.vasitum.interviewscheduler.application.service.CandidateBookingIndex;
+import com.vasitum.interviewscheduler.application.service.CompanyHolidays;
+import com.vasitum.interviewscheduler.application.service.LocalCandidateBookingIndex;
+import com.vasitum.interviewscheduler.application.service.LocalCompanyHolidays;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
+import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfiguration {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "scheduler.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+    static class SingleDatabase {
+
+        @Bean
+        public ShardRouter shardRouter() {
+            return ShardRouter.single();
+        }
+
+        @Bean
+        public CandidateBookingIndex candidateBookingIndex(BookingRepository bookingRepository,
+                                                           JdbcTemplate jdbcTemplate) {
+            return new LocalCandidateBookingIndex(bookingRepository, jdbcTemplate);
+        }
+
+        @Bean
+        public CompanyHolidays companyHolidays(BlackoutRepository blackoutRepository) {
+            return new LocalCompanyHolidays(blackoutRepository);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "scheduler.sharding", name = "enabled", havingValue = "true")
+    static class Sharded {
+
+        /**
+         * Shard 0 is {@code spring.datasource}; every shard gets a pool configured by
+         * {@code spring.datasource.hikari}.
+         */
+        @Bean
+        @Primary
+        public ShardRoutingDataSource dataSource(DataSourceProperties primary, ShardingProperties properties,
+                                                 Environment environment) {
+            List<DataSourceProperties> connections = new ArrayList<>();
+            connections.add(primary);
+            properties.shards().forEach(shard -> connections.add(shard.dataSourceProperties()));
+            HikariConfig template = Binder.get(environment)
+                    .bind("spring.datasource.hikari", Bindable.of(HikariConfig.class))
+                    .orElseGet(HikariConfig::new);
+
+            List<HikariDataSource> pools = new ArrayList<>();
+            for (int shard = 0; shard < connections.size(); shard++) {
+                DataSourceProperties connection = connections.get(shard);
+                HikariConfig config = new HikariConfig();
+                template.copyStateTo(config);
+                config.setJdbcUrl(connection.determineUrl());
+                config.setUsername(connection.determineUsername());
+                config.setPassword(connection.determinePassword());
+                config.setDriverClassName(connection.determineDriverClassName());
+                config.setPoolName("shard-" + shard);
+                pools.add(new HikariDataSource(config));
+            }
+            return new ShardRoutingDataSource(pools, connections);
+        }
+
+        @Bean
+        public ShardRouter shardRouter(ShardRoutingDataSource dataSource, ShardingProperties properties) {
+            return new ShardRouter(dataSource.shardCount(), properties.scatterThreads());
+        }
+
+        @Bean
+        public GlobalCandidateBookingIndex candidateBookingIndex(ShardRoutingDataSource dataSource) {
+            return new GlobalCandidateBookingIndex(dataSource);
+        }
+
+        @Bean
+        public CompanyHolidays companyHolidays(ShardRoutingDataSource dataSource) {
+            return new GlobalCompanyHolidays(dataSource);
+        }
+
+        /**
+         * Migrates every shard with the configured Flyway settings, interleaves their id sequences
+         * and fills in the candidate index.
+         */
+        @Bean
+        public FlywayMigrationStrategy shardedMigration(ShardRoutingDataSource dataSource,
+                                                        GlobalCandidateBookingIndex candidateIndex) {
+            return flyway -> {
+                int shards = dataSource.shardCount();
+                for (int shard = 0; shard < shards; shard++) {
+                    Flyway.configure()
+                            .configuration(flyway.getConfiguration())
+                            .dataSource(dataSource.shard(shard))
+                            .load()
+                            .migrate();
+                    ShardSequences.interleave(dataSource.shard(shard), shard, shards);
+                }
+                candidateIndex.rebuild();
+            };
+        }
+
+        // static and resolving the router lazily: advisors are created while bean post-processors
+        // are still being registered, before the data source should be
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        public static Advisor shardKeyAdvisor(ObjectProvider<ShardRouter> router) {
+            DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(ShardKeyInterceptor.POINTCUT,
+                    new ShardKeyInterceptor(router));
+            // outside @Transactional, whose advisor has the lowest precedence; inside request tracing
+            advisor.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+            return advisor;
+        }
+    }
+}
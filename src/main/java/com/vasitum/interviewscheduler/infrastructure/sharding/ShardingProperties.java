@@ -0,0 +1,39 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Interviewer-keyed sharding over several PostgreSQL databases.
+ *
+ * @param enabled        when false everything lives in {@code spring.datasource}
+ * @param shards         databases besides {@code spring.datasource}, which is always shard 0; the
+ *                       order is the shard number and must never change once data was written
+ * @param scatterThreads threads reading all shards in parallel for cross-shard listings
+ */
+@ConfigurationProperties(prefix = "scheduler.sharding")
+public record ShardingProperties(
+        Boolean enabled,
+        List<Shard> shards,
+        Integer scatterThreads
+) {
+
+    public ShardingProperties {
+        enabled = enabled != null ? enabled : false;
+        shards = shards != null ? shards : List.of();
+        scatterThreads = scatterThreads != null ? scatterThreads : 16;
+    }
+
+    public record Shard(String url, String username, String password) {
+
+        DataSourceProperties dataSourceProperties() {
+            DataSourceProperties properties = new DataSourceProperties();
+            properties.setUrl(url);
+            properties.setUsername(username);
+            properties.setPassword(password);
+            return properties;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.vasitum.interviewscheduler.infrastructure.sql;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link SqlRequestStats} scope per request, records the statement count and
+ * JDBC time per endpoint, and warns when an endpoint goes over its budget.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final SqlBudgetProperties properties;
+    private final SchedulerMetrics metrics;
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, SchedulerMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // headers must be written before the body, so buffer the response in debug mode
+        ContentCachingResponseWrapper buffered = properties.debugHeaders()
+                ? new ContentCachingResponseWrapper(response)
+                : null;
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlRequestStats.end();
+            String endpoint = endpointOf(request);
+            metrics.recordSqlUsage(endpoint, stats.getStatements(), stats.getJdbcNanos());
+
+            int budget = properties.budgetFor(endpoint);
+            if (stats.getStatements() > budget) {
+                log.warn("SQL budget exceeded for {}: {} statements (budget {}), {} ms in JDBC",
+                        endpoint, stats.getStatements(), budget, stats.getJdbcNanos() / 1_000_000);
+            }
+            if (buffered != null) {
+                buffered.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                buffered.setHeader(TIME_HEADER, String.valueOf(stats.getJdbcNanos() / 1_000_000));
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+    }
+}
@@ -0,0 +1,30 @@
+package com.vasitum.interviewscheduler.infrastructure.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.Map;
+
+/**
+ * Per-request SQL budgets. Keys of {@code budgets} are "METHOD /path/pattern",
+ * e.g. {@code "GET /api/v1/slots/{slotId}"}; other endpoints use {@code defaultBudget}.
+ *
+ * @param debugHeaders  add X-SQL-Statements / X-SQL-Time-Ms response headers
+ * @param defaultBudget statements allowed per request when no endpoint budget is set
+ * @param budgets       endpoint-specific budgets
+ */
+@ConfigurationProperties(prefix = "scheduler.sql")
+public record SqlBudgetProperties(
+        boolean debugHeaders,
+        Integer defaultBudget,
+        Map<String, Integer> budgets
+) {
+
+    public SqlBudgetProperties {
+        defaultBudget = defaultBudget != null ? defaultBudget : 10;
+        budgets = budgets != null ? Map.copyOf(budgets) : Map.of();
+    }
+
+    public int budgetFor(String endpoint) {
+        return budgets.getOrDefault(endpoint, defaultBudget);
+    }
+}
@@ -0,0 +1,21 @@
+package com.vasitum.interviewscheduler.infrastructure.sql;
+
+import com.vasitum.interviewscheduler.infrastructure.tracing.Trace;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every SQL statement Hibernate prepares against the current request and hands it to
+ * the request's trace; the SQL is passed through unchanged.
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementPrepared();
+        }
+        Trace.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vasitum.interviewscheduler.infrastructure.sql;
+
+/**
+ * Statement count and JDBC time for the HTTP request running on the current thread.
+ * Hibernate hooks write into it; {@link SqlBudgetFilter} opens and closes the scope.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private long executeStartedAt;
+
+    private SqlRequestStats() {
+    }
+
+    static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats for the current request, or {@code null} when no request scope is open
+     * (startup, scheduled jobs).
+     */
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void executeStarted() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    void executeEnded() {
+        if (executeStartedAt != 0) {
+            jdbcNanos += System.nanoTime() - executeStartedAt;
+            executeStartedAt = 0;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
@@ -0,0 +1,53 @@
+package com.vasitum.interviewscheduler.infrastructure.sql;
+
+import com.vasitum.interviewscheduler.infrastructure.tracing.Span;
+import com.vasitum.interviewscheduler.infrastructure.tracing.Trace;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Accumulates JDBC execution time for the current request and records a span per statement
+ * in its trace. Hibernate creates one instance per session (see {@code hibernate.session.events.auto}).
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private Span statement;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.executeStarted();
+        }
+        statement = startSpan();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.executeEnded();
+        }
+        if (statement != null) {
+            statement.close();
+            statement = null;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+        statement.attribute("db.operation.batch", true);
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+
+    private static Span startSpan() {
+        String sql = Trace.takeStatement();
+        int space = sql != null ? sql.indexOf(' ') : -1;
+        return Trace.start(space > 0 ? "sql " + sql.substring(0, space).toLowerCase() : "sql", Span.Kind.CLIENT)
+                .attribute("db.statement", sql);
+    }
+}
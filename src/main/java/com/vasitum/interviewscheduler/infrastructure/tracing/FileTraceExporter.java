@@ -0,0 +1,32 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends one export request per line, the format the OpenTelemetry collector's file exporter
+ * writes and its {@code otlpjsonfile} receiver reads back.
+ */
+class FileTraceExporter implements TraceExporter {
+
+    private final Path file;
+
+    FileTraceExporter(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void export(byte[] request) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            out.write(request);
+            out.write('\n');
+        }
+    }
+}
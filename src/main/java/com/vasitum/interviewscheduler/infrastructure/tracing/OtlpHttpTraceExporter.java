@@ -0,0 +1,42 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Posts traces to an OTLP/HTTP collector ({@code /v1/traces}, JSON encoding).
+ */
+class OtlpHttpTraceExporter implements TraceExporter {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI endpoint;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+
+    OtlpHttpTraceExporter(URI endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void export(byte[] request) throws IOException {
+        HttpRequest post = HttpRequest.newBuilder(endpoint)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(request))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = client.send(post, HttpResponse.BodyHandlers.discarding());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while exporting to " + endpoint, ex);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Collector " + endpoint + " answered " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes a trace as an OTLP/JSON {@code ExportTraceServiceRequest}, the body an OTLP/HTTP
+ * collector accepts and the line format of the collector's file exporter.
+ */
+final class OtlpJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String serviceName;
+
+    OtlpJson(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    byte[] encode(String traceId, List<Span> spans) {
+        ObjectNode request = MAPPER.createObjectNode();
+        ObjectNode resourceSpans = request.putArray("resourceSpans").addObject();
+        attributes(resourceSpans.putObject("resource"), Map.of("service.name", serviceName));
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", serviceName);
+        ArrayNode encoded = scopeSpans.putArray("spans");
+        for (Span span : spans) {
+            ObjectNode node = encoded.addObject()
+                    .put("traceId", traceId)
+                    .put("spanId", span.spanId());
+            if (span.parentSpanId() != null) {
+                node.put("parentSpanId", span.parentSpanId());
+            }
+            node.put("name", span.name())
+                    // OTLP SpanKind: 1 internal, 2 server, 3 client
+                    .put("kind", span.kind().ordinal() + 1)
+                    // 64-bit integers are strings in OTLP/JSON
+                    .put("startTimeUnixNano", String.valueOf(span.startEpochNanos()))
+                    .put("endTimeUnixNano", String.valueOf(span.startEpochNanos() + span.durationNanos()));
+            attributes(node, span.attributes());
+            if (span.errorMessage() != null) {
+                node.putObject("status").put("code", 2).put("message", span.errorMessage());
+            }
+        }
+        try {
+            return MAPPER.writeValueAsBytes(request);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode trace " + traceId, ex);
+        }
+    }
+
+    private static void attributes(ObjectNode owner, Map<String, ?> attributes) {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        ArrayNode encoded = owner.putArray("attributes");
+        attributes.forEach((key, value) -> {
+            ObjectNode attribute = encoded.addObject().put("key", key);
+            ObjectNode wrapped = attribute.putObject("value");
+            if (value instanceof Boolean flag) {
+                wrapped.put("boolValue", flag);
+            } else if (value instanceof Integer || value instanceof Long) {
+                wrapped.put("intValue", value.toString());
+            } else if (value instanceof Number number) {
+                wrapped.put("doubleValue", number.doubleValue());
+            } else {
+                wrapped.put("stringValue", value.toString());
+            }
+        });
+    }
+}
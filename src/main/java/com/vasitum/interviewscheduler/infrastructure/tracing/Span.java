@@ -0,0 +1,109 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed operation of a {@link Trace}. Spans started while no trace is active are inert, so
+ * callers never need to check; {@link #close()} ends the span.
+ */
+public final class Span implements AutoCloseable {
+
+    public enum Kind {
+        INTERNAL, SERVER, CLIENT
+    }
+
+    static final Span INERT = new Span(null, null, null, "inert", Kind.INTERNAL);
+
+    private final Trace trace;
+    private final String spanId;
+    private final String parentSpanId;
+    private final Kind kind;
+    private final long startEpochNanos;
+    private final long startNanos;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private String name;
+    private long durationNanos = -1;
+    private String error;
+
+    Span(Trace trace, String spanId, String parentSpanId, String name, Kind kind) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        Instant now = Instant.now();
+        this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        this.startNanos = System.nanoTime();
+    }
+
+    public Span attribute(String key, Object value) {
+        if (trace != null && value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    public Span rename(String name) {
+        if (trace != null) {
+            this.name = name;
+        }
+        return this;
+    }
+
+    public Span error(Throwable failure) {
+        if (trace != null) {
+            error = failure.getClass().getSimpleName()
+                    + (failure.getMessage() != null ? ": " + failure.getMessage() : "");
+        }
+        return this;
+    }
+
+    public Span error(String message) {
+        if (trace != null) {
+            error = message;
+        }
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (trace != null && durationNanos < 0) {
+            durationNanos = System.nanoTime() - startNanos;
+            trace.ended(this);
+        }
+    }
+
+    String spanId() {
+        return spanId;
+    }
+
+    String parentSpanId() {
+        return parentSpanId;
+    }
+
+    String name() {
+        return name;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    long startEpochNanos() {
+        return startEpochNanos;
+    }
+
+    long durationNanos() {
+        return durationNanos;
+    }
+
+    Map<String, Object> attributes() {
+        return attributes;
+    }
+
+    String errorMessage() {
+        return error;
+    }
+}
@@ -0,0 +1,140 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The spans of the HTTP request running on the current thread. {@link TracingFilter} opens and
+ * closes the scope; controllers, services, transactions and Hibernate hooks add child spans,
+ * each parented to the innermost span still open. Nothing is recorded outside a request
+ * (startup, scheduled jobs, scatter threads).
+ */
+public final class Trace {
+
+    // a bulk import can run thousands of statements; later spans are counted, not kept
+    static final int MAX_SPANS = 2000;
+
+    private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+    private final String traceId;
+    private final String remoteParentId;
+    private final boolean sampledUpstream;
+    private final boolean recording;
+    private final Deque<Span> open = new ArrayDeque<>();
+    private final List<Span> finished = new ArrayList<>();
+    private int dropped;
+    private String pendingStatement;
+
+    private Trace(String traceId, String remoteParentId, boolean sampledUpstream, boolean recording) {
+        this.traceId = traceId;
+        this.remoteParentId = remoteParentId;
+        this.sampledUpstream = sampledUpstream;
+        this.recording = recording;
+    }
+
+    /**
+     * @param traceId        the caller's trace id, or {@code null} to start a new trace
+     * @param remoteParentId the caller's span, parent of this request's root span
+     * @param recording      {@code false} when nothing would export the spans: the request only
+     *                       gets a trace id, and every span is inert
+     */
+    static Trace begin(String traceId, String remoteParentId, boolean sampledUpstream, boolean recording) {
+        Trace trace = new Trace(traceId != null ? traceId : newId(16), remoteParentId, sampledUpstream, recording);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Trace id of the current request, or {@code null} outside a traced request.
+     */
+    public static String currentTraceId() {
+        Trace trace = CURRENT.get();
+        return trace != null ? trace.traceId : null;
+    }
+
+    /**
+     * Starts a child of the innermost open span; use with try-with-resources.
+     */
+    public static Span start(String name, Span.Kind kind) {
+        Trace trace = CURRENT.get();
+        return trace != null ? trace.child(name, kind) : Span.INERT;
+    }
+
+    // the statement inspector sees the SQL, the session listener times its execution
+    public static void statementPrepared(String sql) {
+        Trace trace = CURRENT.get();
+        if (trace != null && trace.recording) {
+            trace.pendingStatement = sql;
+        }
+    }
+
+    public static String takeStatement() {
+        Trace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        String sql = trace.pendingStatement;
+        trace.pendingStatement = null;
+        return sql;
+    }
+
+    Span child(String name, Span.Kind kind) {
+        if (!recording) {
+            return Span.INERT;
+        }
+        Span parent = open.peek();
+        Span span = new Span(this, newId(8), parent != null ? parent.spanId() : remoteParentId, name, kind);
+        open.push(span);
+        return span;
+    }
+
+    void ended(Span span) {
+        open.remove(span);
+        if (finished.size() < MAX_SPANS) {
+            finished.add(span);
+        } else {
+            dropped++;
+        }
+    }
+
+    String traceId() {
+        return traceId;
+    }
+
+    boolean sampledUpstream() {
+        return sampledUpstream;
+    }
+
+    int dropped() {
+        return dropped;
+    }
+
+    List<Span> finished() {
+        return List.copyOf(finished);
+    }
+
+    static String newId(int bytes) {
+        byte[] id = new byte[bytes];
+        do {
+            ThreadLocalRandom.current().nextBytes(id);
+        } while (isZero(id));
+        return HexFormat.of().formatHex(id);
+    }
+
+    private static boolean isZero(byte[] id) {
+        for (byte b : id) {
+            if (b != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
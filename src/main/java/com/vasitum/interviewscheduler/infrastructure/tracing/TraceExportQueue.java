@@ -0,0 +1,70 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and exports sampled traces on one background thread, so a slow file system or
+ * collector never adds to request latency. When {@code queueSize} traces are waiting, further
+ * ones are dropped.
+ */
+public class TraceExportQueue implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TraceExportQueue.class);
+    private static final long WARN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final TraceExporter exporter;
+    private final OtlpJson json;
+    private final SchedulerMetrics metrics;
+    private final ThreadPoolExecutor executor;
+    private long lastWarning;
+
+    TraceExportQueue(TraceExporter exporter, OtlpJson json, SchedulerMetrics metrics, int queueSize) {
+        this.exporter = exporter;
+        this.json = json;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), task -> {
+            Thread thread = new Thread(task, "trace-export");
+            thread.setDaemon(true);
+            return thread;
+        }, (task, pool) -> metrics.recordTrace("dropped"));
+    }
+
+    void submit(String traceId, List<Span> spans) {
+        executor.execute(() -> {
+            try {
+                exporter.export(json.encode(traceId, spans));
+                metrics.recordTrace("exported");
+            } catch (IOException | RuntimeException ex) {
+                metrics.recordTrace("failed");
+                warn(ex);
+            }
+        });
+    }
+
+    // a missing collector would otherwise log once per sampled request
+    private void warn(Exception ex) {
+        long now = System.nanoTime();
+        if (lastWarning == 0 || now - lastWarning >= WARN_INTERVAL_NANOS) {
+            lastWarning = now;
+            log.warn("Trace export failed (further failures within a minute are only counted): {}", ex.toString());
+        }
+    }
+
+    /**
+     * Exports what is already queued, waiting a few seconds at most.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,11 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import java.io.IOException;
+
+/**
+ * Destination of sampled traces, each encoded as one OTLP/JSON export request.
+ */
+public interface TraceExporter {
+
+    void export(byte[] request) throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tail sampling: decided once the request has finished, so every slow or failed request is
+ * kept whatever the rate, along with requests the caller marked as sampled and a random share
+ * of the rest.
+ */
+final class TraceSampler {
+
+    private final double sampleRate;
+    private final long keepSlowerThanNanos;
+
+    TraceSampler(double sampleRate, Duration keepSlowerThan) {
+        this.sampleRate = sampleRate;
+        this.keepSlowerThanNanos = keepSlowerThan.toNanos();
+    }
+
+    /**
+     * @return why the trace is kept, or {@code null} to drop it
+     */
+    String reason(long durationNanos, boolean failed, boolean sampledUpstream) {
+        if (failed) {
+            return "error";
+        }
+        if (durationNanos >= keepSlowerThanNanos) {
+            return "slow";
+        }
+        if (sampledUpstream) {
+            return "upstream";
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate ? "rate" : null;
+    }
+}
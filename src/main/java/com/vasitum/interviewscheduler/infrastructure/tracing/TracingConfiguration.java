@@ -0,0 +1,66 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.net.URI;
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(TracingProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.tracing", name = "enabled")
+public class TracingConfiguration {
+
+    /**
+     * Absent with {@code exporter: none}; requests then get trace ids but no spans.
+     */
+    @Bean
+    @ConditionalOnExpression("'${scheduler.tracing.exporter:none}' != 'none'")
+    public TraceExportQueue traceExportQueue(TracingProperties properties, SchedulerMetrics metrics) {
+        TraceExporter exporter = switch (properties.exporter()) {
+            case "file" -> new FileTraceExporter(Path.of(properties.file()));
+            case "otlp" -> new OtlpHttpTraceExporter(URI.create(properties.endpoint()));
+            default -> throw new IllegalStateException(
+                    "Unknown scheduler.tracing.exporter '" + properties.exporter() + "' (file, otlp or none)");
+        };
+        return new TraceExportQueue(exporter, new OtlpJson(properties.serviceName()), metrics, properties.queueSize());
+    }
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(TracingProperties properties,
+                                                               ObjectProvider<TraceExportQueue> exportQueue,
+                                                               SchedulerMetrics metrics) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(
+                new TraceSampler(properties.sampleRate(), properties.keepSlowerThan()),
+                exportQueue.getIfAvailable(), metrics));
+        // ahead of the SQL budget filter, so the root span covers the whole request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public TransactionExecutionListener transactionTracingListener() {
+        return new TransactionTracingListener();
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor tracingAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(TracingInterceptor.POINTCUT, new TracingInterceptor());
+        // outermost, ahead of shard routing and @Transactional
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
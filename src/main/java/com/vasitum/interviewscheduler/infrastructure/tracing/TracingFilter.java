@@ -0,0 +1,97 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Opens a {@link Trace} per request with a server span as its root, continuing the caller's
+ * trace when a W3C {@code traceparent} header is present, and returns the trace id in
+ * {@value #TRACE_ID_HEADER}. Once the response is complete the sampler decides whether the
+ * trace is exported. Without an exporter no spans are recorded; requests only get a trace id.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+    static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final Pattern TRACEPARENT =
+            Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    private final TraceSampler sampler;
+    private final TraceExportQueue exportQueue;
+    private final SchedulerMetrics metrics;
+
+    TracingFilter(TraceSampler sampler, TraceExportQueue exportQueue, SchedulerMetrics metrics) {
+        this.sampler = sampler;
+        this.exportQueue = exportQueue;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(TRACEPARENT_HEADER);
+        Matcher parent = header != null ? TRACEPARENT.matcher(header.trim()) : null;
+        boolean continued = parent != null && parent.matches()
+                && !parent.group(1).equals(INVALID_TRACE_ID) && !parent.group(2).equals(INVALID_SPAN_ID);
+        boolean recording = exportQueue != null;
+        Trace trace = continued
+                ? Trace.begin(parent.group(1), parent.group(2), (Integer.parseInt(parent.group(3), 16) & 1) == 1,
+                        recording)
+                : Trace.begin(null, null, false, recording);
+        Span root = trace.child(request.getMethod() + " " + request.getRequestURI(), Span.Kind.SERVER)
+                .attribute("http.request.method", request.getMethod())
+                .attribute("url.path", request.getRequestURI());
+        response.setHeader(TRACE_ID_HEADER, trace.traceId());
+
+        boolean failed = false;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException | Error ex) {
+            failed = true;
+            root.error(ex);
+            throw ex;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                root.rename(request.getMethod() + " " + pattern).attribute("http.route", pattern);
+            }
+            int status = response.getStatus();
+            root.attribute("http.response.status_code", status);
+            if (status >= 500 && !failed) {
+                failed = true;
+                root.error("HTTP " + status);
+            }
+            root.close();
+            Trace.end();
+            if (recording) {
+                finish(trace, root, failed);
+            }
+        }
+    }
+
+    private void finish(Trace trace, Span root, boolean failed) {
+        String reason = sampler.reason(root.durationNanos(), failed, trace.sampledUpstream());
+        if (reason == null) {
+            metrics.recordTrace("sampled-out");
+            return;
+        }
+        root.attribute("sampling.reason", reason);
+        if (trace.dropped() > 0) {
+            root.attribute("trace.dropped_spans", trace.dropped());
+        }
+        // the queue counts the kept trace as exported, dropped or failed
+        exportQueue.submit(trace.traceId(), trace.finished());
+    }
+}
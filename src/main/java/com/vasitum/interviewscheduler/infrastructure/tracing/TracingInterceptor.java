@@ -0,0 +1,40 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import com.vasitum.interviewscheduler.application.service.Traced;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * A span per call of a controller or {@link Traced} service method, named
+ * {@code Class.method}. Ordered ahead of the transaction interceptor, so transaction spans nest
+ * inside the method that opened them.
+ */
+class TracingInterceptor implements MethodInterceptor {
+
+    static final Pointcut POINTCUT = new ComposablePointcut(new AnnotationMatchingPointcut(RestController.class, true))
+            .union(new AnnotationMatchingPointcut(Traced.class, true));
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (Trace.currentTraceId() == null) {
+            return invocation.proceed();
+        }
+        Class<?> type = invocation.getThis() != null
+                ? ClassUtils.getUserClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        try (Span span = Trace.start(type.getSimpleName() + "." + invocation.getMethod().getName(),
+                Span.Kind.INTERNAL)) {
+            try {
+                return invocation.proceed();
+            } catch (Throwable ex) {
+                span.error(ex);
+                throw ex;
+            }
+        }
+    }
+}
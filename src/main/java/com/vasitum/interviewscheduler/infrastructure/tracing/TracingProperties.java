@@ -0,0 +1,42 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Request tracing: HTTP request, controller, service, transaction and SQL statement spans.
+ *
+ * @param enabled        trace requests and put their trace id into error responses
+ * @param exporter       {@code file} (OTLP JSON, one export request per line), {@code otlp}
+ *                       (OTLP/HTTP JSON to {@code endpoint}) or {@code none}
+ * @param file           file exporter: where traces are appended
+ * @param endpoint       otlp exporter: the collector's traces URL
+ * @param sampleRate     share of ordinary requests exported, from 0 to 1
+ * @param keepSlowerThan requests at least this slow are always exported, as are failed ones
+ * @param queueSize      traces waiting for export; more are dropped rather than slowing requests
+ * @param serviceName    {@code service.name} of the exported resource
+ */
+@ConfigurationProperties(prefix = "scheduler.tracing")
+public record TracingProperties(
+        Boolean enabled,
+        String exporter,
+        String file,
+        String endpoint,
+        Double sampleRate,
+        Duration keepSlowerThan,
+        Integer queueSize,
+        String serviceName
+) {
+
+    public TracingProperties {
+        enabled = enabled != null ? enabled : false;
+        exporter = exporter != null ? exporter : "none";
+        file = file != null ? file : "traces.jsonl";
+        endpoint = endpoint != null ? endpoint : "http://localhost:4318/v1/traces";
+        sampleRate = sampleRate != null ? sampleRate : 0.01;
+        keepSlowerThan = keepSlowerThan != null ? keepSlowerThan : Duration.ofMillis(500);
+        queueSize = queueSize != null ? queueSize : 1000;
+        serviceName = serviceName != null ? serviceName : "interview-scheduler";
+    }
+}
@@ -0,0 +1,65 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A span per physical transaction, from before the connection is taken (so pool waits show up)
+ * to commit or rollback, with a child span for the commit itself. Spring Boot registers
+ * listener beans with the transaction manager.
+ */
+class TransactionTracingListener implements TransactionExecutionListener {
+
+    private final Map<TransactionExecution, Span> transactions = new ConcurrentHashMap<>();
+    private final Map<TransactionExecution, Span> commits = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeBegin(TransactionExecution transaction) {
+        if (Trace.currentTraceId() == null) {
+            return;
+        }
+        transactions.put(transaction, Trace.start("transaction", Span.Kind.INTERNAL)
+                .attribute("transaction.name", transaction.getTransactionName())
+                .attribute("transaction.read_only", transaction.isReadOnly()));
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure != null) {
+            end(transactions.remove(transaction), "begin-failed", beginFailure);
+        }
+    }
+
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (transactions.containsKey(transaction)) {
+            commits.put(transaction, Trace.start("commit", Span.Kind.INTERNAL));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        end(commits.remove(transaction), null, commitFailure);
+        end(transactions.remove(transaction), "commit", commitFailure);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        end(commits.remove(transaction), null, rollbackFailure);
+        end(transactions.remove(transaction), "rollback", rollbackFailure);
+    }
+
+    private static void end(Span span, String outcome, Throwable failure) {
+        if (span == null) {
+            return;
+        }
+        span.attribute("transaction.outcome", outcome);
+        if (failure != null) {
+            span.error(failure);
+        }
+        span.close();
+    }
+}
@@ -0,0 +1,29 @@
+package com.vasitum.interviewscheduler.infrastructure.waitlist;
+
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.domain.repository.WaitlistEntryRepository;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(WaitlistProperties.class)
+@ConditionalOnProperty(prefix = "scheduler.waitlist", name = "enabled", matchIfMissing = true)
+public class WaitlistConfiguration {
+
+    @Bean
+    public WaitlistSweepJob waitlistSweepJob(WaitlistEntryRepository waitlistRepository,
+                                             BookingService bookingService,
+                                             PlatformTransactionManager transactionManager,
+                                             ShardRouter shards,
+                                             WaitlistProperties properties) {
+        return new WaitlistSweepJob(waitlistRepository, bookingService,
+                new TransactionTemplate(transactionManager), shards, properties);
+    }
+}
@@ -0,0 +1,26 @@
+package com.vasitum.interviewscheduler.infrastructure.waitlist;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Background promotion of waitlisted candidates.
+ *
+ * @param enabled      run {@link WaitlistSweepJob} every {@code pollInterval}
+ * @param pollInterval delay between sweeps
+ * @param batchSize    open slots with waiters read per page; a sweep pages through all of them
+ */
+@ConfigurationProperties(prefix = "scheduler.waitlist")
+public record WaitlistProperties(
+        Boolean enabled,
+        Duration pollInterval,
+        Integer batchSize
+) {
+
+    public WaitlistProperties {
+        enabled = enabled != null ? enabled : true;
+        pollInterval = pollInterval != null ? pollInterval : Duration.ofSeconds(30);
+        batchSize = batchSize != null ? batchSize : 100;
+    }
+}
@@ -0,0 +1,114 @@
+package com.vasitum.interviewscheduler.infrastructure.waitlist;
+
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.domain.repository.WaitlistEntryRepository;
+import com.vasitum.interviewscheduler.infrastructure.sharding.ShardRouter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongFunction;
+
+/**
+ * Follow-up path for the waitlist: expires entries whose window has passed and promotes waiting
+ * candidates into open slots the booking transactions did not hand out themselves, such as
+ * slots generated later inside a waited window or promotions that lost a race. Each slot is
+ * promoted in its own transaction, so one conflict does not hold up the rest. Open waited slots
+ * are walked in keyset pages by id to the end on every sweep: slots whose interviewer week is at
+ * its limit stay open and waited for, and must not keep later slots out of reach.
+ */
+public class WaitlistSweepJob implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(WaitlistSweepJob.class);
+
+    private final WaitlistEntryRepository waitlistRepository;
+    private final BookingService bookingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shards;
+    private final WaitlistProperties properties;
+
+    public WaitlistSweepJob(WaitlistEntryRepository waitlistRepository,
+                            BookingService bookingService,
+                            TransactionTemplate transactionTemplate,
+                            ShardRouter shards,
+                            WaitlistProperties properties) {
+        this.waitlistRepository = waitlistRepository;
+        this.bookingService = bookingService;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(new FixedDelayTask(this::run, properties.pollInterval(), properties.pollInterval()));
+    }
+
+    public void run() {
+        try {
+            sweep();
+        } catch (RuntimeException ex) {
+            log.warn("Waitlist sweep failed, retrying on the next poll", ex);
+        }
+    }
+
+    /**
+     * @return number of candidates promoted, on all shards
+     */
+    public int sweep() {
+        int promoted = 0;
+        for (int shard = 0; shard < shards.count(); shard++) {
+            promoted += shards.on(shard, this::sweepShard);
+        }
+        return promoted;
+    }
+
+    private int sweepShard() {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> waitlistRepository.expireEnded(now));
+
+        Set<Long> swept = new HashSet<>();
+        return promoteAll(afterId -> waitlistRepository.findOpenWaitedSlotIds(now, afterId, batch()), swept)
+                + promoteAll(afterId -> waitlistRepository.findOpenSlotIdsInWaitedWindows(now, afterId, batch()), swept);
+    }
+
+    private int promoteAll(LongFunction<List<Long>> page, Set<Long> swept) {
+        int promoted = 0;
+        long afterId = 0L;
+        while (true) {
+            long cursor = afterId;
+            List<Long> slotIds = transactionTemplate.execute(status -> page.apply(cursor));
+            for (Long slotId : slotIds) {
+                if (swept.add(slotId)) {
+                    promoted += promote(slotId);
+                }
+            }
+            if (slotIds.size() < properties.batchSize()) {
+                return promoted;
+            }
+            afterId = slotIds.get(slotIds.size() - 1);
+        }
+    }
+
+    private int promote(Long slotId) {
+        try {
+            return bookingService.promoteWaitlisted(slotId).size();
+        } catch (RuntimeException ex) {
+            // booked, moved or locked by someone else meanwhile; the next sweep re-checks
+            log.debug("Could not promote into slot {}: {}", slotId, ex.toString());
+            return 0;
+        }
+    }
+
+    private PageRequest batch() {
+        return PageRequest.of(0, properties.batchSize());
+    }
+}
@@ -0,0 +1,9 @@
+-- Global index behind the one-active-booking rule when scheduling data is sharded by interviewer:
+-- one row per candidate with an upcoming booking, kept on shard 0 whichever shard holds the booking.
+-- A row whose slot has started no longer blocks the candidate and is overwritten by the next booking.
+-- Created on every shard so all shards share one schema; unused without sharding.
+create table candidate_bookings (
+    candidate_email varchar(255) primary key,
+    booking_id      bigint       not null,
+    slot_start_time timestamp(6) not null
+);
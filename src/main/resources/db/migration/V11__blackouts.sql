@@ -0,0 +1,12 @@
+-- Days without interviews: an interviewer's absence, or a company holiday when interviewer_id is null.
+-- Both dates are inclusive. When scheduling data is sharded, company holidays are kept on shard 0 only.
+create table blackouts (
+    id             bigint generated by default as identity primary key,
+    interviewer_id bigint references interviewers (id),
+    start_date     date         not null,
+    end_date       date         not null,
+    reason         varchar(255),
+    constraint ck_blackouts_dates check (start_date <= end_date)
+);
+
+create index idx_blackouts_interviewer_start on blackouts (interviewer_id, start_date);
@@ -0,0 +1,56 @@
+-- Slots can be generated (and booked) for months that have no partition yet; those rows land in the
+-- default partitions. PostgreSQL refuses to create a month's partition while the default holds rows
+-- of that month, so ensure_monthly_partitions now moves them: the month is built as a plain table,
+-- its bookings and then its slots are moved out of the defaults, and both tables are attached
+-- (slots first, so the bookings' foreign key validates against them).
+
+create or replace function ensure_monthly_partitions(from_month date, to_month date) returns integer
+    language plpgsql as
+$$
+declare
+    month   date    := date_trunc('month', from_month);
+    created integer := 0;
+    suffix  text;
+    slots   text;
+    books   text;
+begin
+    while month <= date_trunc('month', to_month)
+        loop
+            suffix := to_char(month, '"p"YYYY_MM');
+            slots := 'interview_slots_' || suffix;
+            books := 'bookings_' || suffix;
+            if to_regclass(slots) is null and to_regclass(books) is null
+                and exists (select 1 from interview_slots_default
+                            where start_time >= month and start_time < month + interval '1 month') then
+                -- keeps new rows of this month out of the defaults until the partitions are attached
+                lock table interview_slots_default, bookings_default in exclusive mode;
+                execute format('create table %I (like interview_slots including defaults)', slots);
+                execute format('create table %I (like bookings including defaults)', books);
+                execute format('with moved as (delete from bookings_default where slot_start_time >= %L '
+                                   || 'and slot_start_time < %L returning *) insert into %I select * from moved',
+                               month, month + interval '1 month', books);
+                execute format('with moved as (delete from interview_slots_default where start_time >= %L '
+                                   || 'and start_time < %L returning *) insert into %I select * from moved',
+                               month, month + interval '1 month', slots);
+                execute format('alter table interview_slots attach partition %I for values from (%L) to (%L)',
+                               slots, month, month + interval '1 month');
+                execute format('alter table bookings attach partition %I for values from (%L) to (%L)',
+                               books, month, month + interval '1 month');
+                created := created + 2;
+            else
+                if to_regclass(slots) is null then
+                    execute format('create table %I partition of interview_slots for values from (%L) to (%L)',
+                                   slots, month, month + interval '1 month');
+                    created := created + 1;
+                end if;
+                if to_regclass(books) is null then
+                    execute format('create table %I partition of bookings for values from (%L) to (%L)',
+                                   books, month, month + interval '1 month');
+                    created := created + 1;
+                end if;
+            end if;
+            month := month + interval '1 month';
+        end loop;
+    return created;
+end
+$$;
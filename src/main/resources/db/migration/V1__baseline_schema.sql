@@ -0,0 +1,41 @@
+-- Schema as previously created by Hibernate ddl-auto; existing databases are baselined at this version.
+
+create table interviewers (
+    id                    bigint generated by default as identity primary key,
+    name                  varchar(255) not null,
+    email                 varchar(255) not null,
+    max_weekly_interviews integer      not null,
+    constraint uk_interviewers_email unique (email)
+);
+
+create table weekly_availabilities (
+    id                    bigint generated by default as identity primary key,
+    interviewer_id        bigint       not null references interviewers (id),
+    day_of_week           varchar(255) not null,
+    start_time            time(6)      not null,
+    end_time              time(6)      not null,
+    slot_duration_minutes integer      not null,
+    constraint ck_weekly_availabilities_day
+        check (day_of_week in ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY'))
+);
+
+create table interview_slots (
+    id             bigint generated by default as identity primary key,
+    interviewer_id bigint       not null references interviewers (id),
+    start_time     timestamp(6) not null,
+    end_time       timestamp(6) not null,
+    booked_count   integer      not null,
+    version        bigint
+);
+
+create index idx_slots_interviewer_start_end on interview_slots (interviewer_id, start_time, end_time);
+create index idx_slots_start_end on interview_slots (start_time, end_time);
+
+create table bookings (
+    id              bigint generated by default as identity primary key,
+    slot_id         bigint       not null references interview_slots (id),
+    candidate_name  varchar(255) not null,
+    candidate_email varchar(255) not null,
+    confirmed       boolean      not null,
+    constraint uk_candidate_slot unique (candidate_email, slot_id)
+);
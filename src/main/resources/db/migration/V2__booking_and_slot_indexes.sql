@@ -0,0 +1,14 @@
+-- Booking joins/deletes by slot; the unique (candidate_email, slot_id) index leads with the email.
+create index if not exists idx_bookings_slot_id on bookings (slot_id);
+
+-- Case-insensitive candidate lookups (one-active-booking rule, "my bookings").
+create index if not exists idx_bookings_candidate_email_lower on bookings (lower(candidate_email));
+
+-- Open slots only: the hideFull listing pages by id cursor, so the key follows that order and the
+-- start_time range is checked inside the index instead of walking every historical slot in the pkey.
+-- Slot capacity is currently 1 for every slot.
+create index if not exists idx_slots_open_cursor on interview_slots (id, start_time) where booked_count < 1;
+
+-- Per-interviewer listing by start time, covering every selected column for index-only scans.
+create index if not exists idx_slots_interviewer_start_covering
+    on interview_slots (interviewer_id, start_time) include (id, end_time, booked_count, version);
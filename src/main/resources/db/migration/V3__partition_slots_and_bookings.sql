@@ -0,0 +1,183 @@
+-- Monthly range partitioning of interview_slots (by start_time) and bookings (by the slot's start_time).
+-- Past months are moved to *_archive tables by archive_partitions_before(); *_history views union both.
+--
+-- PostgreSQL requires the partition key in every unique constraint, so the primary keys become
+-- (id, start_time) and bookings carry slot_start_time to reference its slot. Ids still come from a
+-- single sequence per table and stay unique.
+
+alter table bookings rename to bookings_legacy;
+alter table interview_slots rename to interview_slots_legacy;
+
+create sequence interview_slot_ids;
+create sequence booking_ids;
+
+create table interview_slots (
+    id             bigint       not null default nextval('interview_slot_ids'),
+    interviewer_id bigint       not null references interviewers (id),
+    start_time     timestamp(6) not null,
+    end_time       timestamp(6) not null,
+    booked_count   integer      not null,
+    version        bigint
+) partition by range (start_time);
+
+create table bookings (
+    id              bigint       not null default nextval('booking_ids'),
+    slot_id         bigint       not null,
+    slot_start_time timestamp(6) not null,
+    candidate_name  varchar(255) not null,
+    candidate_email varchar(255) not null,
+    confirmed       boolean      not null
+) partition by range (slot_start_time);
+
+create table interview_slots_default partition of interview_slots default;
+create table bookings_default partition of bookings default;
+
+-- Archive parents mirror the hot column layout so detached partitions can be attached as-is.
+create table interview_slots_archive (
+    id             bigint       not null,
+    interviewer_id bigint       not null,
+    start_time     timestamp(6) not null,
+    end_time       timestamp(6) not null,
+    booked_count   integer      not null,
+    version        bigint,
+    constraint interview_slots_archive_pkey primary key (id, start_time)
+) partition by range (start_time);
+
+create table bookings_archive (
+    id              bigint       not null,
+    slot_id         bigint       not null,
+    slot_start_time timestamp(6) not null,
+    candidate_name  varchar(255) not null,
+    candidate_email varchar(255) not null,
+    confirmed       boolean      not null,
+    constraint bookings_archive_pkey primary key (id, slot_start_time)
+) partition by range (slot_start_time);
+
+-- Creates the monthly partitions of both tables for every month in [from_month, to_month] that has
+-- no partition yet (hot or archived). Returns the number of tables created.
+create or replace function ensure_monthly_partitions(from_month date, to_month date) returns integer
+    language plpgsql as
+$$
+declare
+    month   date    := date_trunc('month', from_month);
+    created integer := 0;
+    suffix  text;
+begin
+    while month <= date_trunc('month', to_month)
+        loop
+            suffix := to_char(month, '"p"YYYY_MM');
+            if to_regclass('interview_slots_' || suffix) is null then
+                execute format('create table %I partition of interview_slots for values from (%L) to (%L)',
+                               'interview_slots_' || suffix, month, month + interval '1 month');
+                created := created + 1;
+            end if;
+            if to_regclass('bookings_' || suffix) is null then
+                execute format('create table %I partition of bookings for values from (%L) to (%L)',
+                               'bookings_' || suffix, month, month + interval '1 month');
+                created := created + 1;
+            end if;
+            month := month + interval '1 month';
+        end loop;
+    return created;
+end
+$$;
+
+-- Moves every monthly partition that ends on or before cutoff from the hot tables to the archive
+-- tables (detach + attach, no row copying). Returns the number of months archived.
+create or replace function archive_partitions_before(cutoff timestamp) returns integer
+    language plpgsql as
+$$
+declare
+    part     record;
+    fk       record;
+    booking_part text;
+    archived integer := 0;
+begin
+    for part in
+        select c.relname                                                         as slots,
+               to_date(substring(c.relname from '\d{4}_\d{2}$'), 'YYYY_MM')      as month,
+               'bookings_' || substring(c.relname from 'p\d{4}_\d{2}$')          as booking_part
+        from pg_inherits i
+                 join pg_class c on c.oid = i.inhrelid
+        where i.inhparent = 'interview_slots'::regclass
+          and c.relname ~ '^interview_slots_p\d{4}_\d{2}$'
+        order by 2
+        loop
+            exit when part.month + interval '1 month' > cutoff;
+            booking_part := part.booking_part;
+
+            -- bookings first: they hold the foreign key into the slot partition
+            if exists (select 1
+                       from pg_inherits i
+                                join pg_class c on c.oid = i.inhrelid
+                       where i.inhparent = 'bookings'::regclass
+                         and c.relname = booking_part) then
+                execute format('alter table bookings detach partition %I', booking_part);
+                for fk in select conname from pg_constraint where conrelid = booking_part::regclass and contype = 'f'
+                    loop
+                        execute format('alter table %I drop constraint %I', booking_part, fk.conname);
+                    end loop;
+                execute format('alter table bookings_archive attach partition %I for values from (%L) to (%L)',
+                               booking_part, part.month, part.month + interval '1 month');
+            end if;
+
+            execute format('alter table interview_slots detach partition %I', part.slots);
+            execute format('alter table interview_slots_archive attach partition %I for values from (%L) to (%L)',
+                           part.slots, part.month, part.month + interval '1 month');
+            archived := archived + 1;
+        end loop;
+    return archived;
+end
+$$;
+
+select ensure_monthly_partitions(
+               coalesce((select min(start_time) from interview_slots_legacy), localtimestamp)::date,
+               (localtimestamp + interval '3 months')::date);
+
+insert into interview_slots (id, interviewer_id, start_time, end_time, booked_count, version)
+select id, interviewer_id, start_time, end_time, booked_count, version
+from interview_slots_legacy;
+
+insert into bookings (id, slot_id, slot_start_time, candidate_name, candidate_email, confirmed)
+select b.id, b.slot_id, s.start_time, b.candidate_name, b.candidate_email, b.confirmed
+from bookings_legacy b
+         join interview_slots_legacy s on s.id = b.slot_id;
+
+select setval('interview_slot_ids', coalesce((select max(id) from interview_slots), 0) + 1, false);
+select setval('booking_ids', coalesce((select max(id) from bookings), 0) + 1, false);
+
+drop table bookings_legacy;
+drop table interview_slots_legacy;
+
+-- Constraints and indexes are declared on the parents and cascade to every partition.
+alter table interview_slots add constraint interview_slots_pkey primary key (id, start_time);
+alter table bookings add constraint bookings_pkey primary key (id, slot_start_time);
+alter table bookings add constraint uk_candidate_slot unique (candidate_email, slot_id, slot_start_time);
+alter table bookings add constraint fk_bookings_slot
+    foreign key (slot_id, slot_start_time) references interview_slots (id, start_time);
+
+create index idx_slots_interviewer_start_end on interview_slots (interviewer_id, start_time, end_time);
+create index idx_slots_start_end on interview_slots (start_time, end_time);
+create index idx_slots_open_cursor on interview_slots (id, start_time) where booked_count < 1;
+create index idx_slots_interviewer_start_covering
+    on interview_slots (interviewer_id, start_time) include (id, end_time, booked_count, version);
+create index idx_bookings_slot_id on bookings (slot_id, slot_start_time);
+create index idx_bookings_candidate_email_lower on bookings (lower(candidate_email));
+
+create index idx_slots_archive_interviewer_start on interview_slots_archive (interviewer_id, start_time);
+create index idx_bookings_archive_candidate_email_lower on bookings_archive (lower(candidate_email));
+
+-- Reporting over hot and archived months.
+create view interview_slots_history as
+select id, interviewer_id, start_time, end_time, booked_count, version
+from interview_slots
+union all
+select id, interviewer_id, start_time, end_time, booked_count, version
+from interview_slots_archive;
+
+create view bookings_history as
+select id, slot_id, slot_start_time, candidate_name, candidate_email, confirmed
+from bookings
+union all
+select id, slot_id, slot_start_time, candidate_name, candidate_email, confirmed
+from bookings_archive;
@@ -0,0 +1,2 @@
+-- Availability is always read and replaced per interviewer (PUT and bulk import).
+create index if not exists idx_weekly_availabilities_interviewer on weekly_availabilities (interviewer_id);
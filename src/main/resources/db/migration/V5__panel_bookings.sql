@@ -0,0 +1,14 @@
+-- A panel booking groups one booking per member interviewer, all for the same start/end time.
+create table panel_bookings (
+    id              bigint generated by default as identity primary key,
+    candidate_name  varchar(255) not null,
+    candidate_email varchar(255) not null,
+    start_time      timestamp(6) not null,
+    end_time        timestamp(6) not null
+);
+
+-- the archive parent must keep the hot column layout so detached partitions still attach
+alter table bookings add column panel_booking_id bigint references panel_bookings (id);
+alter table bookings_archive add column panel_booking_id bigint;
+
+create index idx_bookings_panel_booking_id on bookings (panel_booking_id);
@@ -0,0 +1,17 @@
+-- Notifications are written here in the booking transaction and sent later by OutboxDispatcher.
+create table notification_outbox (
+    id           bigint generated by default as identity primary key,
+    event_type   varchar(32)   not null,
+    recipient    varchar(255)  not null,
+    subject      varchar(255)  not null,
+    body         varchar(4000) not null,
+    status       varchar(16)   not null,
+    attempts     integer       not null,
+    created_at   timestamp(6)  not null,
+    available_at timestamp(6)  not null,
+    sent_at      timestamp(6),
+    last_error   varchar(1000)
+);
+
+-- the dispatcher only scans pending rows that are due; sent rows drop out of the index
+create index idx_outbox_pending on notification_outbox (available_at, id) where status = 'PENDING';
@@ -0,0 +1,10 @@
+-- Change events for nodes that cannot LISTEN (scheduler.changes.transport=table); rows are
+-- polled by created_at and deleted once every node has had time to read them.
+create table change_log (
+    id          bigint generated by default as identity primary key,
+    origin_node varchar(64)   not null,
+    payload     varchar(8000) not null,
+    created_at  timestamp(6)  not null
+);
+
+create index idx_change_log_created_at on change_log (created_at);
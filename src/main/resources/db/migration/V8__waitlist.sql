@@ -0,0 +1,18 @@
+-- Candidates waiting for a full slot (slot_id set) or for any slot of an interviewer within a window.
+-- Slot entries copy the slot's start/end into the window columns.
+create table waitlist_entries (
+    id                  bigint generated by default as identity primary key,
+    interviewer_id      bigint        not null references interviewers (id),
+    slot_id             bigint,
+    window_start        timestamp(6)  not null,
+    window_end          timestamp(6)  not null,
+    candidate_name      varchar(255)  not null,
+    candidate_email     varchar(255)  not null,
+    status              varchar(16)   not null,
+    created_at          timestamp(6)  not null,
+    resolved_at         timestamp(6),
+    promoted_booking_id bigint
+);
+
+-- FIFO per interviewer: promotion and the in-memory mirror only read waiting rows, in id order
+create index idx_waitlist_waiting on waitlist_entries (interviewer_id, id) where status = 'WAITING';
@@ -0,0 +1,28 @@
+-- Multi-seat slots (group sessions, assessment centers). Existing rows keep one seat.
+alter table weekly_availabilities add column capacity integer not null default 1;
+alter table interview_slots add column capacity integer not null default 1;
+alter table interview_slots add column counter_shards integer not null default 0;
+-- the archive parent must keep the hot column layout so detached partitions still attach
+alter table interview_slots_archive add column capacity integer not null default 1;
+alter table interview_slots_archive add column counter_shards integer not null default 0;
+
+-- "open" now means a free seat; the listings compare against the row's own capacity
+drop index idx_slots_open_cursor;
+create index idx_slots_open_cursor on interview_slots (id, start_time) where booked_count < capacity;
+
+drop index idx_slots_interviewer_start_covering;
+create index idx_slots_interviewer_start_covering
+    on interview_slots (interviewer_id, start_time) include (id, end_time, booked_count, capacity, counter_shards, version);
+
+-- Seat counts of large slots, spread over shards so concurrent bookings lock different rows.
+create table slot_seat_counters (
+    id              bigint generated by default as identity primary key,
+    slot_id         bigint       not null,
+    slot_start_time timestamp(6) not null,
+    shard           integer      not null,
+    seats           integer      not null,
+    booked          integer      not null,
+    constraint uk_slot_seat_counters_shard unique (slot_id, shard)
+);
+
+create index idx_slot_seat_counters_start on slot_seat_counters (slot_start_time);
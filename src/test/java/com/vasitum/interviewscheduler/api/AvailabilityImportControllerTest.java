@@ -0,0 +1,146 @@
+package com.vasitum.interviewscheduler.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "scheduler.import.chunk-size=100")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class AvailabilityImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void csvImport_replacesValidInterviewersAndReportsBadRows() throws Exception {
+        long valid = createInterviewer();
+        long overlapping = createInterviewer();
+        long badDay = createInterviewer();
+        jdbcTemplate.update("""
+                insert into weekly_availabilities (interviewer_id, day_of_week, start_time, end_time, slot_duration_minutes)
+                values (?, 'FRIDAY', '08:00', '09:00', 30)
+                """, valid);
+
+        String csv = String.join("\n",
+                AvailabilityImportParser.CSV_HEADER,
+                valid + ",MONDAY,09:00,12:00,30",
+                valid + ",monday,13:00,15:00,60",
+                overlapping + ",TUESDAY,09:00,11:00,30",
+                overlapping + ",TUESDAY,10:30,12:00,30",
+                badDay + ",FUNDAY,09:00,11:00,30",
+                "999999999,WEDNESDAY,09:00,10:00,30",
+                valid + ",THURSDAY,09:00,10:00,30",
+                "not-a-number,MONDAY,09:00,10:00,30");
+
+        mockMvc.perform(post("/api/v1/weekly-availability/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(8))
+                .andExpect(jsonPath("$.interviewersImported").value(1))
+                .andExpect(jsonPath("$.windowsImported").value(2))
+                .andExpect(jsonPath("$.interviewersRejected").value(3))
+                .andExpect(jsonPath("$.errors.length()").value(5))
+                .andExpect(jsonPath("$.errors[0].line").value(5))
+                .andExpect(jsonPath("$.errors[0].message").value(containsString("overlaps the window on line 4")))
+                .andExpect(jsonPath("$.errors[1].message").value("invalid dayOfWeek 'FUNDAY'"))
+                .andExpect(jsonPath("$.errors[2].message").value(containsString("must be contiguous")))
+                .andExpect(jsonPath("$.errors[3].message").value("invalid interviewerId 'not-a-number'"))
+                .andExpect(jsonPath("$.errors[4].message").value("Interviewer 999999999 not found"));
+
+        assertThat(jdbcTemplate.queryForList(
+                "select day_of_week from weekly_availabilities where interviewer_id = ? order by start_time",
+                String.class, valid)).containsExactly("MONDAY", "MONDAY");
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from weekly_availabilities where interviewer_id in (?, ?)",
+                Long.class, overlapping, badDay)).isZero();
+    }
+
+    @Test
+    void capacityColumn_keepsMultiSeatWindowsAndIsValidated() throws Exception {
+        long center = createInterviewer();
+        long tooLarge = createInterviewer();
+        jdbcTemplate.update("""
+                insert into weekly_availabilities
+                    (interviewer_id, day_of_week, start_time, end_time, slot_duration_minutes, capacity)
+                values (?, 'MONDAY', '09:00', '12:00', 60, 30)
+                """, center);
+
+        String csv = String.join("\n",
+                AvailabilityImportParser.CSV_HEADER_WITH_CAPACITY,
+                center + ",MONDAY,09:00,12:00,60,30",
+                center + ",TUESDAY,09:00,10:00,30,",
+                tooLarge + ",MONDAY,09:00,10:00,30,501");
+
+        mockMvc.perform(post("/api/v1/weekly-availability/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interviewersImported").value(1))
+                .andExpect(jsonPath("$.interviewersRejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(4))
+                .andExpect(jsonPath("$.errors[0].message").value("capacity must be between 1 and 500"));
+
+        assertThat(jdbcTemplate.queryForList(
+                "select capacity from weekly_availabilities where interviewer_id = ? order by day_of_week",
+                Integer.class, center)).containsExactly(30, 1);
+    }
+
+    @Test
+    void ndjsonImport_handlesThousandsOfInterviewersInChunks() throws Exception {
+        int interviewers = 2_000;
+        String prefix = UUID.randomUUID().toString();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < interviewers; i++) {
+            rows.add(new Object[]{"Bulk " + i, prefix + "-" + i + "@import.test"});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)", rows);
+        StringBuilder body = new StringBuilder();
+        for (Long id : jdbcTemplate.queryForList(
+                "select id from interviewers where email like ? order by id", Long.class, prefix + "-%")) {
+            for (String day : new String[]{"MONDAY", "WEDNESDAY", "FRIDAY"}) {
+                body.append("{\"interviewerId\":").append(id)
+                        .append(",\"dayOfWeek\":\"").append(day)
+                        .append("\",\"startTime\":\"09:00\",\"endTime\":\"12:00\",\"slotDurationMinutes\":30}\n");
+            }
+        }
+
+        mockMvc.perform(post("/api/v1/weekly-availability/import")
+                        .contentType("application/x-ndjson")
+                        .content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.interviewersImported").value(interviewers))
+                .andExpect(jsonPath("$.windowsImported").value(interviewers * 3))
+                .andExpect(jsonPath("$.errors.length()").value(0));
+
+        assertThat(jdbcTemplate.queryForObject("""
+                select count(*) from weekly_availabilities w join interviewers i on i.id = w.interviewer_id
+                where i.email like ?
+                """, Long.class, prefix + "-%")).isEqualTo(interviewers * 3L);
+    }
+
+    private long createInterviewer() {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Import", UUID.randomUUID() + "@import.test");
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+}
@@ -0,0 +1,191 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.application.service.FreeBusyWeek;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"scheduler.admission.enabled=false", "scheduler.blackouts.batch-size=2"})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class BlackoutControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void blackout_movesBookingsItCanAndCancelsTheRest_thenGenerationSkipsIt() throws Exception {
+        long interviewerId = createInterviewer();
+        LocalDate day = LocalDate.now().plusDays(10);
+        long moved = bookingService.createBooking(createSlot(interviewerId, day.atTime(10, 0)), "Moved", email()).getId();
+        long cancelled = bookingService.createBooking(createSlot(interviewerId, day.atTime(11, 0)), "Cancelled", email())
+                .getId();
+        createSlot(interviewerId, day.plusDays(1).atTime(10, 0));
+        long target = createSlot(interviewerId, day.plusDays(2).atTime(10, 0));
+
+        long blackoutId = id(blackout(interviewerId, day, day.plusDays(1), null)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.blackout.interviewerId").value(interviewerId))
+                .andExpect(jsonPath("$.slotsRemoved").value(3))
+                .andExpect(jsonPath("$.bookingsRescheduled").value(1))
+                .andExpect(jsonPath("$.bookingsCancelled").value(1)));
+
+        assertThat(jdbcTemplate.queryForObject("select slot_id from bookings where id = ?", Long.class, moved))
+                .isEqualTo(target);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from bookings where id = ?", Integer.class, cancelled))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject("select booked_count from interview_slots where id = ?", Integer.class,
+                target)).isEqualTo(1);
+        assertThat(slotsOn(interviewerId, day, day.plusDays(1))).isZero();
+
+        setAvailability(interviewerId, day);
+        generate(interviewerId, day, day.plusDays(7));
+        assertThat(slotsOn(interviewerId, day, day)).isZero();
+        assertThat(slotsOn(interviewerId, day.plusDays(7), day.plusDays(7))).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/interviewers/{id}/blackouts", interviewerId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(blackoutId));
+        mockMvc.perform(delete("/api/v1/interviewers/{id}/blackouts/{blackoutId}", interviewerId, blackoutId))
+                .andExpect(status().isNoContent());
+        generate(interviewerId, day, day);
+        assertThat(slotsOn(interviewerId, day, day)).isEqualTo(1);
+    }
+
+    @Test
+    void holiday_clearsEveryInterviewersSlots() throws Exception {
+        // far ahead, so slots of other tests stay out of it
+        LocalDate holiday = LocalDate.now().plusDays(600);
+        long interviewerId = createInterviewer();
+        long booked = createSlot(interviewerId, holiday.atTime(10, 0));
+        bookingService.createBooking(booked, "Candidate", email());
+        createSlot(createInterviewer(), holiday.atTime(11, 0));
+
+        long holidayId = id(mockMvc.perform(post("/api/v1/holidays").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"startDate": "%s", "endDate": "%s", "reason": "Founders day", "bookings": "CANCEL"}
+                                """.formatted(holiday, holiday)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.blackout.interviewerId").isEmpty())
+                .andExpect(jsonPath("$.slotsRemoved").value(2))
+                .andExpect(jsonPath("$.bookingsCancelled").value(1)));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from bookings where slot_id = ?", Integer.class, booked))
+                .isZero();
+
+        setAvailability(interviewerId, holiday);
+        generate(interviewerId, holiday, holiday);
+        assertThat(slotsOn(interviewerId, holiday, holiday)).isZero();
+
+        mockMvc.perform(delete("/api/v1/holidays/{id}", holidayId)).andExpect(status().isNoContent());
+        mockMvc.perform(delete("/api/v1/holidays/{id}", holidayId)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void freeBusy_leavesBlackedOutDaysOutOfAvailable() throws Exception {
+        long interviewerId = createInterviewer();
+        LocalDate day = LocalDate.now().plusDays(30);
+        setAvailability(interviewerId, day);
+        freeBusy(interviewerId, day).andExpect(jsonPath("$.availableMinutes").value(60));
+
+        blackout(interviewerId, day, day, "Conference").andExpect(status().isCreated());
+
+        freeBusy(interviewerId, day)
+                .andExpect(jsonPath("$.availableMinutes").value(0))
+                .andExpect(jsonPath("$.free").value(emptyWeek(day)));
+        freeBusy(interviewerId, day.plusWeeks(1)).andExpect(jsonPath("$.availableMinutes").value(60));
+    }
+
+    @Test
+    void blackout_endingBeforeItStarts_isRejected() throws Exception {
+        LocalDate day = LocalDate.now().plusDays(5);
+        blackout(createInterviewer(), day, day.minusDays(1), "Backwards").andExpect(status().isBadRequest());
+    }
+
+    private ResultActions blackout(long interviewerId, LocalDate start, LocalDate end, String reason)
+            throws Exception {
+        return mockMvc.perform(post("/api/v1/interviewers/{id}/blackouts", interviewerId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"startDate": "%s", "endDate": "%s", "reason": %s}
+                        """.formatted(start, end, reason != null ? "\"" + reason + "\"" : "null")));
+    }
+
+    private void setAvailability(long interviewerId, LocalDate day) throws Exception {
+        mockMvc.perform(put("/api/v1/interviewers/{id}/weekly-availability", interviewerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"dayOfWeek": "%s", "startTime": "09:00", "endTime": "10:00", "slotDurationMinutes": 60}]
+                                """.formatted(day.getDayOfWeek())))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions freeBusy(long interviewerId, LocalDate week) throws Exception {
+        return mockMvc.perform(get("/api/v1/interviewers/{id}/free-busy", interviewerId).param("week", week.toString()))
+                .andExpect(status().isOk());
+    }
+
+    private static String emptyWeek(LocalDate day) {
+        return FreeBusyWeek.empty(day.with(DayOfWeek.MONDAY)).encode();
+    }
+
+    private void generate(long interviewerId, LocalDate from, LocalDate to) throws Exception {
+        mockMvc.perform(post("/api/v1/interviewers/{id}/generate-slots", interviewerId)
+                        .param("from", from.toString()).param("to", to.toString()))
+                .andExpect(status().isOk());
+    }
+
+    private int slotsOn(long interviewerId, LocalDate from, LocalDate to) {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from interview_slots where interviewer_id = ? and start_time >= ? and start_time < ?",
+                Integer.class, interviewerId, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+    }
+
+    private long id(ResultActions result) throws Exception {
+        String body = result.andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.replaceAll(".*\"blackout\":\\{\"id\":(\\d+).*", "$1"));
+    }
+
+    private static String email() {
+        return UUID.randomUUID() + "@blackout.test";
+    }
+
+    private long createInterviewer() {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Interviewer", email());
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+
+    private long createSlot(long interviewerId, LocalDateTime start) {
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, 0, 0)
+                """, interviewerId, start, start.plusMinutes(30));
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+}
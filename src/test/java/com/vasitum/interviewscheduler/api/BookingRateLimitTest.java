@@ -0,0 +1,44 @@
+package com.vasitum.interviewscheduler.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.vasitum.interviewscheduler.infrastructure.sql.SqlStatementMatchers.sqlStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"scheduler.sql.debug-headers=true",
+        "scheduler.admission.per-email.capacity=2", "scheduler.admission.per-email.refill-period=1m"})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class BookingRateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void repeatedBookingsForOneCandidate_getFast429WithRetryAfter() throws Exception {
+        // the slot does not exist, so admitted requests end in 404
+        String body = """
+                {"slotId": %d, "candidateName": "Bot", "candidateEmail": "bot@ratelimit.test"}
+                """.formatted(Long.MAX_VALUE);
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/v1/bookings").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isNotFound());
+        }
+
+        mockMvc.perform(post("/api/v1/bookings").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+                .andExpect(jsonPath("$.code").value("RATE_LIMITED"))
+                .andExpect(sqlStatements(0));
+    }
+}
@@ -0,0 +1,122 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.vasitum.interviewscheduler.infrastructure.sql.SqlStatementMatchers.sqlStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "scheduler.sql.debug-headers=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class CalendarFeedControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(3).withHour(10).withMinute(0)
+            .withSecond(0).withNano(0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Test
+    void interviewerFeed_isServedFromMemoryUntilABookingChanges() throws Exception {
+        long interviewerId = createInterviewer("Grace; Hopper");
+        long firstSlot = createSlot(interviewerId, START);
+        long secondSlot = createSlot(interviewerId, START.plusHours(1));
+        long booking = bookingService.createBooking(firstSlot, "Ada, Lovelace", UUID.randomUUID() + "@feed.test").getId();
+
+        MvcResult first = mockMvc.perform(get("/api/v1/calendar/interviewers/{id}.ics", interviewerId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CalendarFeedController.TEXT_CALENDAR))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(sqlStatements(2))
+                .andReturn();
+        String ics = first.getResponse().getContentAsString();
+        assertThat(ics).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n")
+                .contains("X-WR-CALNAME:Interviews - Grace\\; Hopper\r\n")
+                .contains("UID:booking-" + booking + "@interview-scheduler\r\n")
+                .contains("SUMMARY:Interview: Ada\\, Lovelace\r\n");
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/calendar/interviewers/{id}.ics", interviewerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(sqlStatements(0));
+
+        bookingService.createBooking(secondSlot, "Alan Turing", UUID.randomUUID() + "@feed.test");
+
+        MvcResult changed = mockMvc.perform(get("/api/v1/calendar/interviewers/{id}.ics", interviewerId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(2))
+                .andReturn();
+        assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(changed.getResponse().getContentAsString())
+                .contains("SUMMARY:Interview: Ada\\, Lovelace\r\n", "SUMMARY:Interview: Alan Turing\r\n");
+
+        bookingService.cancelBooking(booking);
+        assertThat(mockMvc.perform(get("/api/v1/calendar/interviewers/{id}.ics", interviewerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString())
+                .doesNotContain("Ada").contains("Alan Turing");
+    }
+
+    @Test
+    void candidateFeed_matchesEmailCaseInsensitivelyAndHonoursIfModifiedSince() throws Exception {
+        long interviewerId = createInterviewer("Barbara Liskov");
+        String email = UUID.randomUUID() + "@feed.test";
+        bookingService.createBooking(createSlot(interviewerId, START), "Candidate", email);
+
+        MvcResult first = mockMvc.perform(get("/api/v1/calendar/candidate.ics").param("email", email.toUpperCase()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1))
+                .andReturn();
+        assertThat(first.getResponse().getContentAsString())
+                .contains("SUMMARY:Interview\r\n", "DESCRIPTION:Interviewer: Barbara Liskov\r\n");
+
+        mockMvc.perform(get("/api/v1/calendar/candidate.ics").param("email", email.toUpperCase())
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED)))
+                .andExpect(status().isNotModified())
+                .andExpect(sqlStatements(0));
+    }
+
+    @Test
+    void unknownInterviewer_isNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/calendar/interviewers/{id}.ics", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    private long createInterviewer(String name) {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                name, UUID.randomUUID() + "@feed.test");
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+
+    private long createSlot(long interviewerId, LocalDateTime start) {
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, 0, 0)
+                """, interviewerId, start, start.plusMinutes(30));
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+}
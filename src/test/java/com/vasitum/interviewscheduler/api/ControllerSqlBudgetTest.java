@@ -0,0 +1,212 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.vasitum.interviewscheduler.infrastructure.sql.SqlStatementMatchers.sqlStatements;
+import static com.vasitum.interviewscheduler.infrastructure.sql.SqlStatementMatchers.sqlStatementsAtMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements each endpoint issues so N+1 regressions fail the build.
+ */
+@SpringBootTest(properties = "scheduler.sql.debug-headers=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class ControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long interviewerId;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        day = LocalDate.now().plusDays(7);
+        interviewerId = createInterviewerWithSlots();
+    }
+
+    private long createInterviewerWithSlots() throws Exception {
+        JsonNode interviewer = json(mockMvc.perform(post("/api/v1/interviewers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "name", "Budget",
+                                "email", UUID.randomUUID() + "@budget.test",
+                                "maxWeeklyInterviews", 20))))
+                .andExpect(status().isCreated())
+                .andExpect(sqlStatements(1))
+                .andReturn().getResponse().getContentAsString());
+        long interviewerId = interviewer.get("id").asLong();
+
+        mockMvc.perform(put("/api/v1/interviewers/{id}/weekly-availability", interviewerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(Map.of(
+                                "dayOfWeek", day.getDayOfWeek().name(),
+                                "startTime", "09:00",
+                                "endTime", "11:00",
+                                "slotDurationMinutes", 30)))))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(4));
+
+        mockMvc.perform(post("/api/v1/interviewers/{id}/generate-slots", interviewerId)
+                        .param("from", day.toString())
+                        .param("to", day.toString()))
+                .andExpect(status().isOk())
+                // interviewer, availability, blackouts and holidays, then one existence check and one insert per slot
+                .andExpect(sqlStatements(4 + 4 * 2));
+        return interviewerId;
+    }
+
+    @Test
+    void interviewerEndpoints() throws Exception {
+        mockMvc.perform(get("/api/v1/interviewers/{id}", interviewerId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1));
+        mockMvc.perform(patch("/api/v1/interviewers/{id}/max-weekly-interviews", interviewerId)
+                        .param("maxWeeklyInterviews", "5"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(3));
+        mockMvc.perform(get("/api/v1/interviewers/{id}/weekly-availability", interviewerId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1));
+        // existence check, blackouts, holidays, windows, slots of the week
+        mockMvc.perform(get("/api/v1/interviewers/{id}/free-busy", interviewerId)
+                        .param("week", day.toString()))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(5));
+    }
+
+    @Test
+    void slotEndpoints() throws Exception {
+        JsonNode page = json(mockMvc.perform(get("/api/v1/slots")
+                        .param("interviewerId", String.valueOf(interviewerId))
+                        .param("from", day.atStartOfDay().toString())
+                        .param("to", day.atTime(23, 59).toString())
+                        .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatementsAtMost(2))
+                .andReturn().getResponse().getContentAsString());
+
+        long slotId = page.get("items").get(0).get("slotId").asLong();
+        mockMvc.perform(get("/api/v1/slots/{slotId}", slotId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1));
+    }
+
+    @Test
+    void bookingEndpoints_stayConstantWithBookingCount() throws Exception {
+        List<Long> slotIds = slotIds();
+        String candidate = UUID.randomUUID() + "@candidate.test";
+
+        // every write includes two outbox inserts (candidate and interviewer notification); the
+        // response is mapped from what the write loaded, so rendering it adds nothing
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "slotId", slotIds.get(0),
+                                "candidateName", "Candidate",
+                                "candidateEmail", candidate))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.slotId").value(slotIds.get(0)))
+                .andExpect(jsonPath("$.interviewerId").value(interviewerId))
+                .andExpect(sqlStatements(7 + 2));
+
+        JsonNode bookings = json(mockMvc.perform(get("/api/v1/bookings/by-candidate")
+                        .param("candidateEmail", candidate))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1))
+                .andReturn().getResponse().getContentAsString());
+        long bookingId = bookings.get(0).get("bookingId").asLong();
+
+        mockMvc.perform(put("/api/v1/bookings/{id}", bookingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("newSlotId", slotIds.get(1)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.bookingId").value(bookingId))
+                .andExpect(jsonPath("$.slotId").value(slotIds.get(1)))
+                // including the re-read of the booking's slot once the interviewers are locked
+                .andExpect(sqlStatements(11 + 2));
+
+        for (int i = 2; i < slotIds.size(); i++) {
+            mockMvc.perform(post("/api/v1/bookings")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(Map.of(
+                            "slotId", slotIds.get(i),
+                            "candidateName", "Other",
+                            "candidateEmail", UUID.randomUUID() + "@candidate.test"))));
+        }
+        mockMvc.perform(get("/api/v1/bookings/by-interviewer/{id}", interviewerId))
+                .andExpect(status().isOk())
+                .andExpect(sqlStatements(1));
+
+        mockMvc.perform(delete("/api/v1/bookings/{id}", bookingId))
+                .andExpect(status().isNoContent())
+                // plus locking the interviewer, whose name and email the cancellation notice needs,
+                // and re-reading the booking's slot under that lock
+                .andExpect(sqlStatementsAtMost(6 + 2 + 1));
+    }
+
+    @Test
+    void panelEndpoints_growPerMember() throws Exception {
+        // budgets in application.yml are these counts for the largest panel (4 members)
+        for (int size : new int[]{2, 4}) {
+            List<Long> slotIds = new ArrayList<>();
+            slotIds.add(slotIds(interviewerId).get(0));
+            for (int i = 1; i < size; i++) {
+                slotIds.add(slotIds(createInterviewerWithSlots()).get(0));
+            }
+            JsonNode panel = json(mockMvc.perform(post("/api/v1/panel-bookings")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of(
+                                    "slotIds", slotIds,
+                                    "candidateName", "Panel",
+                                    "candidateEmail", UUID.randomUUID() + "@candidate.test"))))
+                    .andExpect(status().isCreated())
+                    // per member: booking insert, slot update, interviewer notice
+                    .andExpect(sqlStatements(7 + 3 * size))
+                    .andReturn().getResponse().getContentAsString());
+            mockMvc.perform(delete("/api/v1/panel-bookings/{id}", panel.get("panelBookingId").asLong()))
+                    .andExpect(status().isNoContent())
+                    // the member interviewers are locked up front, so their notices load nothing more
+                    .andExpect(sqlStatements(7 + 3 * size));
+        }
+    }
+
+    private List<Long> slotIds() throws Exception {
+        return slotIds(interviewerId);
+    }
+
+    private List<Long> slotIds(long interviewerId) throws Exception {
+        JsonNode page = json(mockMvc.perform(get("/api/v1/slots")
+                        .param("interviewerId", String.valueOf(interviewerId))
+                        .param("from", day.atStartOfDay().toString())
+                        .param("to", day.atTime(23, 59).toString())
+                        .param("limit", "100"))
+                .andReturn().getResponse().getContentAsString());
+        return page.get("items").findValues("slotId").stream().map(JsonNode::asLong).toList();
+    }
+
+    private JsonNode json(String body) throws Exception {
+        return objectMapper.readTree(body);
+    }
+}
@@ -0,0 +1,44 @@
+package com.vasitum.interviewscheduler.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// forwarded headers are resolved by Tomcat's RemoteIpValve, so this needs a real server
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "scheduler.admission.per-ip.capacity=1", "scheduler.admission.per-ip.refill-period=1m"})
+@ActiveProfiles("h2")
+class ForwardedClientAdmissionTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void clientsBehindOneTrustedProxy_getTheirOwnBuckets() {
+        // the slot does not exist, so admitted requests end in 404; all come from the loopback proxy
+        assertThat(book("203.0.113.7").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(book("198.51.100.23").getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(book("203.0.113.7").getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private ResponseEntity<String> book(String client) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", client);
+        String body = """
+                {"slotId": %d, "candidateName": "Candidate", "candidateEmail": "%s@forwarded.test"}
+                """.formatted(Long.MAX_VALUE, UUID.randomUUID());
+        return restTemplate.postForEntity("/api/v1/bookings", new HttpEntity<>(body, headers), String.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(new SchedulerMetrics(registry));
+
+    @Test
+    void staleSlotVersionOnCommit_isAFullSlotConflict() {
+        ResponseEntity<ErrorResponse> response = handler.handleOptimisticLock(
+                new ObjectOptimisticLockingFailureException(InterviewSlot.class, 42L),
+                new MockHttpServletRequest("POST", "/api/v1/bookings"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().code()).isEqualTo("SLOT_FULLY_BOOKED");
+        assertThat(response.getBody().message()).contains("Slot 42");
+        assertThat(registry.find(SchedulerMetrics.BOOKING_CONFLICTS).counter().count()).isEqualTo(1);
+    }
+}
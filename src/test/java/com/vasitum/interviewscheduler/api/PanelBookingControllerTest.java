@@ -0,0 +1,218 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class PanelBookingControllerTest {
+
+    // a Tuesday at least a week ahead, so every slot is upcoming and in one calendar week
+    private static final LocalDateTime DAY = LocalDate.now().plusWeeks(1)
+            .with(TemporalAdjusters.nextOrSame(DayOfWeek.TUESDAY)).atStartOfDay();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void panelIsFoundBookedAndCancelledAsOneUnit() throws Exception {
+        long a = createInterviewer(10);
+        long b = createInterviewer(1);
+        long c = createInterviewer(10);
+        long a10 = createSlot(a, DAY.withHour(10));
+        long b10 = createSlot(b, DAY.withHour(10));
+        long c10 = createSlot(c, DAY.withHour(10));
+        createSlot(a, DAY.withHour(11));
+        createSlot(b, DAY.withHour(11));
+        createSlot(c, DAY.withHour(12));
+        String pool = a + "," + b + "," + c;
+
+        mockMvc.perform(get("/api/v1/panel-bookings/availability")
+                        .param("interviewerIds", pool)
+                        .param("from", DAY.toString()).param("to", DAY.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].startTime").value(DAY.withHour(10).toString().substring(0, 16) + ":00"))
+                .andExpect(jsonPath("$[0].members.length()").value(3));
+        mockMvc.perform(get("/api/v1/panel-bookings/availability")
+                        .param("interviewerIds", pool).param("panelSize", "2")
+                        .param("from", DAY.toString()).param("to", DAY.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].availableInterviewers").value(3))
+                .andExpect(jsonPath("$[1].availableInterviewers").value(2));
+
+        String created = mockMvc.perform(post("/api/v1/panel-bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(panelRequest(c10, a10, b10)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.members.length()").value(3))
+                .andReturn().getResponse().getContentAsString();
+        JsonNode panel = objectMapper.readTree(created);
+        long panelId = panel.get("panelBookingId").asLong();
+        long memberBooking = panel.get("members").get(0).get("bookingId").asLong();
+        assertThat(bookedCount(a10, b10, c10)).isEqualTo(3);
+
+        // interviewer b reached the weekly limit of 1, so the 11:00 pair is no longer offered
+        mockMvc.perform(get("/api/v1/panel-bookings/availability")
+                        .param("interviewerIds", pool).param("panelSize", "2")
+                        .param("from", DAY.toString()).param("to", DAY.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(delete("/api/v1/bookings/{id}", memberBooking))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("PANEL_MEMBER_BOOKING"));
+
+        mockMvc.perform(delete("/api/v1/panel-bookings/{id}", panelId))
+                .andExpect(status().isNoContent());
+        assertThat(bookedCount(a10, b10, c10)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from bookings where panel_booking_id = ?", Long.class, panelId)).isZero();
+    }
+
+    @Test
+    void panelRejectsMismatchedTimesAndBookedMembersWithoutClaimingAnySlot() throws Exception {
+        long a = createInterviewer(10);
+        long b = createInterviewer(10);
+        long c = createInterviewer(10);
+        long a10 = createSlot(a, DAY.withHour(10));
+        long b11 = createSlot(b, DAY.withHour(11));
+        long c10 = createSlot(c, DAY.withHour(10));
+        jdbcTemplate.update("update interview_slots set booked_count = 1 where id = ?", c10);
+
+        mockMvc.perform(post("/api/v1/panel-bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(panelRequest(a10, b11)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/panel-bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(panelRequest(a10, c10)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SLOT_FULLY_BOOKED"));
+        assertThat(bookedCount(a10, b11)).isZero();
+    }
+
+    @Test
+    void cancellingAPanel_promotesTheWaitlistOfEachFreedSlot() throws Exception {
+        long a = createInterviewer(10);
+        long b = createInterviewer(10);
+        long a16 = createSlot(a, DAY.withHour(16));
+        long b16 = createSlot(b, DAY.withHour(16));
+        JsonNode panel = objectMapper.readTree(mockMvc.perform(post("/api/v1/panel-bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(panelRequest(a16, b16)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        String waiting = UUID.randomUUID() + "@panel.test";
+        mockMvc.perform(post("/api/v1/waitlist").contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"slotId": %d, "candidateName": "Waiting", "candidateEmail": "%s"}
+                                """.formatted(a16, waiting)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(delete("/api/v1/panel-bookings/{id}", panel.get("panelBookingId").asLong()))
+                .andExpect(status().isNoContent());
+
+        assertThat(bookedCount(a16)).isEqualTo(1);
+        assertThat(bookedCount(b16)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from bookings where slot_id = ? and candidate_email = ?", Long.class, a16, waiting))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void windowsComeFromOverlappingSlotsOfDifferentLengths() throws Exception {
+        long a = createInterviewer(10);
+        long b = createInterviewer(10);
+        long c = createInterviewer(10);
+        LocalDateTime two = DAY.withHour(14);
+        long aHour = createSlot(a, two, 60);
+        long bHalf = createSlot(b, two.plusMinutes(30), 30);
+        createSlot(c, two, 30);
+        createSlot(c, two.plusMinutes(30), 30);
+
+        // c's two half hours cover a's hour on the bitmap but no single slot of c does
+        mockMvc.perform(get("/api/v1/panel-bookings/availability")
+                        .param("interviewerIds", a + "," + b + "," + c).param("panelSize", "2")
+                        .param("from", DAY.toString()).param("to", DAY.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].endTime").value(two.plusMinutes(30).toString() + ":00"))
+                .andExpect(jsonPath("$[0].availableInterviewers").value(2))
+                .andExpect(jsonPath("$[1].startTime").value(two.plusMinutes(30).toString() + ":00"))
+                .andExpect(jsonPath("$[1].availableInterviewers").value(3));
+
+        mockMvc.perform(post("/api/v1/panel-bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(panelRequest(aHour, bHalf)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.startTime").value(two.plusMinutes(30).toString() + ":00"))
+                .andExpect(jsonPath("$.endTime").value(two.plusHours(1).toString() + ":00"));
+        assertThat(bookedCount(aHour, bHalf)).isEqualTo(2);
+    }
+
+    private String panelRequest(long... slotIds) {
+        StringBuilder ids = new StringBuilder();
+        for (long id : slotIds) {
+            ids.append(ids.isEmpty() ? "" : ",").append(id);
+        }
+        return """
+                {"slotIds": [%s], "candidateName": "Panel Candidate", "candidateEmail": "%s@panel.test"}
+                """.formatted(ids, UUID.randomUUID());
+    }
+
+    private long createInterviewer(int maxWeekly) {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, ?)",
+                "Panelist", UUID.randomUUID() + "@panel.test", maxWeekly);
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+
+    private long createSlot(long interviewerId, LocalDateTime start) {
+        return createSlot(interviewerId, start, 45);
+    }
+
+    private long createSlot(long interviewerId, LocalDateTime start, int minutes) {
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, 0, 0)
+                """, interviewerId, start, start.plusMinutes(minutes));
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+
+    private long bookedCount(long... slotIds) {
+        long total = 0;
+        for (long id : slotIds) {
+            total += jdbcTemplate.queryForObject("select booked_count from interview_slots where id = ?", Long.class, id);
+        }
+        return total;
+    }
+}
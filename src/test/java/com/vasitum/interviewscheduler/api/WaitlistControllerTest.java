@@ -0,0 +1,178 @@
+package com.vasitum.interviewscheduler.api;
+
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.infrastructure.waitlist.WaitlistSweepJob;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "scheduler.admission.enabled=false",
+        // sweeps are triggered by the tests
+        "scheduler.waitlist.poll-interval=1h",
+        "scheduler.waitlist.batch-size=2"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class WaitlistControllerTest {
+
+    private static final LocalDateTime START = LocalDateTime.now().plusDays(3).withHour(10).withMinute(0)
+            .withSecond(0).withNano(0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private WaitlistSweepJob sweepJob;
+
+    @Test
+    void cancellation_promotesTheFirstCandidateWaitingForTheSlot() throws Exception {
+        long interviewerId = createInterviewer();
+        long fullSlot = createSlot(interviewerId, START);
+        long openSlot = createSlot(interviewerId, START.plusHours(1));
+        long booking = bookingService.createBooking(fullSlot, "Booked", email()).getId();
+        String first = email();
+        String second = email();
+
+        long firstEntry = entryId(joinSlot(fullSlot, first)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("WAITING"))
+                .andExpect(jsonPath("$.position").value(1)));
+        long secondEntry = entryId(joinSlot(fullSlot, second)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.position").value(2)));
+        joinSlot(fullSlot, first)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ALREADY_WAITLISTED"));
+        joinSlot(openSlot, email())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("SLOT_AVAILABLE"));
+
+        mockMvc.perform(delete("/api/v1/bookings/{id}", booking)).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/waitlist/{id}", firstEntry))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PROMOTED"))
+                .andExpect(jsonPath("$.position").value(0))
+                .andExpect(jsonPath("$.bookingId").isNumber());
+        assertThat(jdbcTemplate.queryForObject(
+                "select candidate_email from bookings where slot_id = ?", String.class, fullSlot)).isEqualTo(first);
+        mockMvc.perform(get("/api/v1/waitlist/{id}", secondEntry))
+                .andExpect(jsonPath("$.status").value("WAITING"))
+                .andExpect(jsonPath("$.position").value(1));
+
+        mockMvc.perform(delete("/api/v1/waitlist/{id}", secondEntry)).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/waitlist/{id}", secondEntry))
+                .andExpect(jsonPath("$.status").value("CANCELLED"));
+    }
+
+    @Test
+    void sweep_promotesWindowEntriesIntoNewSlotsAndExpiresCandidatesBookedElsewhere() throws Exception {
+        long interviewerId = createInterviewer();
+        String bookedElsewhere = email();
+        String waiting = email();
+
+        long expiredEntry = entryId(joinWindow(interviewerId, START, START.plusHours(4), bookedElsewhere)
+                .andExpect(status().isCreated()));
+        long promotedEntry = entryId(joinWindow(interviewerId, START, START.plusHours(4), waiting)
+                .andExpect(status().isCreated()));
+        joinWindow(interviewerId, START, START.plusDays(15), email())
+                .andExpect(status().isBadRequest());
+
+        bookingService.createBooking(createSlot(createInterviewer(), START), "Elsewhere", bookedElsewhere);
+        long newSlot = createSlot(interviewerId, START.plusHours(1));
+
+        assertThat(sweepJob.sweep()).isEqualTo(1);
+
+        mockMvc.perform(get("/api/v1/waitlist/{id}", expiredEntry))
+                .andExpect(jsonPath("$.status").value("EXPIRED"));
+        mockMvc.perform(get("/api/v1/waitlist/{id}", promotedEntry))
+                .andExpect(jsonPath("$.status").value("PROMOTED"));
+        assertThat(jdbcTemplate.queryForObject(
+                "select candidate_email from bookings where slot_id = ?", String.class, newSlot)).isEqualTo(waiting);
+        assertThat(sweepJob.sweep()).isZero();
+    }
+
+    @Test
+    void sweep_pagesPastSlotsBlockedByTheWeeklyLimit() throws Exception {
+        long interviewerId = createInterviewer();
+        jdbcTemplate.update("update interviewers set max_weekly_interviews = 1 where id = ?", interviewerId);
+        LocalDateTime monday = LocalDateTime.now().plusWeeks(2).with(DayOfWeek.MONDAY)
+                .withHour(10).withMinute(0).withSecond(0).withNano(0);
+        bookingService.createBooking(createSlot(interviewerId, monday), "Booked", email());
+        // open, but the week is at its limit: more of them than one sweep page
+        for (int hour = 1; hour <= 3; hour++) {
+            createSlot(interviewerId, monday.plusHours(hour));
+        }
+        long nextWeek = createSlot(interviewerId, monday.plusWeeks(1));
+        String waiting = email();
+        joinWindow(interviewerId, monday, monday.plusWeeks(1).plusHours(1), waiting)
+                .andExpect(status().isCreated());
+
+        assertThat(sweepJob.sweep()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "select candidate_email from bookings where slot_id = ?", String.class, nextWeek)).isEqualTo(waiting);
+    }
+
+    private ResultActions joinSlot(long slotId, String email) throws Exception {
+        return mockMvc.perform(post("/api/v1/waitlist").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"slotId": %d, "candidateName": "Candidate", "candidateEmail": "%s"}
+                        """.formatted(slotId, email)));
+    }
+
+    private ResultActions joinWindow(long interviewerId, LocalDateTime from, LocalDateTime to, String email)
+            throws Exception {
+        return mockMvc.perform(post("/api/v1/waitlist").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"interviewerId": %d, "from": "%s", "to": "%s",
+                         "candidateName": "Candidate", "candidateEmail": "%s"}
+                        """.formatted(interviewerId, from, to, email)));
+    }
+
+    private long entryId(ResultActions result) throws Exception {
+        String body = result.andReturn().getResponse().getContentAsString();
+        return Long.parseLong(body.replaceAll(".*\"id\":(\\d+).*", "$1"));
+    }
+
+    private static String email() {
+        return UUID.randomUUID() + "@waitlist.test";
+    }
+
+    private long createInterviewer() {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Interviewer", email());
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+
+    private long createSlot(long interviewerId, LocalDateTime start) {
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, 0, 0)
+                """, interviewerId, start, start.plusMinutes(30));
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+}
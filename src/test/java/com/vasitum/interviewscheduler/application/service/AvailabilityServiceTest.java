@@ -0,0 +1,66 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.service.AvailabilityService.WeeklyAvailabilityInput;
+import com.vasitum.interviewscheduler.domain.model.Interviewer;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AvailabilityServiceTest {
+
+    private WeeklyAvailabilityRepository availabilityRepository;
+    private SlotGenerationService slotGenerationService;
+    private AvailabilityService service;
+
+    @BeforeEach
+    void setUp() {
+        InterviewerRepository interviewerRepository = mock(InterviewerRepository.class);
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(interviewer));
+        availabilityRepository = mock(WeeklyAvailabilityRepository.class);
+        slotGenerationService = mock(SlotGenerationService.class);
+        when(slotGenerationService.reconcileDays(any(), any(), any()))
+                .thenReturn(new SlotGenerationService.Reconciliation(0, 0, List.of()));
+        service = new AvailabilityService(interviewerRepository, availabilityRepository, slotGenerationService,
+                mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void overlappingWindowsOfOneDay_areRejected() {
+        assertThatThrownBy(() -> service.replaceWeeklyAvailability(1L, List.of(
+                window(DayOfWeek.MONDAY, 9, 0, 12, 0),
+                window(DayOfWeek.MONDAY, 11, 55, 13, 0))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("MONDAY");
+        verifyNoInteractions(availabilityRepository, slotGenerationService);
+    }
+
+    @Test
+    void adjacentWindows_andTheSameTimeOnOtherDays_areAccepted() {
+        AvailabilityService.AvailabilityUpdate update = service.replaceWeeklyAvailability(1L, List.of(
+                window(DayOfWeek.MONDAY, 9, 0, 12, 0),
+                window(DayOfWeek.MONDAY, 12, 0, 13, 0),
+                window(DayOfWeek.TUESDAY, 9, 0, 12, 0)));
+
+        assertThat(update.windowsAdded()).isEqualTo(3);
+    }
+
+    private static WeeklyAvailabilityInput window(DayOfWeek day, int startHour, int startMinute,
+                                                  int endHour, int endMinute) {
+        return new WeeklyAvailabilityInput(day, LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute),
+                30, 1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BlackoutCalendarTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 3, 10);
+
+    @Test
+    void mergesOverlappingAndAdjacentRanges() {
+        BlackoutCalendar calendar = new BlackoutCalendar();
+        calendar.add(DAY, DAY.plusDays(2));
+        calendar.add(DAY.plusDays(10), DAY.plusDays(10));
+        // bridges the gap to the single day
+        calendar.add(DAY.plusDays(3), DAY.plusDays(9));
+        calendar.add(DAY.plusDays(20), DAY.plusDays(21));
+        calendar.add(DAY.plusDays(19), DAY.plusDays(20));
+
+        assertThat(calendar.contains(DAY.minusDays(1))).isFalse();
+        for (int day = 0; day <= 10; day++) {
+            assertThat(calendar.contains(DAY.plusDays(day))).as("day %d", day).isTrue();
+        }
+        assertThat(calendar.contains(DAY.plusDays(11))).isFalse();
+        assertThat(calendar.contains(DAY.plusDays(18))).isFalse();
+        assertThat(calendar.contains(DAY.plusDays(19))).isTrue();
+        assertThat(calendar.contains(DAY.plusDays(21))).isTrue();
+        assertThat(calendar.contains(DAY.plusDays(22))).isFalse();
+    }
+}
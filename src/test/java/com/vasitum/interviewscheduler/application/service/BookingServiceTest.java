@@ -1,5 +1,6 @@
 package com.vasitum.interviewscheduler.application.service;
 
+import com.vasitum.interviewscheduler.application.exception.BookingChangedException;
 import com.vasitum.interviewscheduler.application.exception.SlotFullyBookedException;
 import com.vasitum.interviewscheduler.application.exception.WeeklyLimitExceededException;
 import com.vasitum.interviewscheduler.domain.model.Booking;
@@ -7,12 +8,17 @@ import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
 import com.vasitum.interviewscheduler.domain.model.Interviewer;
 import com.vasitum.interviewscheduler.domain.repository.BookingRepository;
 import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
+import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -21,15 +27,19 @@ import static org.mockito.Mockito.*;
 
 class BookingServiceTest {
 
+    private InterviewerRepository interviewerRepository;
     private InterviewSlotRepository slotRepository;
     private BookingRepository bookingRepository;
     private BookingService bookingService;
 
     @BeforeEach
     void setUp() {
+        interviewerRepository = mock(InterviewerRepository.class);
         slotRepository = mock(InterviewSlotRepository.class);
         bookingRepository = mock(BookingRepository.class);
-        bookingService = new BookingService(slotRepository, bookingRepository);
+        bookingService = new BookingService(interviewerRepository, slotRepository, bookingRepository, mock(ApplicationEventPublisher.class),
+                mock(WaitlistService.class), new SlotSeats(mock(SlotSeatCounterRepository.class), slotRepository, 20, 10),
+                new LocalCandidateBookingIndex(bookingRepository, mock(JdbcTemplate.class)));
     }
 
     @Test
@@ -46,7 +56,7 @@ class BookingServiceTest {
         slot.setBookedCount(0);
 
         when(slotRepository.findWithLockingById(5L)).thenReturn(Optional.of(slot));
-        when(bookingRepository.countBySlot_Interviewer_IdAndSlot_StartTimeBetween(any(), any(), any()))
+        when(bookingRepository.countBookedSlotsBetween(any(), any(), any(), any()))
                 .thenReturn(0L);
         when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -54,6 +64,7 @@ class BookingServiceTest {
 
         assertThat(booking.getSlot()).isEqualTo(slot);
         assertThat(slot.getBookedCount()).isEqualTo(1);
+        verify(interviewerRepository).lockAllByIdOrderById(Set.of(1L));
 
         ArgumentCaptor<Booking> captor = ArgumentCaptor.forClass(Booking.class);
         verify(bookingRepository).save(captor.capture());
@@ -80,6 +91,29 @@ class BookingServiceTest {
         verify(bookingRepository, never()).save(any());
     }
 
+    @Test
+    void createBooking_takesAnotherSeat_whenGroupSlotHasRoom() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+        interviewer.setMaxWeeklyInterviews(10);
+
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId(5L);
+        slot.setInterviewer(interviewer);
+        slot.setStartTime(LocalDateTime.now().withHour(10));
+        slot.setEndTime(slot.getStartTime().plusMinutes(30));
+        slot.setCapacity(5);
+        slot.setBookedCount(3);
+
+        when(slotRepository.findWithLockingById(5L)).thenReturn(Optional.of(slot));
+        when(bookingRepository.countBookedSlotsBetween(any(), any(), any(), any())).thenReturn(0L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        bookingService.createBooking(5L, "Alice", "alice@example.com");
+
+        assertThat(slot.getBookedCount()).isEqualTo(4);
+    }
+
     @Test
     void createBooking_throws_whenWeeklyLimitExceeded() {
         Interviewer interviewer = new Interviewer();
@@ -94,13 +128,39 @@ class BookingServiceTest {
         slot.setBookedCount(0);
 
         when(slotRepository.findWithLockingById(5L)).thenReturn(Optional.of(slot));
-        when(bookingRepository.countBySlot_Interviewer_IdAndSlot_StartTimeBetween(any(), any(), any()))
+        when(bookingRepository.countBookedSlotsBetween(any(), any(), any(), any()))
                 .thenReturn(1L);
 
         assertThatThrownBy(() -> bookingService.createBooking(5L, "Alice", "alice@example.com"))
                 .isInstanceOf(WeeklyLimitExceededException.class);
         verify(bookingRepository, never()).save(any());
     }
-}
 
+    @Test
+    void cancelBooking_throws_whenTheBookingMovedBeforeTheLockWasGranted() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+        interviewer.setMaxWeeklyInterviews(10);
+
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId(5L);
+        slot.setInterviewer(interviewer);
+        slot.setStartTime(LocalDateTime.now().plusDays(1));
+        slot.setEndTime(slot.getStartTime().plusMinutes(30));
+        slot.setBookedCount(1);
+
+        Booking booking = new Booking();
+        booking.setId(9L);
+        booking.setSlot(slot);
+
+        when(bookingRepository.findById(9L)).thenReturn(Optional.of(booking));
+        when(slotRepository.findWithLockingById(5L)).thenReturn(Optional.of(slot));
+        // a concurrent reschedule committed while this cancellation waited for the interviewer
+        when(bookingRepository.findSlotIdById(9L)).thenReturn(Optional.of(6L));
 
+        assertThatThrownBy(() -> bookingService.cancelBooking(9L))
+                .isInstanceOf(BookingChangedException.class);
+        assertThat(slot.getBookedCount()).isEqualTo(1);
+        verify(bookingRepository, never()).delete(any());
+    }
+}
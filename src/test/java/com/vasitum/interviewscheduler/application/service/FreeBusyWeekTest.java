@@ -0,0 +1,83 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreeBusyWeekTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+
+    @Test
+    void freeCells_areAvailableMinusBusy_acrossWordBoundaries() {
+        // Monday 05:00 is bit 60, so 04:00-06:00 straddles the first 64-bit word
+        FreeBusyWeek available = FreeBusyWeek.empty(MONDAY)
+                .markInside(MONDAY.atTime(4, 0), MONDAY.atTime(6, 0));
+        FreeBusyWeek busy = FreeBusyWeek.empty(MONDAY)
+                .mark(MONDAY.atTime(5, 0), MONDAY.atTime(5, 30));
+
+        FreeBusyWeek free = available.andNot(busy);
+
+        assertThat(free.markedMinutes()).isEqualTo(90);
+        assertThat(free.coversAll(MONDAY.atTime(4, 0), MONDAY.atTime(5, 0))).isTrue();
+        assertThat(free.coversAll(MONDAY.atTime(4, 30), MONDAY.atTime(5, 5))).isFalse();
+        assertThat(free.intersects(MONDAY.atTime(5, 0), MONDAY.atTime(5, 30))).isFalse();
+        assertThat(free.intersects(MONDAY.atTime(5, 25), MONDAY.atTime(5, 35))).isTrue();
+    }
+
+    @Test
+    void partialCells_roundOutForBusyAndInForAvailability() {
+        LocalDateTime start = MONDAY.atTime(9, 2);
+        LocalDateTime end = MONDAY.atTime(9, 13);
+
+        assertThat(FreeBusyWeek.empty(MONDAY).mark(start, end).markedMinutes()).isEqualTo(15);
+        assertThat(FreeBusyWeek.empty(MONDAY).markInside(start, end).markedMinutes()).isEqualTo(5);
+    }
+
+    @Test
+    void rangesOutsideTheWeek_areClipped() {
+        FreeBusyWeek week = FreeBusyWeek.empty(MONDAY)
+                .mark(MONDAY.minusDays(1).atTime(23, 0), MONDAY.atTime(0, 30))
+                .mark(MONDAY.plusDays(6).atTime(23, 50), MONDAY.plusDays(8).atStartOfDay());
+
+        assertThat(week.markedMinutes()).isEqualTo(40);
+        assertThat(week.coversAll(MONDAY.minusDays(1).atTime(23, 55), MONDAY.atTime(0, 5))).isFalse();
+    }
+
+    @Test
+    void markedInAtLeast_countsEachWeekOncePerCell() {
+        FreeBusyWeek a = FreeBusyWeek.empty(MONDAY).mark(MONDAY.atTime(9, 0), MONDAY.atTime(11, 0));
+        FreeBusyWeek b = FreeBusyWeek.empty(MONDAY).mark(MONDAY.atTime(10, 0), MONDAY.atTime(12, 0));
+        FreeBusyWeek c = FreeBusyWeek.empty(MONDAY).mark(MONDAY.atTime(10, 30), MONDAY.atTime(10, 45));
+
+        FreeBusyWeek two = FreeBusyWeek.markedInAtLeast(2, MONDAY, List.of(a, b, c));
+        FreeBusyWeek three = FreeBusyWeek.markedInAtLeast(3, MONDAY, List.of(a, b, c));
+
+        assertThat(two.markedMinutes()).isEqualTo(60);
+        assertThat(two.coversAll(MONDAY.atTime(10, 0), MONDAY.atTime(11, 0))).isTrue();
+        assertThat(three.markedMinutes()).isEqualTo(15);
+        assertThat(three.coversAll(MONDAY.atTime(10, 30), MONDAY.atTime(10, 45))).isTrue();
+        assertThat(FreeBusyWeek.markedInAtLeast(2, MONDAY, List.of(a, a.and(b))).markedMinutes()).isEqualTo(60);
+    }
+
+    @Test
+    void encoding_isFixedLengthAndRoundTrips() {
+        FreeBusyWeek week = FreeBusyWeek.empty(MONDAY)
+                .mark(MONDAY.atTime(0, 0), MONDAY.atTime(0, 5))
+                .mark(MONDAY.plusDays(6).atTime(23, 55), MONDAY.plusDays(7).atStartOfDay());
+
+        String encoded = week.encode();
+        byte[] raw = Base64.getUrlDecoder().decode(encoded);
+
+        assertThat(raw).hasSize(FreeBusyWeek.BYTES);
+        assertThat(raw[0]).isEqualTo((byte) 0x01);
+        assertThat(raw[FreeBusyWeek.BYTES - 1]).isEqualTo((byte) 0x80);
+        assertThat(FreeBusyWeek.decode(MONDAY, encoded).encode()).isEqualTo(encoded);
+        assertThat(FreeBusyWeek.empty(MONDAY).encode()).hasSize(encoded.length());
+    }
+}
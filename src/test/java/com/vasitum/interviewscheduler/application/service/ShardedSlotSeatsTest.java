@@ -0,0 +1,135 @@
+package com.vasitum.interviewscheduler.application.service;
+
+import com.vasitum.interviewscheduler.application.exception.SlotFullyBookedException;
+import com.vasitum.interviewscheduler.domain.model.Booking;
+import com.vasitum.interviewscheduler.infrastructure.retention.SlotPurgeJob;
+import com.vasitum.interviewscheduler.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Slots at or above the shard threshold, booked through {@link BookingService} on PostgreSQL,
+ * where the counter shards are locked with {@code SKIP LOCKED}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"scheduler.seats.shard-threshold=20", "scheduler.seats.seats-per-shard=10"})
+class ShardedSlotSeatsTest {
+
+    private static final int CAPACITY = 20;
+    private static final int SHARDS = 2;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.registerDataSource(registry, "slot_seats");
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private SlotPurgeJob slotPurgeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void bookingToFull_thenTheNextBookingIsRejected() {
+        long slotId = createSlot(LocalDate.now().plusDays(5).atTime(10, 0));
+
+        fill(slotId);
+
+        assertThat(bookedCount(slotId)).isEqualTo(CAPACITY);
+        assertThat(countersBooked(slotId)).containsExactly(10, 10);
+        assertThatThrownBy(() -> bookingService.createBooking(slotId, "Candidate", email()))
+                .isInstanceOf(SlotFullyBookedException.class);
+        assertThat(bookedCount(slotId)).isEqualTo(CAPACITY);
+    }
+
+    @Test
+    void cancellingFromFull_reopensTheSlotWithAnExactCount() {
+        long slotId = createSlot(LocalDate.now().plusDays(6).atTime(10, 0));
+        List<Booking> bookings = fill(slotId);
+
+        bookingService.cancelBooking(bookings.get(0).getId());
+
+        assertThat(bookedCount(slotId)).isEqualTo(CAPACITY - 1);
+        assertThat(countersBooked(slotId).stream().mapToInt(Integer::intValue).sum()).isEqualTo(CAPACITY - 1);
+        long rebooked = bookingService.createBooking(slotId, "Candidate", email()).getId();
+        assertThat(bookedCount(slotId)).isEqualTo(CAPACITY);
+
+        bookingService.cancelBooking(rebooked);
+        assertThat(bookedCount(slotId)).isEqualTo(CAPACITY - 1);
+    }
+
+    @Test
+    void releaseAfterTheCountersArePurged_decrementsTheSlotRow() {
+        // earlier than the other tests' slots, so the purge leaves their counters alone
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(10, 0);
+        long slotId = createSlot(start);
+        long first = bookingService.createBooking(slotId, "Candidate", email()).getId();
+        long second = bookingService.createBooking(slotId, "Candidate", email()).getId();
+        // the second booking filled no shard, so the slot row still shows the first
+        assertThat(bookedCount(slotId)).isEqualTo(1);
+
+        slotPurgeJob.purgeBefore(start.plusMinutes(1));
+        assertThat(countersBooked(slotId)).isEmpty();
+        assertThat(bookedCount(slotId)).isEqualTo(2);
+
+        bookingService.cancelBooking(first);
+        assertThat(bookedCount(slotId)).isEqualTo(1);
+        bookingService.cancelBooking(second);
+        assertThat(bookedCount(slotId)).isZero();
+    }
+
+    private List<Booking> fill(long slotId) {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < CAPACITY; i++) {
+            bookings.add(bookingService.createBooking(slotId, "Candidate", email()));
+        }
+        return bookings;
+    }
+
+    private long createSlot(LocalDateTime start) {
+        long interviewerId = jdbcTemplate.queryForObject("""
+                insert into interviewers (name, email, max_weekly_interviews)
+                values ('Assessment center', ?, 100) returning id
+                """, Long.class, email());
+        long slotId = jdbcTemplate.queryForObject("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, capacity,
+                                             counter_shards, version)
+                values (?, ?, ?, 0, ?, ?, 0) returning id
+                """, Long.class, interviewerId, start, start.plusHours(1), CAPACITY, SHARDS);
+        jdbcTemplate.update("""
+                insert into slot_seat_counters (slot_id, slot_start_time, shard, seats, booked)
+                select ?, ?, n, ?, 0 from generate_series(0, ? - 1) n
+                """, slotId, start, CAPACITY / SHARDS, SHARDS);
+        return slotId;
+    }
+
+    private int bookedCount(long slotId) {
+        return jdbcTemplate.queryForObject("select booked_count from interview_slots where id = ?", Integer.class,
+                slotId);
+    }
+
+    private List<Integer> countersBooked(long slotId) {
+        return jdbcTemplate.queryForList("select booked from slot_seat_counters where slot_id = ? order by shard",
+                Integer.class, slotId);
+    }
+
+    private static String email() {
+        return UUID.randomUUID() + "@seats.test";
+    }
+}
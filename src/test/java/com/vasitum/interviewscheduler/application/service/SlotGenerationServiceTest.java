@@ -1,23 +1,33 @@
 package com.vasitum.interviewscheduler.application.service;
 
+import com.vasitum.interviewscheduler.domain.model.Blackout;
 import com.vasitum.interviewscheduler.domain.model.InterviewSlot;
 import com.vasitum.interviewscheduler.domain.model.Interviewer;
 import com.vasitum.interviewscheduler.domain.model.WeeklyAvailability;
+import com.vasitum.interviewscheduler.domain.repository.BlackoutRepository;
 import com.vasitum.interviewscheduler.domain.repository.InterviewSlotRepository;
 import com.vasitum.interviewscheduler.domain.repository.InterviewerRepository;
+import com.vasitum.interviewscheduler.domain.repository.SlotSeatCounterRepository;
 import com.vasitum.interviewscheduler.domain.repository.WeeklyAvailabilityRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class SlotGenerationServiceTest {
@@ -25,6 +35,7 @@ class SlotGenerationServiceTest {
     private InterviewerRepository interviewerRepository;
     private WeeklyAvailabilityRepository availabilityRepository;
     private InterviewSlotRepository slotRepository;
+    private BlackoutRepository blackoutRepository;
     private SlotGenerationService service;
 
     @BeforeEach
@@ -32,7 +43,11 @@ class SlotGenerationServiceTest {
         interviewerRepository = mock(InterviewerRepository.class);
         availabilityRepository = mock(WeeklyAvailabilityRepository.class);
         slotRepository = mock(InterviewSlotRepository.class);
-        service = new SlotGenerationService(interviewerRepository, availabilityRepository, slotRepository);
+        blackoutRepository = mock(BlackoutRepository.class);
+        SlotSeatCounterRepository counterRepository = mock(SlotSeatCounterRepository.class);
+        service = new SlotGenerationService(interviewerRepository, availabilityRepository, slotRepository,
+                counterRepository, blackoutRepository, mock(CompanyHolidays.class), new SlotSeats(counterRepository, slotRepository, 20, 10),
+                mock(ApplicationEventPublisher.class));
     }
 
     @Test
@@ -59,6 +74,139 @@ class SlotGenerationServiceTest {
         assertThat(created).isEqualTo(4);
         verify(slotRepository, times(4)).save(any(InterviewSlot.class));
     }
-}
 
+    @Test
+    void generateSlots_skipsBlackedOutDays() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.setInterviewer(interviewer);
+        availability.setDayOfWeek(DayOfWeek.MONDAY);
+        availability.setStartTime(LocalTime.of(9, 0));
+        availability.setEndTime(LocalTime.of(10, 0));
+        availability.setSlotDurationMinutes(60);
+
+        LocalDate monday = LocalDate.now().with(DayOfWeek.MONDAY);
+        Blackout vacation = new Blackout();
+        vacation.setStartDate(monday.minusDays(2));
+        vacation.setEndDate(monday);
+
+        when(interviewerRepository.findById(1L)).thenReturn(Optional.of(interviewer));
+        when(availabilityRepository.findByInterviewerId(1L)).thenReturn(List.of(availability));
+        when(blackoutRepository.findOverlapping(eq(1L), any(), any())).thenReturn(List.of(vacation));
+
+        // the first of two mondays is blacked out
+        int created = service.generateSlotsForInterviewer(1L, monday, monday.plusWeeks(1));
 
+        assertThat(created).isEqualTo(1);
+        verify(slotRepository).save(argThat(slot -> slot.getStartTime().equals(monday.plusWeeks(1).atTime(9, 0))));
+    }
+
+    @Test
+    void reconcileDays_replacesStaleOpenSlotsAndReportsBookedOnes() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.setDayOfWeek(DayOfWeek.MONDAY);
+        availability.setStartTime(LocalTime.of(9, 0));
+        availability.setEndTime(LocalTime.of(10, 0));
+        availability.setSlotDurationMinutes(30);
+
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        InterviewSlot kept = slot(10L, monday.atTime(9, 0), 0);
+        InterviewSlot booked = slot(11L, monday.atTime(11, 0), 1);
+        InterviewSlot stale = slot(12L, monday.atTime(12, 0), 0);
+        when(slotRepository.findByInterviewerIdAndStartTimeAfterOrderByStartTimeAsc(eq(1L), any()))
+                .thenReturn(List.of(kept, booked, stale));
+        when(slotRepository.deleteOpenSlotsById(List.of(12L))).thenReturn(1);
+
+        SlotGenerationService.Reconciliation result =
+                service.reconcileDays(interviewer, List.of(availability), EnumSet.of(DayOfWeek.MONDAY));
+
+        assertThat(result.slotsRemoved()).isEqualTo(1);
+        // 9:00 already exists, 9:30 is missing
+        assertThat(result.slotsCreated()).isEqualTo(1);
+        assertThat(result.conflicts()).extracting(SlotGenerationService.SlotConflict::slotId).containsExactly(11L);
+        verify(slotRepository).saveAll(argThat(slots -> {
+            List<InterviewSlot> created = new ArrayList<>();
+            slots.forEach(created::add);
+            return created.size() == 1 && created.get(0).getStartTime().equals(monday.atTime(9, 30));
+        }));
+    }
+
+    @Test
+    void reconcileDays_retilesALongerSlotLengthAroundBookings() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.setDayOfWeek(DayOfWeek.MONDAY);
+        availability.setStartTime(LocalTime.of(9, 0));
+        availability.setEndTime(LocalTime.of(12, 0));
+        availability.setSlotDurationMinutes(45);
+
+        // the 30-minute grid of the old length, booked at 10:00
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        List<InterviewSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            slots.add(slot(20L + i, monday.atTime(9, 0).plusMinutes(30L * i), i == 2 ? 1 : 0));
+        }
+        when(slotRepository.findByInterviewerIdAndStartTimeAfterOrderByStartTimeAsc(eq(1L), any())).thenReturn(slots);
+        when(slotRepository.deleteOpenSlotsById(any())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        SlotGenerationService.Reconciliation result =
+                service.reconcileDays(interviewer, List.of(availability), EnumSet.of(DayOfWeek.MONDAY));
+
+        // 9:00-9:45, then the booking until 10:30, then 10:30-11:15 and 11:15-12:00
+        assertThat(result.slotsRemoved()).isEqualTo(5);
+        assertThat(result.conflicts()).isEmpty();
+        verify(slotRepository).deleteOpenSlotsById(List.of(20L, 21L, 23L, 24L, 25L));
+        verify(slotRepository).saveAll(argThat(created -> {
+            List<LocalDateTime> starts = new ArrayList<>();
+            created.forEach(slot -> starts.add(slot.getStartTime()));
+            return starts.equals(List.of(monday.atTime(9, 0), monday.atTime(10, 30), monday.atTime(11, 15)));
+        }));
+    }
+
+    @Test
+    void reconcileDays_skipsOverlappingBookingsAsOneRange() {
+        Interviewer interviewer = new Interviewer();
+        interviewer.setId(1L);
+
+        WeeklyAvailability availability = new WeeklyAvailability();
+        availability.setDayOfWeek(DayOfWeek.MONDAY);
+        availability.setStartTime(LocalTime.of(9, 0));
+        availability.setEndTime(LocalTime.of(12, 0));
+        availability.setSlotDurationMinutes(30);
+
+        // a booked two-hour slot with a shorter booking inside it
+        LocalDate monday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        InterviewSlot outer = slot(30L, monday.atTime(9, 0), 1);
+        outer.setEndTime(monday.atTime(11, 0));
+        InterviewSlot inner = slot(31L, monday.atTime(9, 30), 1);
+        inner.setEndTime(monday.atTime(9, 45));
+        when(slotRepository.findByInterviewerIdAndStartTimeAfterOrderByStartTimeAsc(eq(1L), any()))
+                .thenReturn(List.of(outer, inner));
+
+        SlotGenerationService.Reconciliation result =
+                service.reconcileDays(interviewer, List.of(availability), EnumSet.of(DayOfWeek.MONDAY));
+
+        assertThat(result.slotsCreated()).isEqualTo(2);
+        verify(slotRepository).saveAll(argThat(created -> {
+            List<LocalDateTime> starts = new ArrayList<>();
+            created.forEach(slot -> starts.add(slot.getStartTime()));
+            return starts.equals(List.of(monday.atTime(11, 0), monday.atTime(11, 30)));
+        }));
+    }
+
+    private static InterviewSlot slot(Long id, LocalDateTime start, int bookedCount) {
+        InterviewSlot slot = new InterviewSlot();
+        slot.setId(id);
+        slot.setStartTime(start);
+        slot.setEndTime(start.plusMinutes(30));
+        slot.setBookedCount(bookedCount);
+        return slot;
+    }
+}
@@ -0,0 +1,270 @@
+package com.vasitum.interviewscheduler.domain.repository;
+
+import com.vasitum.interviewscheduler.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots against PostgreSQL with the Flyway schema (so {@code ddl-auto: validate} checks the
+ * entities against the migrations), seeds a realistic volume of slots and bookings, and pins
+ * the index each repository query is planned on. Both tables are partitioned by month, so plans
+ * reference the per-partition copies of each index and must prune to the months in the window.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class RepositoryQueryPlanTest {
+
+    private static final String NOW = "timestamp '2025-03-03 00:00'";
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.registerDataSource(registry, "query_plans");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    // seeded once per test class; the database is created for this class's context
+    private static boolean seeded;
+
+    private void seed() {
+        if (seeded) {
+            return;
+        }
+        jdbcTemplate.queryForObject("select ensure_monthly_partitions('2024-12-01', '2025-03-31')", Integer.class);
+        // 200 interviewers, 8 slots/day from 60 days back to 14 days ahead of NOW
+        jdbcTemplate.execute("""
+                insert into interviewers (name, email, max_weekly_interviews)
+                select 'Interviewer ' || i, 'interviewer' || i || '@example.com', 10
+                from generate_series(1, 200) i
+                """);
+        jdbcTemplate.execute("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                select i.id, t, t + interval '30 minutes', case when random() < 0.3 then 1 else 0 end, 0
+                from interviewers i
+                cross join generate_series(%1$s - interval '60 days', %1$s + interval '14 days', interval '1 day') d
+                cross join generate_series(0, 7) h
+                cross join lateral (select d + interval '9 hours' + h * interval '30 minutes' as t) slot_time
+                """.formatted(NOW));
+        jdbcTemplate.execute("""
+                insert into bookings (slot_id, slot_start_time, candidate_name, candidate_email, confirmed)
+                select s.id, s.start_time, 'Candidate ' || s.id, 'Candidate' || s.id || '@Example.com', true
+                from interview_slots s where s.booked_count = 1
+                """);
+        jdbcTemplate.execute("vacuum analyze");
+        seeded = true;
+    }
+
+    @Test
+    void bookingsBySlot_useSlotIdIndex() {
+        // join/delete path of BookingRepository (slot_id lookups)
+        assertPlanUses("select b.id from bookings b where b.slot_id = 4242", "idx_bookings_slot_id");
+    }
+
+    @Test
+    void activeBookingsByCandidate_useLowerEmailIndex() {
+        // BookingRepository.countByCandidateEmailAndSlot_StartTimeAfter
+        assertPlanUses("""
+                select count(b.id) from bookings b join interview_slots s on s.id = b.slot_id
+                where lower(b.candidate_email) = lower('candidate4242@example.com') and s.start_time > %1$s
+                  and b.slot_start_time > %1$s
+                """.formatted(NOW), "idx_bookings_candidate_email_lower");
+    }
+
+    @Test
+    void openSlotListing_usesPartialIndex() {
+        // InterviewSlotRepository.findOpenSlotsAfterCursor
+        String plan = assertPlanUses("""
+                select s.id, s.booked_count, s.capacity, s.counter_shards, s.end_time, s.interviewer_id,
+                       s.start_time, s.version
+                from interview_slots s
+                where s.booked_count < s.capacity and s.start_time >= %1$s and s.start_time <= %1$s + interval '14 days'
+                  and s.id > 0
+                order by s.id offset 0 rows fetch first 20 rows only
+                """.formatted(NOW), "idx_slots_open_cursor");
+        assertThat(plan).doesNotContain("interview_slots_p2025_01", "interview_slots_p2025_02");
+    }
+
+    @Test
+    void expiredSlotPurgeBatch_usesPartialIndex() {
+        // InterviewSlotRepository.findExpiredOpenSlotIds
+        assertPlanUses("""
+                select s.id from interview_slots s
+                where s.booked_count < 1 and s.booked_count < s.capacity
+                  and s.start_time < %s - interval '7 days' and s.id > 0
+                order by s.id offset 0 rows fetch first 500 rows only
+                """.formatted(NOW), "idx_slots_open_cursor");
+    }
+
+    @Test
+    void interviewerListing_usesCoveringIndex() {
+        // InterviewSlotRepository.findByInterviewerIdAndStartTimeBetweenOrderByStartTimeAsc
+        String plan = assertPlanUses("""
+                select s.id, s.booked_count, s.capacity, s.counter_shards, s.end_time, s.interviewer_id,
+                       s.start_time, s.version
+                from interview_slots s
+                where s.interviewer_id = 42 and s.start_time between %1$s and %1$s + interval '14 days'
+                order by s.start_time
+                """.formatted(NOW), "idx_slots_interviewer_start_covering");
+        assertThat(plan).contains("Index Only Scan").doesNotContain("interview_slots_p2025_01");
+    }
+
+    @Test
+    void panelSearch_readsWholePoolFromCoveringIndex() {
+        // InterviewSlotRepository.findOpenSlotsForInterviewers with a pool of 100 interviewers (in-list as bound);
+        // with half of all interviewers in the pool, scanning the time range is as good as probing per interviewer
+        String pool = IntStream.rangeClosed(1, 100).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        String plan = assertPlanUses("""
+                select s.id, s.interviewer_id, s.start_time, s.end_time from interview_slots s
+                where s.interviewer_id in (%2$s) and s.booked_count < 1 and s.capacity = 1
+                  and s.start_time >= %1$s and s.start_time <= %1$s + interval '3 days'
+                order by s.start_time, s.interviewer_id
+                """.formatted(NOW, pool), "idx_slots_interviewer_start_covering", "idx_slots_start_end");
+        assertThat(plan).doesNotContain("interview_slots_p2025_01");
+    }
+
+    @Test
+    void weeklyCount_usesCoveringAndSlotIdIndexes() {
+        // BookingRepository.countBookedSlotsBetween
+        String plan = assertPlanUses("""
+                select count(distinct s.id) from bookings b join interview_slots s on s.id = b.slot_id
+                where s.interviewer_id = 42 and s.start_time between %1$s and %1$s + interval '6 days 23:59:59'
+                  and b.slot_start_time = s.start_time and s.id <> 4242
+                """.formatted(NOW), "idx_slots_interviewer_start_covering");
+        // joining on the partition key lets each loop probe only the slot's month at run time
+        assertThat(plan).containsAnyOf(partitionIndexes("idx_bookings_slot_id"))
+                .contains("Index Cond: ((slot_id = s.id) AND (slot_start_time = s.start_time))");
+    }
+
+    @Test
+    void outboxClaim_usesPartialPendingIndex() {
+        seed();
+        jdbcTemplate.execute("""
+                insert into notification_outbox (event_type, recipient, subject, body, status, attempts, created_at, available_at, sent_at)
+                select 'BOOKED', 'r' || i || '@example.com', 's', 'b', case when mod(i, 100) = 0 then 'PENDING' else 'SENT' end,
+                       1, %1$s, %1$s, case when mod(i, 100) = 0 then null else %1$s end
+                from generate_series(1, 20000) i
+                """.formatted(NOW));
+        jdbcTemplate.execute("analyze notification_outbox");
+        // OutboxMessageRepository.claimDue
+        assertPlanUses("""
+                select m.id from notification_outbox m where m.status = 'PENDING' and m.available_at <= %s
+                order by m.available_at, m.id fetch first 50 rows only for no key update skip locked
+                """.formatted(NOW), "idx_outbox_pending");
+    }
+
+    @Test
+    void waitlistLookup_usesPartialWaitingIndex() {
+        seed();
+        jdbcTemplate.execute("""
+                insert into waitlist_entries (interviewer_id, slot_id, window_start, window_end, candidate_name,
+                                              candidate_email, status, created_at)
+                select i.id, null, %1$s, %1$s + interval '7 days', 'c', 'c' || i.id || '-' || n || '@example.com',
+                       case when n = 1 then 'WAITING' else 'PROMOTED' end, %1$s
+                from interviewers i cross join generate_series(1, 50) n
+                """.formatted(NOW));
+        jdbcTemplate.execute("analyze waitlist_entries");
+        // WaitlistEntryRepository.lockWaitingFor
+        assertPlanUses("""
+                select w.id from waitlist_entries w
+                where w.status = 'WAITING' and w.interviewer_id = 42
+                  and (w.slot_id = 4242 or (w.slot_id is null and w.window_start <= %1$s and w.window_end >= %1$s))
+                order by w.id for no key update skip locked
+                """.formatted(NOW), "idx_waitlist_waiting");
+    }
+
+    @Test
+    void archivedMonths_areOnlyVisibleThroughHistoryViews() {
+        seed();
+        jdbcTemplate.queryForObject("select archive_partitions_before(timestamp '2025-02-01')", Integer.class);
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from interview_slots where start_time < timestamp '2025-02-01'", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from bookings where slot_start_time < timestamp '2025-02-01'", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from interview_slots_history where start_time < timestamp '2025-02-01'", Long.class))
+                .isPositive();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from bookings_history where slot_start_time < timestamp '2025-02-01'", Long.class))
+                .isPositive();
+        String archivedEmail = jdbcTemplate.queryForObject(
+                "select candidate_email from bookings_archive limit 1", String.class);
+        assertThat(bookingRepository.findByCandidateEmailOrderBySlot_StartTimeAsc(archivedEmail)).isEmpty();
+        assertThat(bookingRepository.findHistoryByCandidateEmail(archivedEmail)).singleElement()
+                .satisfies(row -> assertThat(row.getStartTime()).isBefore(LocalDateTime.of(2025, 2, 1, 0, 0)));
+
+        // idempotent: nothing left to move for the same cutoff
+        assertThat(jdbcTemplate.queryForObject(
+                "select archive_partitions_before(timestamp '2025-02-01')", Integer.class)).isZero();
+    }
+
+    @Test
+    void monthCreatedAfterItsRowsLandedInTheDefault_takesThemOver() {
+        seed();
+        long slotId = jdbcTemplate.queryForObject("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                select min(id), timestamp '2028-06-05 10:00', timestamp '2028-06-05 10:30', 1, 0 from interviewers
+                returning id
+                """, Long.class);
+        jdbcTemplate.update("""
+                insert into bookings (slot_id, slot_start_time, candidate_name, candidate_email, confirmed)
+                values (?, timestamp '2028-06-05 10:00', 'Far ahead', 'far.ahead@example.com', true)
+                """, slotId);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from interview_slots_default", Long.class)).isOne();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "select ensure_monthly_partitions('2028-05-01', '2028-06-30')", Integer.class)).isEqualTo(4);
+
+        assertThat(jdbcTemplate.queryForObject("select count(*) from interview_slots_default", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("select count(*) from bookings_default", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from interview_slots_p2028_06 where id = ?", Long.class, slotId)).isOne();
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from bookings_p2028_06 where slot_id = ?", Long.class, slotId)).isOne();
+        assertThat(jdbcTemplate.queryForObject(
+                "select ensure_monthly_partitions('2028-05-01', '2028-06-30')", Integer.class)).isZero();
+
+        // leave the months empty again, so the other plans here still see them as zero-cost
+        jdbcTemplate.update("delete from bookings where slot_id = ?", slotId);
+        jdbcTemplate.update("delete from interview_slots where id = ?", slotId);
+        jdbcTemplate.execute("vacuum analyze bookings, interview_slots");
+    }
+
+    private String assertPlanUses(String sql, String... parentIndexes) {
+        seed();
+        List<String> lines = jdbcTemplate.queryForList("explain " + sql, String.class);
+        String plan = String.join("\n", lines);
+        // plain tables show the index itself, partitioned ones a per-partition copy
+        assertThat(plan).as("plan for %s", sql).containsAnyOf(Stream.of(parentIndexes)
+                .flatMap(index -> Stream.concat(Stream.of(index + " "), Stream.of(partitionIndexes(index))))
+                .toArray(String[]::new));
+        // empty partitions (future months, default) are planned as zero-cost seq scans
+        assertThat(lines).as("plan for %s", sql)
+                .noneMatch(line -> line.contains("Seq Scan") && !line.contains("cost=0.00..0.00 "));
+        return plan;
+    }
+
+    // partitions get their own copy of an index declared on the parent, under a generated name
+    private String[] partitionIndexes(String parentIndex) {
+        return jdbcTemplate.queryForList("""
+                        select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid
+                        where i.inhparent = ?::regclass
+                        """, String.class, parentIndex)
+                .toArray(String[]::new);
+    }
+}
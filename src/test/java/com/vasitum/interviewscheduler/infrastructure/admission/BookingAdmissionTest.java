@@ -0,0 +1,117 @@
+package com.vasitum.interviewscheduler.infrastructure.admission;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingAdmissionTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void bucketsAllowABurstThenOneRequestPerRefillPeriod() {
+        BookingAdmission admission = admission(new AdmissionProperties(true,
+                new AdmissionProperties.Bucket(100, Duration.ofMillis(10)),
+                new AdmissionProperties.Bucket(2, Duration.ofSeconds(10)), null, null, null, null), 4);
+
+        admission.admit("10.0.0.1", "a@example.com", () -> "ok");
+        admission.admit("10.0.0.1", "A@Example.com", () -> "ok");
+        assertThatThrownBy(() -> admission.admit("10.0.0.1", "a@example.com", () -> "ok"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, ex -> {
+                    assertThat(ex.getCode()).isEqualTo(BookingAdmission.RATE_LIMITED);
+                    assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
+                });
+        // other candidates and email-less writes from the same address are unaffected
+        assertThat(admission.admit("10.0.0.1", "b@example.com", () -> "ok")).isEqualTo("ok");
+        assertThat(admission.admit("10.0.0.1", null, () -> "ok")).isEqualTo("ok");
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertThatThrownBy(() -> admission.admit("10.0.0.1", "a@example.com", () -> "ok"))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        ex -> assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(6)));
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertThat(admission.admit("10.0.0.1", "a@example.com", () -> "ok")).isEqualTo("ok");
+
+        assertThat(registry.get(SchedulerMetrics.ADMISSION_REJECTED).tag("reason", "email").counter().count())
+                .isEqualTo(2.0);
+    }
+
+    @Test
+    void writesBeyondTheConcurrencyLimitAreRejectedWithoutQueueing() throws Exception {
+        BookingAdmission admission = admission(new AdmissionProperties(true, null, null, null, null,
+                Duration.ofMillis(20), null), 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = executor.submit(() -> admission.admit("10.0.0.1", null, () -> {
+                running.countDown();
+                await(release);
+                return "first";
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> admission.admit("10.0.0.2", null, () -> "second"))
+                    .isInstanceOfSatisfying(RateLimitExceededException.class,
+                            ex -> assertThat(ex.getCode()).isEqualTo(BookingAdmission.OVERLOADED));
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+            assertThat(admission.availableWritePermits()).isEqualTo(1);
+            assertThat(admission.admit("10.0.0.2", null, () -> "second")).isEqualTo("second");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void disabledAdmissionRunsEveryWrite() {
+        BookingAdmission admission = admission(new AdmissionProperties(false, null,
+                new AdmissionProperties.Bucket(1, Duration.ofHours(1)), null, null, null, null), 1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(admission.admit("10.0.0.1", "a@example.com", () -> "ok")).isEqualTo("ok");
+        }
+    }
+
+    @Test
+    void bucketsStayWithinMaxBuckets_droppingTheLeastRecentlyUsed() {
+        BookingAdmission admission = admission(new AdmissionProperties(true,
+                new AdmissionProperties.Bucket(10_000, Duration.ofMillis(1)),
+                new AdmissionProperties.Bucket(1, Duration.ofHours(1)), null, null, null, 32), 1);
+
+        admission.admit("10.0.0.1", "first@example.com", () -> "ok");
+        assertThatThrownBy(() -> admission.admit("10.0.0.1", "first@example.com", () -> "ok"))
+                .isInstanceOf(RateLimitExceededException.class);
+        // a bot cycling emails
+        for (int i = 0; i < 1000; i++) {
+            admission.admit("10.0.0.1", "bot" + i + "@example.com", () -> "ok");
+        }
+
+        assertThat(admission.bucketCount()).isLessThanOrEqualTo(32);
+        assertThat(admission.admit("10.0.0.1", "first@example.com", () -> "ok")).isEqualTo("ok");
+    }
+
+    private BookingAdmission admission(AdmissionProperties properties, int maxConcurrentWrites) {
+        return new BookingAdmission(properties, new SchedulerMetrics(registry), maxConcurrentWrites, clock::get);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
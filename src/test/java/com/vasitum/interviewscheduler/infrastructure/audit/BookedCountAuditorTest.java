@@ -0,0 +1,102 @@
+package com.vasitum.interviewscheduler.infrastructure.audit;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"scheduler.audit.chunk-size=2", "scheduler.audit.pause=0ms"})
+@ActiveProfiles("h2")
+class BookedCountAuditorTest {
+
+    @Autowired
+    private BookedCountAuditor auditor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void reportsThenRepairsDriftedSlots_inChunks() {
+        // far ahead, so slots of other tests stay out of the audited range
+        LocalDateTime from = LocalDateTime.now().plusDays(400).truncatedTo(ChronoUnit.DAYS);
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Audit", UUID.randomUUID() + "@audit.test");
+        long interviewerId = jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+
+        long overCounted = insertSlot(interviewerId, from.plusHours(1), 1, 2, 1);
+        long consistent = insertSlot(interviewerId, from.plusHours(2), 1, 1, 1);
+        long underCounted = insertSlot(interviewerId, from.plusHours(3), 1, 0, 1);
+        // counter shards of 10 seats each: shard sum 3, but 5 bookings
+        long shardsBehind = insertSlot(interviewerId, from.plusHours(4), 20, 3, 5, 3, 0);
+        // bookedCount lags the shard sum between empty and full; that is not drift
+        long shardsAhead = insertSlot(interviewerId, from.plusHours(5), 20, 2, 3, 2, 1);
+        // shards purged after the slot started: the slot row alone holds the count
+        long purgedShards = insertSlot(interviewerId, from.plusHours(6), 20, 4, 2);
+        long outOfRange = insertSlot(interviewerId, from.plusDays(2), 1, 1, 0);
+
+        double foundBefore = drift("found");
+        BookedCountAuditReport report = auditor.audit(from, from.plusDays(1), false);
+
+        assertThat(report).isEqualTo(new BookedCountAuditReport(6, 4, 0));
+        assertThat(drift("found") - foundBefore).isEqualTo(4);
+        assertThat(bookedCount(overCounted)).isEqualTo(2);
+
+        BookedCountAuditReport repair = auditor.audit(from, from.plusDays(1), true);
+
+        assertThat(repair).isEqualTo(new BookedCountAuditReport(6, 4, 4));
+        assertThat(List.of(bookedCount(overCounted), bookedCount(consistent), bookedCount(underCounted),
+                bookedCount(shardsBehind), bookedCount(shardsAhead), bookedCount(purgedShards), bookedCount(outOfRange)))
+                .containsExactly(1, 1, 1, 5, 2, 2, 1);
+        assertThat(jdbcTemplate.queryForList(
+                "select booked from slot_seat_counters where slot_id = ? order by shard", Integer.class, shardsBehind))
+                .containsExactly(5, 0);
+        assertThat(auditor.audit(from, from.plusDays(1), false).drifted()).isZero();
+    }
+
+    private double drift(String outcome) {
+        Counter counter = meterRegistry.find(SchedulerMetrics.SLOTS_DRIFTED).tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private long insertSlot(long interviewerId, LocalDateTime start, int capacity, int bookedCount, int bookings,
+                            int... shards) {
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, capacity,
+                                             counter_shards, version)
+                values (?, ?, ?, ?, ?, ?, 0)
+                """, interviewerId, start, start.plusMinutes(30), bookedCount, capacity, capacity >= 20 ? 2 : 0);
+        long slotId = jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+        for (int shard = 0; shard < shards.length; shard++) {
+            jdbcTemplate.update("""
+                    insert into slot_seat_counters (slot_id, slot_start_time, shard, seats, booked)
+                    values (?, ?, ?, 10, ?)
+                    """, slotId, start, shard, shards[shard]);
+        }
+        for (int booking = 0; booking < bookings; booking++) {
+            jdbcTemplate.update("""
+                    insert into bookings (slot_id, slot_start_time, candidate_name, candidate_email, confirmed)
+                    values (?, ?, 'Candidate', ?, true)
+                    """, slotId, start, UUID.randomUUID() + "@audit.test");
+        }
+        return slotId;
+    }
+
+    private int bookedCount(long slotId) {
+        return jdbcTemplate.queryForObject("select booked_count from interview_slots where id = ?", Integer.class, slotId);
+    }
+}
@@ -0,0 +1,174 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.application.service.CalendarFeedService;
+import com.vasitum.interviewscheduler.application.service.ClusterChangeEvent;
+import com.vasitum.interviewscheduler.application.service.DomainChangeEvent;
+import com.vasitum.interviewscheduler.infrastructure.changes.ChangeEventRelay.ChangeMessage;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// the poll interval keeps the background poller out of the way; the test drives both nodes directly
+@SpringBootTest(properties = {"scheduler.changes.transport=table", "scheduler.changes.node-id=this-node",
+        "scheduler.changes.poll-interval=1h"})
+@ActiveProfiles("h2")
+class ChangeTableTransportTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private ChangeTransport transport;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Test
+    void committedChangesReachTheOtherNodeAndRollbacksDoNot() throws Exception {
+        List<String> received = new CopyOnWriteArrayList<>();
+        ChangeTableTransport otherNode = otherNode(received);
+
+        long interviewerId = createInterviewer();
+        long bookingId = bookingService.createBooking(createSlot(interviewerId), "Candidate",
+                UUID.randomUUID() + "@changes.test").getId();
+        assertThat(listener.events).anySatisfy(event -> {
+            assertThat(event.local()).isTrue();
+            assertThat(event.change().kind()).isEqualTo(DomainChangeEvent.Kind.BOOKING);
+            assertThat(event.change().bookingIds()).containsExactly(bookingId);
+        });
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(DomainChangeEvent.slots(interviewerId));
+            status.setRollbackOnly();
+        });
+
+        // rows of other tests in this context may still be inside the lookback window
+        assertThat(otherNode.poll()).isPositive();
+        List<ChangeMessage> messages = new ArrayList<>();
+        for (String payload : received) {
+            messages.add(objectMapper.readValue(payload, ChangeMessage.class));
+        }
+        assertThat(messages).allSatisfy(message -> assertThat(message.origin()).isEqualTo("this-node"));
+        assertThat(messages).filteredOn(message -> message.change().interviewerIds().contains(interviewerId))
+                .singleElement()
+                .satisfies(message -> assertThat(message.change().bookingIds()).containsExactly(bookingId));
+        // already delivered rows inside the lookback window are not delivered twice
+        assertThat(otherNode.poll()).isZero();
+    }
+
+    @Test
+    void changesFromAnotherNodeInvalidateLocalFeeds() throws Exception {
+        long interviewerId = createInterviewer();
+        long bookingId = bookingService.createBooking(createSlot(interviewerId), "Candidate",
+                UUID.randomUUID() + "@changes.test").getId();
+        calendarFeedService.interviewerFeed(interviewerId);
+        assertThat(calendarFeedService.interviewerFeed(interviewerId).cached()).isTrue();
+        listener.events.clear();
+
+        DomainChangeEvent change = new DomainChangeEvent(DomainChangeEvent.Kind.BOOKING, Set.of(interviewerId),
+                Set.of(bookingId), Set.of(), true);
+        otherNode(new CopyOnWriteArrayList<>()).send(objectMapper.writeValueAsString(
+                new ChangeMessage("other-node", System.currentTimeMillis(), change)));
+
+        assertThat(((ChangeTableTransport) transport).poll()).isEqualTo(1);
+        assertThat(listener.events).singleElement().satisfies(event -> {
+            assertThat(event.local()).isFalse();
+            assertThat(event.originNode()).isEqualTo("other-node");
+            assertThat(event.change()).isEqualTo(change);
+        });
+        assertThat(calendarFeedService.interviewerFeed(interviewerId).cached()).isFalse();
+        assertThat(registry.get(SchedulerMetrics.CHANGES_RECEIVED).tag("kind", "BOOKING").counter().count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    private ChangeTableTransport otherNode(List<String> received) {
+        ChangeTableTransport otherNode = new ChangeTableTransport(jdbcTemplate,
+                new ChangeEventProperties("table", "other-node", null, null, null, null));
+        otherNode.start(new ChangeTransport.Receiver() {
+            @Override
+            public void receive(String payload) {
+                received.add(payload);
+            }
+
+            @Override
+            public void resync() {
+            }
+        });
+        // only the manual polls above should run
+        otherNode.stop();
+        return otherNode;
+    }
+
+    private long createInterviewer() {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Interviewer", UUID.randomUUID() + "@changes.test");
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+
+    private long createSlot(long interviewerId) {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withNano(0);
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, 0, 0)
+                """, interviewerId, start, start.plusMinutes(30));
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+
+    static class RecordingListener {
+
+        final List<ClusterChangeEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onChange(ClusterChangeEvent event) {
+            events.add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.vasitum.interviewscheduler.infrastructure.changes;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.application.service.ClusterChangeEvent;
+import com.vasitum.interviewscheduler.application.service.DomainChangeEvent;
+import com.vasitum.interviewscheduler.infrastructure.changes.ChangeEventRelay.ChangeMessage;
+import com.vasitum.interviewscheduler.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"scheduler.changes.node-id=this-node", "scheduler.changes.poll-interval=100ms"})
+class PostgresNotifyTransportTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.registerDataSource(registry, "change_notify");
+    }
+
+    @Autowired
+    private ChangeTransport transport;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Test
+    void notificationsFromAnotherNodeAreDeliveredOnlyAfterCommit() throws Exception {
+        awaitListening();
+        PostgresNotifyTransport otherNode = new PostgresNotifyTransport(jdbcTemplate, dataSourceProperties,
+                new ChangeEventProperties("notify", "other-node", null, null, null, null));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            otherNode.send(payload(DomainChangeEvent.slots(1L)));
+            status.setRollbackOnly();
+        });
+        transaction.executeWithoutResult(status -> otherNode.send(payload(DomainChangeEvent.slots(2L))));
+
+        ClusterChangeEvent received = listener.remote.poll(5, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(received.originNode()).isEqualTo("other-node");
+        // notifications arrive in commit order, so a leaked rollback would have come first
+        assertThat(received.change().interviewerIds()).containsExactly(2L);
+    }
+
+    @Test
+    void localChangesAreNotifiedWhenTheirTransactionCommits() throws Exception {
+        try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("listen " + PostgresNotifyTransport.CHANNEL);
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                eventPublisher.publishEvent(DomainChangeEvent.availability(Set.of(7L)));
+                assertThat(listener.local).isEmpty();
+            });
+
+            PGNotification[] notifications = pgConnection.getNotifications(5000);
+            assertThat(notifications).hasSize(1);
+            ChangeMessage message = objectMapper.readValue(notifications[0].getParameter(), ChangeMessage.class);
+            assertThat(message.origin()).isEqualTo("this-node");
+            assertThat(message.change()).isEqualTo(DomainChangeEvent.availability(Set.of(7L)));
+            assertThat(listener.local).isNotEmpty();
+            // the listener thread hears its own notification too, but drops it
+            assertThat(listener.remote.poll(500, TimeUnit.MILLISECONDS)).isNull();
+        }
+    }
+
+    private void awaitListening() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!((PostgresNotifyTransport) transport).isListening() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(((PostgresNotifyTransport) transport).isListening()).isTrue();
+    }
+
+    private String payload(DomainChangeEvent change) {
+        try {
+            return objectMapper.writeValueAsString(new ChangeMessage("other-node", System.currentTimeMillis(), change));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static class RecordingListener {
+
+        final BlockingQueue<ClusterChangeEvent> local = new LinkedBlockingQueue<>();
+        final BlockingQueue<ClusterChangeEvent> remote = new LinkedBlockingQueue<>();
+
+        @EventListener
+        void onChange(ClusterChangeEvent event) {
+            (event.local() ? local : remote).add(event);
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfiguration {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
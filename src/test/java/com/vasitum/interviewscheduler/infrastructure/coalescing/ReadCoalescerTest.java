@@ -0,0 +1,100 @@
+package com.vasitum.interviewscheduler.infrastructure.coalescing;
+
+import com.vasitum.interviewscheduler.application.exception.NotFoundException;
+import com.vasitum.interviewscheduler.application.service.ClusterChangeEvent;
+import com.vasitum.interviewscheduler.application.service.DomainChangeEvent;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReadCoalescer coalescer = new ReadCoalescer(
+            new ReadCoalescingProperties(true, Duration.ofMillis(50), null), new SchedulerMetrics(registry), clock::get);
+
+    @Test
+    void concurrentIdenticalReadsShareOneQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            Future<byte[]> leader = executor.submit(() -> coalescer.read("slots", "42", () -> {
+                queries.incrementAndGet();
+                running.countDown();
+                await(release);
+                return new byte[]{1};
+            }));
+            assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<byte[]>> followers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                followers.add(executor.submit(() -> coalescer.read("slots", "42", () -> {
+                    queries.incrementAndGet();
+                    return new byte[]{2};
+                })));
+            }
+            // another key is not held up by the running query
+            assertThat(coalescer.read("slots", "43", () -> new byte[]{3})).containsExactly(3);
+            release.countDown();
+
+            byte[] shared = leader.get(5, TimeUnit.SECONDS);
+            for (Future<byte[]> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(shared);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(queries).hasValue(1);
+        assertThat(registry.get(SchedulerMetrics.READS_COALESCED).tag("outcome", "shared").counter().count())
+                .isEqualTo(4.0);
+        assertThat(registry.get(SchedulerMetrics.READS_COALESCING_RATIO).gauge().value()).isEqualTo(4.0 / 6);
+    }
+
+    @Test
+    void finishedReadsAreReusedOnlyWithinTheWindowAndUntilAChange() {
+        AtomicInteger queries = new AtomicInteger();
+        coalescer.read("slot", "7", () -> new byte[]{(byte) queries.incrementAndGet()});
+
+        clock.addAndGet(Duration.ofMillis(50).toNanos());
+        assertThat(coalescer.read("slot", "7", () -> new byte[]{(byte) queries.incrementAndGet()})).containsExactly(1);
+
+        clock.addAndGet(1);
+        assertThat(coalescer.read("slot", "7", () -> new byte[]{(byte) queries.incrementAndGet()})).containsExactly(2);
+
+        coalescer.onChange(new ClusterChangeEvent(DomainChangeEvent.slots(1L), "node", true));
+        assertThat(coalescer.read("slot", "7", () -> new byte[]{(byte) queries.incrementAndGet()})).containsExactly(3);
+    }
+
+    @Test
+    void failuresAreNotReused() {
+        assertThatThrownBy(() -> coalescer.read("slot", "9", () -> {
+            throw new NotFoundException("Slot 9 not found");
+        })).isInstanceOf(NotFoundException.class);
+
+        assertThat(coalescer.read("slot", "9", () -> new byte[]{9})).containsExactly(9);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
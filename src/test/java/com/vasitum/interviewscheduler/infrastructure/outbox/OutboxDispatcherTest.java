@@ -0,0 +1,167 @@
+package com.vasitum.interviewscheduler.infrastructure.outbox;
+
+import com.vasitum.interviewscheduler.application.exception.SlotFullyBookedException;
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.domain.model.OutboxMessage;
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// the poll interval keeps the scheduled dispatcher out of the way; the test drives it directly
+@SpringBootTest(properties = {"scheduler.outbox.enabled=true", "scheduler.outbox.poll-interval=1h",
+        "scheduler.outbox.initial-backoff=10m"})
+@ActiveProfiles("h2")
+class OutboxDispatcherTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private RecordingSender sender;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void bookingWritesOutboxInItsTransactionAndDispatcherRetriesFailures() {
+        long interviewerId = createInterviewer();
+        long slotId = createSlot(interviewerId);
+        String email = UUID.randomUUID() + "@outbox.test";
+
+        bookingService.createBooking(slotId, "Outbox Candidate", email);
+        // a rejected booking rolls back its notifications with it
+        assertThatThrownBy(() -> bookingService.createBooking(slotId, "Second", UUID.randomUUID() + "@outbox.test"))
+                .isInstanceOf(SlotFullyBookedException.class);
+        assertThat(pending()).isEqualTo(2);
+
+        dispatcher.refreshLag();
+        assertThat(registry.get(SchedulerMetrics.OUTBOX_LAG).gauge().value()).isGreaterThanOrEqualTo(0.0);
+
+        sender.failNext(1);
+        dispatcher.run();
+        assertThat(sender.sent).hasSize(1);
+        Long retried = jdbcTemplate.queryForObject(
+                "select count(*) from notification_outbox where status = 'PENDING' and attempts = 1 and available_at > ?",
+                Long.class, LocalDateTime.now().plusMinutes(5));
+        assertThat(retried).isEqualTo(1);
+
+        // backoff not elapsed: nothing is due
+        assertThat(dispatcher.dispatchBatch()).isZero();
+
+        jdbcTemplate.update("update notification_outbox set available_at = ? where status = 'PENDING'",
+                LocalDateTime.now().minusSeconds(1));
+        dispatcher.run();
+        assertThat(pending()).isZero();
+        assertThat(sender.sent).extracting(OutboxMessage::getRecipient).contains(email);
+        assertThat(sender.sent).extracting(OutboxMessage::getSubject)
+                .allMatch(subject -> subject.startsWith("Interview confirmed"));
+        assertThat(registry.get(SchedulerMetrics.OUTBOX_LAG).gauge().value()).isZero();
+    }
+
+    @Test
+    void longCandidateNames_truncateTheInterviewerSubject() {
+        long slotId = createSlot(createInterviewer());
+        String email = UUID.randomUUID() + "@outbox.test";
+
+        bookingService.createBooking(slotId, "N".repeat(255), email);
+
+        List<String> subjects = jdbcTemplate.queryForList(
+                "select subject from notification_outbox where body like ? and recipient <> ?",
+                String.class, "%<" + email + ">%", email);
+        assertThat(subjects).singleElement().satisfies(subject -> assertThat(subject)
+                .hasSize(OutboxMessage.SUBJECT_LENGTH)
+                .startsWith("Interview confirmed: NNN")
+                .endsWith("…"));
+        // the other test counts every pending row
+        jdbcTemplate.update("delete from notification_outbox where recipient = ? or body like ?",
+                email, "%<" + email + ">%");
+    }
+
+    @Test
+    void backoffDoublesUpToTheCap() {
+        OutboxProperties properties = new OutboxProperties(true, null, null, null,
+                Duration.ofSeconds(30), Duration.ofMinutes(5));
+        OutboxDispatcher standalone = new OutboxDispatcher(null, null, null, null, properties,
+                new SchedulerMetrics(new SimpleMeterRegistry()));
+        assertThat(standalone.backoff(1)).hasSeconds(30);
+        assertThat(standalone.backoff(2)).hasSeconds(60);
+        assertThat(standalone.backoff(4)).hasSeconds(240);
+        assertThat(standalone.backoff(5)).hasMinutes(5);
+        assertThat(standalone.backoff(40)).hasMinutes(5);
+    }
+
+    private long pending() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from notification_outbox where status = 'PENDING'", Long.class);
+    }
+
+    private long createInterviewer() {
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Outbox", UUID.randomUUID() + "@outbox.test");
+        return jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+    }
+
+    private long createSlot(long interviewerId) {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withSecond(0).withNano(0);
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, 0, 0)
+                """, interviewerId, start, start.plusMinutes(30));
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+
+    /**
+     * Local stand-in for an SMTP server: records what was sent and can fail on demand.
+     */
+    static class RecordingSender implements NotificationSender {
+
+        final List<OutboxMessage> sent = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        void failNext(int count) {
+            failures.set(count);
+        }
+
+        @Override
+        public void send(OutboxMessage message) {
+            if (failures.getAndDecrement() > 0) {
+                throw new IllegalStateException("421 Service not available");
+            }
+            sent.add(message);
+        }
+    }
+
+    @TestConfiguration
+    static class SenderConfiguration {
+
+        @Bean
+        @Primary
+        RecordingSender recordingSender() {
+            return new RecordingSender();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.vasitum.interviewscheduler.infrastructure.retention;
+
+import com.vasitum.interviewscheduler.infrastructure.metrics.SchedulerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"scheduler.retention.batch-size=3", "scheduler.retention.pause=0ms"})
+@ActiveProfiles("h2")
+class SlotPurgeJobTest {
+
+    @Autowired
+    private SlotPurgeJob slotPurgeJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void deletesOnlyExpiredUnbookedSlots_inBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("insert into interviewers (name, email, max_weekly_interviews) values (?, ?, 10)",
+                "Purge", UUID.randomUUID() + "@purge.test");
+        long interviewerId = jdbcTemplate.queryForObject("select max(id) from interviewers", Long.class);
+
+        for (int day = 20; day < 30; day++) {
+            insertSlot(interviewerId, now.minusDays(day), 0);
+        }
+        long booked = insertSlot(interviewerId, now.minusDays(20).plusHours(1), 1);
+        // bookedCount drifted to 0 but a booking still references the slot
+        long drifted = insertSlot(interviewerId, now.minusDays(21).plusHours(1), 0);
+        jdbcTemplate.update("""
+                insert into bookings (slot_id, slot_start_time, candidate_name, candidate_email, confirmed)
+                select id, start_time, 'Candidate', 'candidate@purge.test', true from interview_slots where id in (?, ?)
+                """, booked, drifted);
+        long recent = insertSlot(interviewerId, now.minusDays(1), 0);
+        long upcoming = insertSlot(interviewerId, now.plusDays(3), 0);
+
+        int deleted = slotPurgeJob.purgeBefore(now.minusDays(7));
+
+        assertThat(deleted).isEqualTo(10);
+        assertThat(jdbcTemplate.queryForList(
+                "select id from interview_slots where interviewer_id = ? order by id", Long.class, interviewerId))
+                .containsExactlyInAnyOrderElementsOf(List.of(booked, drifted, recent, upcoming));
+        // 10 expired open slots plus the drifted one are scanned in batches of 3
+        assertThat(meterRegistry.get(SchedulerMetrics.SLOT_PURGE).timer().count()).isGreaterThanOrEqualTo(4);
+    }
+
+    private long insertSlot(long interviewerId, LocalDateTime start, int bookedCount) {
+        jdbcTemplate.update("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, version)
+                values (?, ?, ?, ?, 0)
+                """, interviewerId, start, start.plusMinutes(30), bookedCount);
+        return jdbcTemplate.queryForObject("select max(id) from interview_slots", Long.class);
+    }
+}
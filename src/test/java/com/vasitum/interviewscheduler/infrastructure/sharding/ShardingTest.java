@@ -0,0 +1,214 @@
+package com.vasitum.interviewscheduler.infrastructure.sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "scheduler.sharding.enabled=true",
+        "scheduler.changes.transport=none",
+        "scheduler.admission.enabled=false",
+        "scheduler.outbox.enabled=false",
+        "scheduler.waitlist.enabled=false"
+})
+@AutoConfigureMockMvc
+class ShardingTest {
+
+    private static final int SHARDS = 3;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.registerDataSource(registry, "shard0");
+        for (int shard = 1; shard < SHARDS; shard++) {
+            String url = EmbeddedPostgresSupport.createDatabase("shard" + shard);
+            String prefix = "scheduler.sharding.shards[" + (shard - 1) + "].";
+            registry.add(prefix + "url", () -> url);
+            registry.add(prefix + "username", () -> "postgres");
+            registry.add(prefix + "password", () -> "");
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ShardRoutingDataSource dataSource;
+
+    @Autowired
+    private ShardRouter router;
+
+    // one interviewer with generated slots per shard
+    private final Map<Integer, Long> interviewers = new HashMap<>();
+
+    @BeforeEach
+    void interviewerOnEveryShard() throws Exception {
+        while (interviewers.size() < SHARDS) {
+            long id = createInterviewer();
+            if (interviewers.putIfAbsent(router.shardOf(id), id) == null) {
+                generateSlots(id);
+            }
+        }
+    }
+
+    @Test
+    void rowsLiveOnTheShardTheirIdNames() {
+        interviewers.forEach((shard, interviewerId) -> {
+            assertThat(shard).isEqualTo((int) ((interviewerId - 1) % SHARDS));
+            for (int other = 0; other < SHARDS; other++) {
+                assertThat(count(other, "select count(*) from interviewers where id = ?", interviewerId))
+                        .isEqualTo(other == shard ? 1 : 0);
+            }
+            List<Long> slotIds = shard(shard).queryForList(
+                    "select id from interview_slots where interviewer_id = ?", Long.class, interviewerId);
+            assertThat(slotIds).isNotEmpty().allMatch(slotId -> router.shardOf(slotId) == shard);
+        });
+    }
+
+    @Test
+    void oneActiveBookingPerCandidateHoldsAcrossShards() throws Exception {
+        String email = "candidate-" + UUID.randomUUID() + "@example.com";
+        long first = firstSlot(interviewers.get(1));
+        long second = firstSlot(interviewers.get(2));
+
+        long bookingId = book(first, email);
+        assertThat(router.shardOf(bookingId)).isEqualTo(1);
+        assertThat(count(1, "select count(*) from bookings where id = ?", bookingId)).isEqualTo(1);
+
+        mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingRequest(second, email.toUpperCase())))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("ALREADY_BOOKED"));
+
+        mockMvc.perform(get("/api/v1/bookings/by-candidate").param("candidateEmail", email))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].bookingId").value(bookingId));
+
+        mockMvc.perform(delete("/api/v1/bookings/{id}", bookingId))
+                .andExpect(status().isNoContent());
+        long moved = book(second, email);
+        assertThat(router.shardOf(moved)).isEqualTo(2);
+        assertThat(count(0, "select count(*) from candidate_bookings where booking_id = ?", moved)).isEqualTo(1);
+    }
+
+    @Test
+    void reschedulingToAnotherShardIsRejected() throws Exception {
+        String email = "candidate-" + UUID.randomUUID() + "@example.com";
+        long bookingId = book(firstSlot(interviewers.get(0)), email);
+
+        mockMvc.perform(put("/api/v1/bookings/{id}", bookingId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newSlotId\":" + firstSlot(interviewers.get(2)) + "}"))
+                .andExpect(status().isBadRequest());
+        assertThat(count(0, "select count(*) from bookings where id = ?", bookingId)).isEqualTo(1);
+    }
+
+    @Test
+    void slotListingMergesEveryShardInIdOrder() throws Exception {
+        List<Long> expected = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            expected.addAll(shard(shard).queryForList(
+                    "select id from interview_slots where start_time > now()", Long.class));
+        }
+        expected.sort(Long::compare);
+
+        List<Long> listed = new ArrayList<>();
+        long cursor = 0;
+        boolean hasMore = true;
+        while (hasMore) {
+            JsonNode page = objectMapper.readTree(mockMvc.perform(get("/api/v1/slots")
+                            .param("cursor", String.valueOf(cursor)).param("limit", "4"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> listed.add(item.get("slotId").asLong()));
+            cursor = page.get("nextCursor").asLong();
+            hasMore = page.get("hasMore").asBoolean();
+        }
+        assertThat(listed).isEqualTo(expected);
+    }
+
+    private long createInterviewer() throws Exception {
+        String body = mockMvc.perform(post("/api/v1/interviewers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Interviewer\",\"email\":\"" + UUID.randomUUID()
+                                + "@example.com\",\"maxWeeklyInterviews\":10}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    private void generateSlots(long interviewerId) throws Exception {
+        StringBuilder windows = new StringBuilder("[");
+        for (String day : List.of("MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY")) {
+            windows.append(windows.length() > 1 ? "," : "")
+                    .append("{\"dayOfWeek\":\"").append(day)
+                    .append("\",\"startTime\":\"10:00\",\"endTime\":\"12:00\",\"slotDurationMinutes\":60}");
+        }
+        mockMvc.perform(put("/api/v1/interviewers/{id}/weekly-availability", interviewerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(windows.append("]").toString()))
+                .andExpect(status().isOk());
+        LocalDate from = LocalDate.now().plusDays(1);
+        mockMvc.perform(post("/api/v1/interviewers/{id}/generate-slots", interviewerId)
+                        .param("from", from.toString()).param("to", from.plusDays(2).toString()))
+                .andExpect(status().isOk());
+    }
+
+    private long firstSlot(long interviewerId) {
+        return shard(router.shardOf(interviewerId)).queryForObject("""
+                select s.id from interview_slots s
+                where s.interviewer_id = ? and s.booked_count = 0 and s.start_time > now()
+                order by s.start_time, s.id limit 1
+                """, Long.class, interviewerId);
+    }
+
+    private long book(long slotId, String email) throws Exception {
+        String body = mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bookingRequest(slotId, email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("bookingId").asLong();
+    }
+
+    private static String bookingRequest(long slotId, String email) {
+        return "{\"slotId\":" + slotId + ",\"candidateName\":\"Candidate\",\"candidateEmail\":\"" + email + "\"}";
+    }
+
+    private long count(int shard, String sql, Object... args) {
+        return shard(shard).queryForObject(sql, Long.class, args);
+    }
+
+    private JdbcTemplate shard(int shard) {
+        return new JdbcTemplate(dataSource.shard(shard));
+    }
+}
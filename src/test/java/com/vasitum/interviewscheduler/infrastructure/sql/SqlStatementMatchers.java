@@ -0,0 +1,32 @@
+package com.vasitum.interviewscheduler.infrastructure.sql;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers over the {@link SqlBudgetFilter} debug header; requires
+ * {@code scheduler.sql.debug-headers=true} in the test context.
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    public static ResultMatcher sqlStatements(int expected) {
+        return result -> assertThat(statementsOf(result.getResponse().getHeader(SqlBudgetFilter.STATEMENTS_HEADER)))
+                .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    public static ResultMatcher sqlStatementsAtMost(int max) {
+        return result -> assertThat(statementsOf(result.getResponse().getHeader(SqlBudgetFilter.STATEMENTS_HEADER)))
+                .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    private static int statementsOf(String header) {
+        assertThat(header).as(SqlBudgetFilter.STATEMENTS_HEADER + " header").isNotNull();
+        return Integer.parseInt(header);
+    }
+}
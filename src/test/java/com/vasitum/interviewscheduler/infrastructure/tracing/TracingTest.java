@@ -0,0 +1,211 @@
+package com.vasitum.interviewscheduler.infrastructure.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "scheduler.tracing.enabled=true",
+        "scheduler.tracing.exporter=file",
+        "scheduler.tracing.keep-slower-than=0ms",
+        "scheduler.admission.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+class TracingTest {
+
+    private static final Path TRACES = tracesFile();
+
+    @DynamicPropertySource
+    static void tracesFile(DynamicPropertyRegistry registry) {
+        registry.add("scheduler.tracing.file", TRACES::toString);
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void bookingTraceNestsControllerServiceTransactionAndSql() throws Exception {
+        long slotId = openSlot();
+        MvcResult booked = mockMvc.perform(post("/api/v1/bookings")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"slotId\":" + slotId + ",\"candidateName\":\"Candidate\",\"candidateEmail\":\""
+                                + UUID.randomUUID() + "@example.com\"}"))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String traceId = booked.getResponse().getHeader(TracingFilter.TRACE_ID_HEADER);
+        assertThat(traceId).matches("[0-9a-f]{32}");
+
+        List<JsonNode> spans = exportedSpans(traceId);
+        Map<String, JsonNode> byId = new HashMap<>();
+        spans.forEach(span -> byId.put(span.get("spanId").asText(), span));
+        assertThat(spans).allMatch(span -> span.get("traceId").asText().equals(traceId));
+
+        JsonNode root = single(spans, "POST /api/v1/bookings");
+        assertThat(root.has("parentSpanId")).isFalse();
+        assertThat(root.get("kind").asInt()).isEqualTo(2);
+        assertThat(attribute(root, "http.response.status_code")).isEqualTo("201");
+        assertThat(attribute(root, "sampling.reason")).isEqualTo("slow");
+
+        JsonNode controller = single(spans, "BookingController.create");
+        assertThat(parent(controller)).isEqualTo(root.get("spanId").asText());
+        JsonNode service = single(spans, "BookingService.createBooking");
+        assertThat(parent(service)).isEqualTo(controller.get("spanId").asText());
+
+        JsonNode transaction = spans.stream()
+                .filter(span -> span.get("name").asText().equals("transaction"))
+                .filter(span -> parent(span).equals(service.get("spanId").asText()))
+                .findFirst().orElseThrow();
+        assertThat(attribute(transaction, "transaction.outcome")).isEqualTo("commit");
+        assertThat(spans).anyMatch(span -> span.get("name").asText().equals("commit")
+                && parent(span).equals(transaction.get("spanId").asText()));
+
+        JsonNode insert = spans.stream()
+                .filter(span -> span.get("name").asText().startsWith("sql"))
+                .filter(span -> String.valueOf(attribute(span, "db.statement")).startsWith("insert into bookings"))
+                .findFirst().orElseThrow();
+        assertThat(insert.get("kind").asInt()).isEqualTo(3);
+        assertThat(ancestors(insert, byId)).contains(transaction.get("spanId").asText());
+    }
+
+    @Test
+    void errorResponsesCarryTheTraceId() throws Exception {
+        MvcResult missing = mockMvc.perform(get("/api/v1/slots/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andReturn();
+        String traceId = missing.getResponse().getHeader(TracingFilter.TRACE_ID_HEADER);
+        JsonNode body = objectMapper.readTree(missing.getResponse().getContentAsString());
+        assertThat(body.get("traceId").asText()).isEqualTo(traceId);
+    }
+
+    @Test
+    void continuesTheCallersTrace() throws Exception {
+        String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+        String parentId = "00f067aa0ba902b7";
+        MvcResult result = mockMvc.perform(get("/api/v1/slots").param("limit", "1")
+                        .header(TracingFilter.TRACEPARENT_HEADER, "00-" + traceId + "-" + parentId + "-01"))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(result.getResponse().getHeader(TracingFilter.TRACE_ID_HEADER)).isEqualTo(traceId);
+
+        JsonNode root = single(exportedSpans(traceId), "GET /api/v1/slots");
+        assertThat(parent(root)).isEqualTo(parentId);
+    }
+
+    @Test
+    void samplerKeepsFailedSlowAndUpstreamSampledRequests() {
+        TraceSampler sampler = new TraceSampler(0, Duration.ofMillis(500));
+        long fast = Duration.ofMillis(20).toNanos();
+        assertThat(sampler.reason(fast, true, false)).isEqualTo("error");
+        assertThat(sampler.reason(Duration.ofMillis(500).toNanos(), false, false)).isEqualTo("slow");
+        assertThat(sampler.reason(fast, false, true)).isEqualTo("upstream");
+        assertThat(sampler.reason(fast, false, false)).isNull();
+        assertThat(new TraceSampler(1, Duration.ofMillis(500)).reason(fast, false, false)).isEqualTo("rate");
+    }
+
+    private long openSlot() throws Exception {
+        String interviewer = mockMvc.perform(post("/api/v1/interviewers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Interviewer\",\"email\":\"" + UUID.randomUUID()
+                                + "@example.com\",\"maxWeeklyInterviews\":10}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long interviewerId = objectMapper.readTree(interviewer).get("id").asLong();
+        LocalDate day = LocalDate.now().plusDays(3);
+        mockMvc.perform(put("/api/v1/interviewers/{id}/weekly-availability", interviewerId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"dayOfWeek\":\"" + day.getDayOfWeek()
+                                + "\",\"startTime\":\"10:00\",\"endTime\":\"11:00\",\"slotDurationMinutes\":60}]"))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/interviewers/{id}/generate-slots", interviewerId)
+                        .param("from", day.toString()).param("to", day.toString()))
+                .andExpect(status().isOk());
+        String slots = mockMvc.perform(get("/api/v1/slots").param("interviewerId", String.valueOf(interviewerId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(slots).get("items").get(0).get("slotId").asLong();
+    }
+
+    // export runs on a background thread
+    private List<JsonNode> exportedSpans(String traceId) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (Files.exists(TRACES)) {
+                for (String line : Files.readAllLines(TRACES)) {
+                    List<JsonNode> spans = new ArrayList<>();
+                    objectMapper.readTree(line).get("resourceSpans").get(0).get("scopeSpans").get(0).get("spans")
+                            .forEach(spans::add);
+                    if (spans.get(0).get("traceId").asText().equals(traceId)) {
+                        return spans;
+                    }
+                }
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("trace " + traceId + " was not exported");
+    }
+
+    private static JsonNode single(List<JsonNode> spans, String name) {
+        List<JsonNode> named = spans.stream().filter(span -> span.get("name").asText().equals(name)).toList();
+        assertThat(named).as(name).hasSize(1);
+        return named.get(0);
+    }
+
+    private static String parent(JsonNode span) {
+        return span.path("parentSpanId").asText();
+    }
+
+    private static String attribute(JsonNode span, String key) {
+        for (JsonNode attribute : span.path("attributes")) {
+            if (attribute.get("key").asText().equals(key)) {
+                return attribute.get("value").elements().next().asText();
+            }
+        }
+        return null;
+    }
+
+    private static List<String> ancestors(JsonNode span, Map<String, JsonNode> byId) {
+        List<String> ancestors = new ArrayList<>();
+        for (JsonNode parent = byId.get(parent(span)); parent != null; parent = byId.get(parent(parent))) {
+            ancestors.add(parent.get("spanId").asText());
+        }
+        return ancestors;
+    }
+
+    private static Path tracesFile() {
+        try {
+            return Files.createTempDirectory("traces").resolve("traces.jsonl");
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.vasitum.interviewscheduler.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vasitum.interviewscheduler.application.service.WeekWindow;
+import com.vasitum.interviewscheduler.loadtest.LoadTestSettings.Operation;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the application on an in-memory H2 database (PostgreSQL mode), seeds interviewers,
+ * weekly availability and slots over the public API, then drives a concurrent
+ * create/reschedule/cancel mix and checks booking invariants directly in the database.
+ * <p>
+ * Run with {@code mvn test -Pload-test}; size the run with {@code -Dload.*} properties
+ * (see {@link LoadTestSettings}). With {@code -Dload.strict=true} invariant violations fail the build.
+ */
+@Tag("load")
+@ActiveProfiles("h2")
+// every worker shares one client address; the run measures the booking path, not admission control
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "scheduler.admission.enabled=false")
+class BookingLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void concurrentBookingMix() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<Long> slotIds = seed(settings);
+
+        LoadReport report = new LoadReport();
+        AtomicInteger remaining = new AtomicInteger(settings.operations());
+        ExecutorService workers = Executors.newFixedThreadPool(settings.threads());
+        long started = System.nanoTime();
+        for (int t = 0; t < settings.threads(); t++) {
+            workers.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    runOne(settings, slotIds, report);
+                }
+                return null;
+            });
+        }
+        workers.shutdown();
+        assertThat(workers.awaitTermination(30, TimeUnit.MINUTES)).isTrue();
+        report.finish(System.nanoTime() - started);
+
+        checkInvariants(report);
+        System.out.println(report.render(settings, slotIds.size()));
+
+        if (settings.strict()) {
+            assertThat(report.violations()).isEmpty();
+            assertThat(report.count(500)).isZero();
+        }
+    }
+
+    private List<Long> seed(LoadTestSettings settings) throws Exception {
+        // spread the requested slots over every day of the two-week horizon, 30 minutes each
+        int slotsPerDay = Math.max(1, (int) Math.ceil(settings.slotsPerInterviewer() / 14.0));
+        LocalTime start = LocalTime.of(9, 0);
+        LocalTime end = start.plusMinutes(30L * slotsPerDay);
+        LocalDate from = LocalDate.now().plusDays(1);
+        LocalDate to = from.plusDays(13);
+
+        for (int i = 0; i < settings.interviewers(); i++) {
+            JsonNode interviewer = send("POST", "/api/v1/interviewers", Map.of(
+                    "name", "Interviewer " + i,
+                    "email", "interviewer" + i + "@load.test",
+                    "maxWeeklyInterviews", settings.maxWeeklyInterviews()));
+            long id = interviewer.get("id").asLong();
+
+            List<Map<String, Object>> windows = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                windows.add(Map.of(
+                        "dayOfWeek", day.name(),
+                        "startTime", start.toString(),
+                        "endTime", end.toString(),
+                        "slotDurationMinutes", 30));
+            }
+            send("PUT", "/api/v1/interviewers/" + id + "/weekly-availability", windows);
+            send("POST", "/api/v1/interviewers/" + id + "/generate-slots?from=" + from + "&to=" + to, null);
+        }
+        return jdbcTemplate.queryForList("select id from interview_slots", Long.class);
+    }
+
+    private void runOne(LoadTestSettings settings, List<Long> slotIds, LoadReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Operation operation = settings.pick(random.nextInt(100));
+        String email = "candidate" + random.nextInt(settings.candidates()) + "@load.test";
+        long slotId = slotIds.get(random.nextInt(slotIds.size()));
+        try {
+            if (operation == Operation.CREATE) {
+                timed(report, operation, "POST", "/api/v1/bookings",
+                        Map.of("slotId", slotId, "candidateName", email, "candidateEmail", email));
+                return;
+            }
+            Long bookingId = firstBookingOf(email);
+            if (bookingId == null) {
+                return;
+            }
+            if (operation == Operation.RESCHEDULE) {
+                timed(report, operation, "PUT", "/api/v1/bookings/" + bookingId, Map.of("newSlotId", slotId));
+            } else {
+                timed(report, operation, "DELETE", "/api/v1/bookings/" + bookingId, null);
+            }
+        } catch (Exception ex) {
+            report.record(operation, -1, 0);
+        }
+    }
+
+    private Long firstBookingOf(String email) throws Exception {
+        HttpResponse<String> response = http.send(
+                request("GET", "/api/v1/bookings/by-candidate?candidateEmail=" + email, null),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode bookings = objectMapper.readTree(response.body());
+        return bookings.isArray() && !bookings.isEmpty() ? bookings.get(0).get("bookingId").asLong() : null;
+    }
+
+    private void timed(LoadReport report, Operation operation, String method, String path, Object body)
+            throws Exception {
+        HttpRequest request = request(method, path, body);
+        long started = System.nanoTime();
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        report.record(operation, response.statusCode(), System.nanoTime() - started);
+    }
+
+    private JsonNode send(String method, String path, Object body) throws Exception {
+        HttpResponse<String> response = http.send(request(method, path, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(method + " " + path + " -> " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest request(String method, String path, Object body) throws Exception {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .method(method, publisher)
+                .build();
+    }
+
+    private void checkInvariants(LoadReport report) {
+        // sharded slots keep their exact count in the counter shards
+        jdbcTemplate.query("""
+                        select id, stored, actual from (
+                            select s.id,
+                                   coalesce((select sum(c.booked) from slot_seat_counters c where c.slot_id = s.id),
+                                            s.booked_count) as stored,
+                                   (select count(*) from bookings b where b.slot_id = s.id) as actual
+                            from interview_slots s) counts
+                        where stored <> actual
+                        """,
+                rs -> {
+                    report.addViolation("bookedCount drift on slot " + rs.getLong("id")
+                            + ": stored=" + rs.getInt("stored") + " actual=" + rs.getInt("actual"));
+                });
+
+        jdbcTemplate.query("""
+                        select b.slot_id, count(*) as bookings from bookings b
+                        join interview_slots s on s.id = b.slot_id
+                        group by b.slot_id, s.capacity having count(*) > s.capacity
+                        """,
+                rs -> {
+                    report.addViolation("slot " + rs.getLong("slot_id") + " over capacity with "
+                            + rs.getInt("bookings") + " bookings");
+                });
+
+        jdbcTemplate.query("""
+                        select b.candidate_email, count(*) as active from bookings b
+                        join interview_slots s on s.id = b.slot_id
+                        where s.start_time > ?
+                        group by b.candidate_email having count(*) > 1
+                        """,
+                rs -> {
+                    report.addViolation("candidate " + rs.getString("candidate_email") + " holds "
+                            + rs.getInt("active") + " active bookings");
+                }, LocalDateTime.now());
+
+        Map<String, Integer> perWeek = new HashMap<>();
+        Map<Long, Integer> limits = new HashMap<>();
+        jdbcTemplate.query("""
+                        select i.id, i.max_weekly_interviews, s.start_time from bookings b
+                        join interview_slots s on s.id = b.slot_id
+                        join interviewers i on i.id = s.interviewer_id
+                        """,
+                rs -> {
+                    long interviewerId = rs.getLong("id");
+                    limits.put(interviewerId, rs.getInt("max_weekly_interviews"));
+                    LocalDateTime weekStart = WeekWindow.containing(
+                            rs.getTimestamp("start_time").toLocalDateTime()).start();
+                    perWeek.merge(interviewerId + "@" + weekStart.toLocalDate(), 1, Integer::sum);
+                });
+        perWeek.forEach((key, count) -> {
+            int limit = limits.get(Long.parseLong(key.substring(0, key.indexOf('@'))));
+            if (count > limit) {
+                report.addViolation("weekly limit overshoot for interviewer " + key + ": " + count + " > " + limit);
+            }
+        });
+    }
+}
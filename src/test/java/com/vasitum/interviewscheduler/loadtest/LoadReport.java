@@ -0,0 +1,86 @@
+package com.vasitum.interviewscheduler.loadtest;
+
+import com.vasitum.interviewscheduler.loadtest.LoadTestSettings.Operation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe collector for per-operation latencies and HTTP status counts.
+ */
+class LoadReport {
+
+    private final Map<Operation, ConcurrentLinkedQueue<Long>> latencies = new EnumMap<>(Operation.class);
+    private final Map<String, AtomicLong> statuses = new ConcurrentHashMap<>();
+    private final List<String> violations = new ArrayList<>();
+    private long elapsedNanos;
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    void record(Operation operation, int status, long nanos) {
+        latencies.get(operation).add(nanos);
+        statuses.computeIfAbsent(operation + " " + status, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void addViolation(String violation) {
+        violations.add(violation);
+    }
+
+    List<String> violations() {
+        return violations;
+    }
+
+    long count(int status) {
+        return statuses.entrySet().stream()
+                .filter(e -> e.getKey().endsWith(" " + status))
+                .mapToLong(e -> e.getValue().get())
+                .sum();
+    }
+
+    String render(LoadTestSettings settings, int seededSlots) {
+        long total = latencies.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        StringBuilder out = new StringBuilder();
+        out.append("=== Booking load test ===\n");
+        out.append(String.format("interviewers=%d slots=%d candidates=%d threads=%d mix=%s%n",
+                settings.interviewers(), seededSlots, settings.candidates(), settings.threads(), settings.mix()));
+        out.append(String.format("operations=%d elapsed=%.2fs throughput=%.1f ops/s%n", total, seconds, total / seconds));
+        out.append(String.format("409 rate=%.2f%% 500 rate=%.2f%%%n",
+                100.0 * count(409) / Math.max(1, total), 100.0 * count(500) / Math.max(1, total)));
+        out.append(String.format("%-11s %7s %9s %9s %9s %9s%n", "operation", "count", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Map.Entry<Operation, ConcurrentLinkedQueue<Long>> entry : latencies.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            out.append(String.format("%-11s %7d %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), sorted.length,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100)));
+        }
+        out.append("statuses: ").append(new TreeMap<>(statuses)).append('\n');
+        out.append("invariant violations: ").append(violations.size()).append('\n');
+        violations.stream().limit(20).forEach(v -> out.append("  - ").append(v).append('\n'));
+        return out.toString();
+    }
+
+    private static double percentile(long[] sorted, int p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.vasitum.interviewscheduler.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from {@code -Dload.*} system properties so a run can be
+ * resized from the command line without editing code.
+ */
+record LoadTestSettings(
+        int interviewers,
+        int slotsPerInterviewer,
+        int maxWeeklyInterviews,
+        int candidates,
+        int threads,
+        int operations,
+        Map<Operation, Integer> mix,
+        boolean strict
+) {
+
+    enum Operation { CREATE, RESCHEDULE, CANCEL }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("load.interviewers", 20),
+                Integer.getInteger("load.slotsPerInterviewer", 42),
+                Integer.getInteger("load.maxWeekly", 10),
+                Integer.getInteger("load.candidates", 300),
+                Integer.getInteger("load.threads", 16),
+                Integer.getInteger("load.operations", 5000),
+                parseMix(System.getProperty("load.mix", "create:60,reschedule:25,cancel:15")),
+                Boolean.getBoolean("load.strict")
+        );
+    }
+
+    /**
+     * Picks an operation for a uniformly distributed {@code roll} in [0, 100).
+     */
+    Operation pick(int roll) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int scaled = roll * total / 100;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            scaled -= entry.getValue();
+            if (scaled < 0) {
+                return entry.getKey();
+            }
+        }
+        return Operation.CREATE;
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split(":");
+            if (kv.length != 2) {
+                throw new IllegalArgumentException("load.mix entries must look like create:60, got " + part);
+            }
+            mix.put(Operation.valueOf(kv[0].trim().toUpperCase()), Integer.parseInt(kv[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,128 @@
+package com.vasitum.interviewscheduler.loadtest;
+
+import com.vasitum.interviewscheduler.application.service.BookingService;
+import com.vasitum.interviewscheduler.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fills one large slot from many threads at once, first with its seats counted on the slot row,
+ * then spread over counter shards, and reports how long filling took and how many attempts
+ * lost a race. Runs on PostgreSQL because the comparison is about row locks.
+ * <p>
+ * Run with {@code mvn test -Pload-test -Dtest=SeatContentionLoadTest}; size it with
+ * {@code -Dload.seats}, {@code -Dload.shards} and {@code -Dload.threads}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class SeatContentionLoadTest {
+
+    private static final int SEATS = Integer.getInteger("load.seats", 100);
+    private static final int SHARDS = Integer.getInteger("load.shards", 10);
+    private static final int THREADS = Integer.getInteger("load.threads", 16);
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        EmbeddedPostgresSupport.registerDataSource(registry, "seat_contention");
+    }
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shardedCountersFillALargeSlotWithoutLostRaces() throws Exception {
+        long interviewerId = jdbcTemplate.queryForObject("""
+                insert into interviewers (name, email, max_weekly_interviews)
+                values ('Assessment center', 'center@load.test', 10) returning id
+                """, Long.class);
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(10, 0);
+
+        Result single = fill(createSlot(interviewerId, start, 0), "row");
+        Result sharded = fill(createSlot(interviewerId, start.plusHours(2), SHARDS), "sharded");
+
+        System.out.println("=== Seat contention: " + SEATS + " seats, " + THREADS + " threads ===");
+        System.out.println(single.render("slot row"));
+        System.out.println(sharded.render(SHARDS + " counter shards"));
+
+        for (Result result : new Result[]{single, sharded}) {
+            assertThat(result.booked()).isEqualTo(SEATS);
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from bookings where slot_id = ?", Integer.class, result.slotId()))
+                    .isEqualTo(SEATS);
+            assertThat(jdbcTemplate.queryForObject(
+                    "select booked_count from interview_slots where id = ?", Integer.class, result.slotId()))
+                    .isEqualTo(SEATS);
+        }
+    }
+
+    private long createSlot(long interviewerId, LocalDateTime start, int shards) {
+        long slotId = jdbcTemplate.queryForObject("""
+                insert into interview_slots (interviewer_id, start_time, end_time, booked_count, capacity,
+                                             counter_shards, version)
+                values (?, ?, ?, 0, ?, ?, 0) returning id
+                """, Long.class, interviewerId, start, start.plusHours(1), SEATS, shards);
+        if (shards > 0) {
+            jdbcTemplate.update("""
+                    insert into slot_seat_counters (slot_id, slot_start_time, shard, seats, booked)
+                    select ?, ?, n, ? / ? + case when n < ? % ? then 1 else 0 end, 0
+                    from generate_series(0, ? - 1) n
+                    """, slotId, start, SEATS, shards, SEATS, shards, shards);
+        }
+        return slotId;
+    }
+
+    private Result fill(long slotId, String label) throws Exception {
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger candidates = new AtomicInteger();
+        AtomicLong attempts = new AtomicLong();
+        Map<String, AtomicLong> failures = new ConcurrentHashMap<>();
+        ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+        long started = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            workers.submit(() -> {
+                // a lost race is retried, as a client would; the bound only stops a broken run
+                while (booked.get() < SEATS && attempts.incrementAndGet() < SEATS * 50L) {
+                    String email = label + "-" + candidates.incrementAndGet() + "@load.test";
+                    try {
+                        bookingService.createBooking(slotId, "Candidate", email);
+                        booked.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        failures.computeIfAbsent(ex.getClass().getSimpleName(), k -> new AtomicLong()).incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        assertThat(workers.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+        return new Result(slotId, booked.get(), attempts.get(), failures, System.nanoTime() - started);
+    }
+
+    private record Result(long slotId, int booked, long attempts, Map<String, AtomicLong> failures, long nanos) {
+
+        String render(String label) {
+            double millis = nanos / 1_000_000.0;
+            return String.format("%-18s %5d booked in %8.1f ms (%7.1f bookings/s), %5d attempts, failures %s",
+                    label, booked, millis, booked * 1000.0 / millis, attempts, failures);
+        }
+    }
+}
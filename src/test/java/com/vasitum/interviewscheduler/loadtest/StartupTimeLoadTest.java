@@ -0,0 +1,182 @@
+package com.vasitum.interviewscheduler.loadtest;
+
+import com.vasitum.interviewscheduler.support.EmbeddedPostgresSupport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures time from process launch to the first successful {@code GET /api/v1/slots} of the
+ * packaged application against embedded PostgreSQL, for the plain fat jar, the extracted layout,
+ * AOT (when the jar was built with {@code -Pfast-startup}) and AOT plus an AppCDS archive trained
+ * the way the Dockerfile does it.
+ * <p>
+ * Package first, then run {@code mvn test -Pload-test -Dtest=StartupTimeLoadTest}; set
+ * {@code -Dstartup.jar} to measure another jar and {@code -Dstartup.runs} for more runs per variant.
+ */
+@Tag("load")
+class StartupTimeLoadTest {
+
+    private static final String AOT_INITIALIZER =
+            "BOOT-INF/classes/com/vasitum/interviewscheduler/InterviewSchedulerApplication__ApplicationContextInitializer.class";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    @Test
+    void timeToFirstSlotsResponse() throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar", findExecJar()));
+        assumeTrue(Files.isRegularFile(jar), "package the application first: " + jar);
+        int runs = Integer.getInteger("startup.runs", 3);
+
+        Path work = Files.createTempDirectory("startup");
+        Path extracted = work.resolve("extracted");
+        Path app = extracted.resolve(jar.getFileName());
+        exec(List.of(java(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", extracted.toString()),
+                work.resolve("extract.log"));
+        boolean aot = hasAotClasses(jar);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("fat jar", List.of("-jar", jar.toString()));
+        variants.put("extracted", List.of("-jar", app.toString()));
+        if (aot) {
+            variants.put("extracted + AOT", List.of("-Dspring.aot.enabled=true", "-jar", app.toString()));
+            Path archive = train(app, work);
+            variants.put("extracted + AOT + CDS",
+                    List.of("-XX:SharedArchiveFile=" + archive, "-Dspring.aot.enabled=true", "-jar", app.toString()));
+        }
+
+        String url = EmbeddedPostgresSupport.createDatabase("startup");
+        // the first start migrates the database; only later starts are measured
+        start(variants.get("fat jar"), url, work.resolve("migrate.log"));
+
+        StringBuilder out = new StringBuilder("=== Startup: launch to first 200 from GET /api/v1/slots ===\n");
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            List<Long> millis = new ArrayList<>();
+            for (int run = 0; run < runs; run++) {
+                Path log = work.resolve(variant.getKey().replaceAll("\\W+", "-") + "-" + run + ".log");
+                millis.add(start(variant.getValue(), url, log));
+            }
+            millis.sort(null);
+            out.append(String.format("%-24s median %6d ms  min %6d ms  max %6d ms%n",
+                    variant.getKey(), millis.get(millis.size() / 2), millis.get(0), millis.get(millis.size() - 1)));
+        }
+        if (!aot) {
+            out.append("(jar built without -Pfast-startup: AOT and CDS variants skipped)\n");
+        }
+        System.out.println(out);
+    }
+
+    // same training run as the Dockerfile: no database, context refresh only
+    private Path train(Path app, Path work) throws Exception {
+        Path archive = work.resolve("app.jsa");
+        List<String> command = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive,
+                "-Dspring.context.exit=onRefresh", "-Dspring.flyway.enabled=false",
+                "-Dspring.jpa.hibernate.ddl-auto=none",
+                "-Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false",
+                "-jar", app.toString()));
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.environment().putAll(dataSource("jdbc:postgresql://127.0.0.1:1/training"));
+        builder.redirectErrorStream(true).redirectOutput(work.resolve("train.log").toFile());
+        assertThat(builder.start().waitFor()).as("training run, see " + work.resolve("train.log")).isZero();
+        assertThat(archive).exists();
+        return archive;
+    }
+
+    private long start(List<String> args, String url, Path log) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(args);
+        command.add("--server.port=" + port);
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.environment().putAll(dataSource(url));
+        builder.redirectErrorStream(true).redirectOutput(log.toFile());
+
+        long started = System.nanoTime();
+        Process process = builder.start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/slots"))
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            long deadline = started + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                assertThat(process.isAlive()).as("application exited, see " + log).isTrue();
+                try {
+                    if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - started) / 1_000_000;
+                    }
+                } catch (IOException notListeningYet) {
+                    // keep polling
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("no 200 from /api/v1/slots within " + STARTUP_TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Map<String, String> dataSource(String url) {
+        return Map.of(
+                "SPRING_DATASOURCE_URL", url,
+                "SPRING_DATASOURCE_USERNAME", "postgres",
+                "SPRING_DATASOURCE_PASSWORD", "");
+    }
+
+    private static void exec(List<String> command, Path log) throws Exception {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        assertThat(process.waitFor()).as(String.join(" ", command) + ", see " + log).isZero();
+    }
+
+    private static boolean hasAotClasses(Path jar) throws IOException {
+        try (ZipFile zip = new ZipFile(jar.toFile())) {
+            return zip.getEntry(AOT_INITIALIZER) != null;
+        }
+    }
+
+    private static String findExecJar() throws IOException {
+        Path target = Path.of("target");
+        if (!Files.isDirectory(target)) {
+            return "target/missing-exec.jar";
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            return files.filter(file -> file.getFileName().toString().endsWith("-exec.jar"))
+                    .findFirst().map(Path::toString).orElse("target/missing-exec.jar");
+        }
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
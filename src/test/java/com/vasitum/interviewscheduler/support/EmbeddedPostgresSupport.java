@@ -0,0 +1,66 @@
+package com.vasitum.interviewscheduler.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One embedded PostgreSQL server per test JVM, with a fresh database per caller, for tests
+ * that depend on PostgreSQL-only features (migrations, partial indexes, query plans).
+ */
+public final class EmbeddedPostgresSupport {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+    private static EmbeddedPostgres server;
+
+    private EmbeddedPostgresSupport() {
+    }
+
+    /**
+     * Creates an empty database and returns its JDBC URL (user {@code postgres}, no password).
+     */
+    public static synchronized String createDatabase(String prefix) {
+        String name = prefix + "_" + DATABASES.incrementAndGet();
+        try (Connection connection = server().getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create database " + name);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not create database " + name, ex);
+        }
+        return server().getJdbcUrl("postgres", name);
+    }
+
+    /**
+     * Points the Spring datasource of a {@code @SpringBootTest} at a fresh embedded database.
+     */
+    public static void registerDataSource(DynamicPropertyRegistry registry, String prefix) {
+        String url = createDatabase(prefix);
+        registry.add("spring.datasource.url", () -> url);
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static EmbeddedPostgres server() {
+        if (server == null) {
+            try {
+                server = EmbeddedPostgres.start();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.close();
+                } catch (IOException ignored) {
+                    // JVM is exiting anyway
+                }
+            }));
+        }
+        return server;
+    }
+}
@@ -0,0 +1,2 @@
+-- the candidate lock of LocalCandidateBookingIndex; see V10__candidate_booking_index.sql
+create table if not exists candidate_bookings (candidate_email varchar(255) primary key, booking_id bigint not null, slot_start_time timestamp(6) not null);